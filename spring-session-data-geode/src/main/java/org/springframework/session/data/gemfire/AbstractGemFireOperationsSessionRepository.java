@@ -26,14 +26,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -43,10 +45,21 @@ import org.apache.geode.Delta;
 import org.apache.geode.Instantiator;
 import org.apache.geode.InvalidDeltaException;
 import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.distributed.DistributedMember;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationEvent;
@@ -54,19 +67,30 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.gemfire.GemfireAccessor;
 import org.springframework.data.gemfire.GemfireOperations;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.session.data.gemfire.function.ChangeSessionIdFunction;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver;
+import org.springframework.session.data.gemfire.support.PrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.SessionEventListenerDetector;
+import org.springframework.session.data.gemfire.support.SessionEventType;
+import org.springframework.session.data.gemfire.support.SessionExpirationSweeper;
+import org.springframework.session.data.gemfire.support.SessionIdGenerator;
 import org.springframework.session.data.gemfire.support.SessionIdHolder;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
+import org.springframework.session.data.gemfire.support.SpelExpressionPrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.UuidSessionIdGenerator;
 import org.springframework.session.events.SessionCreatedEvent;
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionDestroyedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -85,17 +109,19 @@ import org.apache.commons.logging.LogFactory;
  * @see org.apache.geode.cache.EntryEvent
  * @see org.apache.geode.cache.Operation
  * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.query.CqListener
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.context.ApplicationEvent
  * @see org.springframework.context.ApplicationEventPublisher
  * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.data.gemfire.GemfireOperations
- * @see org.springframework.expression.Expression
  * @see org.springframework.session.FindByIndexNameSessionRepository
  * @see org.springframework.session.Session
  * @see org.springframework.session.SessionRepository
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+ * @see org.springframework.session.data.gemfire.support.SessionEventType
  * @see org.springframework.session.events.SessionCreatedEvent
  * @see org.springframework.session.events.SessionDeletedEvent
  * @see org.springframework.session.events.SessionDestroyedEvent
@@ -103,12 +129,22 @@ import org.apache.commons.logging.LogFactory;
  * @since 1.1.0
  */
 public abstract class AbstractGemFireOperationsSessionRepository extends CacheListenerAdapter<Object, Session>
-		implements ApplicationEventPublisherAware, FindByIndexNameSessionRepository<Session>, InitializingBean {
+		implements ApplicationEventPublisherAware, CqListener, FindByIndexNameSessionRepository<Session>,
+			InitializingBean {
 
 	private static final AtomicBoolean usingDataSerialization = new AtomicBoolean(false);
 
+	private static final String ALL_KEYS_INTEREST = "ALL_KEYS";
+
+	static final long SESSION_ID_CHANGE_EVENT_TIMEOUT_MILLIS = 60000L;
+
+
 	private ApplicationEventPublisher applicationEventPublisher = event -> {};
 
+	private volatile PrincipalNameResolver principalNameResolver = SpelExpressionPrincipalNameResolver.INSTANCE;
+
+	private volatile SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.INSTANCE;
+
 	private Duration maxInactiveInterval =
 		Duration.ofSeconds(GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS);
 
@@ -116,10 +152,30 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 
 	private final Log logger = newLogger();
 
+	private final Map<String, Long> changedSessionIds = new ConcurrentHashMap<>();
+
 	private final Set<Integer> cachedSessionIds = new ConcurrentSkipListSet<>();
 
+	private volatile boolean proxyRegion = false;
+
+	private volatile boolean publishEventsFromPrimaryOnly = false;
+
+	private volatile CqQuery sessionEventContinuousQuery;
+
+	private volatile SessionEventListenerDetector sessionEventListenerDetector;
+
+	private volatile SessionOperationStatistics sessionOperationStatistics = SessionOperationStatistics.NONE;
+
+	private volatile SessionSizeGuardrail sessionSizeGuardrail = SessionSizeGuardrail.NONE;
+
+	private Set<SessionEventType> continuousQuerySessionEvents = Collections.emptySet();
+
+	private String continuousQuerySessionEventFilter;
+
 	private String fullyQualifiedRegionName;
 
+	private volatile Region<Object, Session> sessionsRegion;
+
 	/**
 	 * Constructs an instance of {@link AbstractGemFireOperationsSessionRepository}
 	 * with a required {@link GemfireOperations} instance used to perform Pivotal GemFire data access operations
@@ -174,6 +230,254 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		return this.applicationEventPublisher;
 	}
 
+	/**
+	 * Sets the types of {@link Session} events delivered by Apache Geode Continuous Queries (CQ) registered on
+	 * the client {@link Session} {@link Region}, in place of the {@link org.apache.geode.cache.CacheListener}.
+	 *
+	 * When no {@link SessionEventType types} are given, the default, {@link Session} events are delivered by
+	 * registering this {@link SessionRepository} as a {@link org.apache.geode.cache.CacheListener} on
+	 * the {@link Session} {@link Region}.
+	 *
+	 * @param sessionEventTypes array of {@link SessionEventType types} of {@link Session} events to subscribe to.
+	 * @see org.springframework.session.data.gemfire.support.SessionEventType
+	 */
+	public void setContinuousQuerySessionEvents(SessionEventType... sessionEventTypes) {
+
+		this.continuousQuerySessionEvents = Optional.ofNullable(sessionEventTypes)
+			.map(Arrays::asList)
+			.filter(types -> !types.isEmpty())
+			.map(EnumSet::copyOf)
+			.<Set<SessionEventType>>map(Collections::unmodifiableSet)
+			.orElseGet(Collections::emptySet);
+	}
+
+	/**
+	 * Returns the types of {@link Session} events delivered by Apache Geode Continuous Queries (CQ).
+	 *
+	 * @return the {@link Set} of {@link SessionEventType types} of {@link Session} events subscribed to;
+	 * never {@literal null}.
+	 * @see org.springframework.session.data.gemfire.support.SessionEventType
+	 */
+	protected Set<SessionEventType> getContinuousQuerySessionEvents() {
+		return this.continuousQuerySessionEvents;
+	}
+
+	/**
+	 * Determines whether {@link Session} events are delivered by Apache Geode Continuous Queries (CQ).
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are delivered by Continuous Queries.
+	 * @see #getContinuousQuerySessionEvents()
+	 */
+	protected boolean isContinuousQuerySessionEventsEnabled() {
+		return !getContinuousQuerySessionEvents().isEmpty();
+	}
+
+	/**
+	 * Sets the OQL predicate used to filter the {@link Session} events delivered by Continuous Queries.
+	 *
+	 * The predicate refers to the {@link Session} by the alias {@literal s},
+	 * for example: {@literal s.principalName = 'jxblum'}.
+	 *
+	 * @param continuousQuerySessionEventFilter {@link String} containing the OQL predicate.
+	 * @see #setContinuousQuerySessionEvents(SessionEventType...)
+	 */
+	public void setContinuousQuerySessionEventFilter(String continuousQuerySessionEventFilter) {
+		this.continuousQuerySessionEventFilter = continuousQuerySessionEventFilter;
+	}
+
+	/**
+	 * Returns the OQL predicate used to filter the {@link Session} events delivered by Continuous Queries.
+	 *
+	 * @return an {@link Optional} {@link String} containing the OQL predicate.
+	 */
+	protected Optional<String> getContinuousQuerySessionEventFilter() {
+		return Optional.ofNullable(this.continuousQuerySessionEventFilter).filter(StringUtils::hasText);
+	}
+
+	/**
+	 * Returns the Continuous Query (CQ) delivering {@link Session} events to this {@link SessionRepository}.
+	 *
+	 * @return an {@link Optional} {@link CqQuery} if {@link Session} events are delivered by Continuous Queries.
+	 * @see org.apache.geode.cache.query.CqQuery
+	 */
+	protected Optional<CqQuery> getSessionEventContinuousQuery() {
+		return Optional.ofNullable(this.sessionEventContinuousQuery);
+	}
+
+	/**
+	 * Sets the {@link SessionEventListenerDetector} used to determine whether any listeners are registered
+	 * for each type of {@link Session} event.
+	 *
+	 * {@link Session} events no one listens for are neither constructed nor published.  When no one listens for
+	 * any {@link Session} event delivered by the {@link org.apache.geode.cache.CacheListener}, this
+	 * {@link SessionRepository} removes its {@link org.apache.geode.cache.CacheListener} from the {@link Session}
+	 * {@link Region} once the Spring {@link org.springframework.context.ApplicationContext} has been refreshed,
+	 * and a {@literal PROXY} client {@link Region} unregisters its interest in {@literal ALL_KEYS}.
+	 *
+	 * A {@literal null} {@link SessionEventListenerDetector} assumes listeners are always present.
+	 *
+	 * @param sessionEventListenerDetector {@link SessionEventListenerDetector} used to detect listeners.
+	 * @see org.springframework.session.data.gemfire.support.SessionEventListenerDetector
+	 */
+	public void setSessionEventListenerDetector(SessionEventListenerDetector sessionEventListenerDetector) {
+
+		this.sessionEventListenerDetector = sessionEventListenerDetector;
+
+		Optional.ofNullable(sessionEventListenerDetector)
+			.ifPresent(detector -> detector.whenRefreshed(this::detachCacheListenerIfUnused));
+	}
+
+	/**
+	 * Returns the {@link SessionEventListenerDetector} used to determine whether any listeners are registered
+	 * for each type of {@link Session} event.
+	 *
+	 * @return an {@link Optional} {@link SessionEventListenerDetector}.
+	 * @see org.springframework.session.data.gemfire.support.SessionEventListenerDetector
+	 */
+	protected Optional<SessionEventListenerDetector> getSessionEventListenerDetector() {
+		return Optional.ofNullable(this.sessionEventListenerDetector);
+	}
+
+	/**
+	 * Sets the {@link SessionOperationStatistics} recording statistics about the {@link Session} operations
+	 * performed by this {@link SessionRepository}.
+	 *
+	 * @param sessionOperationStatistics {@link SessionOperationStatistics} recording statistics;
+	 * if {@literal null}, no statistics are recorded.
+	 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+	 */
+	public void setSessionOperationStatistics(SessionOperationStatistics sessionOperationStatistics) {
+		this.sessionOperationStatistics = sessionOperationStatistics != null
+			? sessionOperationStatistics : SessionOperationStatistics.NONE;
+	}
+
+	/**
+	 * Returns the {@link SessionOperationStatistics} recording statistics about the {@link Session} operations
+	 * performed by this {@link SessionRepository}.
+	 *
+	 * @return the {@link SessionOperationStatistics} in use.
+	 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+	 */
+	protected SessionOperationStatistics getSessionOperationStatistics() {
+		return this.sessionOperationStatistics;
+	}
+
+	/**
+	 * Sets the {@link SessionSizeGuardrail} limiting the number of attributes and the serialized size
+	 * of the {@link Session Sessions} saved by this {@link SessionRepository}.
+	 *
+	 * @param sessionSizeGuardrail {@link SessionSizeGuardrail} limiting {@link Session Sessions};
+	 * if {@literal null}, {@link Session Sessions} are not limited.
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail
+	 */
+	public void setSessionSizeGuardrail(SessionSizeGuardrail sessionSizeGuardrail) {
+		this.sessionSizeGuardrail = sessionSizeGuardrail != null ? sessionSizeGuardrail : SessionSizeGuardrail.NONE;
+	}
+
+	/**
+	 * Returns the {@link SessionSizeGuardrail} limiting the number of attributes and the serialized size
+	 * of the {@link Session Sessions} saved by this {@link SessionRepository}.
+	 *
+	 * @return the {@link SessionSizeGuardrail} in use.
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail
+	 */
+	protected SessionSizeGuardrail getSessionSizeGuardrail() {
+		return this.sessionSizeGuardrail;
+	}
+
+	/**
+	 * Determines whether any listeners are registered for the given type of {@link Session} event.
+	 *
+	 * @param eventType {@link Class type} of {@link Session} event.
+	 * @return a boolean value indicating whether any listeners are registered for the given type
+	 * of {@link Session} event; {@literal true} if listeners cannot be detected.
+	 * @see #setSessionEventListenerDetector(SessionEventListenerDetector)
+	 */
+	protected boolean hasSessionEventListeners(Class<? extends ApplicationEvent> eventType) {
+
+		return getSessionEventListenerDetector()
+			.map(detector -> detector.hasListeners(eventType))
+			.orElse(true);
+	}
+
+	/**
+	 * Determines whether this {@link SessionRepository} needs the {@link Region} events delivered by its
+	 * {@link org.apache.geode.cache.CacheListener} regardless of whether anyone listens for {@link Session} events.
+	 *
+	 * @return a boolean value indicating whether the {@link org.apache.geode.cache.CacheListener} is required.
+	 */
+	protected boolean isCacheListenerRequired() {
+		return false;
+	}
+
+	/**
+	 * Removes this {@link SessionRepository} as a {@link org.apache.geode.cache.CacheListener} from
+	 * the {@link Session} {@link Region} when no one listens for the {@link Session} events it delivers.
+	 *
+	 * A {@literal PROXY} client {@link Region} also unregisters its interest in {@literal ALL_KEYS},
+	 * since the servers need not send any events to the client for a {@link Region} keeping no local state.
+	 */
+	void detachCacheListenerIfUnused() {
+
+		boolean unused = !(isContinuousQuerySessionEventsEnabled() || isCacheListenerRequired()
+			|| hasSessionEventListeners(SessionCreatedEvent.class)
+			|| hasSessionEventListeners(SessionDestroyedEvent.class)
+			|| hasSessionEventListeners(SessionExpiredEvent.class));
+
+		if (unused) {
+
+			Region<Object, Session> region = ((GemfireAccessor) getTemplate()).getRegion();
+
+			region.getAttributesMutator().removeCacheListener(this);
+
+			if (isClientRegion(region) && GemFireUtils.isProxy(region)
+					&& region.getInterestList().contains(ALL_KEYS_INTEREST)) {
+
+				region.unregisterInterest(ALL_KEYS_INTEREST);
+			}
+
+			getLogger().info(String.format("No Session event listeners detected; removed CacheListener from Region [%s]",
+				region.getFullPath()));
+		}
+	}
+
+	boolean isClientRegion(Region<?, ?> region) {
+
+		return Optional.ofNullable(region.getAttributes())
+			.map(RegionAttributes::getPoolName)
+			.filter(StringUtils::hasText)
+			.isPresent();
+	}
+
+	/**
+	 * Sets whether {@link Session} events are published only by the one peer member responsible for
+	 * the {@link Session}, rather than by every peer member hosting a copy of the {@link Session}.
+	 *
+	 * For a {@literal PARTITION} {@link Region}, the member hosting the primary bucket of the {@link Session}
+	 * publishes the event.  For a {@literal REPLICATE} {@link Region}, the member on which the cache operation
+	 * originated publishes the event.  This setting only applies to a peer cache {@link Region}.
+	 *
+	 * @param publishEventsFromPrimaryOnly boolean indicating whether {@link Session} events are published
+	 * only by the primary peer member.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)
+	 * @see org.apache.geode.cache.EntryEvent#isOriginRemote()
+	 */
+	public void setPublishEventsFromPrimaryOnly(boolean publishEventsFromPrimaryOnly) {
+		this.publishEventsFromPrimaryOnly = publishEventsFromPrimaryOnly;
+	}
+
+	/**
+	 * Determines whether {@link Session} events are published only by the primary peer member.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are published only by
+	 * the primary peer member.
+	 */
+	protected boolean isPublishEventsFromPrimaryOnly() {
+		return this.publishEventsFromPrimaryOnly;
+	}
+
 	/**
 	 * Returns the fully-qualified name of the cache {@link Region} used to store and manage {@link Session} state.
 	 *
@@ -264,6 +568,82 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		return usingDataSerialization.get();
 	}
 
+	/**
+	 * Sets the {@link PrincipalNameResolver} used by the {@link GemFireSession GemFireSessions} created, found
+	 * and saved by this {@link SessionRepository} to resolve the principal name from the security context
+	 * stored in the {@link Session}.
+	 *
+	 * Defaults to {@link SpelExpressionPrincipalNameResolver#INSTANCE}.
+	 *
+	 * @param principalNameResolver {@link PrincipalNameResolver} used to resolve the principal name;
+	 * if {@literal null}, the default {@link PrincipalNameResolver} is used.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+	 * @see #configureSession(GemFireSession)
+	 */
+	public void setPrincipalNameResolver(PrincipalNameResolver principalNameResolver) {
+		this.principalNameResolver = principalNameResolver != null
+			? principalNameResolver : SpelExpressionPrincipalNameResolver.INSTANCE;
+	}
+
+	/**
+	 * Returns the configured {@link PrincipalNameResolver} used to resolve the principal name
+	 * from the security context stored in the {@link Session}.
+	 *
+	 * @return the configured {@link PrincipalNameResolver}.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+	 */
+	protected PrincipalNameResolver getPrincipalNameResolver() {
+		return this.principalNameResolver;
+	}
+
+	/**
+	 * Configures the given {@link GemFireSession} with the strategies of this {@link SessionRepository},
+	 * such as the {@link PrincipalNameResolver}.
+	 *
+	 * {@link GemFireSession GemFireSessions} deserialized by the cache outside of this {@link SessionRepository}
+	 * use the default strategies.
+	 *
+	 * @param <T> {@link Class sub-type} of {@link GemFireSession}.
+	 * @param session {@link GemFireSession} to configure.
+	 * @return the given {@link GemFireSession}.
+	 * @see #getPrincipalNameResolver()
+	 */
+	protected <T extends GemFireSession> T configureSession(T session) {
+
+		if (session != null) {
+			session.setPrincipalNameResolver(getPrincipalNameResolver());
+			session.setSessionIdGenerator(getSessionIdGenerator());
+			session.setSessionOperationStatistics(getSessionOperationStatistics());
+		}
+
+		return session;
+	}
+
+	/**
+	 * Sets the {@link SessionIdGenerator} used by this {@link SessionRepository} to generate the {@link String ID}
+	 * of a new {@link Session} or the new {@link String ID} of a {@link Session} when its ID is changed.
+	 *
+	 * Defaults to {@link UuidSessionIdGenerator#INSTANCE}.
+	 *
+	 * @param sessionIdGenerator {@link SessionIdGenerator} used to generate {@link Session} IDs;
+	 * if {@literal null}, the default {@link SessionIdGenerator} is used.
+	 * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+	 */
+	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+		this.sessionIdGenerator = sessionIdGenerator != null ? sessionIdGenerator : UuidSessionIdGenerator.INSTANCE;
+	}
+
+	/**
+	 * Returns the configured {@link SessionIdGenerator} used by this {@link SessionRepository}
+	 * to generate {@link Session} IDs.
+	 *
+	 * @return the configured {@link SessionIdGenerator}.
+	 * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+	 */
+	protected SessionIdGenerator getSessionIdGenerator() {
+		return this.sessionIdGenerator;
+	}
+
 	/**
 	 * Gets a reference to the {@link GemfireOperations template} used to perform data access operations
 	 * and other interactions on the cache {@link Region} backing this {@link SessionRepository}.
@@ -275,10 +655,25 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		return this.template;
 	}
 
+	/**
+	 * Returns the cache {@link Region} used to store and manage {@link Session} state, as resolved from
+	 * the {@link #getTemplate() template} on initialization.
+	 *
+	 * @return the {@link Region} used to store and manage {@link Session} state.
+	 * @see org.springframework.data.gemfire.GemfireAccessor#getRegion()
+	 * @see #afterPropertiesSet()
+	 */
+	protected Region<Object, Session> getSessionsRegion() {
+
+		return Optional.ofNullable(this.sessionsRegion)
+			.orElseGet(() -> ((GemfireAccessor) getTemplate()).getRegion());
+	}
+
 	/**
 	 * Callback method during Spring bean initialization that will capture the fully-qualified name
 	 * of the cache {@link Region} used to manage {@link Session} state and register this {@link SessionRepository}
-	 * as a GemFire/Geode {@link org.apache.geode.cache.CacheListener}.
+	 * as a GemFire/Geode {@link org.apache.geode.cache.CacheListener}, or as the {@link CqListener}
+	 * of a Continuous Query when {@link #setContinuousQuerySessionEvents(SessionEventType...) configured}.
 	 *
 	 * Additionally, this method registers GemFire/Geode {@link Instantiator Instantiators}
 	 * for the {@link GemFireSession} and {@link GemFireSessionAttributes} types to optimize GemFire/Geode's
@@ -296,14 +691,98 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		Region<Object, Session> region = ((GemfireAccessor) template).getRegion();
 
 		this.fullyQualifiedRegionName = region.getFullPath();
+		this.proxyRegion = region.getAttributes() != null && GemFireUtils.isProxy(region);
+		this.sessionsRegion = region;
+
+		if (isContinuousQuerySessionEventsEnabled()) {
+			this.sessionEventContinuousQuery = registerSessionEventContinuousQuery(region);
+		}
+		else {
+
+			AttributesMutator<Object, Session> attributesMutator = region.getAttributesMutator();
+
+			attributesMutator.addCacheListener(this);
+		}
+	}
+
+	/**
+	 * Creates and executes the Continuous Query (CQ) delivering {@link Session} events to this
+	 * {@link SessionRepository}, registered as the {@link CqListener}.
+	 *
+	 * @param region client {@link Region} used to store and manage {@link Session} state.
+	 * @return the executing {@link CqQuery}.
+	 * @throws Exception if the Continuous Query could not be created or executed.
+	 * @throws IllegalStateException if the {@link Region} is not a client {@link Region}.
+	 * @see org.apache.geode.cache.query.QueryService#newCq(String, org.apache.geode.cache.query.CqAttributes)
+	 */
+	private CqQuery registerSessionEventContinuousQuery(Region<Object, Session> region) throws Exception {
+
+		CqAttributesFactory cqAttributesFactory = new CqAttributesFactory();
+
+		cqAttributesFactory.addCqListener(this);
+
+		CqQuery query = resolveQueryService(region).newCq(newSessionEventQuery(), cqAttributesFactory.create());
+
+		query.execute();
+
+		return query;
+	}
+
+	private QueryService resolveQueryService(Region<Object, Session> region) {
+
+		RegionService regionService = region.getRegionService();
 
-		AttributesMutator<Object, Session> attributesMutator = region.getAttributesMutator();
+		String poolName = Optional.ofNullable(region.getAttributes())
+			.map(RegionAttributes::getPoolName)
+			.filter(StringUtils::hasText)
+			.orElse(null);
 
-		attributesMutator.addCacheListener(this);
+		if (regionService instanceof ClientCache && poolName != null) {
+			return ((ClientCache) regionService).getQueryService(poolName);
+		}
+
+		throw newIllegalStateException("Session events can only be delivered by Continuous Queries"
+			+ " registered on a client Region; Region [%s] is not a client Region", region.getFullPath());
+	}
+
+	/**
+	 * Returns the OQL query of the Continuous Query (CQ) delivering {@link Session} events.
+	 *
+	 * @return a {@link String} containing the OQL query of the Continuous Query.
+	 * @see #getContinuousQuerySessionEventFilter()
+	 */
+	String newSessionEventQuery() {
+
+		String query = String.format("SELECT * FROM %s s", getFullyQualifiedRegionName());
+
+		return getContinuousQuerySessionEventFilter()
+			.map(filter -> String.format("%1$s WHERE %2$s", query, filter))
+			.orElse(query);
+	}
+
+	/**
+	 * Closes the Continuous Query (CQ) delivering {@link Session} events, if any.
+	 *
+	 * @see org.apache.geode.cache.query.CqQuery#close()
+	 */
+	protected void closeSessionEventContinuousQuery() {
+
+		getSessionEventContinuousQuery().ifPresent(query -> {
+			try {
+				query.close();
+			}
+			catch (Exception cause) {
+				getLogger().warn("Failed to close the Session event Continuous Query", cause);
+			}
+			finally {
+				this.sessionEventContinuousQuery = null;
+			}
+		});
 	}
 
 	boolean isCreate(EntryEvent<?, ?> event) {
-		return isCreate(event.getOperation()) && isNotUpdate(event) && isSession(event.getNewValue());
+		return isCreate(event.getOperation()) && isNotUpdate(event) && isNotSessionIdChange(event)
+			&& isSession(event.getNewValue());
 	}
 
 	private boolean isCreate(Operation operation) {
@@ -314,12 +793,73 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		return isNotProxyRegion() || !this.cachedSessionIds.contains(ObjectUtils.nullSafeHashCode(event.getKey()));
 	}
 
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by a {@link Session} ID change, in which case
+	 * the {@link Session} was neither created nor destroyed.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the {@link EntryEvent} was caused by a {@link Session} ID change.
+	 * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction#isSessionIdChange(EntryEvent)
+	 */
+	boolean isSessionIdChange(EntryEvent<?, ?> event) {
+		return ChangeSessionIdFunction.isSessionIdChange(event);
+	}
+
+	private boolean isNotSessionIdChange(EntryEvent<?, ?> event) {
+		return !isSessionIdChange(event);
+	}
+
+	/**
+	 * Determines whether this member publishes the {@link Session} event for the given {@link EntryEvent}.
+	 *
+	 * Every member publishes {@link Session} events unless {@link #isPublishEventsFromPrimaryOnly()}
+	 * is set, in which case only the member hosting the primary copy of a partitioned {@link Session},
+	 * or the member on which the cache operation originated for a replicated {@link Session}, publishes.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether this member publishes the {@link Session} event.
+	 * @see #isPublishEventsFromPrimaryOnly()
+	 */
+	boolean isPublisher(EntryEvent<?, ?> event) {
+
+		if (isPublishEventsFromPrimaryOnly()) {
+
+			Region<?, ?> region = event.getRegion();
+
+			return region == null || (PartitionRegionHelper.isPartitionedRegion(region)
+				? isPrimary(region, event.getKey())
+				: !event.isOriginRemote());
+		}
+
+		return true;
+	}
+
+	private boolean isPrimary(Region<?, ?> region, Object key) {
+
+		RegionService regionService = region.getRegionService();
+
+		DistributedMember localMember = regionService instanceof Cache
+			? ((Cache) regionService).getDistributedSystem().getDistributedMember()
+			: null;
+
+		return localMember != null && localMember.equals(PartitionRegionHelper.getPrimaryMemberForKey(region, key));
+	}
+
 	private boolean isNotProxyRegion() {
 		return !isProxyRegion();
 	}
 
+	/**
+	 * Determines whether the {@link Region} used to store and manage {@link Session} state is a {@literal PROXY}.
+	 *
+	 * The {@link Region} topology does not change once initialized, so it is determined once, on initialization,
+	 * rather than on every {@link Region} event.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is a {@literal PROXY}.
+	 * @see #afterPropertiesSet()
+	 */
 	private boolean isProxyRegion() {
-		return GemFireUtils.isProxy(((GemfireAccessor) getTemplate()).getRegion());
+		return this.sessionsRegion != null ? this.proxyRegion : GemFireUtils.isProxy(getSessionsRegion());
 	}
 
 	/**
@@ -346,6 +886,48 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		return this.cachedSessionIds.remove(ObjectUtils.nullSafeHashCode(sessionId));
 	}
 
+	/**
+	 * Remembers the previous and new ID of a {@link Session} whose ID was changed by this {@link SessionRepository}
+	 * so the creation and deletion delivered by the Continuous Query (CQ) for the ID change are not reported
+	 * as {@link Session} events.
+	 *
+	 * The IDs are remembered only while {@link Session} events are delivered by Continuous Queries, and only
+	 * for the {@link #SESSION_ID_CHANGE_EVENT_TIMEOUT_MILLIS timeout}, after which the events are considered lost.
+	 *
+	 * @param previousSessionId {@link String} containing the previous ID of the {@link Session}.
+	 * @param sessionId {@link String} containing the new ID of the {@link Session}.
+	 * @see #forgetSessionIdChange(String)
+	 * @see #onEvent(CqEvent)
+	 */
+	protected void rememberSessionIdChange(String previousSessionId, String sessionId) {
+
+		if (isContinuousQuerySessionEventsEnabled()) {
+
+			long now = System.currentTimeMillis();
+
+			this.changedSessionIds.values().removeIf(timestamp ->
+				now - timestamp > SESSION_ID_CHANGE_EVENT_TIMEOUT_MILLIS);
+
+			this.changedSessionIds.put(previousSessionId, now);
+			this.changedSessionIds.put(sessionId, now);
+		}
+	}
+
+	/**
+	 * Forgets the given {@link String session ID} remembered for a {@link Session} ID change.
+	 *
+	 * @param sessionId {@link String} containing the session ID to forget.
+	 * @return a boolean value indicating whether the given session ID was remembered for a {@link Session} ID change
+	 * within the {@link #SESSION_ID_CHANGE_EVENT_TIMEOUT_MILLIS timeout}.
+	 * @see #rememberSessionIdChange(String, String)
+	 */
+	boolean forgetSessionIdChange(String sessionId) {
+
+		Long timestamp = this.changedSessionIds.remove(sessionId);
+
+		return timestamp != null && System.currentTimeMillis() - timestamp <= SESSION_ID_CHANGE_EVENT_TIMEOUT_MILLIS;
+	}
+
 	/**
 	 * Rememvers the given {@link Object session ID}.
 	 *
@@ -381,9 +963,28 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 				.orElseThrow(() -> newIllegalStateException(
 					"Minimally, the session ID [%s] must be known to trigger a Session event", sessionId));
 	}
+
+	/**
+	 * Resolves the {@link Session} for a {@link Session} event of the given type only when listeners are registered
+	 * for that type of {@link Session} event.
+	 *
+	 * @param eventType {@link Class type} of {@link Session} event.
+	 * @param obj {@link Object} to evaluate as a {@link Session}.
+	 * @param sessionId {@link String} containing the session ID.
+	 * @return the {@link Session} or {@literal null} if no one listens for the given type of {@link Session} event.
+	 * @see #hasSessionEventListeners(Class)
+	 * @see #toSession(Object, String)
+	 */
+	Session toSession(Class<? extends ApplicationEvent> eventType, Object obj, String sessionId) {
+		return hasSessionEventListeners(eventType) ? toSession(obj, sessionId) : null;
+	}
+
 	/**
 	 * Callback method triggered when an entry is created in the Pivotal GemFire cache {@link Region}.
 	 *
+	 * No {@link org.springframework.session.events.SessionCreatedEvent} is published when the entry was created
+	 * by a {@link Session} ID change; the new {@link Session} ID is simply remembered.
+	 *
 	 * @param event {@link EntryEvent} containing the details of the cache operation.
 	 * @see org.apache.geode.cache.EntryEvent
 	 * @see #handleCreated(String, Session)
@@ -391,32 +992,54 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	@Override
 	public void afterCreate(EntryEvent<Object, Session> event) {
 
+		Optional.ofNullable(event)
+			.filter(this::isSessionIdChange)
+			.ifPresent(it -> remember(it.getKey()));
+
 		Optional.ofNullable(event)
 			.filter(this::isCreate)
+			.filter(this::isPublisher)
 			.ifPresent(it -> {
 
 				String sessionId = it.getKey().toString();
 
-				handleCreated(sessionId, toSession(it.getNewValue(), sessionId));
+				handleCreated(sessionId, toSession(SessionCreatedEvent.class, it.getNewValue(), sessionId));
 			});
 	}
 
 	/**
 	 * Callback method triggered when an entry is destroyed in the Pivotal GemFire cache {@link Region}.
 	 *
+	 * No {@link org.springframework.session.events.SessionDestroyedEvent} is published when the entry was destroyed
+	 * by a {@link Session} ID change; the previous {@link Session} ID is simply forgotten.  A
+	 * {@link org.springframework.session.events.SessionExpiredEvent} is published when the entry was destroyed
+	 * by the {@link SessionExpirationSweeper} on the server.
+	 *
 	 * @param event {@link EntryEvent} containing the details of the cache operation.
 	 * @see org.apache.geode.cache.EntryEvent
 	 * @see #handleDestroyed(String, Session)
+	 * @see #handleExpired(String, Session)
 	 */
 	@Override
 	public void afterDestroy(EntryEvent<Object, Session> event) {
 
 		Optional.ofNullable(event)
+			.filter(this::isSessionIdChange)
+			.ifPresent(it -> forget(it.getKey()));
+
+		Optional.ofNullable(event)
+			.filter(this::isNotSessionIdChange)
+			.filter(this::isPublisher)
 			.ifPresent(it -> {
 
 				String sessionId = event.getKey().toString();
 
-				handleDestroyed(sessionId, toSession(event.getOldValue(), sessionId));
+				if (SessionExpirationSweeper.isSessionExpiration(event)) {
+					handleExpired(sessionId, toSession(SessionExpiredEvent.class, event.getOldValue(), sessionId));
+				}
+				else {
+					handleDestroyed(sessionId, toSession(SessionDestroyedEvent.class, event.getOldValue(), sessionId));
+				}
 			});
 	}
 
@@ -431,14 +1054,84 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	public void afterInvalidate(EntryEvent<Object, Session> event) {
 
 		Optional.ofNullable(event)
+			.filter(this::isPublisher)
 			.ifPresent(it -> {
 
 				String sessionId = event.getKey().toString();
 
-				handleExpired(sessionId, toSession(event.getOldValue(), sessionId));
+				handleExpired(sessionId, toSession(SessionExpiredEvent.class, event.getOldValue(), sessionId));
 			});
 	}
 
+	/**
+	 * Callback method triggered when a Continuous Query (CQ) delivers a {@link Session} event.
+	 *
+	 * The {@link CqEvent#getBaseOperation() base operation} determines the type of {@link Session} event.
+	 * Creates are reported as a {@link SessionCreatedEvent}, destroys as a {@link SessionDestroyedEvent}
+	 * and expirations or invalidations as a {@link SessionExpiredEvent}, and only when the
+	 * {@link SessionEventType type} was subscribed to.  Updates, as well as {@link Session Sessions}
+	 * entering or leaving the result set of a filtered query due to an update, are ignored.
+	 *
+	 * Unlike {@link EntryEvent EntryEvents}, a {@link CqEvent} carries no callback argument, therefore
+	 * a {@link Session} ID change arrives as a creation followed by a deletion.  Both are ignored for
+	 * {@link Session} IDs changed by this {@link SessionRepository}, however, a {@link Session} ID change
+	 * performed by another client is reported as a creation followed by a deletion.  A {@link Session}
+	 * removed by the server-side {@link SessionExpirationSweeper} is reported as a deletion.
+	 *
+	 * @param event {@link CqEvent} containing the details of the cache operation.
+	 * @see org.apache.geode.cache.query.CqEvent
+	 * @see #handleCreated(String, Session)
+	 * @see #handleDestroyed(String, Session)
+	 * @see #handleExpired(String, Session)
+	 */
+	@Override
+	public void onEvent(CqEvent event) {
+
+		Optional.ofNullable(event)
+			.filter(it -> it.getKey() != null)
+			.ifPresent(it -> {
+
+				Operation baseOperation = it.getBaseOperation();
+				Operation queryOperation = it.getQueryOperation();
+				String sessionId = it.getKey().toString();
+
+				if (queryOperation.isCreate() && isCreate(baseOperation)) {
+					if (!forgetSessionIdChange(sessionId) && isSubscribedTo(SessionEventType.CREATED)) {
+						handleCreated(sessionId, toSession(SessionCreatedEvent.class, it.getNewValue(), sessionId));
+					}
+				}
+				else if (queryOperation.isDestroy()) {
+					if (baseOperation.isExpiration() || baseOperation.isInvalidate()) {
+						if (isSubscribedTo(SessionEventType.EXPIRED)) {
+							handleExpired(sessionId, toSession(SessionExpiredEvent.class, null, sessionId));
+						}
+					}
+					else if (baseOperation.isDestroy() && !forgetSessionIdChange(sessionId)
+							&& isSubscribedTo(SessionEventType.DELETED)) {
+						handleDestroyed(sessionId, toSession(SessionDestroyedEvent.class, null, sessionId));
+					}
+				}
+			});
+	}
+
+	/**
+	 * Callback method triggered when a Continuous Query (CQ) fails to process a cache operation on the server.
+	 *
+	 * @param event {@link CqEvent} containing the details of the error.
+	 * @see org.apache.geode.cache.query.CqEvent#getThrowable()
+	 */
+	@Override
+	public void onError(CqEvent event) {
+
+		Optional.ofNullable(event).ifPresent(it ->
+			getLogger().warn(String.format("Continuous Query failed to deliver Session event for Session [%s]",
+				it.getKey()), it.getThrowable()));
+	}
+
+	private boolean isSubscribedTo(SessionEventType sessionEventType) {
+		return getContinuousQuerySessionEvents().contains(sessionEventType);
+	}
+
 	/**
 	 * Deletes the given {@link Session} from GemFire.
 	 *
@@ -463,8 +1156,12 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	 * @see #publishEvent(ApplicationEvent)
 	 */
 	protected void handleCreated(String sessionId, Session session) {
+
 		remember(sessionId);
-		publishEvent(newSessionCreatedEvent(session));
+
+		if (hasSessionEventListeners(SessionCreatedEvent.class)) {
+			publishEvent(newSessionCreatedEvent(session));
+		}
 	}
 
 	/**
@@ -479,8 +1176,12 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	 * @see #forget(Object)
 	 */
 	protected void handleDeleted(String sessionId, Session session) {
+
 		forget(sessionId);
-		publishEvent(newSessionDeletedEvent(session));
+
+		if (hasSessionEventListeners(SessionDeletedEvent.class)) {
+			publishEvent(newSessionDeletedEvent(session));
+		}
 	}
 
 	/**
@@ -495,8 +1196,12 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	 * @see #forget(Object)
 	 */
 	protected void handleDestroyed(String sessionId, Session session) {
+
 		forget(sessionId);
-		publishEvent(newSessionDestroyedEvent(session));
+
+		if (hasSessionEventListeners(SessionDestroyedEvent.class)) {
+			publishEvent(newSessionDestroyedEvent(session));
+		}
 	}
 
 	/**
@@ -511,8 +1216,14 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	 * @see #forget(Object)
 	 */
 	protected void handleExpired(String sessionId, Session session) {
+
+		getSessionOperationStatistics().incExpirations();
+
 		forget(sessionId);
-		publishEvent(newSessionExpiredEvent(session));
+
+		if (hasSessionEventListeners(SessionExpiredEvent.class)) {
+			publishEvent(newSessionExpiredEvent(session));
+		}
 	}
 
 	private SessionCreatedEvent newSessionCreatedEvent(Session session) {
@@ -542,6 +1253,7 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 
 		try {
 			getApplicationEventPublisher().publishEvent(event);
+			getSessionOperationStatistics().incEventsPublished();
 		}
 		catch (Throwable cause) {
 			getLogger().error(String.format("Error occurred while publishing event [%s]", event), cause);
@@ -579,7 +1291,7 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 
 		@Override
 		protected DeltaCapableGemFireSessionAttributes newSessionAttributes(Object lock) {
-			return new DeltaCapableGemFireSessionAttributes();
+			return new DeltaCapableGemFireSessionAttributes(lock);
 		}
 
 		public synchronized void toDelta(DataOutput out) throws IOException {
@@ -589,6 +1301,8 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			out.writeLong(getMaxInactiveInterval().getSeconds());
 			getAttributes().toDelta(out);
 			clearDelta();
+
+			getSessionOperationStatistics().incDeltas();
 		}
 
 		public synchronized void fromDelta(DataInput in) throws IOException {
@@ -605,6 +1319,12 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	 * {@link GemFireSession} is a Abstract Data Type (ADT) for a Spring {@link Session} that stores and manages
 	 * {@link Session} state in Apache Geode or Pivotal GemFire.
 	 *
+	 * Read operations (e.g. {@link #getId()}, {@link #getAttribute(String)}, {@link #getLastAccessedTime()})
+	 * do not acquire the {@link GemFireSession} monitor, so that concurrent requests sharing the same {@link Session}
+	 * do not contend on reads.  Write operations remain synchronized on the {@link GemFireSession} so that changes
+	 * and delta tracking are applied atomically and the {@link Session} state cannot change while it is being
+	 * serialized.
+	 *
 	 * @see java.lang.Comparable
 	 * @see org.springframework.session.Session
 	 */
@@ -615,21 +1335,32 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 
 		protected static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
 
-		private transient boolean delta = false;
+		private transient volatile boolean delta = false;
+
+		private volatile Duration maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL;
+
+		private volatile Instant creationTime;
+		private volatile Instant lastAccessedTime;
+
+		private volatile String id;
+
+		private volatile long version = 0L;
+
+		private transient volatile String originalId;
 
-		private Duration maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL;
+		private transient volatile PrincipalNameResolver principalNameResolver =
+			SpelExpressionPrincipalNameResolver.INSTANCE;
 
-		private Instant creationTime;
-		private Instant lastAccessedTime;
+		private transient volatile SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.INSTANCE;
 
-		private transient final SpelExpressionParser parser = new SpelExpressionParser();
+		private transient volatile boolean principalNameRouting = false;
 
-		private String id;
+		private transient volatile ResolvedPrincipalName resolvedPrincipalName = ResolvedPrincipalName.NONE;
 
 		private transient final T sessionAttributes = newSessionAttributes(this);
 
 		protected GemFireSession() {
-			this(generateId());
+			this(UuidSessionIdGenerator.INSTANCE.generateId());
 		}
 
 		protected GemFireSession(String id) {
@@ -643,10 +1374,24 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			Assert.notNull(session, "The Session to copy cannot be null");
 
 			this.id = session.getId();
+			this.originalId = this.id;
 			this.creationTime = session.getCreationTime();
 			this.lastAccessedTime = session.getLastAccessedTime();
 			this.maxInactiveInterval = session.getMaxInactiveInterval();
 			this.sessionAttributes.from(session);
+
+			if (session instanceof GemFireSession) {
+
+				GemFireSession<?> gemfireSession = (GemFireSession<?>) session;
+
+				this.version = gemfireSession.getVersion();
+				this.principalNameResolver = gemfireSession.getPrincipalNameResolver();
+				this.sessionIdGenerator = gemfireSession.getSessionIdGenerator();
+				this.principalNameRouting = gemfireSession.isPrincipalNameRouting();
+				this.sessionAttributes.setSessionOperationStatistics(gemfireSession.getSessionOperationStatistics());
+				this.sessionAttributes.setChangedAttributeNames(
+					gemfireSession.getAttributes().getChangedAttributeNames());
+			}
 		}
 
 		public static GemFireSession copy(Session session) {
@@ -658,11 +1403,20 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 		}
 
 		public static GemFireSession create(Duration maxInactiveInterval) {
+			return create(maxInactiveInterval, UuidSessionIdGenerator.INSTANCE);
+		}
+
+		public static GemFireSession create(Duration maxInactiveInterval, SessionIdGenerator sessionIdGenerator) {
+
+			Assert.notNull(sessionIdGenerator, "SessionIdGenerator is required");
+
+			String id = sessionIdGenerator.generateId();
 
 			GemFireSession session =
-				(isUsingDataSerialization() ? new DeltaCapableGemFireSession() : new GemFireSession());
+				(isUsingDataSerialization() ? new DeltaCapableGemFireSession(id) : new GemFireSession(id));
 
 			session.setMaxInactiveInterval(maxInactiveInterval);
+			session.setSessionIdGenerator(sessionIdGenerator);
 
 			return session;
 		}
@@ -672,16 +1426,6 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			return (T) (session instanceof GemFireSession ? (GemFireSession) session : copy(session));
 		}
 
-		/**
-		 * Randomly generates a unique identifier (ID) from {@link UUID} to be used as the {@link Session} ID.
-		 *
-		 * @return a new unique identifier (ID).
-		 * @see java.util.UUID#randomUUID()
-		 */
-		private static String generateId() {
-			return UUID.randomUUID().toString();
-		}
-
 		private static String validateId(String id) {
 			return Optional.ofNullable(id).filter(StringUtils::hasText)
 				.orElseThrow(() -> newIllegalArgumentException("ID is required"));
@@ -692,10 +1436,28 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			return (T) new GemFireSessionAttributes(lock);
 		}
 
+		/**
+		 * Changes the {@link String ID} of this {@link Session} to a new ID generated by
+		 * the configured {@link SessionIdGenerator}.
+		 *
+		 * When {@link Session Sessions} are routed by principal name and the principal name of this {@link Session}
+		 * is known, the new ID is routed by the principal name.
+		 *
+		 * @return the new {@link String ID} of this {@link Session}.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver#toRoutedSessionId(String, String)
+		 * @see #getSessionIdGenerator()
+		 * @see #isPrincipalNameRouting()
+		 */
 		@Override
 		public synchronized String changeSessionId() {
 
-			this.id = generateId();
+			String newId = validateId(getSessionIdGenerator().generateId());
+
+			String principalName = isPrincipalNameRouting() ? getPrincipalName() : null;
+
+			this.id = StringUtils.hasText(principalName)
+				? PrincipalNamePartitionResolver.toRoutedSessionId(principalName, newId)
+				: newId;
 
 			triggerDelta();
 
@@ -706,7 +1468,7 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			this.delta = false;
 		}
 
-		public synchronized boolean hasDelta() {
+		public boolean hasDelta() {
 			return (this.delta || this.sessionAttributes.hasDelta());
 		}
 
@@ -723,10 +1485,70 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			this.id = validateId(id);
 		}
 
-		public synchronized String getId() {
+		public String getId() {
 			return this.id;
 		}
 
+		/**
+		 * Returns the {@link String ID} under which this {@link Session} was last stored, or {@literal null}
+		 * if this {@link Session} has never been stored.
+		 *
+		 * @return the {@link String ID} under which this {@link Session} was last stored.
+		 * @see #isIdChanged()
+		 */
+		String getOriginalId() {
+			return this.originalId;
+		}
+
+		/**
+		 * Determines whether the {@link String ID} of this stored {@link Session} was changed since it was last
+		 * stored, in which case the entry stored under the {@link #getOriginalId() original ID} must be moved.
+		 *
+		 * @return a boolean value indicating whether the {@link String ID} of this {@link Session} changed.
+		 * @see #changeSessionId()
+		 * @see #getOriginalId()
+		 */
+		synchronized boolean isIdChanged() {
+
+			String originalId = getOriginalId();
+
+			return originalId != null && !originalId.equals(getId());
+		}
+
+		/**
+		 * Records that this {@link Session} has been stored under its current {@link String ID}.
+		 *
+		 * @param storedId {@link String ID} under which this {@link Session} was stored.
+		 */
+		synchronized void storedAs(String storedId) {
+			this.originalId = storedId;
+			this.sessionAttributes.clearChangedAttributeNames();
+		}
+
+		/**
+		 * Sets the version of this {@link Session} as stored in the {@link Region}.
+		 *
+		 * The version is incremented each time the {@link Session} is replaced with a version check
+		 * and does not by itself mark this {@link Session} as changed.
+		 *
+		 * @param version {@literal long} value containing the version of this {@link Session}.
+		 * @see #getVersion()
+		 */
+		public synchronized void setVersion(long version) {
+			this.version = version;
+		}
+
+		/**
+		 * Returns the version of this {@link Session} as stored in the {@link Region}.
+		 *
+		 * @return the version of this {@link Session}; {@literal 0} if this {@link Session} has never been stored
+		 * with a version check.
+		 * @see org.springframework.session.data.gemfire.function.ReplaceSessionFunction
+		 */
+		public long getVersion() {
+			return this.version;
+		}
+
 		public void setAttribute(String attributeName, Object attributeValue) {
 			this.sessionAttributes.setAttribute(attributeName, attributeValue);
 		}
@@ -747,11 +1569,11 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			return this.sessionAttributes;
 		}
 
-		public synchronized Instant getCreationTime() {
+		public Instant getCreationTime() {
 			return this.creationTime;
 		}
 
-		public synchronized boolean isExpired() {
+		public boolean isExpired() {
 
 			Instant lastAccessedTime = getLastAccessedTime();
 
@@ -774,7 +1596,7 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			this.lastAccessedTime = lastAccessedTime;
 		}
 
-		public synchronized Instant getLastAccessedTime() {
+		public Instant getLastAccessedTime() {
 			return this.lastAccessedTime;
 		}
 
@@ -783,7 +1605,7 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			this.maxInactiveInterval = maxInactiveIntervalInSeconds;
 		}
 
-		public synchronized Duration getMaxInactiveInterval() {
+		public Duration getMaxInactiveInterval() {
 			return Optional.ofNullable(this.maxInactiveInterval).orElse(DEFAULT_MAX_INACTIVE_INTERVAL);
 		}
 
@@ -791,23 +1613,141 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			setAttribute(PRINCIPAL_NAME_INDEX_NAME, principalName);
 		}
 
-		public synchronized String getPrincipalName() {
+		public String getPrincipalName() {
 
 			String principalName = getAttribute(PRINCIPAL_NAME_INDEX_NAME);
 
-			if (principalName == null) {
+			return principalName != null ? principalName : resolvePrincipalName(getAttribute(SPRING_SECURITY_CONTEXT));
+		}
 
-				Object authentication = getAttribute(SPRING_SECURITY_CONTEXT);
+		/**
+		 * Sets the {@link PrincipalNameResolver} used to resolve the principal name from the security context
+		 * stored in this {@link Session}.
+		 *
+		 * @param principalNameResolver {@link PrincipalNameResolver} used to resolve the principal name;
+		 * if {@literal null}, the default {@link PrincipalNameResolver} is used.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+		 */
+		protected void setPrincipalNameResolver(PrincipalNameResolver principalNameResolver) {
 
-				if (authentication != null) {
+			PrincipalNameResolver resolvedPrincipalNameResolver = principalNameResolver != null
+				? principalNameResolver : SpelExpressionPrincipalNameResolver.INSTANCE;
 
-					Expression expression = this.parser.parseExpression("authentication?.name");
+			if (resolvedPrincipalNameResolver != this.principalNameResolver) {
+				this.principalNameResolver = resolvedPrincipalNameResolver;
+				this.resolvedPrincipalName = ResolvedPrincipalName.NONE;
+			}
+		}
 
-					principalName = expression.getValue(authentication, String.class);
-				}
+		/**
+		 * Returns the {@link PrincipalNameResolver} used to resolve the principal name from the security context
+		 * stored in this {@link Session}.
+		 *
+		 * @return the {@link PrincipalNameResolver} used to resolve the principal name.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+		 */
+		protected PrincipalNameResolver getPrincipalNameResolver() {
+			return this.principalNameResolver;
+		}
+
+		/**
+		 * Sets the {@link SessionIdGenerator} used to generate the new {@link String ID} of this {@link Session}
+		 * when its ID is changed.
+		 *
+		 * @param sessionIdGenerator {@link SessionIdGenerator} used to generate {@link Session} IDs;
+		 * if {@literal null}, the default {@link SessionIdGenerator} is used.
+		 * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+		 * @see #changeSessionId()
+		 */
+		protected void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+			this.sessionIdGenerator = sessionIdGenerator != null ? sessionIdGenerator : UuidSessionIdGenerator.INSTANCE;
+		}
+
+		/**
+		 * Returns the {@link SessionIdGenerator} used to generate the new {@link String ID} of this {@link Session}
+		 * when its ID is changed.
+		 *
+		 * @return the {@link SessionIdGenerator} used to generate {@link Session} IDs.
+		 * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+		 */
+		protected SessionIdGenerator getSessionIdGenerator() {
+			return this.sessionIdGenerator;
+		}
+
+		/**
+		 * Sets whether the new {@link String ID} of this {@link Session} is routed by principal name
+		 * when its ID is changed.
+		 *
+		 * @param principalNameRouting boolean indicating whether {@link Session} IDs are routed by principal name.
+		 * @see #changeSessionId()
+		 */
+		protected void setPrincipalNameRouting(boolean principalNameRouting) {
+			this.principalNameRouting = principalNameRouting;
+		}
+
+		/**
+		 * Determines whether the new {@link String ID} of this {@link Session} is routed by principal name
+		 * when its ID is changed.
+		 *
+		 * @return a boolean value indicating whether {@link Session} IDs are routed by principal name.
+		 */
+		protected boolean isPrincipalNameRouting() {
+			return this.principalNameRouting;
+		}
+
+		/**
+		 * Sets the {@link SessionOperationStatistics} recording operations on this {@link Session},
+		 * such as deltas sent and bytes of serialized {@link Session} attributes.
+		 *
+		 * @param sessionOperationStatistics {@link SessionOperationStatistics} to record to;
+		 * if {@literal null}, no statistics are recorded.
+		 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+		 */
+		protected void setSessionOperationStatistics(SessionOperationStatistics sessionOperationStatistics) {
+			getAttributes().setSessionOperationStatistics(sessionOperationStatistics);
+		}
+
+		/**
+		 * Returns the {@link SessionOperationStatistics} recording operations on this {@link Session}.
+		 *
+		 * @return the configured {@link SessionOperationStatistics}; never {@literal null}.
+		 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+		 */
+		protected SessionOperationStatistics getSessionOperationStatistics() {
+			return getAttributes().getSessionOperationStatistics();
+		}
+
+		/**
+		 * Resolves the principal name from the given security context using the configured
+		 * {@link PrincipalNameResolver}.
+		 *
+		 * The resolved principal name is cached until the {@literal Authentication} of the security context
+		 * changes, whether the security context {@link Session} attribute is set to a different object
+		 * or the {@literal Authentication} of the same security context is replaced.
+		 *
+		 * @param securityContext {@link Object} containing the security context stored in this {@link Session}.
+		 * @return the resolved principal name or {@literal null} if the principal name could not be resolved.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+		 */
+		private String resolvePrincipalName(Object securityContext) {
+
+			if (securityContext == null) {
+				return null;
+			}
+
+			ResolvedPrincipalName resolvedPrincipalName = this.resolvedPrincipalName;
+
+			Object authentication = ResolvedPrincipalName.authenticationOf(securityContext);
+
+			if (!resolvedPrincipalName.isResolvedFrom(authentication)) {
+
+				resolvedPrincipalName = new ResolvedPrincipalName(authentication,
+					getPrincipalNameResolver().resolvePrincipalName(securityContext));
+
+				this.resolvedPrincipalName = resolvedPrincipalName;
 			}
 
-			return principalName;
+			return resolvedPrincipalName.getPrincipalName();
 		}
 
 		@SuppressWarnings("all")
@@ -849,6 +1789,45 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 				getClass().getName(), getId(), getCreationTime(), getLastAccessedTime(),
 				getMaxInactiveInterval(), getPrincipalName());
 		}
+
+		/**
+		 * Immutable pairing of the {@literal Authentication} of a security context and the principal name
+		 * resolved from it, allowing the resolved principal name to be cached and published safely without locking.
+		 *
+		 * A security context that is not a Spring Security {@link SecurityContext} is its own key.
+		 */
+		private static final class ResolvedPrincipalName {
+
+			private static final boolean SPRING_SECURITY_PRESENT =
+				ClassUtils.isPresent("org.springframework.security.core.context.SecurityContext",
+					ResolvedPrincipalName.class.getClassLoader());
+
+			private static final ResolvedPrincipalName NONE = new ResolvedPrincipalName(new Object(), null);
+
+			private final Object authentication;
+
+			private final String principalName;
+
+			private ResolvedPrincipalName(Object authentication, String principalName) {
+				this.authentication = authentication;
+				this.principalName = principalName;
+			}
+
+			static Object authenticationOf(Object securityContext) {
+
+				return SPRING_SECURITY_PRESENT && securityContext instanceof SecurityContext
+					? ((SecurityContext) securityContext).getAuthentication()
+					: securityContext;
+			}
+
+			String getPrincipalName() {
+				return this.principalName;
+			}
+
+			boolean isResolvedFrom(Object authentication) {
+				return this.authentication == authentication;
+			}
+		}
 	}
 
 	@SuppressWarnings("unused")
@@ -966,7 +1945,12 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	 * extends {@link AbstractMap} providing {@link Map}-like behavior since attributes of a Session
 	 * are effectively a name to value mapping.
 	 *
+	 * Session attributes are stored in a {@link ConcurrentHashMap} so that read operations do not need to acquire
+	 * the lock.  Write operations synchronize on the lock (typically the owning {@link GemFireSession}) to keep
+	 * changes and delta tracking atomic with respect to serialization.
+	 *
 	 * @see java.util.AbstractMap
+	 * @see java.util.concurrent.ConcurrentHashMap
 	 * @see org.apache.geode.DataSerializable
 	 * @see org.apache.geode.DataSerializer
 	 * @see org.apache.geode.Delta
@@ -974,10 +1958,15 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 	@SuppressWarnings("serial")
 	public static class GemFireSessionAttributes extends AbstractMap<String, Object> {
 
-		private transient final Map<String, Object> sessionAttributes = new HashMap<>();
+		private transient final Map<String, Object> sessionAttributes = new ConcurrentHashMap<>();
 
 		private transient final Object lock;
 
+		private transient final Set<String> changedAttributeNames = new HashSet<>();
+
+		private transient volatile SessionOperationStatistics sessionOperationStatistics =
+			SessionOperationStatistics.NONE;
+
 		protected GemFireSessionAttributes() {
 			this.lock = this;
 		}
@@ -998,29 +1987,98 @@ public abstract class AbstractGemFireOperationsSessionRepository extends CacheLi
 			return this.lock;
 		}
 
+		/**
+		 * Sets the {@link SessionOperationStatistics} recording the number of bytes of these
+		 * {@link Session} attributes when serialized.
+		 *
+		 * @param sessionOperationStatistics {@link SessionOperationStatistics} to record to;
+		 * if {@literal null}, no statistics are recorded.
+		 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+		 */
+		public void setSessionOperationStatistics(SessionOperationStatistics sessionOperationStatistics) {
+			this.sessionOperationStatistics = sessionOperationStatistics != null ? sessionOperationStatistics
+				: SessionOperationStatistics.NONE;
+		}
+
+		/**
+		 * Returns the {@link SessionOperationStatistics} recording the number of bytes of these
+		 * {@link Session} attributes when serialized.
+		 *
+		 * @return the configured {@link SessionOperationStatistics}; never {@literal null}.
+		 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+		 */
+		public SessionOperationStatistics getSessionOperationStatistics() {
+			return this.sessionOperationStatistics;
+		}
+
 		public Object setAttribute(String attributeName, Object attributeValue) {
 			synchronized (getLock()) {
-				return (attributeValue != null ? this.sessionAttributes.put(attributeName, attributeValue)
-					: removeAttribute(attributeName));
+				if (attributeValue != null) {
+					this.changedAttributeNames.add(attributeName);
+					return this.sessionAttributes.put(attributeName, attributeValue);
+				}
+				else {
+					return removeAttribute(attributeName);
+				}
 			}
 		}
 
 		public Object removeAttribute(String attributeName) {
 			synchronized (getLock()) {
-				return this.sessionAttributes.remove(attributeName);
+				if (attributeName != null) {
+
+					Object previousAttributeValue = this.sessionAttributes.remove(attributeName);
+
+					if (previousAttributeValue != null) {
+						this.changedAttributeNames.add(attributeName);
+					}
+
+					return previousAttributeValue;
+				}
+
+				return null;
 			}
 		}
 
 		@SuppressWarnings("unchecked")
 		public <T> T getAttribute(String attributeName) {
+			return (attributeName != null ? (T) this.sessionAttributes.get(attributeName) : null);
+		}
+
+		public Set<String> getAttributeNames() {
+			return Collections.unmodifiableSet(new HashSet<>(this.sessionAttributes.keySet()));
+		}
+
+		/**
+		 * Returns the names of all attributes set or removed since the {@link Session} was last stored.
+		 *
+		 * Unlike the delta, which is cleared once it has been sent, the changed attribute names are kept until
+		 * the {@link Session} has been stored, so that concurrent changes to other attributes can be merged.
+		 *
+		 * @return a {@link Set} of the names of all changed attributes.
+		 * @see #clearChangedAttributeNames()
+		 */
+		public Set<String> getChangedAttributeNames() {
 			synchronized (getLock()) {
-				return (T) this.sessionAttributes.get(attributeName);
+				return new HashSet<>(this.changedAttributeNames);
 			}
 		}
 
-		public Set<String> getAttributeNames() {
+		/**
+		 * Clears the names of all changed attributes after the {@link Session} has been stored or read.
+		 *
+		 * @see #getChangedAttributeNames()
+		 */
+		public void clearChangedAttributeNames() {
+			synchronized (getLock()) {
+				this.changedAttributeNames.clear();
+			}
+		}
+
+		void setChangedAttributeNames(Set<String> changedAttributeNames) {
 			synchronized (getLock()) {
-				return Collections.unmodifiableSet(new HashSet<>(this.sessionAttributes.keySet()));
+				this.changedAttributeNames.clear();
+				this.changedAttributeNames.addAll(changedAttributeNames);
 			}
 		}
 
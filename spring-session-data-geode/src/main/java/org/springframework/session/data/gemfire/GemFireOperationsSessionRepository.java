@@ -17,14 +17,40 @@
 package org.springframework.session.data.gemfire;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.apache.geode.GemFireException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.gemfire.GemfireCacheUtils;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.function.ChangeSessionIdFunction;
+import org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.function.ReplaceSessionFunction;
+import org.springframework.session.data.gemfire.function.SessionStatistics;
+import org.springframework.session.data.gemfire.function.SessionStatisticsFunction;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
+import org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver;
+import org.springframework.session.data.gemfire.support.SessionDeletionQueue;
+import org.springframework.session.data.gemfire.support.SessionInterestRegistrar;
+import org.springframework.session.data.gemfire.support.SessionLookupCoalescer;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
+import org.springframework.session.data.gemfire.support.SessionWriteBehindQueue;
+import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.util.StringUtils;
 
 /**
  * The {@link GemFireOperationsSessionRepository} class is a Spring {@link SessionRepository} implementation
@@ -35,9 +61,12 @@ import org.springframework.session.SessionRepository;
  * @see org.springframework.session.Session
  * @see org.springframework.session.SessionRepository
  * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository
+ * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction
+ * @see org.springframework.session.data.gemfire.function.SessionStatisticsFunction
  * @since 1.1.0
  */
-public class GemFireOperationsSessionRepository extends AbstractGemFireOperationsSessionRepository {
+public class GemFireOperationsSessionRepository extends AbstractGemFireOperationsSessionRepository
+		implements DisposableBean {
 
 	// Pivotal GemFire OQL query used to lookup Sessions by arbitrary attributes.
 	protected static final String FIND_SESSIONS_BY_INDEX_NAME_INDEX_VALUE_QUERY =
@@ -47,6 +76,22 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	protected static final String FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY =
 		"SELECT s FROM %1$s s WHERE s.principalName = $1";
 
+	private boolean changeSessionIdOnServer = false;
+
+	private volatile boolean directRegionAccess = false;
+
+	private volatile boolean optimisticConcurrency = false;
+
+	private volatile boolean principalNameRouting = false;
+
+	private volatile SessionDeletionQueue sessionDeletionQueue;
+
+	private volatile SessionInterestRegistrar sessionInterestRegistrar;
+
+	private volatile SessionLookupCoalescer sessionLookupCoalescer;
+
+	private volatile SessionWriteBehindQueue sessionWriteBehindQueue;
+
 	/**
 	 * Constructs an instance of GemFireOperationsSessionRepository initialized with the
 	 * required GemfireOperations object used to perform data access operations to manage
@@ -60,6 +105,292 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 		super(template);
 	}
 
+	/**
+	 * Sets whether a {@link Session} ID change is performed on the server by executing
+	 * the {@link ChangeSessionIdFunction}, requiring only a single, routed round trip.
+	 *
+	 * When disabled, the {@link Session} ID change is performed by this cache as separate {@link Region} operations.
+	 * Either way, the entry stored under the previous {@link Session} ID is destroyed.
+	 *
+	 * Enabling this requires the {@link ChangeSessionIdFunction} to be registered on the servers, which happens
+	 * automatically when the servers are configured with
+	 * {@link org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession}.
+	 *
+	 * @param changeSessionIdOnServer boolean indicating whether {@link Session} ID changes are performed
+	 * on the server.
+	 * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction
+	 */
+	public void setChangeSessionIdOnServer(boolean changeSessionIdOnServer) {
+		this.changeSessionIdOnServer = changeSessionIdOnServer;
+	}
+
+	/**
+	 * Determines whether a {@link Session} ID change is performed on the server by executing
+	 * the {@link ChangeSessionIdFunction}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} ID changes are performed on the server.
+	 */
+	protected boolean isChangeSessionIdOnServer() {
+		return this.changeSessionIdOnServer;
+	}
+
+	/**
+	 * Sets whether {@link #findById(String)}, {@link #save(Session)} and {@link #deleteById(String)} access
+	 * the cache {@link Region} directly rather than through the {@link GemfireOperations template}.
+	 *
+	 * Direct access avoids the callback and exception translation layers of the
+	 * {@link GemfireOperations template} on every {@link Session} lookup, write and removal.
+	 * Apache Geode / Pivotal GemFire exceptions are still translated into Spring's
+	 * {@link org.springframework.dao.DataAccessException} hierarchy when a {@link Region} operation fails.
+	 *
+	 * @param directRegionAccess boolean indicating whether the {@link Session} {@link Region} is accessed directly.
+	 * @see org.springframework.data.gemfire.GemfireCacheUtils#convertGemfireAccessException(GemFireException)
+	 * @see #getSessionsRegion()
+	 */
+	public void setDirectRegionAccess(boolean directRegionAccess) {
+		this.directRegionAccess = directRegionAccess;
+	}
+
+	/**
+	 * Determines whether the cache {@link Region} is accessed directly rather than through
+	 * the {@link GemfireOperations template}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is accessed directly.
+	 */
+	protected boolean isDirectRegionAccess() {
+		return this.directRegionAccess;
+	}
+
+	/**
+	 * Sets whether {@link #save(Session)} stores the {@link Session} with an optimistic, version-checked replace
+	 * performed by the {@link ReplaceSessionFunction} instead of a blind put.
+	 *
+	 * When another request stored the same {@link Session} since it was read, the attributes changed by this
+	 * request are merged into the stored {@link Session} on the server, so that concurrent requests changing
+	 * different attributes do not overwrite each other's changes.  No lock is held on the {@link Session}.
+	 *
+	 * Enabling this requires the {@link ReplaceSessionFunction} to be registered on the servers, which happens
+	 * automatically when the servers are configured with
+	 * {@link org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession}.
+	 * {@link Session Sessions} queued by the {@link SessionWriteBehindQueue} are written with a blind put.
+	 *
+	 * @param optimisticConcurrency boolean indicating whether {@link Session Sessions} are stored with
+	 * a version-checked replace.
+	 * @see org.springframework.session.data.gemfire.function.ReplaceSessionFunction
+	 */
+	public void setOptimisticConcurrency(boolean optimisticConcurrency) {
+		this.optimisticConcurrency = optimisticConcurrency;
+	}
+
+	/**
+	 * Determines whether {@link #save(Session)} stores the {@link Session} with an optimistic,
+	 * version-checked replace.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are stored with
+	 * a version-checked replace.
+	 */
+	protected boolean isOptimisticConcurrency() {
+		return this.optimisticConcurrency;
+	}
+
+	/**
+	 * Sets whether {@link Session Sessions} are routed by principal name, so that all {@link Session Sessions}
+	 * of the same principal are stored in the same bucket of a partitioned {@link Region}.
+	 *
+	 * The principal is encoded in the {@link Session} ID, so a {@link Session} is routed by its principal name
+	 * when its ID is changed, with {@link Session#changeSessionId()}, after its principal name is known,
+	 * as is typical on login to protect against session fixation.  The ID of a {@link Session} is never changed
+	 * on {@link #save(Session)}, which would invalidate the ID held by concurrent requests for the same
+	 * {@link Session}.  {@link #findByIndexNameAndIndexValue(String, String)} then finds the
+	 * {@link Session Sessions} of a principal with a query routed to a single bucket by executing
+	 * the {@link FindSessionsByPrincipalNameFunction}.
+	 *
+	 * Enabling this requires the partitioned {@link Region} on the servers to be configured with
+	 * the {@link PrincipalNamePartitionResolver} and the {@link FindSessionsByPrincipalNameFunction} to be
+	 * registered on the servers, which happens automatically when the servers are configured with
+	 * {@link org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession}.
+	 *
+	 * @param principalNameRouting boolean indicating whether {@link Session Sessions} are routed by principal name.
+	 * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver
+	 */
+	public void setPrincipalNameRouting(boolean principalNameRouting) {
+		this.principalNameRouting = principalNameRouting;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are routed by principal name.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal name.
+	 */
+	protected boolean isPrincipalNameRouting() {
+		return this.principalNameRouting;
+	}
+
+	/**
+	 * Configures the given {@link GemFireSession} with the strategies of this {@link SessionRepository}
+	 * and whether the {@link GemFireSession} is routed by principal name when its ID is changed.
+	 *
+	 * @param <T> {@link Class sub-type} of {@link GemFireSession}.
+	 * @param session {@link GemFireSession} to configure.
+	 * @return the given {@link GemFireSession}.
+	 * @see #setPrincipalNameRouting(boolean)
+	 */
+	@Override
+	protected <T extends GemFireSession> T configureSession(T session) {
+
+		T configuredSession = super.configureSession(session);
+
+		if (configuredSession != null) {
+			configuredSession.setPrincipalNameRouting(isPrincipalNameRouting());
+		}
+
+		return configuredSession;
+	}
+
+	/**
+	 * Sets the window during which concurrent lookups of the same {@link Session} by ID are coalesced
+	 * into a single fetch.
+	 *
+	 * Concurrent {@link #findById(String)} calls for the same {@link Session} ID share a single, in-flight fetch
+	 * and each receive an independent copy of the {@link Session}.  A positive window additionally shares
+	 * the result of a completed fetch with lookups arriving within the window.  A {@literal null} or negative
+	 * window disables coalescing.
+	 *
+	 * @param sessionLookupCoalescingWindow {@link Duration} during which {@link Session} lookups are coalesced.
+	 * @see org.springframework.session.data.gemfire.support.SessionLookupCoalescer
+	 */
+	public void setSessionLookupCoalescingWindow(Duration sessionLookupCoalescingWindow) {
+
+		this.sessionLookupCoalescer = Optional.ofNullable(sessionLookupCoalescingWindow)
+			.filter(window -> !window.isNegative())
+			.map(window -> new SessionLookupCoalescer(window, GemFireSession::copy))
+			.orElse(null);
+	}
+
+	/**
+	 * Returns the {@link SessionLookupCoalescer} used to coalesce concurrent lookups of the same {@link Session},
+	 * which also records how many lookups were coalesced.
+	 *
+	 * @return an {@link Optional} {@link SessionLookupCoalescer} if {@link Session} lookup coalescing is enabled.
+	 * @see org.springframework.session.data.gemfire.support.SessionLookupCoalescer
+	 */
+	public Optional<SessionLookupCoalescer> getSessionLookupCoalescer() {
+		return Optional.ofNullable(this.sessionLookupCoalescer);
+	}
+
+	/**
+	 * Sets the {@link SessionWriteBehindQueue} used to write saved {@link Session Sessions} to the cache
+	 * {@link Region} asynchronously, in batches.
+	 *
+	 * When set, {@link #save(Session)} queues the {@link Session} and returns without waiting on the cache
+	 * {@link Region} write.  {@link #findById(String)} returns {@link Session Sessions} that are queued,
+	 * but not yet written, so that reads in this JVM see their own writes.  A {@literal null}
+	 * {@link SessionWriteBehindQueue} disables write-behind.
+	 *
+	 * @param sessionWriteBehindQueue {@link SessionWriteBehindQueue} used to write {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.support.SessionWriteBehindQueue
+	 */
+	public void setSessionWriteBehindQueue(SessionWriteBehindQueue sessionWriteBehindQueue) {
+		this.sessionWriteBehindQueue = sessionWriteBehindQueue;
+	}
+
+	/**
+	 * Returns the {@link SessionWriteBehindQueue} used to write saved {@link Session Sessions} to the cache
+	 * {@link Region} asynchronously, which also records the flush latency.
+	 *
+	 * @return an {@link Optional} {@link SessionWriteBehindQueue} if write-behind is enabled.
+	 * @see org.springframework.session.data.gemfire.support.SessionWriteBehindQueue
+	 */
+	public Optional<SessionWriteBehindQueue> getSessionWriteBehindQueue() {
+		return Optional.ofNullable(this.sessionWriteBehindQueue);
+	}
+
+	/**
+	 * Sets the interval between the background removals of expired {@link Session Sessions} discovered on read.
+	 *
+	 * When set, {@link #findById(String)} returns {@literal null} for an expired {@link Session} immediately
+	 * and queues the expired {@link Session} to be removed, in a batch, by a background thread, which also
+	 * publishes the {@link org.springframework.session.events.SessionDeletedEvent}.  A {@literal null}
+	 * or non-positive interval removes expired {@link Session Sessions} on the calling thread.
+	 *
+	 * @param expiredSessionDeletionInterval {@link Duration} between background removals
+	 * of expired {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.support.SessionDeletionQueue
+	 */
+	public void setExpiredSessionDeletionInterval(Duration expiredSessionDeletionInterval) {
+
+		SessionDeletionQueue sessionDeletionQueue = Optional.ofNullable(expiredSessionDeletionInterval)
+			.filter(interval -> !(interval.isNegative() || interval.isZero()))
+			.map(interval -> new SessionDeletionQueue(getTemplate(), interval, this::handleDeleted))
+			.orElse(null);
+
+		closeSessionDeletionQueue();
+
+		this.sessionDeletionQueue = sessionDeletionQueue;
+	}
+
+	/**
+	 * Returns the {@link SessionDeletionQueue} used to remove expired {@link Session Sessions} discovered on read
+	 * in the background.
+	 *
+	 * @return an {@link Optional} {@link SessionDeletionQueue} if expired {@link Session Sessions} are removed
+	 * in the background.
+	 * @see org.springframework.session.data.gemfire.support.SessionDeletionQueue
+	 */
+	public Optional<SessionDeletionQueue> getSessionDeletionQueue() {
+		return Optional.ofNullable(this.sessionDeletionQueue);
+	}
+
+	private void closeSessionDeletionQueue() {
+		getSessionDeletionQueue().ifPresent(SessionDeletionQueue::close);
+	}
+
+	/**
+	 * Sets the {@link SessionInterestRegistrar} used to register interest in only those {@link Session Sessions}
+	 * created or loaded by this client.
+	 *
+	 * When set, interest in a {@link Session} is registered on {@link #save(Session)} and {@link #findById(String)},
+	 * and unregistered when the {@link Session} is deleted or expires, in place of interest in {@literal ALL_KEYS}.
+	 * A {@literal null} {@link SessionInterestRegistrar} leaves interest registration to the client {@link Region}.
+	 *
+	 * @param sessionInterestRegistrar {@link SessionInterestRegistrar} used to register interest
+	 * in {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.support.SessionInterestRegistrar
+	 */
+	public void setSessionInterestRegistrar(SessionInterestRegistrar sessionInterestRegistrar) {
+		this.sessionInterestRegistrar = sessionInterestRegistrar;
+	}
+
+	/**
+	 * Returns the {@link SessionInterestRegistrar} used to register interest in only those {@link Session Sessions}
+	 * created or loaded by this client.
+	 *
+	 * @return an {@link Optional} {@link SessionInterestRegistrar} if targeted interest registration is enabled.
+	 * @see org.springframework.session.data.gemfire.support.SessionInterestRegistrar
+	 */
+	public Optional<SessionInterestRegistrar> getSessionInterestRegistrar() {
+		return Optional.ofNullable(this.sessionInterestRegistrar);
+	}
+
+	/**
+	 * Closes the {@link SessionWriteBehindQueue}, {@link SessionDeletionQueue} and {@link SessionInterestRegistrar},
+	 * if any, writing all queued {@link Session Sessions}, removing all queued, expired {@link Session Sessions}
+	 * and sending all pending interest registrations, and closes the Continuous Query delivering {@link Session}
+	 * events, if any.
+	 *
+	 * @see org.springframework.session.data.gemfire.support.SessionDeletionQueue#close()
+	 * @see org.springframework.session.data.gemfire.support.SessionInterestRegistrar#close()
+	 * @see org.springframework.session.data.gemfire.support.SessionWriteBehindQueue#close()
+	 */
+	@Override
+	public void destroy() {
+		getSessionWriteBehindQueue().ifPresent(SessionWriteBehindQueue::close);
+		closeSessionDeletionQueue();
+		getSessionInterestRegistrar().ifPresent(SessionInterestRegistrar::close);
+		closeSessionEventContinuousQuery();
+	}
+
 	/**
 	 * Looks up all available Sessions with the particular attribute indexed by name
 	 * having the given value.
@@ -72,20 +403,126 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	 * @return a mapping of Session ID to Session instances.
 	 * @see org.springframework.session.Session
 	 * @see java.util.Map
+	 * @see #findByPrincipalName(String)
 	 * @see #prepareQuery(String)
 	 */
 	@Override
 	public Map<String, Session> findByIndexNameAndIndexValue(String indexName, String indexValue) {
 
+		if (isPrincipalNameRouting() && PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			return findByPrincipalName(indexValue);
+		}
+
+		return findByQuery(indexName, indexValue);
+	}
+
+	private Map<String, Session> findByQuery(String indexName, String indexValue) {
+
 		SelectResults<Session> results = getTemplate().find(prepareQuery(indexName), indexValue);
 
 		Map<String, Session> sessions = new HashMap<>(results.size());
 
-		results.asList().forEach(session -> sessions.put(session.getId(), session));
+		results.asList().forEach(session -> sessions.put(session.getId(), configure(session)));
 
 		return sessions;
 	}
 
+	/**
+	 * Finds all {@link Session Sessions} of the given principal with a query routed to the single bucket
+	 * storing the {@link Session Sessions} of the principal by executing
+	 * the {@link FindSessionsByPrincipalNameFunction}.
+	 *
+	 * The {@link Session Sessions} are found with a regular query when the {@link Region} is not partitioned.
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @return a mapping of Session ID to Session instances.
+	 * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver#toRoutingFilterKey(String)
+	 */
+	protected Map<String, Session> findByPrincipalName(String principalName) {
+
+		if (!StringUtils.hasText(principalName)) {
+			return Collections.emptyMap();
+		}
+
+		Object results = getTemplate().execute(region -> isClientRegion(region)
+				|| PartitionRegionHelper.isPartitionedRegion(region)
+			? FunctionService.onRegion(region)
+				.withFilter(Collections.singleton(PrincipalNamePartitionResolver.toRoutingFilterKey(principalName)))
+				.setArguments(new Object[] { principalName })
+				.execute(FindSessionsByPrincipalNameFunction.ID)
+				.getResult()
+			: null);
+
+		return results != null
+			? collectSessions(results, new HashMap<>())
+			: findByQuery(PRINCIPAL_NAME_INDEX_NAME, principalName);
+	}
+
+	private Map<String, Session> collectSessions(Object results, Map<String, Session> sessions) {
+
+		if (results instanceof Session) {
+			Session session = configure((Session) results);
+			sessions.put(session.getId(), session);
+		}
+		else if (results instanceof Collection) {
+			((Collection<?>) results).forEach(result -> collectSessions(result, sessions));
+		}
+
+		return sessions;
+	}
+
+	/**
+	 * Returns the {@link SessionStatistics} of all {@link Session Sessions} recording
+	 * the {@link SessionStatistics#DEFAULT_LARGEST_SESSION_COUNT default number} of the largest
+	 * {@link Session Sessions}.
+	 *
+	 * @return the {@link SessionStatistics} of all {@link Session Sessions}.
+	 * @see #getSessionStatistics(int)
+	 */
+	public SessionStatistics getSessionStatistics() {
+		return getSessionStatistics(SessionStatistics.DEFAULT_LARGEST_SESSION_COUNT);
+	}
+
+	/**
+	 * Returns the {@link SessionStatistics} of all {@link Session Sessions} recording the given number
+	 * of the largest {@link Session Sessions}.
+	 *
+	 * The {@link SessionStatistics} are computed on each member hosting the {@link Session Sessions} by executing
+	 * the {@link SessionStatisticsFunction}, and only the aggregates of each member are returned and merged,
+	 * rather than pulling the {@link Session Sessions} to this member.  The {@link SessionStatistics} are computed
+	 * in this cache when the {@link Region} is neither a client nor a partitioned {@link Region}.
+	 *
+	 * @param largestSessionCount number of the largest {@link Session Sessions} to record.
+	 * @return the {@link SessionStatistics} of all {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.function.SessionStatistics
+	 * @see org.springframework.session.data.gemfire.function.SessionStatisticsFunction
+	 */
+	public SessionStatistics getSessionStatistics(int largestSessionCount) {
+
+		Object results = getTemplate().execute(region -> isClientRegion(region)
+				|| PartitionRegionHelper.isPartitionedRegion(region)
+			? FunctionService.onRegion(region)
+				.setArguments(new Object[] { largestSessionCount })
+				.execute(SessionStatisticsFunction.ID)
+				.getResult()
+			: SessionStatisticsFunction.computeSessionStatistics(region, largestSessionCount));
+
+		return collectSessionStatistics(results, new SessionStatistics(largestSessionCount));
+	}
+
+	private SessionStatistics collectSessionStatistics(Object results, SessionStatistics sessionStatistics) {
+
+		if (results instanceof SessionStatistics) {
+			sessionStatistics.merge((SessionStatistics) results);
+		}
+		else if (results instanceof Collection) {
+			((Collection<?>) results).forEach(result -> collectSessionStatistics(result, sessionStatistics));
+		}
+
+		return sessionStatistics;
+	}
+
 	/**
 	 * Prepares the appropriate Pivotal GemFire OQL query based on the indexed Session attribute
 	 * name.
@@ -105,47 +542,275 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	 * Constructs a new {@link Session} instance backed by GemFire.
 	 *
 	 * @return an instance of {@link Session} backed by GemFire.
-	 * @see AbstractGemFireOperationsSessionRepository.GemFireSession#create(Duration)
+	 * @see AbstractGemFireOperationsSessionRepository.GemFireSession#create(Duration, org.springframework.session.data.gemfire.support.SessionIdGenerator)
 	 * @see org.springframework.session.Session
 	 * @see #getMaxInactiveIntervalInSeconds()
 	 */
 	public Session createSession() {
-		return GemFireSession.create(getMaxInactiveInterval());
+
+		getSessionOperationStatistics().incCreates();
+
+		return configureSession(GemFireSession.create(getMaxInactiveInterval(), getSessionIdGenerator()));
 	}
 
 	/**
 	 * Gets a copy of an existing, non-expired {@link Session} by ID.
 	 *
-	 * If the {@link Session} is expired, then the {@link Session }is deleted.
+	 * If the {@link Session} is expired, then the {@link Session }is deleted, in the background when
+	 * an {@link #setExpiredSessionDeletionInterval(Duration) expired Session deletion interval} is set.
+	 *
+	 * When {@link Session} lookup coalescing is enabled, concurrent lookups of the same {@link Session} ID
+	 * share a single fetch.
 	 *
 	 * @param sessionId a String indicating the ID of the Session to get.
 	 * @return an existing {@link Session} by ID or null if no {@link Session} exists.
 	 * @see AbstractGemFireOperationsSessionRepository.GemFireSession#from(Session)
 	 * @see org.springframework.session.Session
+	 * @see #setSessionLookupCoalescingWindow(Duration)
 	 * @see #deleteById(String)
 	 */
 	public Session findById(String sessionId) {
 
-		Session storedSession = getTemplate().get(sessionId);
+		SessionOperationStatistics sessionOperationStatistics = getSessionOperationStatistics();
+
+		long startTime = sessionOperationStatistics.startTime();
+
+		try {
+			return getSessionLookupCoalescer()
+				.map(sessionLookupCoalescer -> sessionLookupCoalescer.lookup(sessionId, this::doFindById))
+				.orElseGet(() -> doFindById(sessionId));
+		}
+		finally {
+			sessionOperationStatistics.endRead(startTime);
+		}
+	}
+
+	private Session doFindById(String sessionId) {
+
+		Session storedSession = getPendingSession(sessionId).orElseGet(() -> getSession(sessionId));
 
 		if (storedSession != null) {
 			storedSession = storedSession.isExpired()
-				? delete(storedSession)
-				: touch(GemFireSession.from(storedSession));
+				? deleteExpired(sessionId, storedSession)
+				: touch(storedAs(configureSession(GemFireSession.from(storedSession)), sessionId));
+		}
+
+		if (storedSession != null) {
+			registerInterest(sessionId);
 		}
 
 		return storedSession;
 	}
 
+	private Session configure(Session session) {
+		return session instanceof GemFireSession ? configureSession((GemFireSession) session) : session;
+	}
+
+	private Session deleteExpired(String sessionId, Session expiredSession) {
+
+		SessionDeletionQueue sessionDeletionQueue = this.sessionDeletionQueue;
+
+		if (sessionDeletionQueue != null) {
+			discardPendingSession(sessionId);
+			sessionDeletionQueue.enqueue(sessionId, expiredSession);
+			return null;
+		}
+
+		return delete(expiredSession);
+	}
+
+	private Optional<Session> getPendingSession(String sessionId) {
+
+		return getSessionWriteBehindQueue()
+			.flatMap(sessionWriteBehindQueue -> sessionWriteBehindQueue.getPendingSession(sessionId))
+			.map(GemFireSession::copy);
+	}
+
+	/**
+	 * Records the {@link String ID} under which the given {@link GemFireSession} is stored so that a subsequent
+	 * {@link Session} ID change can be detected on {@link #save(Session)}.
+	 *
+	 * @param session {@link GemFireSession} read from the {@link Region}.
+	 * @param sessionId {@link String ID} under which the {@link GemFireSession} is stored.
+	 * @return the given {@link GemFireSession}.
+	 */
+	private GemFireSession storedAs(GemFireSession session, String sessionId) {
+
+		session.storedAs(sessionId);
+
+		return session;
+	}
+
 	/**
 	 * Saves the specified {@link Session} to GemFire.
 	 *
+	 * If the {@link Session Session's} ID changed since the {@link Session} was last stored, then the {@link Session}
+	 * is moved from its previous ID to its new ID and the entry stored under the previous ID is destroyed.
+	 *
+	 * When write-behind is enabled, the {@link Session} is queued and written asynchronously.  Otherwise, when
+	 * optimistic concurrency is enabled, the {@link Session} is stored with a version-checked replace.
+	 *
+	 * The limits of the configured {@link SessionSizeGuardrail} are enforced before the {@link Session} is stored,
+	 * whether it is sent in full or as a delta.
+	 *
 	 * @param session the {@link Session} to save.
 	 * @see org.springframework.data.gemfire.GemfireOperations#put(Object, Object)
+	 * @see #setDirectRegionAccess(boolean)
 	 * @see org.springframework.session.Session
+	 * @see #changeSessionId(String, Session)
+	 * @see #replaceSession(GemFireSession)
+	 * @see #setSessionSizeGuardrail(SessionSizeGuardrail)
+	 * @see #setSessionWriteBehindQueue(SessionWriteBehindQueue)
 	 */
 	public void save(Session session) {
-		getTemplate().put(session.getId(), GemFireSession.from(session));
+
+		SessionOperationStatistics sessionOperationStatistics = getSessionOperationStatistics();
+
+		long startTime = sessionOperationStatistics.startTime();
+
+		try {
+			doSave(session);
+		}
+		finally {
+			sessionOperationStatistics.endSave(startTime);
+		}
+	}
+
+	private void doSave(Session session) {
+
+		GemFireSession gemfireSession = configureSession(GemFireSession.from(session));
+
+		enforceSessionSizeLimits(gemfireSession);
+
+		String sessionId = gemfireSession.getId();
+
+		if (gemfireSession.isIdChanged()) {
+			changeSessionId(gemfireSession.getOriginalId(), gemfireSession);
+		}
+		else if (this.sessionWriteBehindQueue != null) {
+			this.sessionWriteBehindQueue.enqueue(sessionId, gemfireSession);
+		}
+		else if (isOptimisticConcurrency()) {
+			replaceSession(gemfireSession);
+		}
+		else {
+			putSession(sessionId, gemfireSession);
+		}
+
+		gemfireSession.storedAs(sessionId);
+
+		forgetSessionLookup(sessionId);
+		registerInterest(sessionId);
+	}
+
+	/**
+	 * Enforces the limits of the configured {@link SessionSizeGuardrail} on the given {@link GemFireSession}.
+	 *
+	 * Every attribute is sized, including on a save that only sends the changed attributes as a delta, since
+	 * the limits apply to the whole {@link Session}.  Attributes are sized with Data Serialization, which
+	 * approximates the size of the attributes stored with PDX.  Attributes stripped by the
+	 * {@link SessionSizeGuardrail} are removed from the {@link Session}, so that the {@link Session} in use
+	 * matches the stored {@link Session}.
+	 *
+	 * @param session {@link GemFireSession} to limit.
+	 * @throws org.springframework.session.data.gemfire.serialization.SerializationException if the {@link Session}
+	 * exceeds the limits and the {@link SessionSizeGuardrail} rejects it.
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail#enforce(String, Map)
+	 */
+	private void enforceSessionSizeLimits(GemFireSession<?> session) {
+
+		SessionSizeGuardrail sessionSizeGuardrail = getSessionSizeGuardrail();
+
+		if (sessionSizeGuardrail.isEnabled()) {
+
+			Map<String, Integer> attributeSizes = new HashMap<>();
+
+			session.getAttributeNames().forEach(attributeName ->
+				attributeSizes.put(attributeName, SessionSizeGuardrail.sizeOf(session.getAttribute(attributeName))));
+
+			sessionSizeGuardrail.enforce(session.getId(), attributeSizes).forEach(session::removeAttribute);
+		}
+	}
+
+	/**
+	 * Moves the given {@link Session} from its previous ID to its current ID and destroys the entry stored under
+	 * the previous ID.
+	 *
+	 * Neither a {@link org.springframework.session.events.SessionCreatedEvent}
+	 * nor a {@link org.springframework.session.events.SessionDestroyedEvent} is published for a {@link Session}
+	 * ID change, including when {@link Session} events are delivered by Continuous Queries.  Any indexes
+	 * on the {@link Session} {@link Region} are maintained by the {@link Region} operations.
+	 *
+	 * @param previousSessionId {@link String} containing the previous ID of the {@link Session}.
+	 * @param session {@link Session} to store under its current ID.
+	 * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction
+	 * @see #isChangeSessionIdOnServer()
+	 */
+	protected void changeSessionId(String previousSessionId, Session session) {
+
+		forgetSessionLookup(previousSessionId);
+		discardPendingSession(previousSessionId);
+		unregisterInterest(previousSessionId);
+		rememberSessionIdChange(previousSessionId, session.getId());
+
+		getTemplate().execute(region -> isChangeSessionIdOnServer()
+			? FunctionService.onRegion(region)
+				.withFilter(Collections.singleton(previousSessionId))
+				.setArguments(new Object[] { previousSessionId, session })
+				.execute(ChangeSessionIdFunction.ID)
+				.getResult()
+			: ChangeSessionIdFunction.changeSessionId(region, previousSessionId, session));
+	}
+
+	/**
+	 * Stores the given {@link GemFireSession} with an optimistic, version-checked replace and records
+	 * the new version of the stored {@link Session}.
+	 *
+	 * The replace is performed on the server hosting the {@link Session}, or the primary member hosting
+	 * the {@link Session} in a peer {@link org.apache.geode.cache.RegionShortcut#PARTITION} {@link Region},
+	 * by executing the {@link ReplaceSessionFunction}.  Otherwise, the replace is performed in this cache.
+	 *
+	 * A {@link Session} that was deleted or expired since it was read is not stored again, and its version
+	 * remains unchanged.
+	 *
+	 * @param session {@link GemFireSession} to store.
+	 * @see org.springframework.session.data.gemfire.function.ReplaceSessionFunction
+	 */
+	protected void replaceSession(GemFireSession<?> session) {
+
+		long expectedVersion = session.getVersion();
+
+		Set<String> changedAttributeNames = session.getAttributes().getChangedAttributeNames();
+
+		Object result = getTemplate().execute(region -> isClientRegion(region)
+				|| PartitionRegionHelper.isPartitionedRegion(region)
+			? FunctionService.onRegion(region)
+				.withFilter(Collections.singleton(session.getId()))
+				.setArguments(new Object[] { expectedVersion, session, new HashSet<>(changedAttributeNames) })
+				.execute(ReplaceSessionFunction.ID)
+				.getResult()
+			: ReplaceSessionFunction.replaceSession(region, expectedVersion, session, changedAttributeNames));
+
+		long newVersion = resolveVersion(result, expectedVersion + 1L);
+
+		if (newVersion == ReplaceSessionFunction.SESSION_NOT_FOUND) {
+			if (getLogger().isDebugEnabled()) {
+				getLogger().debug(String.format("Session [%s] was deleted or expired since it was read"
+					+ " and will not be stored", session.getId()));
+			}
+		}
+		else {
+			session.setVersion(newVersion);
+		}
+	}
+
+	private long resolveVersion(Object result, long defaultVersion) {
+
+		Object version = result instanceof Collection
+			? ((Collection<?>) result).stream().findFirst().orElse(null)
+			: result;
+
+		return version instanceof Number ? ((Number) version).longValue() : defaultVersion;
 	}
 
 	/**
@@ -154,9 +819,105 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	 *
 	 * @param sessionId a String indicating the ID of the Session to remove from GemFire.
 	 * @see org.springframework.data.gemfire.GemfireOperations#remove(Object)
+	 * @see #setDirectRegionAccess(boolean)
 	 * @see #handleDeleted(String, Session)
 	 */
 	public void deleteById(String sessionId) {
-		handleDeleted(sessionId, toSession(getTemplate().<Object, Session>remove(sessionId), sessionId));
+
+		forgetSessionLookup(sessionId);
+		discardPendingSession(sessionId);
+
+		Object removedSession = removeSession(sessionId);
+
+		handleDeleted(sessionId, toSession(SessionDeletedEvent.class, removedSession, sessionId));
+	}
+
+	/**
+	 * Also requires the {@link org.apache.geode.cache.CacheListener} when interest is registered in individual
+	 * {@link Session Sessions}, so that interest is unregistered when a {@link Session} is destroyed or expires.
+	 *
+	 * @see #setSessionInterestRegistrar(SessionInterestRegistrar)
+	 */
+	@Override
+	protected boolean isCacheListenerRequired() {
+		return getSessionInterestRegistrar().isPresent();
+	}
+
+	private Session getSession(String sessionId) {
+
+		return isDirectRegionAccess()
+			? doInSessionsRegion(region -> region.get(sessionId))
+			: getTemplate().get(sessionId);
+	}
+
+	private void putSession(String sessionId, Session session) {
+
+		if (isDirectRegionAccess()) {
+			doInSessionsRegion(region -> region.put(sessionId, session));
+		}
+		else {
+			getTemplate().put(sessionId, session);
+		}
+	}
+
+	private Object removeSession(String sessionId) {
+
+		return isDirectRegionAccess()
+			? doInSessionsRegion(region -> region.remove(sessionId))
+			: getTemplate().remove(sessionId);
+	}
+
+	/**
+	 * Performs the given operation directly on the cache {@link Region} used to store and manage {@link Session}
+	 * state, translating any Apache Geode / Pivotal GemFire exception into Spring's
+	 * {@link org.springframework.dao.DataAccessException} hierarchy.
+	 *
+	 * @param <T> {@link Class type} of the result of the {@link Region} operation.
+	 * @param regionOperation {@link Function} performing the operation on the {@link Region}.
+	 * @return the result of the {@link Region} operation.
+	 * @see org.springframework.data.gemfire.GemfireCacheUtils#convertGemfireAccessException(GemFireException)
+	 * @see #getSessionsRegion()
+	 */
+	private <T> T doInSessionsRegion(Function<Region<Object, Session>, T> regionOperation) {
+
+		try {
+			return regionOperation.apply(getSessionsRegion());
+		}
+		catch (GemFireException cause) {
+			throw GemfireCacheUtils.convertGemfireAccessException(cause);
+		}
+	}
+
+	private void discardPendingSession(String sessionId) {
+		getSessionWriteBehindQueue().ifPresent(sessionWriteBehindQueue -> sessionWriteBehindQueue.discard(sessionId));
+	}
+
+	private void forgetSessionLookup(String sessionId) {
+		getSessionLookupCoalescer().ifPresent(sessionLookupCoalescer -> sessionLookupCoalescer.forget(sessionId));
+	}
+
+	/**
+	 * Also unregisters interest in the {@link Session} when the {@link Session} is deleted, destroyed or expires.
+	 *
+	 * @see #setSessionInterestRegistrar(SessionInterestRegistrar)
+	 */
+	@Override
+	boolean forget(Object sessionId) {
+
+		unregisterInterest(String.valueOf(sessionId));
+
+		return super.forget(sessionId);
+	}
+
+	private void registerInterest(String sessionId) {
+
+		getSessionInterestRegistrar()
+			.ifPresent(sessionInterestRegistrar -> sessionInterestRegistrar.register(sessionId));
+	}
+
+	private void unregisterInterest(String sessionId) {
+
+		getSessionInterestRegistrar()
+			.ifPresent(sessionInterestRegistrar -> sessionInterestRegistrar.unregister(sessionId));
 	}
 }
@@ -144,26 +144,166 @@ public abstract class AbstractGemFireHttpSessionConfiguration extends SpringHttp
 		return this.environment;
 	}
 
+	protected String backgroundIndexCreationPropertyName() {
+		return sessionPropertyName("index.background-creation");
+	}
+
+	protected String changeSessionIdOnServerPropertyName() {
+		return sessionPropertyName("change-session-id.on-server");
+	}
+
 	protected String clientRegionShortcutPropertyName() {
 		return propertyName("cache.client.region.shortcut");
 	}
 
+	protected String continuousQuerySessionEventFilterPropertyName() {
+		return sessionPropertyName("events.continuous-query.filter");
+	}
+
+	protected String continuousQuerySessionEventsPropertyName() {
+		return sessionPropertyName("events.continuous-query.types");
+	}
+
+	protected String deferredIndexCreationPropertyName() {
+		return sessionPropertyName("index.deferred-creation");
+	}
+
+	protected String directRegionAccessPropertyName() {
+		return sessionPropertyName("region.direct-access");
+	}
+
+	protected String dedicatedPoolPropertyName() {
+		return propertyName("cache.client.pool.dedicated");
+	}
+
+	protected String diskQueueSizePropertyName() {
+		return sessionPropertyName("region.disk-store.queue-size");
+	}
+
+	protected String diskStoreNamePropertyName() {
+		return sessionPropertyName("region.disk-store.name");
+	}
+
+	protected String diskTimeIntervalInMillisecondsPropertyName() {
+		return sessionPropertyName("region.disk-store.time-interval-milliseconds");
+	}
+
+	protected String evictionActionPropertyName() {
+		return sessionPropertyName("region.eviction.action");
+	}
+
+	protected String evictionPolicyPropertyName() {
+		return sessionPropertyName("region.eviction.policy");
+	}
+
+	protected String evictionThresholdPropertyName() {
+		return sessionPropertyName("region.eviction.threshold");
+	}
+
+	protected String expirationSweepIntervalInMillisecondsPropertyName() {
+		return sessionPropertyName("expiration.sweep-interval-milliseconds");
+	}
+
+	protected String expiredSessionDeletionIntervalInMillisecondsPropertyName() {
+		return sessionPropertyName("expiration.deletion-interval-milliseconds");
+	}
+
 	protected String indexableSessionAttributesPropertyName() {
 		return sessionPropertyName("attributes.indexable");
 	}
 
+	protected String individualSessionAttributeIndexesPropertyName() {
+		return sessionPropertyName("attributes.indexable.individual-indexes");
+	}
+
 	protected String maxInactiveIntervalInSecondsPropertyName() {
 		return sessionPropertyName("expiration.max-inactive-interval-seconds");
 	}
 
+	protected String maxSessionAttributesPropertyName() {
+		return sessionPropertyName("serializer.max-attribute-count");
+	}
+
+	protected String maxSessionSizeInBytesPropertyName() {
+		return sessionPropertyName("serializer.max-session-size-bytes");
+	}
+
+	protected String offHeapPropertyName() {
+		return propertyName("cache.server.region.off-heap");
+	}
+
+	protected String optimisticConcurrencyPropertyName() {
+		return sessionPropertyName("optimistic-concurrency");
+	}
+
+	protected String persistentPropertyName() {
+		return sessionPropertyName("region.persistent");
+	}
+
+	protected String poolIdleTimeoutInMillisecondsPropertyName() {
+		return propertyName("cache.client.pool.idle-timeout-milliseconds");
+	}
+
+	protected String poolMaxConnectionsPropertyName() {
+		return propertyName("cache.client.pool.max-connections");
+	}
+
+	protected String poolMinConnectionsPropertyName() {
+		return propertyName("cache.client.pool.min-connections");
+	}
+
 	protected String poolNamePropertyName() {
 		return propertyName("cache.client.pool.name");
 	}
 
+	protected String poolPrSingleHopEnabledPropertyName() {
+		return propertyName("cache.client.pool.pr-single-hop-enabled");
+	}
+
+	protected String poolReadTimeoutInMillisecondsPropertyName() {
+		return propertyName("cache.client.pool.read-timeout-milliseconds");
+	}
+
+	protected String poolRetryAttemptsPropertyName() {
+		return propertyName("cache.client.pool.retry-attempts");
+	}
+
+	protected String poolSubscriptionRedundancyPropertyName() {
+		return propertyName("cache.client.pool.subscription-redundancy");
+	}
+
+	protected String principalNameRoutingPropertyName() {
+		return sessionPropertyName("region.partition.principal-name-routing");
+	}
+
+	protected String publishEventsFromPrimaryOnlyPropertyName() {
+		return sessionPropertyName("events.primary-only");
+	}
+
+	protected String recoveryDelayInMillisecondsPropertyName() {
+		return sessionPropertyName("region.partition.recovery-delay-milliseconds");
+	}
+
+	protected String redundantCopiesPropertyName() {
+		return sessionPropertyName("region.partition.redundant-copies");
+	}
+
 	protected String serverRegionShortcutPropertyName() {
 		return propertyName("cache.server.region.shortcut");
 	}
 
+	protected String sessionAttributeIndexTypePropertyName() {
+		return sessionPropertyName("attributes.indexable.index-type");
+	}
+
+	protected String sessionIdGeneratorBeanNamePropertyName() {
+		return sessionPropertyName("id.generator.bean-name");
+	}
+
+	protected String sessionLookupCoalescingWindowInMillisecondsPropertyName() {
+		return sessionPropertyName("lookup.coalescing-window-milliseconds");
+	}
+
 	protected String sessionPropertyName(String propertyNameSuffix) {
 		return propertyName(String.format("session.%s", propertyNameSuffix));
 	}
@@ -176,6 +316,38 @@ public abstract class AbstractGemFireHttpSessionConfiguration extends SpringHttp
 		return sessionPropertyName("serializer.bean-name");
 	}
 
+	protected String sessionSizeViolationActionPropertyName() {
+		return sessionPropertyName("serializer.size-violation-action");
+	}
+
+	protected String sessionStatisticsEnabledPropertyName() {
+		return sessionPropertyName("statistics.enabled");
+	}
+
+	protected String startupRecoveryDelayInMillisecondsPropertyName() {
+		return sessionPropertyName("region.partition.startup-recovery-delay-milliseconds");
+	}
+
+	protected String targetedInterestRegistrationPropertyName() {
+		return propertyName("cache.client.region.interest.targeted");
+	}
+
+	protected String totalNumberOfBucketsPropertyName() {
+		return sessionPropertyName("region.partition.total-number-of-buckets");
+	}
+
+	protected String writeBehindFlushIntervalInMillisecondsPropertyName() {
+		return sessionPropertyName("write-behind.flush-interval-milliseconds");
+	}
+
+	protected String writeBehindQueueCapacityPropertyName() {
+		return sessionPropertyName("write-behind.queue-capacity");
+	}
+
+	protected String writeOptimizedPropertyName() {
+		return sessionPropertyName("region.write-optimized");
+	}
+
 	/**
 	 * Returns the fully-qualified {@link String property name}.
 	 *
@@ -229,6 +401,21 @@ public abstract class AbstractGemFireHttpSessionConfiguration extends SpringHttp
 		return resolveProperty(propertyName, targetType, defaultValue);
 	}
 
+	/**
+	 * Attempts to resolve the property with the given {@link String name} from the Spring {@link Environment}
+	 * as a {@link Boolean}.
+	 *
+	 * @param propertyName {@link String name} of the property to resolve.
+	 * @param defaultValue default value to return if the property is not defined or not set.
+	 * @return the value of the property identified by {@link String name} or default value if the property
+	 * is not defined or not set.
+	 * @see #resolveProperty(String, Class, Object)
+	 * @see java.lang.Boolean
+	 */
+	protected Boolean resolveProperty(String propertyName, Boolean defaultValue) {
+		return resolveProperty(propertyName, Boolean.class, defaultValue);
+	}
+
 	/**
 	 * Attempts to resolve the property with the given {@link String name} from the Spring {@link Environment}
 	 * as an {@link Integer}.
@@ -33,8 +33,13 @@ import org.apache.geode.cache.client.Pool;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
+import org.springframework.session.data.gemfire.support.SessionEventType;
 import org.springframework.session.web.http.SessionRepositoryFilter;
 
 /**
@@ -92,6 +97,46 @@ import org.springframework.session.web.http.SessionRepositoryFilter;
 @Import(GemFireHttpSessionConfiguration.class)
 public @interface EnableGemFireHttpSession {
 
+	/**
+	 * Defines whether the {@link Session} {@link org.apache.geode.cache.query.Index Indexes}, deferred with
+	 * {@link #deferredIndexCreation()}, are created in the background once the Spring
+	 * {@link org.springframework.context.ApplicationContext} is refreshed.
+	 *
+	 * The application then serves {@link Session Sessions} by ID while the {@link org.apache.geode.cache.query.Index
+	 * Indexes} are being built, and queries, e.g. find by principal name, run without
+	 * the {@link org.apache.geode.cache.query.Index Indexes} until they are created.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.index.background-creation} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} {@link org.apache.geode.cache.query.Index Indexes}
+	 * are created in the background.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_BACKGROUND_INDEX_CREATION
+	 * @see org.springframework.session.data.gemfire.support.SessionIndexCreator
+	 */
+	boolean backgroundIndexCreation() default GemFireHttpSessionConfiguration.DEFAULT_BACKGROUND_INDEX_CREATION;
+
+	/**
+	 * Determines whether a {@link Session} ID change is performed on the server as a single, routed
+	 * {@link org.apache.geode.cache.execute.Function} execution, which moves the {@link Session} to its new ID
+	 * and destroys the entry stored under the previous ID.
+	 *
+	 * When disabled, the client performs the move with separate cache {@link Region} operations.  Enabling this
+	 * requires the servers to be configured with {@link EnableGemFireHttpSession} as well, which registers
+	 * the {@link org.springframework.session.data.gemfire.function.ChangeSessionIdFunction}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.change-session-id.on-server} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} ID changes are performed on the server.
+	 * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction
+	 */
+	boolean changeSessionIdOnServer() default GemFireHttpSessionConfiguration.DEFAULT_CHANGE_SESSION_ID_ON_SERVER;
+
 	/**
 	 * Defines the {@link ClientCache} {@link Region} data management policy.
 	 *
@@ -106,6 +151,263 @@ public @interface EnableGemFireHttpSession {
 	 */
 	ClientRegionShortcut clientRegionShortcut() default ClientRegionShortcut.PROXY;
 
+	/**
+	 * Defines the types of {@link Session} events a client subscribes to with an Apache Geode Continuous Query (CQ)
+	 * on the {@link Session} {@link Region}, in place of the {@link org.apache.geode.cache.CacheListener}
+	 * on the client {@link Region}.
+	 *
+	 * With Continuous Queries, a {@literal PROXY} client {@link Region} no longer registers interest in
+	 * {@literal ALL_KEYS}, and {@link Session} events no longer depend on the client {@link Region}
+	 * data management policy.  The {@link Pool} used by the client {@link Region} must have subscriptions enabled.
+	 *
+	 * This attribute is only used in the client/server topology.
+	 *
+	 * Defaults to empty, which delivers {@link Session} events with a {@link org.apache.geode.cache.CacheListener}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.continuous-query.types} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an array of {@link SessionEventType types} of {@link Session} events subscribed to.
+	 * @see org.springframework.session.data.gemfire.support.SessionEventType
+	 * @see #continuousQuerySessionEventFilter()
+	 */
+	SessionEventType[] continuousQuerySessionEvents() default {};
+
+	/**
+	 * Defines an OQL predicate filtering the {@link Session} events delivered by the Continuous Query (CQ).
+	 *
+	 * The predicate refers to the {@link Session} by the alias {@literal s}, for example:
+	 * {@literal s.principalName = 'jxblum'} or {@literal s.attributes['tenant'] = 'example'}.
+	 *
+	 * This attribute is only used when {@link #continuousQuerySessionEvents()} is set.
+	 *
+	 * Defaults to empty (unfiltered).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.continuous-query.filter} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a {@link String} containing the OQL predicate filtering {@link Session} events.
+	 */
+	String continuousQuerySessionEventFilter() default "";
+
+	/**
+	 * Defines whether the {@link ClientCache} {@link Region} sends {@link Session} state to the servers using
+	 * a dedicated {@link Pool} tuned for {@link Session} access, isolating {@link Session} latency from other
+	 * application data access sharing the {@link #poolName() named Pool}.
+	 *
+	 * The dedicated {@link Pool} is a bean named {@literal SessionPool}, connects to the same locators or servers
+	 * as the {@link #poolName() named Pool}, and is configured with the {@literal pool} attributes,
+	 * e.g. {@link #poolMaxConnections()} and {@link #poolReadTimeoutInMilliseconds()}.
+	 *
+	 * This attribute is only used in the client/server topology.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.dedicated} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the client {@link Region} uses a dedicated {@link Pool}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DEDICATED_POOL
+	 */
+	boolean dedicatedPool() default GemFireHttpSessionConfiguration.DEFAULT_DEDICATED_POOL;
+
+	/**
+	 * Defines whether the {@link Session} {@link org.apache.geode.cache.query.Index Indexes}, on the principal name
+	 * and the {@link #indexableSessionAttributes()}, are defined up front and then created together once the Spring
+	 * {@link org.springframework.context.ApplicationContext} is refreshed, in a single pass over the {@link Region}.
+	 *
+	 * When disabled, each {@link org.apache.geode.cache.query.Index} is created eagerly, one at a time,
+	 * each scanning the entire {@link Region}.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.index.deferred-creation} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} {@link org.apache.geode.cache.query.Index Indexes}
+	 * are defined and then created together.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DEFERRED_INDEX_CREATION
+	 * @see org.apache.geode.cache.query.QueryService#createDefinedIndexes()
+	 */
+	boolean deferredIndexCreation() default GemFireHttpSessionConfiguration.DEFAULT_DEFERRED_INDEX_CREATION;
+
+	/**
+	 * Defines whether the {@link org.springframework.session.SessionRepository} looks up, saves and deletes
+	 * {@link Session Sessions} directly on the cache {@link Region} rather than through
+	 * the {@link org.springframework.data.gemfire.GemfireTemplate}.
+	 *
+	 * Direct access avoids the callback and exception translation layers of the template on every
+	 * {@link Session} operation.  Exceptions are still translated into Spring's
+	 * {@link org.springframework.dao.DataAccessException} hierarchy when a {@link Region} operation fails.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.direct-access} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is accessed directly.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DIRECT_REGION_ACCESS
+	 * @see org.springframework.session.data.gemfire.GemFireOperationsSessionRepository#setDirectRegionAccess(boolean)
+	 */
+	boolean directRegionAccess() default GemFireHttpSessionConfiguration.DEFAULT_DIRECT_REGION_ACCESS;
+
+	/**
+	 * Defines the maximum number of pending asynchronous writes queued by the {@link org.apache.geode.cache.DiskStore}
+	 * used to persist the server {@link Region} before cache operations block on disk writes.
+	 *
+	 * This attribute is only used when the {@link Region} is {@link #persistent()} and no {@link #diskStoreName()}
+	 * is specified.
+	 *
+	 * Defaults to {@literal 1000}.  A value of {@literal 0} is unbounded.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.disk-store.queue-size} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of queued disk writes.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DISK_QUEUE_SIZE
+	 */
+	int diskQueueSize() default GemFireHttpSessionConfiguration.DEFAULT_DISK_QUEUE_SIZE;
+
+	/**
+	 * Specifies the name of the {@link org.apache.geode.cache.DiskStore} used by the server {@link Region}
+	 * (i.e. {@literal ClusteredSpringSessions}) to overflow evicted {@link Session Sessions} to disk,
+	 * or to persist {@link Session Sessions}.
+	 *
+	 * This attribute is only used in the peer-to-peer topology, or on the servers, when the
+	 * {@link #evictionAction()} is {@link EvictionActionType#OVERFLOW_TO_DISK} or the {@link Region}
+	 * is {@link #persistent()}.  The named {@link org.apache.geode.cache.DiskStore} must be defined
+	 * by the application.
+	 *
+	 * Defaults to the Apache Geode {@literal DEFAULT} {@link org.apache.geode.cache.DiskStore} for overflow,
+	 * and to a dedicated {@link org.apache.geode.cache.DiskStore} bean named {@literal SessionDiskStore},
+	 * configured with the {@link #diskQueueSize()} and {@link #diskTimeIntervalInMilliseconds()},
+	 * for persistence.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.disk-store.name} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return the name of the {@link org.apache.geode.cache.DiskStore} used to overflow {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DISK_STORE_NAME
+	 */
+	String diskStoreName() default GemFireHttpSessionConfiguration.DEFAULT_DISK_STORE_NAME;
+
+	/**
+	 * Defines the maximum interval in milliseconds that asynchronous writes remain queued by
+	 * the {@link org.apache.geode.cache.DiskStore} used to persist the server {@link Region}.
+	 *
+	 * This attribute is only used when the {@link Region} is {@link #persistent()} and no {@link #diskStoreName()}
+	 * is specified.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.disk-store.time-interval-milliseconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum interval in milliseconds before queued disk writes are flushed.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DISK_TIME_INTERVAL_IN_MILLISECONDS
+	 */
+	int diskTimeIntervalInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_DISK_TIME_INTERVAL_IN_MILLISECONDS;
+
+	/**
+	 * Defines the {@link EvictionActionType action} taken by the server {@link Region}
+	 * (i.e. {@literal ClusteredSpringSessions}) when a {@link Session} is evicted.
+	 *
+	 * By default, evicted {@link Session Sessions} are overflowed to disk, so that under memory pressure
+	 * {@link Session Sessions} are read from disk rather than the server rejecting cache operations.
+	 * A client {@link Region} always locally destroys evicted {@link Session Sessions}.
+	 *
+	 * Defaults to {@link EvictionActionType#OVERFLOW_TO_DISK}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.action} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return the {@link EvictionActionType} taken when a {@link Session} is evicted.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EVICTION_ACTION
+	 * @see org.springframework.data.gemfire.eviction.EvictionActionType
+	 */
+	EvictionActionType evictionAction() default EvictionActionType.OVERFLOW_TO_DISK;
+
+	/**
+	 * Defines the least recently used (LRU) {@link EvictionPolicyType policy} used to evict {@link Session Sessions}
+	 * from the (client) cache {@link Region} (i.e. {@literal ClusteredSpringSessions}).
+	 *
+	 * {@link EvictionPolicyType#HEAP_PERCENTAGE} evicts {@link Session Sessions} when the JVM Heap usage reaches
+	 * the {@literal eviction-heap-percentage} of the cache, which should be configured below
+	 * the {@literal critical-heap-percentage} at which cache operations are rejected.
+	 * {@link EvictionPolicyType#ENTRY_COUNT} and {@link EvictionPolicyType#MEMORY_SIZE} evict
+	 * {@link Session Sessions} above the {@link #evictionThreshold()}.  On the client, this matches
+	 * {@link ClientRegionShortcut#CACHING_PROXY_HEAP_LRU}.  Eviction is not configured
+	 * for {@literal PROXY} {@link Region Regions}.
+	 *
+	 * Defaults to {@link EvictionPolicyType#NONE}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.policy} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return the {@link EvictionPolicyType} used to evict {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EVICTION_POLICY
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 */
+	EvictionPolicyType evictionPolicy() default EvictionPolicyType.NONE;
+
+	/**
+	 * Defines the eviction threshold, which is the maximum number of {@link Session Sessions}
+	 * for {@link EvictionPolicyType#ENTRY_COUNT} and the maximum size in megabytes
+	 * for {@link EvictionPolicyType#MEMORY_SIZE}.
+	 *
+	 * Defaults to {@literal 0}, which uses the Apache Geode default.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.threshold} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the eviction threshold.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EVICTION_THRESHOLD
+	 */
+	int evictionThreshold() default GemFireHttpSessionConfiguration.DEFAULT_EVICTION_THRESHOLD;
+
+	/**
+	 * Defines the interval in milliseconds between background removals of expired {@link Session Sessions}
+	 * discovered on read.
+	 *
+	 * A positive value causes a lookup of an expired {@link Session} to return immediately while the expired
+	 * {@link Session} is removed, in a batch, by a background thread.  A value of {@literal 0} or less removes
+	 * the expired {@link Session} on the calling thread.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.deletion-interval-milliseconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the interval in milliseconds between background removals
+	 * of expired {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EXPIRED_SESSION_DELETION_INTERVAL_IN_MILLISECONDS
+	 * @see org.springframework.session.data.gemfire.support.SessionDeletionQueue
+	 */
+	int expiredSessionDeletionIntervalInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_EXPIRED_SESSION_DELETION_INTERVAL_IN_MILLISECONDS;
+
+	/**
+	 * Defines the interval in milliseconds between sweeps of expired {@link Session Sessions} on the server.
+	 *
+	 * A positive value replaces {@link org.apache.geode.cache.Region} entry idle-timeout expiration,
+	 * and the per-entry statistics it requires, on a peer (server) cache with a server-side sweeper that indexes
+	 * {@link Session Sessions} by expiration time and destroys expired {@link Session Sessions} in batches.
+	 * The interval is also the granularity with which {@link Session Sessions} expire.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.sweep-interval-milliseconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the interval in milliseconds between sweeps of expired
+	 * {@link Session Sessions} on the server.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EXPIRATION_SWEEP_INTERVAL_IN_MILLISECONDS
+	 * @see org.springframework.session.data.gemfire.support.SessionExpirationSweeper
+	 */
+	int expirationSweepIntervalInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_EXPIRATION_SWEEP_INTERVAL_IN_MILLISECONDS;
+
 	/**
 	 * Identifies the {@link Session} attributes by name that will be indexed for query operations.
 	 *
@@ -121,6 +423,27 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String[] indexableSessionAttributes() default {};
 
+	/**
+	 * Defines whether an individual {@link org.apache.geode.cache.query.Index} of the
+	 * {@link #sessionAttributeIndexType()} is created for each of the {@link #indexableSessionAttributes()},
+	 * rather than a single map {@link org.apache.geode.cache.query.Index} over all indexable {@link Session}
+	 * attributes.
+	 *
+	 * Each {@link org.apache.geode.cache.query.Index} is named after the {@link Session} attribute suffixed with
+	 * {@literal SessionAttributeIndex}, e.g. {@literal tenantSessionAttributeIndex}, and is not created
+	 * when a bean with the same name is defined.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.attributes.indexable.individual-indexes}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether each indexable {@link Session} attribute is indexed individually.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_INDIVIDUAL_SESSION_ATTRIBUTE_INDEXES
+	 */
+	boolean individualSessionAttributeIndexes()
+		default GemFireHttpSessionConfiguration.DEFAULT_INDIVIDUAL_SESSION_ATTRIBUTE_INDEXES;
+
 	/**
 	 * Defines the maximum interval in seconds that a {@link Session} can remain inactive before it expires.
 	 *
@@ -133,6 +456,151 @@ public @interface EnableGemFireHttpSession {
 	 */
 	int maxInactiveIntervalInSeconds() default 1800;
 
+	/**
+	 * Defines the maximum number of attributes of a {@link Session} when saved.
+	 *
+	 * Defaults to {@literal -1}, which does not limit the number of {@link Session} attributes.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.serializer.max-attribute-count} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of attributes of a {@link Session}.
+	 * @see #sessionSizeViolationAction()
+	 */
+	int maxSessionAttributes() default GemFireHttpSessionConfiguration.DEFAULT_MAX_SESSION_ATTRIBUTES;
+
+	/**
+	 * Defines the maximum size in bytes of a {@link Session} when saved, which is the sum
+	 * of the serialized sizes of the {@link Session} attributes.
+	 *
+	 * Defaults to {@literal -1}, which does not limit the size of a {@link Session}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.serializer.max-session-size-bytes} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum size in bytes of a {@link Session}.
+	 * @see #sessionSizeViolationAction()
+	 */
+	int maxSessionSizeInBytes() default GemFireHttpSessionConfiguration.DEFAULT_MAX_SESSION_SIZE_IN_BYTES;
+
+	/**
+	 * Defines whether the values of the server cache {@link Region} (i.e. {@literal ClusteredSpringSessions})
+	 * used to store {@link Session} state are stored in off-heap memory.
+	 *
+	 * Storing {@link Session Sessions} off-heap keeps large amounts of {@link Session} state out of
+	 * the JVM Heap, and therefore out of reach of the garbage collector.  {@link Session Sessions} are stored
+	 * off-heap in serialized form, using the configured {@link #sessionSerializerBeanName() SessionSerializer},
+	 * and are deserialized on access.  This requires the servers to be configured with
+	 * an {@literal off-heap-memory-size}.
+	 *
+	 * This attribute is only used in the peer-to-peer topology, or on the servers, and is ignored
+	 * for {@literal PROXY} {@link Region Regions}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.server.region.off-heap} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} stores values off-heap.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_OFF_HEAP
+	 * @see org.apache.geode.cache.RegionAttributes#getOffHeap()
+	 */
+	boolean offHeap() default GemFireHttpSessionConfiguration.DEFAULT_OFF_HEAP;
+
+	/**
+	 * Defines whether a {@link Session} is saved with an optimistic, version-checked replace on the server
+	 * rather than a blind put.
+	 *
+	 * When another request saved the same {@link Session} concurrently, the {@link Session} attributes changed
+	 * by each request are merged on the server, so that concurrent requests changing different attributes
+	 * (e.g. a shopping cart and a user profile) do not overwrite each other's changes, without locking
+	 * the {@link Session}.  Enabling this requires the servers to be configured with
+	 * {@link EnableGemFireHttpSession} as well, which registers
+	 * the {@link org.springframework.session.data.gemfire.function.ReplaceSessionFunction}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.optimistic-concurrency} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved with a version-checked replace.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_OPTIMISTIC_CONCURRENCY
+	 * @see org.springframework.session.data.gemfire.function.ReplaceSessionFunction
+	 */
+	boolean optimisticConcurrency() default GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY;
+
+	/**
+	 * Defines whether the server cache {@link Region} (i.e. {@literal ClusteredSpringSessions}) persists
+	 * {@link Session Sessions} to disk, so that restarted servers recover their {@link Session Sessions}
+	 * from disk rather than from redundant copies on other members.
+	 *
+	 * The {@link #serverRegionShortcut()} is replaced with its persistent equivalent
+	 * (e.g. {@link RegionShortcut#PARTITION_PERSISTENT}) and {@link Session Sessions} are written
+	 * asynchronously to the {@link org.apache.geode.cache.DiskStore} named by {@link #diskStoreName()}, or to
+	 * a dedicated {@link org.apache.geode.cache.DiskStore} configured with the {@link #diskQueueSize()}
+	 * and {@link #diskTimeIntervalInMilliseconds()}.
+	 * Asynchronous writes trade durability of the most recent {@link Session} changes for write latency.
+	 *
+	 * This attribute is only used in the peer-to-peer topology, or on the servers, and is ignored
+	 * for {@literal PROXY} {@link Region Regions}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.persistent} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is persistent.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PERSISTENT
+	 */
+	boolean persistent() default GemFireHttpSessionConfiguration.DEFAULT_PERSISTENT;
+
+	/**
+	 * Defines the amount of time in milliseconds a connection of the dedicated {@link Pool} may remain idle
+	 * before it is closed, as long as the {@link #poolMinConnections()} are kept open.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal 5000} milliseconds.  A value of {@literal -1} never closes idle connections.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.idle-timeout-milliseconds} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the idle timeout of {@link Pool} connections in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_IDLE_TIMEOUT_IN_MILLISECONDS
+	 */
+	int poolIdleTimeoutInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_POOL_IDLE_TIMEOUT_IN_MILLISECONDS;
+
+	/**
+	 * Defines the maximum number of connections of the dedicated {@link Pool} to the servers.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal -1}, which is unbounded.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.max-connections} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of {@link Pool} connections.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_MAX_CONNECTIONS
+	 */
+	int poolMaxConnections() default GemFireHttpSessionConfiguration.DEFAULT_POOL_MAX_CONNECTIONS;
+
+	/**
+	 * Defines the minimum number of connections of the dedicated {@link Pool} kept open to the servers.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal 1}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.min-connections} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the minimum number of {@link Pool} connections.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_MIN_CONNECTIONS
+	 */
+	int poolMinConnections() default GemFireHttpSessionConfiguration.DEFAULT_POOL_MIN_CONNECTIONS;
+
 	/**
 	 * Specifies the name of the specific {@link Pool} used by the {@link ClientCache} {@link Region}
 	 * (i.e. {@literal ClusteredSpringSessions}) when performing cache data access operations.
@@ -150,6 +618,146 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String poolName() default GemFireHttpSessionConfiguration.DEFAULT_POOL_NAME;
 
+	/**
+	 * Defines whether the dedicated {@link Pool} sends single-key operations directly to the server hosting
+	 * the {@link Session}, rather than to any server, which then forwards the operation.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.pr-single-hop-enabled} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether single-hop access to partitioned {@link Region Regions}
+	 * is enabled.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_PR_SINGLE_HOP_ENABLED
+	 */
+	boolean poolPrSingleHopEnabled() default GemFireHttpSessionConfiguration.DEFAULT_POOL_PR_SINGLE_HOP_ENABLED;
+
+	/**
+	 * Defines the amount of time in milliseconds the dedicated {@link Pool} waits for a response from a server
+	 * before the operation is retried on another server or fails.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal 10000} milliseconds.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.read-timeout-milliseconds} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the read timeout of {@link Pool} operations in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_READ_TIMEOUT_IN_MILLISECONDS
+	 */
+	int poolReadTimeoutInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_POOL_READ_TIMEOUT_IN_MILLISECONDS;
+
+	/**
+	 * Defines the number of times the dedicated {@link Pool} retries a failed operation on another server.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal -1}, which tries every server once.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.retry-attempts} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the number of retry attempts of {@link Pool} operations.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_RETRY_ATTEMPTS
+	 */
+	int poolRetryAttempts() default GemFireHttpSessionConfiguration.DEFAULT_POOL_RETRY_ATTEMPTS;
+
+	/**
+	 * Defines the number of servers, in addition to the primary, hosting a redundant copy of the subscription
+	 * queue of the dedicated {@link Pool}, which delivers {@link Session} events to the client.
+	 *
+	 * This attribute is only used in the client/server topology when the {@link #dedicatedPool()} is enabled.
+	 *
+	 * Defaults to {@literal 0}.  A value of {@literal -1} uses every server.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.pool.subscription-redundancy} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the redundancy of the {@link Pool} subscription queue.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_SUBSCRIPTION_REDUNDANCY
+	 */
+	int poolSubscriptionRedundancy() default GemFireHttpSessionConfiguration.DEFAULT_POOL_SUBSCRIPTION_REDUNDANCY;
+
+	/**
+	 * Defines whether {@link Session Sessions} are routed by principal name, colocating all {@link Session Sessions}
+	 * of the same principal in the same bucket of a partitioned server {@link Region}.
+	 *
+	 * The principal is encoded in the {@link Session} ID, so a {@link Session} is only routed by principal name
+	 * once its ID is changed after a principal is associated with the {@link Session}, as session fixation
+	 * protection does on login.  Finding the {@link Session Sessions}
+	 * of a principal by {@link org.springframework.session.FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME}
+	 * then executes a query on a single bucket rather than on all members.  Both the clients and the servers
+	 * must enable this.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.principal-name-routing}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal name.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PRINCIPAL_NAME_ROUTING
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver
+	 */
+	boolean principalNameRouting() default GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_NAME_ROUTING;
+
+	/**
+	 * Defines whether {@link Session} events are published only by the one peer member responsible for
+	 * the {@link Session}, rather than by every peer member hosting a copy of the {@link Session}.
+	 *
+	 * For a {@literal PARTITION} {@link Region}, the member hosting the primary bucket publishes the event.
+	 * For a {@literal REPLICATE} {@link Region}, the member on which the cache operation originated publishes
+	 * the event.  Without this, each {@link Session} event is published once per redundant copy.
+	 *
+	 * This attribute is only used in the peer-to-peer topology, or on the servers.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.events.primary-only} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are published only by
+	 * the primary peer member.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PUBLISH_EVENTS_FROM_PRIMARY_ONLY
+	 */
+	boolean publishEventsFromPrimaryOnly()
+		default GemFireHttpSessionConfiguration.DEFAULT_PUBLISH_EVENTS_FROM_PRIMARY_ONLY;
+
+	/**
+	 * Defines the delay in milliseconds before redundancy of the partitioned server {@link Region}
+	 * is recovered after a member leaves.
+	 *
+	 * This attribute is only used for a {@literal PARTITION} {@link Region} on the servers.
+	 *
+	 * Defaults to {@literal -1}, which does not recover redundancy until a member joins.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.recovery-delay-milliseconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the recovery delay in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_RECOVERY_DELAY_IN_MILLISECONDS
+	 */
+	int recoveryDelayInMilliseconds() default GemFireHttpSessionConfiguration.DEFAULT_RECOVERY_DELAY_IN_MILLISECONDS;
+
+	/**
+	 * Defines the number of redundant copies of each {@link Session} in the partitioned server {@link Region}.
+	 *
+	 * This attribute is only used for a {@literal PARTITION} {@link Region} on the servers.
+	 *
+	 * Defaults to {@literal -1}, using the redundancy of the {@link #serverRegionShortcut()}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.redundant-copies}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the number of redundant copies.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_REDUNDANT_COPIES
+	 */
+	int redundantCopies() default GemFireHttpSessionConfiguration.DEFAULT_REDUNDANT_COPIES;
+
 	/**
 	 * Defines the {@link String name} of the (client)cache {@link Region} used to store {@link Session} state.
 	 *
@@ -178,6 +786,67 @@ public @interface EnableGemFireHttpSession {
 	 */
 	RegionShortcut serverRegionShortcut() default RegionShortcut.PARTITION;
 
+	/**
+	 * Defines the {@link IndexType} of the individual {@link org.apache.geode.cache.query.Index} on each
+	 * of the {@link #indexableSessionAttributes()} when {@link #individualSessionAttributeIndexes()} is enabled.
+	 *
+	 * A {@link IndexType#HASH} {@link org.apache.geode.cache.query.Index} is cheaper to maintain on updates
+	 * and serves the equality lookups used to find {@link Session Sessions} by attribute.
+	 * {@literal KEY} {@link IndexType IndexTypes} are not supported.
+	 *
+	 * Defaults to {@link IndexType#HASH}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.attributes.indexable.index-type}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return the {@link IndexType} of each individual {@link Session} attribute
+	 * {@link org.apache.geode.cache.query.Index}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE
+	 */
+	IndexType sessionAttributeIndexType() default IndexType.HASH;
+
+	/**
+	 * Defines the bean name of the {@link org.springframework.session.data.gemfire.support.SessionIdGenerator}
+	 * used to generate {@link Session} IDs.
+	 *
+	 * When no bean name is specified, a single
+	 * {@link org.springframework.session.data.gemfire.support.SessionIdGenerator} bean declared in the Spring
+	 * application context is used, if present.  Otherwise, {@link Session} IDs are generated by
+	 * the {@link org.springframework.session.data.gemfire.support.UuidSessionIdGenerator}.
+	 *
+	 * Defaults to {@literal ""}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.id.generator.bean-name} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a {@link String} containing the bean name of the configured
+	 * {@link org.springframework.session.data.gemfire.support.SessionIdGenerator}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ID_GENERATOR_BEAN_NAME
+	 * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+	 */
+	String sessionIdGeneratorBeanName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_ID_GENERATOR_BEAN_NAME;
+
+	/**
+	 * Defines the window in milliseconds during which concurrent lookups of the same {@link Session} by ID
+	 * are coalesced into a single fetch.
+	 *
+	 * A value of {@literal 0} only coalesces lookups while a fetch of the same {@link Session} is in-flight.
+	 * A positive value additionally shares the result of a completed fetch with lookups arriving within the window.
+	 * A negative value disables coalescing.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.lookup.coalescing-window-milliseconds} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the window in milliseconds during which {@link Session} lookups
+	 * are coalesced.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_LOOKUP_COALESCING_WINDOW_IN_MILLISECONDS
+	 * @see org.springframework.session.data.gemfire.support.SessionLookupCoalescer
+	 */
+	int sessionLookupCoalescingWindowInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_SESSION_LOOKUP_COALESCING_WINDOW_IN_MILLISECONDS;
+
 	/**
 	 * Defines the bean name of the {@link SessionSerializer} used to serialize {@link Session} state
 	 * between client and server or to disk when persisting or overflowing {@link Session} state.
@@ -195,4 +864,158 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String sessionSerializerBeanName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 
+	/**
+	 * Defines the action performed when a {@link Session} exceeds the {@link #maxSessionAttributes()}
+	 * or {@link #maxSessionSizeInBytes()} limits when it is saved.
+	 *
+	 * The limits are enforced before the {@link Session} is sent to the servers.  A {@link Session} may be rejected
+	 * with an exception in the request saving it, a warning logged, or the largest {@link Session} attributes
+	 * removed from the {@link Session}.
+	 *
+	 * Defaults to {@link SessionSizeGuardrail.ViolationAction#WARN}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.serializer.size-violation-action} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return the {@link SessionSizeGuardrail.ViolationAction} performed when a {@link Session} is too large.
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail
+	 */
+	SessionSizeGuardrail.ViolationAction sessionSizeViolationAction()
+		default SessionSizeGuardrail.ViolationAction.WARN;
+
+	/**
+	 * Determines whether statistics about {@link Session} operations are recorded with Apache Geode
+	 * / Pivotal GemFire {@link org.apache.geode.Statistics}, on both clients and servers.
+	 *
+	 * The statistics are sampled with the cache statistics and written to the statistics archive,
+	 * when statistics sampling and archiving are enabled.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.statistics.enabled} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether statistics about {@link Session} operations are recorded.
+	 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+	 */
+	boolean sessionStatisticsEnabled() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_STATISTICS_ENABLED;
+
+	/**
+	 * Defines the delay in milliseconds before redundancy of the partitioned server {@link Region}
+	 * is recovered after a member joins.
+	 *
+	 * This attribute is only used for a {@literal PARTITION} {@link Region} on the servers.
+	 *
+	 * Defaults to {@literal 0}, which recovers redundancy immediately.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.startup-recovery-delay-milliseconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the startup recovery delay in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_STARTUP_RECOVERY_DELAY_IN_MILLISECONDS
+	 */
+	int startupRecoveryDelayInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_STARTUP_RECOVERY_DELAY_IN_MILLISECONDS;
+
+	/**
+	 * Defines whether a client registers interest in only those {@link Session Sessions} it has created or loaded,
+	 * rather than in {@literal ALL_KEYS} of the {@link Session} {@link Region}.
+	 *
+	 * With targeted interest registration, subscription traffic to a (CACHING) PROXY client scales with
+	 * the number of {@link Session Sessions} used by that client rather than with the size of the cluster.
+	 * Interest is (un)registered in batches and the number of {@link Session Sessions} in which interest
+	 * is registered is bounded.
+	 *
+	 * This attribute is only used in the client/server topology.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.cache.client.region.interest.targeted}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether interest is registered in individual {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_TARGETED_INTEREST_REGISTRATION
+	 * @see org.springframework.session.data.gemfire.support.SessionInterestRegistrar
+	 */
+	boolean targetedInterestRegistration()
+		default GemFireHttpSessionConfiguration.DEFAULT_TARGETED_INTEREST_REGISTRATION;
+
+	/**
+	 * Defines the total number of buckets of the partitioned server {@link Region}.
+	 *
+	 * This attribute is only used for a {@literal PARTITION} {@link Region} on the servers, and must be
+	 * the same on all servers.
+	 *
+	 * Defaults to {@literal 113}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.partition.total-number-of-buckets}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the total number of buckets.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_TOTAL_NUMBER_OF_BUCKETS
+	 */
+	int totalNumberOfBuckets() default GemFireHttpSessionConfiguration.DEFAULT_TOTAL_NUMBER_OF_BUCKETS;
+
+	/**
+	 * Defines the interval in milliseconds between flushes of the write-behind queue.
+	 *
+	 * A positive value enables write-behind, where saved {@link Session Sessions} are queued and written
+	 * to the cache {@link Region} asynchronously, in batches, by background threads.  A value of {@literal 0}
+	 * or less disables write-behind, and {@link Session Sessions} are written when saved.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.write-behind.flush-interval-milliseconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the interval in milliseconds between flushes of the write-behind queue.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL_IN_MILLISECONDS
+	 * @see org.springframework.session.data.gemfire.support.SessionWriteBehindQueue
+	 */
+	int writeBehindFlushIntervalInMilliseconds()
+		default GemFireHttpSessionConfiguration.DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL_IN_MILLISECONDS;
+
+	/**
+	 * Defines the maximum number of {@link Session Sessions} held in the write-behind queue.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.write-behind.queue-capacity}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of {@link Session Sessions} held
+	 * in the write-behind queue.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY
+	 */
+	int writeBehindQueueCapacity() default GemFireHttpSessionConfiguration.DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY;
+
+	/**
+	 * Defines whether the cache {@link Region} (i.e. {@literal ClusteredSpringSessions}) is configured to favor
+	 * the throughput of {@link Session} writes over consistency of reads and safety checks.
+	 *
+	 * The write-optimized profile:
+	 *
+	 * <ul>
+	 *     <li>maintains {@link org.apache.geode.cache.query.Index Indexes} asynchronously, so queries
+	 *     (e.g. find by principal name) may briefly not reflect the most recently saved {@link Session Sessions},</li>
+	 *     <li>disables cloning, so {@link Session} values are not copied on each write to the {@link Region},</li>
+	 *     <li>disables statistics when {@link Session Sessions} are expired by the server expiration sweeper
+	 *     rather than by entry idle-timeout expiration, which requires statistics,</li>
+	 *     <li>disables concurrency checks, and the version tags they add to each entry, on a server
+	 *     {@link Region} that keeps a single copy of each {@link Session} (i.e. a {@literal LOCAL}
+	 *     or non-redundant {@literal PARTITION} {@link Region}).  Concurrency checks are kept where
+	 *     copies of a {@link Session} on different members could otherwise become inconsistent.</li>
+	 * </ul>
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.write-optimized} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is write-optimized.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_WRITE_OPTIMIZED
+	 * @see #expirationSweepIntervalInMilliseconds()
+	 */
+	boolean writeOptimized() default GemFireHttpSessionConfiguration.DEFAULT_WRITE_OPTIMIZED;
+
 }
@@ -16,22 +16,38 @@
 
 package org.springframework.session.data.gemfire.config.annotation.web.http;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 
 import org.apache.geode.DataSerializer;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolFactory;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.apache.geode.pdx.PdxSerializer;
 
 import org.springframework.beans.BeansException;
@@ -47,12 +63,17 @@ import org.springframework.context.annotation.ImportAware;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.data.gemfire.DiskStoreFactoryBean;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.IndexFactoryBean;
 import org.springframework.data.gemfire.IndexType;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.data.gemfire.client.PoolFactoryBean;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.support.ConnectionEndpoint;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
@@ -61,13 +82,28 @@ import org.springframework.session.data.gemfire.GemFireOperationsSessionReposito
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.GemFireCacheTypeAwareRegionFactoryBean;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionAttributesIndexFactoryBean;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
+import org.springframework.session.data.gemfire.function.ChangeSessionIdFunction;
+import org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.function.ReplaceSessionFunction;
+import org.springframework.session.data.gemfire.function.SessionStatisticsFunction;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
 import org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.support.DataSerializerSessionSerializerAdapter;
 import org.springframework.session.data.gemfire.serialization.pdx.provider.PdxSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.serialization.pdx.support.ComposablePdxSerializer;
 import org.springframework.session.data.gemfire.serialization.pdx.support.PdxSerializerSessionSerializerAdapter;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver;
+import org.springframework.session.data.gemfire.support.PrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.SessionEventListenerDetector;
+import org.springframework.session.data.gemfire.support.SessionEventType;
+import org.springframework.session.data.gemfire.support.SessionExpirationSweeper;
+import org.springframework.session.data.gemfire.support.SessionIdGenerator;
+import org.springframework.session.data.gemfire.support.SessionIndexCreator;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
+import org.springframework.session.data.gemfire.support.SessionInterestRegistrar;
+import org.springframework.session.data.gemfire.support.SessionWriteBehindQueue;
 import org.springframework.util.StringUtils;
 
 /**
@@ -112,6 +148,80 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 */
 	public static final int DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS = (int) TimeUnit.MINUTES.toSeconds(30);
 
+	/**
+	 * Default setting for whether a {@link Session} ID change is performed on the server.
+	 */
+	public static final boolean DEFAULT_CHANGE_SESSION_ID_ON_SERVER = false;
+
+	/**
+	 * Defaults for creating the {@link Session} {@link org.apache.geode.cache.query.Index Indexes} together,
+	 * in a single pass over the {@link Region}, once the Spring context is refreshed.
+	 */
+	public static final boolean DEFAULT_BACKGROUND_INDEX_CREATION = false;
+	public static final boolean DEFAULT_DEFERRED_INDEX_CREATION = true;
+
+	/**
+	 * Default setting for whether the {@link Session} {@link Region} is accessed directly rather than
+	 * through the {@link GemfireTemplate}.
+	 */
+	public static final boolean DEFAULT_DIRECT_REGION_ACCESS = false;
+
+	/**
+	 * Default setting for whether the {@link Session} {@link Region} stores values in off-heap memory.
+	 */
+	public static final boolean DEFAULT_OFF_HEAP = false;
+
+	/**
+	 * Default setting for whether a {@link Session} is saved with an optimistic, version-checked replace.
+	 */
+	public static final boolean DEFAULT_OPTIMISTIC_CONCURRENCY = false;
+
+	/**
+	 * Default setting for whether {@link Session} events are published only by the primary peer member.
+	 */
+	public static final boolean DEFAULT_PUBLISH_EVENTS_FROM_PRIMARY_ONLY = false;
+
+	/**
+	 * Default interval in milliseconds between background removals of expired {@link Session Sessions};
+	 * {@literal 0} or less removes expired {@link Session Sessions} on the calling thread.
+	 */
+	public static final int DEFAULT_EXPIRED_SESSION_DELETION_INTERVAL_IN_MILLISECONDS = -1;
+
+	/**
+	 * Default interval in milliseconds between sweeps of expired {@link Session Sessions} on the server;
+	 * {@literal 0} or less uses {@link Region} entry idle-timeout expiration.
+	 */
+	public static final int DEFAULT_EXPIRATION_SWEEP_INTERVAL_IN_MILLISECONDS = -1;
+
+	/**
+	 * Default window in milliseconds during which {@link Session} lookups are coalesced; negative disables coalescing.
+	 */
+	public static final int DEFAULT_SESSION_LOOKUP_COALESCING_WINDOW_IN_MILLISECONDS = -1;
+
+	/**
+	 * Defaults for {@link Session} write-behind; a flush interval of {@literal 0} or less disables write-behind.
+	 */
+	public static final int DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL_IN_MILLISECONDS = -1;
+	public static final int DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY = SessionWriteBehindQueue.DEFAULT_CAPACITY;
+
+	/**
+	 * Default setting for whether the {@link Session} {@link Region} favors the throughput of {@link Session} writes.
+	 */
+	public static final boolean DEFAULT_WRITE_OPTIMIZED = false;
+
+	/**
+	 * Default setting for whether a client registers interest in individual {@link Session Sessions}
+	 * rather than in {@literal ALL_KEYS}.
+	 */
+	public static final boolean DEFAULT_TARGETED_INTEREST_REGISTRATION = false;
+
+	/**
+	 * Defaults for {@link Session} events delivered by Continuous Queries; no {@link SessionEventType types}
+	 * delivers {@link Session} events with a {@link org.apache.geode.cache.CacheListener}.
+	 */
+	public static final SessionEventType[] DEFAULT_CONTINUOUS_QUERY_SESSION_EVENTS = {};
+	public static final String DEFAULT_CONTINUOUS_QUERY_SESSION_EVENT_FILTER = "";
+
 	/**
 	 * Key and Value class type constraints applied to the {@link Session} {@link Region}.
 	 */
@@ -130,12 +240,58 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 */
 	public static final RegionShortcut DEFAULT_SERVER_REGION_SHORTCUT = RegionShortcut.PARTITION;
 
+	/**
+	 * Defaults for eviction of the {@link Session} {@link Region}; {@link EvictionPolicyType#NONE} disables eviction,
+	 * and a threshold of {@literal 0} or less uses the Apache Geode default for the {@link EvictionPolicyType}.
+	 */
+	public static final EvictionActionType DEFAULT_EVICTION_ACTION = EvictionActionType.OVERFLOW_TO_DISK;
+	public static final EvictionPolicyType DEFAULT_EVICTION_POLICY = EvictionPolicyType.NONE;
+	public static final int DEFAULT_EVICTION_THRESHOLD = 0;
+
+	/**
+	 * Default name of the {@link org.apache.geode.cache.DiskStore} used by the server {@link Session} {@link Region};
+	 * none uses the Apache Geode {@literal DEFAULT} {@link org.apache.geode.cache.DiskStore} for overflow, and
+	 * the dedicated {@link #SESSION_DISK_STORE_BEAN_NAME session DiskStore} for persistence.
+	 */
+	public static final String DEFAULT_DISK_STORE_NAME = "";
+
+	/**
+	 * Defaults for persistence of the server {@link Session} {@link Region} using asynchronous disk writes,
+	 * buffered in a bounded queue that is flushed at least once per time interval.
+	 */
+	public static final boolean DEFAULT_PERSISTENT = false;
+	public static final int DEFAULT_DISK_QUEUE_SIZE = 1000;
+	public static final int DEFAULT_DISK_TIME_INTERVAL_IN_MILLISECONDS = 1000;
+
+	/**
+	 * Defaults for the {@link PartitionAttributes} of a partitioned server {@link Session} {@link Region};
+	 * a negative number of redundant copies uses the redundancy of the {@link RegionShortcut}.
+	 */
+	public static final boolean DEFAULT_PRINCIPAL_NAME_ROUTING = false;
+	public static final int DEFAULT_RECOVERY_DELAY_IN_MILLISECONDS = -1;
+	public static final int DEFAULT_REDUNDANT_COPIES = -1;
+	public static final int DEFAULT_STARTUP_RECOVERY_DELAY_IN_MILLISECONDS = 0;
+	public static final int DEFAULT_TOTAL_NUMBER_OF_BUCKETS = PartitionAttributesFactory.GLOBAL_MAX_BUCKETS_DEFAULT;
+
 	/**
 	 * Name of the connection {@link Pool} used by the client {@link Region} to send {@link Session} state
 	 * to the cluster of  Apache Geode servers.
 	 */
 	public static final String DEFAULT_POOL_NAME = GemfireConstants.DEFAULT_GEMFIRE_POOL_NAME;
 
+	/**
+	 * Defaults for the dedicated {@link Pool} used by the client {@link Region} to send {@link Session} state
+	 * to the servers, which match the Apache Geode {@link PoolFactory} defaults.
+	 */
+	public static final boolean DEFAULT_DEDICATED_POOL = false;
+	public static final boolean DEFAULT_POOL_PR_SINGLE_HOP_ENABLED = PoolFactory.DEFAULT_PR_SINGLE_HOP_ENABLED;
+	public static final int DEFAULT_POOL_IDLE_TIMEOUT_IN_MILLISECONDS = (int) PoolFactory.DEFAULT_IDLE_TIMEOUT;
+	public static final int DEFAULT_POOL_MAX_CONNECTIONS = PoolFactory.DEFAULT_MAX_CONNECTIONS;
+	public static final int DEFAULT_POOL_MIN_CONNECTIONS = PoolFactory.DEFAULT_MIN_CONNECTIONS;
+	public static final int DEFAULT_POOL_READ_TIMEOUT_IN_MILLISECONDS = PoolFactory.DEFAULT_READ_TIMEOUT;
+	public static final int DEFAULT_POOL_RETRY_ATTEMPTS = PoolFactory.DEFAULT_RETRY_ATTEMPTS;
+	public static final int DEFAULT_POOL_SUBSCRIPTION_REDUNDANCY = PoolFactory.DEFAULT_SUBSCRIPTION_REDUNDANCY;
+
 	/**
 	 * Default name of (Client)Cache {@link Region} used to store {@link Session} state.
 	 */
@@ -145,286 +301,1645 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * Set of defaults for {@link Session} serialization.
 	 */
 	public static final String SESSION_DATA_SERIALIZER_BEAN_NAME = "SessionDataSerializer";
+	public static final String SESSION_DISK_STORE_BEAN_NAME = "SessionDiskStore";
+	public static final String SESSION_POOL_BEAN_NAME = "SessionPool";
 	public static final String SESSION_PDX_SERIALIZER_BEAN_NAME = "SessionPdxSerializer";
 	public static final String SESSION_SERIALIZER_BEAN_ALIAS = "SessionSerializerRegisteredBeanAlias";
 
 	public static final String DEFAULT_SESSION_SERIALIZER_BEAN_NAME = SESSION_PDX_SERIALIZER_BEAN_NAME;
 
+	/**
+	 * Defaults for limiting the number of attributes and the size of a serialized {@link Session};
+	 * {@literal -1} is unlimited.
+	 */
+	public static final int DEFAULT_MAX_SESSION_ATTRIBUTES = -1;
+	public static final int DEFAULT_MAX_SESSION_SIZE_IN_BYTES = -1;
+
+	public static final SessionSizeGuardrail.ViolationAction DEFAULT_SESSION_SIZE_VIOLATION_ACTION =
+		SessionSizeGuardrail.ViolationAction.WARN;
+
+	/**
+	 * Default for recording statistics about {@link Session} operations.
+	 */
+	public static final boolean DEFAULT_SESSION_STATISTICS_ENABLED = false;
+
+	/**
+	 * Default bean name of the {@link SessionIdGenerator}; none uses a single {@link SessionIdGenerator} bean
+	 * if present, or the {@link org.springframework.session.data.gemfire.support.UuidSessionIdGenerator}.
+	 */
+	public static final String DEFAULT_SESSION_ID_GENERATOR_BEAN_NAME = "";
+
 	/**
 	 * Defaults names of all {@link Session} attributes that will be indexed by Apache Geode.
 	 */
 	public static final String[] DEFAULT_INDEXABLE_SESSION_ATTRIBUTES = {};
 
+	/**
+	 * Defaults for indexing each indexable {@link Session} attribute individually, rather than
+	 * with a single map {@link org.apache.geode.cache.query.Index}.
+	 */
+	public static final boolean DEFAULT_INDIVIDUAL_SESSION_ATTRIBUTE_INDEXES = false;
+	public static final IndexType DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE = IndexType.HASH;
+
+	private boolean backgroundIndexCreation = DEFAULT_BACKGROUND_INDEX_CREATION;
+
+	private boolean changeSessionIdOnServer = DEFAULT_CHANGE_SESSION_ID_ON_SERVER;
+
+	private boolean deferredIndexCreation = DEFAULT_DEFERRED_INDEX_CREATION;
+
+	private boolean directRegionAccess = DEFAULT_DIRECT_REGION_ACCESS;
+
+	private boolean dedicatedPool = DEFAULT_DEDICATED_POOL;
+
+	private boolean individualSessionAttributeIndexes = DEFAULT_INDIVIDUAL_SESSION_ATTRIBUTE_INDEXES;
+
+	private boolean offHeap = DEFAULT_OFF_HEAP;
+
+	private boolean optimisticConcurrency = DEFAULT_OPTIMISTIC_CONCURRENCY;
+
+	private boolean persistent = DEFAULT_PERSISTENT;
+
+	private boolean poolPrSingleHopEnabled = DEFAULT_POOL_PR_SINGLE_HOP_ENABLED;
+
+	private boolean principalNameRouting = DEFAULT_PRINCIPAL_NAME_ROUTING;
+
+	private boolean publishEventsFromPrimaryOnly = DEFAULT_PUBLISH_EVENTS_FROM_PRIMARY_ONLY;
+
+	private boolean targetedInterestRegistration = DEFAULT_TARGETED_INTEREST_REGISTRATION;
+
+	private boolean sessionStatisticsEnabled = DEFAULT_SESSION_STATISTICS_ENABLED;
+
+	private boolean writeOptimized = DEFAULT_WRITE_OPTIMIZED;
+
+	private int diskQueueSize = DEFAULT_DISK_QUEUE_SIZE;
+
+	private int diskTimeIntervalInMilliseconds = DEFAULT_DISK_TIME_INTERVAL_IN_MILLISECONDS;
+
+	private int evictionThreshold = DEFAULT_EVICTION_THRESHOLD;
+
+	private int expirationSweepIntervalInMilliseconds = DEFAULT_EXPIRATION_SWEEP_INTERVAL_IN_MILLISECONDS;
+
+	private int expiredSessionDeletionIntervalInMilliseconds = DEFAULT_EXPIRED_SESSION_DELETION_INTERVAL_IN_MILLISECONDS;
+
 	private int maxInactiveIntervalInSeconds = DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS;
 
+	private int maxSessionAttributes = DEFAULT_MAX_SESSION_ATTRIBUTES;
+
+	private int maxSessionSizeInBytes = DEFAULT_MAX_SESSION_SIZE_IN_BYTES;
+
+	private int poolIdleTimeoutInMilliseconds = DEFAULT_POOL_IDLE_TIMEOUT_IN_MILLISECONDS;
+
+	private int poolMaxConnections = DEFAULT_POOL_MAX_CONNECTIONS;
+
+	private int poolMinConnections = DEFAULT_POOL_MIN_CONNECTIONS;
+
+	private int poolReadTimeoutInMilliseconds = DEFAULT_POOL_READ_TIMEOUT_IN_MILLISECONDS;
+
+	private int poolRetryAttempts = DEFAULT_POOL_RETRY_ATTEMPTS;
+
+	private int poolSubscriptionRedundancy = DEFAULT_POOL_SUBSCRIPTION_REDUNDANCY;
+
+	private int recoveryDelayInMilliseconds = DEFAULT_RECOVERY_DELAY_IN_MILLISECONDS;
+
+	private int redundantCopies = DEFAULT_REDUNDANT_COPIES;
+
+	private int startupRecoveryDelayInMilliseconds = DEFAULT_STARTUP_RECOVERY_DELAY_IN_MILLISECONDS;
+
+	private int totalNumberOfBuckets = DEFAULT_TOTAL_NUMBER_OF_BUCKETS;
+
+	private int sessionLookupCoalescingWindowInMilliseconds = DEFAULT_SESSION_LOOKUP_COALESCING_WINDOW_IN_MILLISECONDS;
+
+	private int writeBehindFlushIntervalInMilliseconds = DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL_IN_MILLISECONDS;
+
+	private int writeBehindQueueCapacity = DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY;
+
 	private ClientRegionShortcut clientRegionShortcut = DEFAULT_CLIENT_REGION_SHORTCUT;
 
 	private RegionShortcut serverRegionShortcut = DEFAULT_SERVER_REGION_SHORTCUT;
 
+	private EvictionActionType evictionAction = DEFAULT_EVICTION_ACTION;
+
+	private EvictionPolicyType evictionPolicy = DEFAULT_EVICTION_POLICY;
+
+	private IndexType sessionAttributeIndexType = DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE;
+
+	private SessionSizeGuardrail.ViolationAction sessionSizeViolationAction = DEFAULT_SESSION_SIZE_VIOLATION_ACTION;
+
+	private String diskStoreName = DEFAULT_DISK_STORE_NAME;
+
 	private String poolName = DEFAULT_POOL_NAME;
 
+	private String sessionIdGeneratorBeanName = DEFAULT_SESSION_ID_GENERATOR_BEAN_NAME;
+
 	private String sessionRegionName = DEFAULT_SESSION_REGION_NAME;
 
 	private String sessionSerializerBeanName = DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 
 	private String[] indexableSessionAttributes = DEFAULT_INDEXABLE_SESSION_ATTRIBUTES;
 
+	private SessionEventType[] continuousQuerySessionEvents = DEFAULT_CONTINUOUS_QUERY_SESSION_EVENTS;
+
+	private String continuousQuerySessionEventFilter = DEFAULT_CONTINUOUS_QUERY_SESSION_EVENT_FILTER;
+
 	/**
-	 * Gets the {@link ClientRegionShortcut} used to configure the data management policy of the {@link ClientCache}
-	 * {@link Region} that will store {@link Session} state.
-	 *
-	 * Defaults to {@link ClientRegionShortcut#PROXY}.
+	 * Sets whether the deferred {@link Session} {@link org.apache.geode.cache.query.Index Indexes} are created
+	 * in the background.
 	 *
-	 * @param shortcut {@link ClientRegionShortcut} used to configure the data management policy
-	 * of the {@link ClientCache} {@link Region}.
-	 * @see EnableGemFireHttpSession#clientRegionShortcut()
-	 * @see org.apache.geode.cache.client.ClientRegionShortcut
+	 * @param backgroundIndexCreation boolean indicating whether {@link Session}
+	 * {@link org.apache.geode.cache.query.Index Indexes} are created in the background.
+	 * @see EnableGemFireHttpSession#backgroundIndexCreation()
 	 */
-	public void setClientRegionShortcut(ClientRegionShortcut shortcut) {
-		this.clientRegionShortcut = shortcut;
+	public void setBackgroundIndexCreation(boolean backgroundIndexCreation) {
+		this.backgroundIndexCreation = backgroundIndexCreation;
 	}
 
 	/**
-	 * Gets the {@link ClientRegionShortcut} used to configure the data management policy of the {@link ClientCache}
-	 * {@link Region} that will store {@link Session} state.
+	 * Determines whether the deferred {@link Session} {@link org.apache.geode.cache.query.Index Indexes} are created
+	 * in the background.
 	 *
-	 * Defaults to {@link ClientRegionShortcut#PROXY}.
+	 * Defaults to {@literal false}.
 	 *
-	 * @return the {@link ClientRegionShortcut} used to configure the data management policy
-	 * of the {@link ClientCache} {@link Region}.
-	 * @see org.apache.geode.cache.client.ClientRegionShortcut
+	 * @return a boolean value indicating whether {@link Session} {@link org.apache.geode.cache.query.Index Indexes}
+	 * are created in the background.
 	 */
-	protected ClientRegionShortcut getClientRegionShortcut() {
-		return Optional.ofNullable(this.clientRegionShortcut).orElse(DEFAULT_CLIENT_REGION_SHORTCUT);
+	protected boolean isBackgroundIndexCreation() {
+		return this.backgroundIndexCreation;
 	}
 
 	/**
- 	* Sets the names of all {@link Session} attributes that will be indexed.
+	 * Sets whether the {@link Session} {@link org.apache.geode.cache.query.Index Indexes} are defined up front
+	 * and then created together.
 	 *
-	 * @param indexableSessionAttributes an array of {@link String Strings} containing the names
-	 * of all {@link Session} attributes for which an Index will be created.
-	 * @see EnableGemFireHttpSession#indexableSessionAttributes()
+	 * @param deferredIndexCreation boolean indicating whether {@link Session}
+	 * {@link org.apache.geode.cache.query.Index Indexes} are defined and then created together.
+	 * @see EnableGemFireHttpSession#deferredIndexCreation()
 	 */
-	public void setIndexableSessionAttributes(String[] indexableSessionAttributes) {
-		this.indexableSessionAttributes = indexableSessionAttributes;
+	public void setDeferredIndexCreation(boolean deferredIndexCreation) {
+		this.deferredIndexCreation = deferredIndexCreation;
 	}
 
 	/**
-	 * Get the names of all {@link Session} attributes that will be indexed.
+	 * Determines whether the {@link Session} {@link org.apache.geode.cache.query.Index Indexes} are defined up front
+	 * and then created together.
 	 *
-	 * @return an array of {@link String Strings} containing the names of all {@link Session} attributes
-	 * for which an Index will be created. Defaults to an empty array if unspecified.
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} {@link org.apache.geode.cache.query.Index Indexes}
+	 * are defined and then created together.
 	 */
-	protected String[] getIndexableSessionAttributes() {
-		return Optional.ofNullable(this.indexableSessionAttributes).orElse(DEFAULT_INDEXABLE_SESSION_ATTRIBUTES);
+	protected boolean isDeferredIndexCreation() {
+		return this.deferredIndexCreation;
 	}
 
 	/**
-	 * Sets the maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
+	 * Sets whether {@link Session Sessions} are looked up, saved and deleted directly on the cache {@link Region}
+	 * rather than through the {@link GemfireTemplate}.
 	 *
-	 * @param maxInactiveIntervalInSeconds integer value specifying the maximum interval in seconds
-	 * that a {@link Session} can remain inactive before it expires.
-	 * @see EnableGemFireHttpSession#maxInactiveIntervalInSeconds()
+	 * @param directRegionAccess boolean indicating whether the {@link Session} {@link Region} is accessed directly.
+	 * @see EnableGemFireHttpSession#directRegionAccess()
 	 */
-	public void setMaxInactiveIntervalInSeconds(int maxInactiveIntervalInSeconds) {
-		this.maxInactiveIntervalInSeconds = maxInactiveIntervalInSeconds;
+	public void setDirectRegionAccess(boolean directRegionAccess) {
+		this.directRegionAccess = directRegionAccess;
 	}
 
 	/**
-	 * Gets the maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
+	 * Determines whether {@link Session Sessions} are looked up, saved and deleted directly on the cache
+	 * {@link Region} rather than through the {@link GemfireTemplate}.
 	 *
-	 * @return an integer value specifying the maximum interval in seconds that a {@link Session} can remain inactive
-	 * before it expires.
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is accessed directly.
 	 */
-	protected int getMaxInactiveIntervalInSeconds() {
-		return this.maxInactiveIntervalInSeconds;
+	protected boolean isDirectRegionAccess() {
+		return this.directRegionAccess;
 	}
 
 	/**
-	 * Sets the name of the {@link Pool} used by the client {@link Region} to send {@link Session}
-	 * to the cluster of servers during cache operations.
+	 * Sets whether a {@link Session} ID change is performed on the server as a single, routed
+	 * {@link org.apache.geode.cache.execute.Function} execution.
 	 *
-	 * @param poolName {@link String} containing the name of a {@link Pool}.
-	 * @see EnableGemFireHttpSession#poolName()
+	 * @param changeSessionIdOnServer boolean indicating whether {@link Session} ID changes are performed
+	 * on the server.
+	 * @see EnableGemFireHttpSession#changeSessionIdOnServer()
 	 */
-	public void setPoolName(String poolName) {
-		this.poolName = poolName;
+	public void setChangeSessionIdOnServer(boolean changeSessionIdOnServer) {
+		this.changeSessionIdOnServer = changeSessionIdOnServer;
 	}
 
 	/**
-	 * Returns the name of the {@link Pool} used by the client {@link Region} to send {@link Session}
-	 * to the cluster of servers during cache operations.
+	 * Determines whether a {@link Session} ID change is performed on the server as a single, routed
+	 * {@link org.apache.geode.cache.execute.Function} execution.
 	 *
-	 * @return a {@link String} containing the name of a {@link Pool}.
-	 * @see org.apache.geode.cache.client.Pool#getName()
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} ID changes are performed on the server.
 	 */
-	protected String getPoolName() {
-		return Optional.ofNullable(this.poolName).filter(StringUtils::hasText).orElse(DEFAULT_POOL_NAME);
+	protected boolean isChangeSessionIdOnServer() {
+		return this.changeSessionIdOnServer;
 	}
 
 	/**
-	 * Sets the {@link RegionShortcut} used to configure the data management policy of the {@link Cache} {@link Region}
-	 * that will store {@link Session} state.
+	 * Sets whether the server cache {@link Region} used to store {@link Session} state stores values
+	 * in off-heap memory.
 	 *
-	 * Defaults to {@link RegionShortcut#PARTITION}.
-	 *
-	 * @param shortcut {@link RegionShortcut} used to configure the data management policy
-	 * of the {@link Cache} {@link Region}.
-	 * @see EnableGemFireHttpSession#serverRegionShortcut()
-	 * @see org.apache.geode.cache.RegionShortcut
+	 * @param offHeap boolean indicating whether the {@link Session} {@link Region} stores values off-heap.
+	 * @see EnableGemFireHttpSession#offHeap()
 	 */
-	public void setServerRegionShortcut(RegionShortcut shortcut) {
-		this.serverRegionShortcut = shortcut;
+	public void setOffHeap(boolean offHeap) {
+		this.offHeap = offHeap;
 	}
 
 	/**
-	 * Gets the {@link RegionShortcut} used to configure the data management policy of the {@link Cache} {@link Region}
-	 * that will store {@link Session} state.
+	 * Determines whether the server cache {@link Region} used to store {@link Session} state stores values
+	 * in off-heap memory.
 	 *
-	 * Defaults to {@link RegionShortcut#PARTITION}.
+	 * Defaults to {@literal false}.
 	 *
-	 * @return the {@link RegionShortcut} used to configure the data management policy
-	 * of the {@link Cache} {@link Region}.
-	 * @see org.apache.geode.cache.RegionShortcut
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} stores values off-heap.
 	 */
-	protected RegionShortcut getServerRegionShortcut() {
-		return Optional.ofNullable(this.serverRegionShortcut).orElse(DEFAULT_SERVER_REGION_SHORTCUT);
+	protected boolean isOffHeap() {
+		return this.offHeap;
 	}
 
 	/**
-	 * Sets the name of the (Client)Cache {@link Region} used to store {@link Session} state.
+	 * Sets whether the server cache {@link Region} used to store {@link Session} state persists
+	 * {@link Session Sessions} to disk.
 	 *
-	 * @param sessionRegionName {@link String} specifying the name of the (Client)Cache {@link Region}
-	 * used to store {@link Session} state.
-	 * @see EnableGemFireHttpSession#regionName()
+	 * @param persistent boolean indicating whether the {@link Session} {@link Region} is persistent.
+	 * @see EnableGemFireHttpSession#persistent()
 	 */
-	public void setSessionRegionName(String sessionRegionName) {
-		this.sessionRegionName = sessionRegionName;
+	public void setPersistent(boolean persistent) {
+		this.persistent = persistent;
 	}
 
 	/**
-	 * Returns the name of the (Client)Cache {@link Region} used to store {@link Session} state.
+	 * Determines whether the server cache {@link Region} used to store {@link Session} state persists
+	 * {@link Session Sessions} to disk.
 	 *
-	 * @return a {@link String} specifying the name of the (Client)Cache {@link Region}
-	 * used to store {@link Session} state.
-	 * @see org.apache.geode.cache.Region#getName()
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is persistent.
 	 */
-	protected String getSessionRegionName() {
-		return Optional.ofNullable(this.sessionRegionName).filter(StringUtils::hasText)
-			.orElse(DEFAULT_SESSION_REGION_NAME);
+	protected boolean isPersistent() {
+		return this.persistent;
 	}
 
 	/**
-	 * Sets the {@link String bean name} of the Spring bean declared in the Spring application context
-	 * defining the serialization strategy for serializing the {@link Session}.
+	 * Sets whether {@link Session Sessions} are routed by principal name, colocating all {@link Session Sessions}
+	 * of the same principal in the same bucket of a partitioned {@link Region}.
 	 *
-	 * The serialization strategy and bean referred to by its name must be an implementation of
-	 * {@link SessionSerializer}.
+	 * @param principalNameRouting boolean indicating whether {@link Session Sessions} are routed by principal name.
+	 * @see EnableGemFireHttpSession#principalNameRouting()
+	 */
+	public void setPrincipalNameRouting(boolean principalNameRouting) {
+		this.principalNameRouting = principalNameRouting;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are routed by principal name.
 	 *
-	 * Defaults to {@literal SessionDataSerializer}.
+	 * Defaults to {@literal false}.
 	 *
-	 * @param sessionSerializerBeanName {@link String bean name} of the {@link SessionSerializer} used to
-	 * serialize the {@link Session}.
-	 * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
-	 * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal name.
 	 */
-	public void setSessionSerializerBeanName(String sessionSerializerBeanName) {
-		this.sessionSerializerBeanName = sessionSerializerBeanName;
+	protected boolean isPrincipalNameRouting() {
+		return this.principalNameRouting;
 	}
 
 	/**
-	 * Returns the configured {@link String bean name} of the Spring bean declared in the Spring application context
-	 * defining the serialization strategy for serializing the {@link Session}.
+	 * Sets whether a {@link Session} is saved with an optimistic, version-checked replace on the server.
 	 *
-	 * The serialization strategy and bean referred to by its name must be an implementation of
-	 * {@link SessionSerializer}.
+	 * @param optimisticConcurrency boolean indicating whether {@link Session Sessions} are saved with
+	 * a version-checked replace.
+	 * @see EnableGemFireHttpSession#optimisticConcurrency()
+	 */
+	public void setOptimisticConcurrency(boolean optimisticConcurrency) {
+		this.optimisticConcurrency = optimisticConcurrency;
+	}
+
+	/**
+	 * Determines whether a {@link Session} is saved with an optimistic, version-checked replace on the server.
 	 *
-	 * Defaults to {@literal SessionDataSerializer}.
+	 * Defaults to {@literal false}.
 	 *
-	 * @return the {@link String bean name} of the {@link SessionSerializer} used to serialize the {@link Session}.
-	 * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
-	 * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved with a version-checked replace.
 	 */
-	protected String getSessionSerializerBeanName() {
-		return Optional.ofNullable(this.sessionSerializerBeanName).filter(StringUtils::hasText)
-			.orElse(DEFAULT_SESSION_SERIALIZER_BEAN_NAME);
+	protected boolean isOptimisticConcurrency() {
+		return this.optimisticConcurrency;
 	}
 
 	/**
-	 * Determine whether the configured serialization strategy is using Apache Geode / Pivotal GemFire's
-	 * DataSerialization framework.
+	 * Sets whether {@link Session} events are published only by the one peer member responsible for
+	 * the {@link Session}.
 	 *
-	 * @return a boolean value indicating whether the configured serialization strategy is using Apache Geode
-	 * / Pivotal GemFire's DataSerialization framework.
-	 * @see #getSessionSerializerBeanName()
+	 * @param publishEventsFromPrimaryOnly boolean indicating whether {@link Session} events are published
+	 * only by the primary peer member.
+	 * @see EnableGemFireHttpSession#publishEventsFromPrimaryOnly()
 	 */
-	protected boolean isUsingDataSerialization() {
-		return SESSION_DATA_SERIALIZER_BEAN_NAME.equals(getSessionSerializerBeanName());
+	public void setPublishEventsFromPrimaryOnly(boolean publishEventsFromPrimaryOnly) {
+		this.publishEventsFromPrimaryOnly = publishEventsFromPrimaryOnly;
 	}
 
 	/**
-	 * Callback with the {@link AnnotationMetadata} of the class containing {@link Import @Import} annotation
-	 * that imported this {@link Configuration @Configuration} class.
+	 * Determines whether {@link Session} events are published only by the one peer member responsible for
+	 * the {@link Session}.
 	 *
-	 * @param importMetadata {@link AnnotationMetadata} of the application class importing
-	 * this {@link Configuration} class.
-	 * @see org.springframework.core.type.AnnotationMetadata
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are published only by
+	 * the primary peer member.
 	 */
-	public void setImportMetadata(AnnotationMetadata importMetadata) {
-
-		AnnotationAttributes enableGemFireHttpSessionAttributes =
-			AnnotationAttributes.fromMap(importMetadata.getAnnotationAttributes(
-				EnableGemFireHttpSession.class.getName()));
-
-		ClientRegionShortcut defaultClientRegionShortcut =
-			enableGemFireHttpSessionAttributes.getEnum("clientRegionShortcut");
-
-		setClientRegionShortcut(resolveProperty(clientRegionShortcutPropertyName(),
-			ClientRegionShortcut.class, defaultClientRegionShortcut));
-
-		String[] defaultIndexableSessionAttributes =
-			enableGemFireHttpSessionAttributes.getStringArray("indexableSessionAttributes");
+	protected boolean isPublishEventsFromPrimaryOnly() {
+		return this.publishEventsFromPrimaryOnly;
+	}
+
+	/**
+	 * Gets the {@link ClientRegionShortcut} used to configure the data management policy of the {@link ClientCache}
+	 * {@link Region} that will store {@link Session} state.
+	 *
+	 * Defaults to {@link ClientRegionShortcut#PROXY}.
+	 *
+	 * @param shortcut {@link ClientRegionShortcut} used to configure the data management policy
+	 * of the {@link ClientCache} {@link Region}.
+	 * @see EnableGemFireHttpSession#clientRegionShortcut()
+	 * @see org.apache.geode.cache.client.ClientRegionShortcut
+	 */
+	public void setClientRegionShortcut(ClientRegionShortcut shortcut) {
+		this.clientRegionShortcut = shortcut;
+	}
+
+	/**
+	 * Gets the {@link ClientRegionShortcut} used to configure the data management policy of the {@link ClientCache}
+	 * {@link Region} that will store {@link Session} state.
+	 *
+	 * Defaults to {@link ClientRegionShortcut#PROXY}.
+	 *
+	 * @return the {@link ClientRegionShortcut} used to configure the data management policy
+	 * of the {@link ClientCache} {@link Region}.
+	 * @see org.apache.geode.cache.client.ClientRegionShortcut
+	 */
+	protected ClientRegionShortcut getClientRegionShortcut() {
+		return Optional.ofNullable(this.clientRegionShortcut).orElse(DEFAULT_CLIENT_REGION_SHORTCUT);
+	}
+
+	/**
+ 	* Sets the names of all {@link Session} attributes that will be indexed.
+	 *
+	 * @param indexableSessionAttributes an array of {@link String Strings} containing the names
+	 * of all {@link Session} attributes for which an Index will be created.
+	 * @see EnableGemFireHttpSession#indexableSessionAttributes()
+	 */
+	public void setIndexableSessionAttributes(String[] indexableSessionAttributes) {
+		this.indexableSessionAttributes = indexableSessionAttributes;
+	}
+
+	/**
+	 * Get the names of all {@link Session} attributes that will be indexed.
+	 *
+	 * @return an array of {@link String Strings} containing the names of all {@link Session} attributes
+	 * for which an Index will be created. Defaults to an empty array if unspecified.
+	 */
+	protected String[] getIndexableSessionAttributes() {
+		return Optional.ofNullable(this.indexableSessionAttributes).orElse(DEFAULT_INDEXABLE_SESSION_ATTRIBUTES);
+	}
+
+	/**
+	 * Sets whether an individual {@link org.apache.geode.cache.query.Index} is created for each indexable
+	 * {@link Session} attribute, rather than a single map {@link org.apache.geode.cache.query.Index}.
+	 *
+	 * @param individualSessionAttributeIndexes boolean indicating whether each indexable {@link Session} attribute
+	 * is indexed individually.
+	 * @see EnableGemFireHttpSession#individualSessionAttributeIndexes()
+	 */
+	public void setIndividualSessionAttributeIndexes(boolean individualSessionAttributeIndexes) {
+		this.individualSessionAttributeIndexes = individualSessionAttributeIndexes;
+	}
+
+	/**
+	 * Determines whether an individual {@link org.apache.geode.cache.query.Index} is created for each indexable
+	 * {@link Session} attribute.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether each indexable {@link Session} attribute is indexed individually.
+	 */
+	protected boolean isIndividualSessionAttributeIndexes() {
+		return this.individualSessionAttributeIndexes;
+	}
+
+	/**
+	 * Sets the {@link IndexType} of the individual {@link org.apache.geode.cache.query.Index}
+	 * on each indexable {@link Session} attribute.
+	 *
+	 * @param sessionAttributeIndexType {@link IndexType} of each individual {@link Session} attribute
+	 * {@link org.apache.geode.cache.query.Index}.
+	 * @see EnableGemFireHttpSession#sessionAttributeIndexType()
+	 */
+	public void setSessionAttributeIndexType(IndexType sessionAttributeIndexType) {
+		this.sessionAttributeIndexType = sessionAttributeIndexType;
+	}
+
+	/**
+	 * Gets the {@link IndexType} of the individual {@link org.apache.geode.cache.query.Index}
+	 * on each indexable {@link Session} attribute.
+	 *
+	 * Defaults to {@link IndexType#HASH}.
+	 *
+	 * @return the {@link IndexType} of each individual {@link Session} attribute
+	 * {@link org.apache.geode.cache.query.Index}.
+	 */
+	protected IndexType getSessionAttributeIndexType() {
+		return Optional.ofNullable(this.sessionAttributeIndexType).orElse(DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE);
+	}
+
+	/**
+	 * Sets the interval in milliseconds between sweeps of expired {@link Session Sessions} on the server.
+	 *
+	 * @param expirationSweepIntervalInMilliseconds integer value specifying the interval in milliseconds
+	 * between sweeps of expired {@link Session Sessions}; a value of {@literal 0} or less uses {@link Region}
+	 * entry idle-timeout expiration.
+	 * @see EnableGemFireHttpSession#expirationSweepIntervalInMilliseconds()
+	 */
+	public void setExpirationSweepIntervalInMilliseconds(int expirationSweepIntervalInMilliseconds) {
+		this.expirationSweepIntervalInMilliseconds = expirationSweepIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the interval in milliseconds between sweeps of expired {@link Session Sessions} on the server.
+	 *
+	 * @return an integer value specifying the interval in milliseconds between sweeps of expired
+	 * {@link Session Sessions}.
+	 */
+	protected int getExpirationSweepIntervalInMilliseconds() {
+		return this.expirationSweepIntervalInMilliseconds;
+	}
+
+	/**
+	 * Sets the interval in milliseconds between background removals of expired {@link Session Sessions}
+	 * discovered on read.
+	 *
+	 * @param expiredSessionDeletionIntervalInMilliseconds integer value specifying the interval in milliseconds
+	 * between background removals of expired {@link Session Sessions}; a value of {@literal 0} or less removes
+	 * expired {@link Session Sessions} on the calling thread.
+	 * @see EnableGemFireHttpSession#expiredSessionDeletionIntervalInMilliseconds()
+	 */
+	public void setExpiredSessionDeletionIntervalInMilliseconds(int expiredSessionDeletionIntervalInMilliseconds) {
+		this.expiredSessionDeletionIntervalInMilliseconds = expiredSessionDeletionIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the interval in milliseconds between background removals of expired {@link Session Sessions}
+	 * discovered on read.
+	 *
+	 * @return an integer value specifying the interval in milliseconds between background removals
+	 * of expired {@link Session Sessions}.
+	 */
+	protected int getExpiredSessionDeletionIntervalInMilliseconds() {
+		return this.expiredSessionDeletionIntervalInMilliseconds;
+	}
+
+	/**
+	 * Sets the maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
+	 *
+	 * @param maxInactiveIntervalInSeconds integer value specifying the maximum interval in seconds
+	 * that a {@link Session} can remain inactive before it expires.
+	 * @see EnableGemFireHttpSession#maxInactiveIntervalInSeconds()
+	 */
+	public void setMaxInactiveIntervalInSeconds(int maxInactiveIntervalInSeconds) {
+		this.maxInactiveIntervalInSeconds = maxInactiveIntervalInSeconds;
+	}
+
+	/**
+	 * Gets the maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
+	 *
+	 * @return an integer value specifying the maximum interval in seconds that a {@link Session} can remain inactive
+	 * before it expires.
+	 */
+	protected int getMaxInactiveIntervalInSeconds() {
+		return this.maxInactiveIntervalInSeconds;
+	}
+
+	/**
+	 * Sets the maximum number of attributes of a {@link Session} when saved.
+	 *
+	 * @param maxSessionAttributes integer value specifying the maximum number of attributes of a {@link Session};
+	 * {@literal 0} or less is unlimited.
+	 * @see EnableGemFireHttpSession#maxSessionAttributes()
+	 */
+	public void setMaxSessionAttributes(int maxSessionAttributes) {
+		this.maxSessionAttributes = maxSessionAttributes;
+	}
+
+	/**
+	 * Gets the maximum number of attributes of a {@link Session} when saved.
+	 *
+	 * @return an integer value specifying the maximum number of attributes of a {@link Session}.
+	 */
+	protected int getMaxSessionAttributes() {
+		return this.maxSessionAttributes;
+	}
+
+	/**
+	 * Sets the maximum size in bytes of a {@link Session} when saved.
+	 *
+	 * @param maxSessionSizeInBytes integer value specifying the maximum size in bytes of a {@link Session};
+	 * {@literal 0} or less is unlimited.
+	 * @see EnableGemFireHttpSession#maxSessionSizeInBytes()
+	 */
+	public void setMaxSessionSizeInBytes(int maxSessionSizeInBytes) {
+		this.maxSessionSizeInBytes = maxSessionSizeInBytes;
+	}
+
+	/**
+	 * Gets the maximum size in bytes of a {@link Session} when saved.
+	 *
+	 * @return an integer value specifying the maximum size in bytes of a {@link Session}.
+	 */
+	protected int getMaxSessionSizeInBytes() {
+		return this.maxSessionSizeInBytes;
+	}
+
+	/**
+	 * Sets the {@link String bean name} of the {@link SessionIdGenerator} used to generate {@link Session} IDs.
+	 *
+	 * @param sessionIdGeneratorBeanName {@link String bean name} of the {@link SessionIdGenerator};
+	 * if {@literal null} or empty, a single {@link SessionIdGenerator} bean is used if present.
+	 * @see EnableGemFireHttpSession#sessionIdGeneratorBeanName()
+	 */
+	public void setSessionIdGeneratorBeanName(String sessionIdGeneratorBeanName) {
+		this.sessionIdGeneratorBeanName = sessionIdGeneratorBeanName;
+	}
+
+	/**
+	 * Returns the {@link String bean name} of the {@link SessionIdGenerator} used to generate {@link Session} IDs.
+	 *
+	 * @return the {@link String bean name} of the {@link SessionIdGenerator}, or {@literal null}
+	 * if no bean name was specified.
+	 */
+	protected String getSessionIdGeneratorBeanName() {
+		return Optional.ofNullable(this.sessionIdGeneratorBeanName).filter(StringUtils::hasText).orElse(null);
+	}
+
+	/**
+	 * Sets the window in milliseconds during which concurrent lookups of the same {@link Session} by ID
+	 * are coalesced into a single fetch.
+	 *
+	 * @param sessionLookupCoalescingWindowInMilliseconds integer value specifying the window in milliseconds
+	 * during which {@link Session} lookups are coalesced; a negative value disables coalescing.
+	 * @see EnableGemFireHttpSession#sessionLookupCoalescingWindowInMilliseconds()
+	 */
+	public void setSessionLookupCoalescingWindowInMilliseconds(int sessionLookupCoalescingWindowInMilliseconds) {
+		this.sessionLookupCoalescingWindowInMilliseconds = sessionLookupCoalescingWindowInMilliseconds;
+	}
+
+	/**
+	 * Gets the window in milliseconds during which concurrent lookups of the same {@link Session} by ID
+	 * are coalesced into a single fetch.
+	 *
+	 * @return an integer value specifying the window in milliseconds during which {@link Session} lookups
+	 * are coalesced; a negative value indicates coalescing is disabled.
+	 */
+	protected int getSessionLookupCoalescingWindowInMilliseconds() {
+		return this.sessionLookupCoalescingWindowInMilliseconds;
+	}
+
+	/**
+	 * Sets whether a client registers interest in only those {@link Session Sessions} it has created or loaded,
+	 * rather than in {@literal ALL_KEYS}.
+	 *
+	 * @param targetedInterestRegistration boolean indicating whether interest is registered in individual
+	 * {@link Session Sessions}.
+	 * @see EnableGemFireHttpSession#targetedInterestRegistration()
+	 */
+	public void setTargetedInterestRegistration(boolean targetedInterestRegistration) {
+		this.targetedInterestRegistration = targetedInterestRegistration;
+	}
+
+	/**
+	 * Determines whether a client registers interest in only those {@link Session Sessions} it has created
+	 * or loaded, rather than in {@literal ALL_KEYS}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether interest is registered in individual {@link Session Sessions}.
+	 */
+	protected boolean isTargetedInterestRegistration() {
+		return this.targetedInterestRegistration;
+	}
+
+	/**
+	 * Determines whether targeted interest registration applies, which requires a non-{@literal LOCAL}
+	 * client {@link Region}.
+	 *
+	 * @return a boolean value indicating whether targeted interest registration applies.
+	 * @see #isTargetedInterestRegistration()
+	 * @see #getClientRegionShortcut()
+	 */
+	protected boolean isTargetedInterestRegistrationEnabled() {
+		return isTargetedInterestRegistration() && !GemFireUtils.isLocal(getClientRegionShortcut());
+	}
+
+	/**
+	 * Sets the types of {@link Session} events a client subscribes to with Continuous Queries.
+	 *
+	 * @param continuousQuerySessionEvents array of {@link SessionEventType types} of {@link Session} events
+	 * subscribed to.
+	 * @see EnableGemFireHttpSession#continuousQuerySessionEvents()
+	 */
+	public void setContinuousQuerySessionEvents(SessionEventType[] continuousQuerySessionEvents) {
+		this.continuousQuerySessionEvents = continuousQuerySessionEvents;
+	}
+
+	/**
+	 * Returns the types of {@link Session} events a client subscribes to with Continuous Queries.
+	 *
+	 * Defaults to {@link #DEFAULT_CONTINUOUS_QUERY_SESSION_EVENTS}.
+	 *
+	 * @return an array of {@link SessionEventType types} of {@link Session} events subscribed to.
+	 */
+	protected SessionEventType[] getContinuousQuerySessionEvents() {
+		return Optional.ofNullable(this.continuousQuerySessionEvents).orElse(DEFAULT_CONTINUOUS_QUERY_SESSION_EVENTS);
+	}
+
+	/**
+	 * Sets the OQL predicate filtering the {@link Session} events delivered by Continuous Queries.
+	 *
+	 * @param continuousQuerySessionEventFilter {@link String} containing the OQL predicate.
+	 * @see EnableGemFireHttpSession#continuousQuerySessionEventFilter()
+	 */
+	public void setContinuousQuerySessionEventFilter(String continuousQuerySessionEventFilter) {
+		this.continuousQuerySessionEventFilter = continuousQuerySessionEventFilter;
+	}
+
+	/**
+	 * Returns the OQL predicate filtering the {@link Session} events delivered by Continuous Queries.
+	 *
+	 * Defaults to {@link #DEFAULT_CONTINUOUS_QUERY_SESSION_EVENT_FILTER}.
+	 *
+	 * @return a {@link String} containing the OQL predicate.
+	 */
+	protected String getContinuousQuerySessionEventFilter() {
+		return this.continuousQuerySessionEventFilter;
+	}
+
+	/**
+	 * Determines whether {@link Session} events are delivered by Continuous Queries, which requires
+	 * a non-{@literal LOCAL} client {@link Region}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are delivered by Continuous Queries.
+	 * @see #getContinuousQuerySessionEvents()
+	 * @see #getClientRegionShortcut()
+	 */
+	protected boolean isContinuousQuerySessionEventsEnabled() {
+		return getContinuousQuerySessionEvents().length > 0 && !GemFireUtils.isLocal(getClientRegionShortcut());
+	}
+
+	/**
+	 * Sets the interval in milliseconds between flushes of the write-behind queue.
+	 *
+	 * @param writeBehindFlushIntervalInMilliseconds integer value specifying the interval in milliseconds
+	 * between flushes of the write-behind queue; a value of {@literal 0} or less disables write-behind.
+	 * @see EnableGemFireHttpSession#writeBehindFlushIntervalInMilliseconds()
+	 */
+	public void setWriteBehindFlushIntervalInMilliseconds(int writeBehindFlushIntervalInMilliseconds) {
+		this.writeBehindFlushIntervalInMilliseconds = writeBehindFlushIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the interval in milliseconds between flushes of the write-behind queue.
+	 *
+	 * @return an integer value specifying the interval in milliseconds between flushes of the write-behind queue;
+	 * a value of {@literal 0} or less indicates write-behind is disabled.
+	 */
+	protected int getWriteBehindFlushIntervalInMilliseconds() {
+		return this.writeBehindFlushIntervalInMilliseconds;
+	}
+
+	/**
+	 * Sets the maximum number of {@link Session Sessions} held in the write-behind queue.
+	 *
+	 * @param writeBehindQueueCapacity integer value specifying the maximum number of {@link Session Sessions}
+	 * held in the write-behind queue.
+	 * @see EnableGemFireHttpSession#writeBehindQueueCapacity()
+	 */
+	public void setWriteBehindQueueCapacity(int writeBehindQueueCapacity) {
+		this.writeBehindQueueCapacity = writeBehindQueueCapacity;
+	}
+
+	/**
+	 * Gets the maximum number of {@link Session Sessions} held in the write-behind queue.
+	 *
+	 * @return an integer value specifying the maximum number of {@link Session Sessions} held
+	 * in the write-behind queue.
+	 */
+	protected int getWriteBehindQueueCapacity() {
+		return this.writeBehindQueueCapacity;
+	}
+
+	/**
+	 * Determines whether {@link Session} write-behind is enabled.
+	 *
+	 * @return a boolean value indicating whether {@link Session} write-behind is enabled.
+	 * @see #getWriteBehindFlushIntervalInMilliseconds()
+	 */
+	protected boolean isWriteBehindEnabled() {
+		return getWriteBehindFlushIntervalInMilliseconds() > 0;
+	}
+
+	/**
+	 * Sets whether the cache {@link Region} used to store {@link Session} state favors the throughput
+	 * of {@link Session} writes.
+	 *
+	 * @param writeOptimized boolean indicating whether the {@link Session} {@link Region} is write-optimized.
+	 * @see EnableGemFireHttpSession#writeOptimized()
+	 */
+	public void setWriteOptimized(boolean writeOptimized) {
+		this.writeOptimized = writeOptimized;
+	}
+
+	/**
+	 * Determines whether the cache {@link Region} used to store {@link Session} state favors the throughput
+	 * of {@link Session} writes.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is write-optimized.
+	 */
+	protected boolean isWriteOptimized() {
+		return this.writeOptimized;
+	}
+
+	/**
+	 * Sets the name of the {@link Pool} used by the client {@link Region} to send {@link Session}
+	 * to the cluster of servers during cache operations.
+	 *
+	 * @param poolName {@link String} containing the name of a {@link Pool}.
+	 * @see EnableGemFireHttpSession#poolName()
+	 */
+	public void setPoolName(String poolName) {
+		this.poolName = poolName;
+	}
+
+	/**
+	 * Returns the name of the {@link Pool} used by the client {@link Region} to send {@link Session}
+	 * to the cluster of servers during cache operations.
+	 *
+	 * @return a {@link String} containing the name of a {@link Pool}.
+	 * @see org.apache.geode.cache.client.Pool#getName()
+	 */
+	protected String getPoolName() {
+		return Optional.ofNullable(this.poolName).filter(StringUtils::hasText).orElse(DEFAULT_POOL_NAME);
+	}
+
+	/**
+	 * Sets whether the client {@link Region} sends {@link Session} state to the servers using a dedicated
+	 * {@link Pool} tuned for {@link Session} access.
+	 *
+	 * @param dedicatedPool boolean indicating whether the client {@link Region} uses a dedicated {@link Pool}.
+	 * @see EnableGemFireHttpSession#dedicatedPool()
+	 */
+	public void setDedicatedPool(boolean dedicatedPool) {
+		this.dedicatedPool = dedicatedPool;
+	}
+
+	/**
+	 * Determines whether the client {@link Region} sends {@link Session} state to the servers using
+	 * a dedicated {@link Pool}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the client {@link Region} uses a dedicated {@link Pool}.
+	 */
+	protected boolean isDedicatedPool() {
+		return this.dedicatedPool;
+	}
+
+	/**
+	 * Sets the amount of time in milliseconds a connection of the dedicated {@link Pool} may remain idle
+	 * before it is closed.
+	 *
+	 * @param poolIdleTimeoutInMilliseconds integer value specifying the idle timeout in milliseconds.
+	 * @see EnableGemFireHttpSession#poolIdleTimeoutInMilliseconds()
+	 */
+	public void setPoolIdleTimeoutInMilliseconds(int poolIdleTimeoutInMilliseconds) {
+		this.poolIdleTimeoutInMilliseconds = poolIdleTimeoutInMilliseconds;
+	}
+
+	/**
+	 * Gets the amount of time in milliseconds a connection of the dedicated {@link Pool} may remain idle
+	 * before it is closed.
+	 *
+	 * @return an integer value specifying the idle timeout in milliseconds.
+	 */
+	protected int getPoolIdleTimeoutInMilliseconds() {
+		return this.poolIdleTimeoutInMilliseconds;
+	}
+
+	/**
+	 * Sets the maximum number of connections of the dedicated {@link Pool} to the servers.
+	 *
+	 * @param poolMaxConnections integer value specifying the maximum number of connections.
+	 * @see EnableGemFireHttpSession#poolMaxConnections()
+	 */
+	public void setPoolMaxConnections(int poolMaxConnections) {
+		this.poolMaxConnections = poolMaxConnections;
+	}
+
+	/**
+	 * Gets the maximum number of connections of the dedicated {@link Pool} to the servers.
+	 *
+	 * @return an integer value specifying the maximum number of connections.
+	 */
+	protected int getPoolMaxConnections() {
+		return this.poolMaxConnections;
+	}
+
+	/**
+	 * Sets the minimum number of connections of the dedicated {@link Pool} kept open to the servers.
+	 *
+	 * @param poolMinConnections integer value specifying the minimum number of connections.
+	 * @see EnableGemFireHttpSession#poolMinConnections()
+	 */
+	public void setPoolMinConnections(int poolMinConnections) {
+		this.poolMinConnections = poolMinConnections;
+	}
+
+	/**
+	 * Gets the minimum number of connections of the dedicated {@link Pool} kept open to the servers.
+	 *
+	 * @return an integer value specifying the minimum number of connections.
+	 */
+	protected int getPoolMinConnections() {
+		return this.poolMinConnections;
+	}
+
+	/**
+	 * Sets whether the dedicated {@link Pool} sends single-key operations directly to the server hosting
+	 * the {@link Session}.
+	 *
+	 * @param poolPrSingleHopEnabled boolean indicating whether single-hop access is enabled.
+	 * @see EnableGemFireHttpSession#poolPrSingleHopEnabled()
+	 */
+	public void setPoolPrSingleHopEnabled(boolean poolPrSingleHopEnabled) {
+		this.poolPrSingleHopEnabled = poolPrSingleHopEnabled;
+	}
+
+	/**
+	 * Determines whether the dedicated {@link Pool} sends single-key operations directly to the server hosting
+	 * the {@link Session}.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether single-hop access is enabled.
+	 */
+	protected boolean isPoolPrSingleHopEnabled() {
+		return this.poolPrSingleHopEnabled;
+	}
+
+	/**
+	 * Sets the amount of time in milliseconds the dedicated {@link Pool} waits for a response from a server.
+	 *
+	 * @param poolReadTimeoutInMilliseconds integer value specifying the read timeout in milliseconds.
+	 * @see EnableGemFireHttpSession#poolReadTimeoutInMilliseconds()
+	 */
+	public void setPoolReadTimeoutInMilliseconds(int poolReadTimeoutInMilliseconds) {
+		this.poolReadTimeoutInMilliseconds = poolReadTimeoutInMilliseconds;
+	}
+
+	/**
+	 * Gets the amount of time in milliseconds the dedicated {@link Pool} waits for a response from a server.
+	 *
+	 * @return an integer value specifying the read timeout in milliseconds.
+	 */
+	protected int getPoolReadTimeoutInMilliseconds() {
+		return this.poolReadTimeoutInMilliseconds;
+	}
+
+	/**
+	 * Sets the number of times the dedicated {@link Pool} retries a failed operation on another server.
+	 *
+	 * @param poolRetryAttempts integer value specifying the number of retry attempts.
+	 * @see EnableGemFireHttpSession#poolRetryAttempts()
+	 */
+	public void setPoolRetryAttempts(int poolRetryAttempts) {
+		this.poolRetryAttempts = poolRetryAttempts;
+	}
+
+	/**
+	 * Gets the number of times the dedicated {@link Pool} retries a failed operation on another server.
+	 *
+	 * @return an integer value specifying the number of retry attempts.
+	 */
+	protected int getPoolRetryAttempts() {
+		return this.poolRetryAttempts;
+	}
+
+	/**
+	 * Sets the number of servers hosting a redundant copy of the subscription queue of the dedicated {@link Pool}.
+	 *
+	 * @param poolSubscriptionRedundancy integer value specifying the subscription redundancy.
+	 * @see EnableGemFireHttpSession#poolSubscriptionRedundancy()
+	 */
+	public void setPoolSubscriptionRedundancy(int poolSubscriptionRedundancy) {
+		this.poolSubscriptionRedundancy = poolSubscriptionRedundancy;
+	}
+
+	/**
+	 * Gets the number of servers hosting a redundant copy of the subscription queue of the dedicated {@link Pool}.
+	 *
+	 * @return an integer value specifying the subscription redundancy.
+	 */
+	protected int getPoolSubscriptionRedundancy() {
+		return this.poolSubscriptionRedundancy;
+	}
+
+	/**
+	 * Sets the {@link RegionShortcut} used to configure the data management policy of the {@link Cache} {@link Region}
+	 * that will store {@link Session} state.
+	 *
+	 * Defaults to {@link RegionShortcut#PARTITION}.
+	 *
+	 * @param shortcut {@link RegionShortcut} used to configure the data management policy
+	 * of the {@link Cache} {@link Region}.
+	 * @see EnableGemFireHttpSession#serverRegionShortcut()
+	 * @see org.apache.geode.cache.RegionShortcut
+	 */
+	public void setServerRegionShortcut(RegionShortcut shortcut) {
+		this.serverRegionShortcut = shortcut;
+	}
+
+	/**
+	 * Gets the {@link RegionShortcut} used to configure the data management policy of the {@link Cache} {@link Region}
+	 * that will store {@link Session} state.
+	 *
+	 * Defaults to {@link RegionShortcut#PARTITION}.
+	 *
+	 * @return the {@link RegionShortcut} used to configure the data management policy
+	 * of the {@link Cache} {@link Region}.
+	 * @see org.apache.geode.cache.RegionShortcut
+	 */
+	protected RegionShortcut getServerRegionShortcut() {
+		return Optional.ofNullable(this.serverRegionShortcut).orElse(DEFAULT_SERVER_REGION_SHORTCUT);
+	}
+
+	/**
+	 * Sets the {@link EvictionActionType action} taken by the server {@link Region} used to store {@link Session}
+	 * state when an entry is evicted.
+	 *
+	 * @param evictionAction {@link EvictionActionType} taken when a {@link Session} is evicted.
+	 * @see EnableGemFireHttpSession#evictionAction()
+	 * @see org.springframework.data.gemfire.eviction.EvictionActionType
+	 */
+	public void setEvictionAction(EvictionActionType evictionAction) {
+		this.evictionAction = evictionAction;
+	}
+
+	/**
+	 * Gets the {@link EvictionActionType action} taken by the server {@link Region} used to store {@link Session}
+	 * state when an entry is evicted.
+	 *
+	 * Defaults to {@link EvictionActionType#OVERFLOW_TO_DISK}.
+	 *
+	 * @return the {@link EvictionActionType} taken when a {@link Session} is evicted.
+	 * @see org.springframework.data.gemfire.eviction.EvictionActionType
+	 */
+	protected EvictionActionType getEvictionAction() {
+		return Optional.ofNullable(this.evictionAction).orElse(DEFAULT_EVICTION_ACTION);
+	}
+
+	/**
+	 * Sets the {@link EvictionPolicyType policy} used to evict {@link Session Sessions} from the cache {@link Region}
+	 * used to store {@link Session} state.
+	 *
+	 * @param evictionPolicy {@link EvictionPolicyType} used to evict {@link Session Sessions}.
+	 * @see EnableGemFireHttpSession#evictionPolicy()
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 */
+	public void setEvictionPolicy(EvictionPolicyType evictionPolicy) {
+		this.evictionPolicy = evictionPolicy;
+	}
+
+	/**
+	 * Gets the {@link EvictionPolicyType policy} used to evict {@link Session Sessions} from the cache {@link Region}
+	 * used to store {@link Session} state.
+	 *
+	 * Defaults to {@link EvictionPolicyType#NONE}.
+	 *
+	 * @return the {@link EvictionPolicyType} used to evict {@link Session Sessions}.
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 */
+	protected EvictionPolicyType getEvictionPolicy() {
+		return Optional.ofNullable(this.evictionPolicy).orElse(DEFAULT_EVICTION_POLICY);
+	}
+
+	/**
+	 * Sets the eviction threshold, which is the maximum number of entries for {@link EvictionPolicyType#ENTRY_COUNT}
+	 * and the maximum size in megabytes for {@link EvictionPolicyType#MEMORY_SIZE}.
+	 *
+	 * @param evictionThreshold integer value specifying the eviction threshold; {@literal 0} or less uses
+	 * the Apache Geode default.
+	 * @see EnableGemFireHttpSession#evictionThreshold()
+	 */
+	public void setEvictionThreshold(int evictionThreshold) {
+		this.evictionThreshold = evictionThreshold;
+	}
+
+	/**
+	 * Gets the eviction threshold, which is the maximum number of entries for {@link EvictionPolicyType#ENTRY_COUNT}
+	 * and the maximum size in megabytes for {@link EvictionPolicyType#MEMORY_SIZE}.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * @return an integer value specifying the eviction threshold.
+	 */
+	protected int getEvictionThreshold() {
+		return this.evictionThreshold;
+	}
+
+	/**
+	 * Sets the maximum number of pending asynchronous writes queued by the {@link org.apache.geode.cache.DiskStore}
+	 * used to persist the server {@link Region} before writes block.
+	 *
+	 * @param diskQueueSize integer value specifying the maximum number of queued disk writes;
+	 * {@literal 0} is unbounded.
+	 * @see EnableGemFireHttpSession#diskQueueSize()
+	 */
+	public void setDiskQueueSize(int diskQueueSize) {
+		this.diskQueueSize = diskQueueSize;
+	}
+
+	/**
+	 * Gets the maximum number of pending asynchronous writes queued by the {@link org.apache.geode.cache.DiskStore}
+	 * used to persist the server {@link Region} before writes block.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @return an integer value specifying the maximum number of queued disk writes.
+	 */
+	protected int getDiskQueueSize() {
+		return this.diskQueueSize;
+	}
+
+	/**
+	 * Sets the maximum interval in milliseconds that asynchronous writes remain queued by
+	 * the {@link org.apache.geode.cache.DiskStore} used to persist the server {@link Region}.
+	 *
+	 * @param diskTimeIntervalInMilliseconds integer value specifying the maximum interval in milliseconds
+	 * before queued disk writes are flushed.
+	 * @see EnableGemFireHttpSession#diskTimeIntervalInMilliseconds()
+	 */
+	public void setDiskTimeIntervalInMilliseconds(int diskTimeIntervalInMilliseconds) {
+		this.diskTimeIntervalInMilliseconds = diskTimeIntervalInMilliseconds;
+	}
+
+	/**
+	 * Gets the maximum interval in milliseconds that asynchronous writes remain queued by
+	 * the {@link org.apache.geode.cache.DiskStore} used to persist the server {@link Region}.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 *
+	 * @return an integer value specifying the maximum interval in milliseconds before queued disk writes
+	 * are flushed.
+	 */
+	protected int getDiskTimeIntervalInMilliseconds() {
+		return this.diskTimeIntervalInMilliseconds;
+	}
+
+	/**
+	 * Sets the name of the {@link org.apache.geode.cache.DiskStore} used by the server {@link Region}
+	 * to overflow evicted {@link Session Sessions} to disk, or to persist {@link Session Sessions}.
+	 *
+	 * @param diskStoreName {@link String} containing the name of the {@link org.apache.geode.cache.DiskStore}.
+	 * @see EnableGemFireHttpSession#diskStoreName()
+	 */
+	public void setDiskStoreName(String diskStoreName) {
+		this.diskStoreName = diskStoreName;
+	}
+
+	/**
+	 * Returns the name of the {@link org.apache.geode.cache.DiskStore} used by the server {@link Region}
+	 * to overflow evicted {@link Session Sessions} to disk.
+	 *
+	 * @return the name of the {@link org.apache.geode.cache.DiskStore}, or {@literal null}
+	 * if no name was specified.
+	 */
+	protected String getDiskStoreName() {
+		return Optional.ofNullable(this.diskStoreName).filter(StringUtils::hasText).orElse(null);
+	}
+
+	/**
+	 * Sets the delay in milliseconds before redundancy of the partitioned server {@link Region} is recovered
+	 * after a member leaves.
+	 *
+	 * @param recoveryDelayInMilliseconds integer value specifying the recovery delay in milliseconds;
+	 * a negative value disables recovery.
+	 * @see EnableGemFireHttpSession#recoveryDelayInMilliseconds()
+	 */
+	public void setRecoveryDelayInMilliseconds(int recoveryDelayInMilliseconds) {
+		this.recoveryDelayInMilliseconds = recoveryDelayInMilliseconds;
+	}
+
+	/**
+	 * Gets the delay in milliseconds before redundancy of the partitioned server {@link Region} is recovered
+	 * after a member leaves.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * @return an integer value specifying the recovery delay in milliseconds.
+	 */
+	protected int getRecoveryDelayInMilliseconds() {
+		return this.recoveryDelayInMilliseconds;
+	}
+
+	/**
+	 * Sets the number of redundant copies of each {@link Session} in the partitioned server {@link Region}.
+	 *
+	 * @param redundantCopies integer value specifying the number of redundant copies; a negative value
+	 * uses the redundancy of the {@link RegionShortcut}.
+	 * @see EnableGemFireHttpSession#redundantCopies()
+	 */
+	public void setRedundantCopies(int redundantCopies) {
+		this.redundantCopies = redundantCopies;
+	}
+
+	/**
+	 * Gets the number of redundant copies of each {@link Session} in the partitioned server {@link Region}.
+	 *
+	 * Defaults to {@literal -1}, using the redundancy of the {@link RegionShortcut}.
+	 *
+	 * @return an integer value specifying the number of redundant copies.
+	 */
+	protected int getRedundantCopies() {
+		return this.redundantCopies;
+	}
+
+	/**
+	 * Sets the delay in milliseconds before redundancy of the partitioned server {@link Region} is recovered
+	 * after a member joins.
+	 *
+	 * @param startupRecoveryDelayInMilliseconds integer value specifying the startup recovery delay
+	 * in milliseconds; a negative value disables recovery.
+	 * @see EnableGemFireHttpSession#startupRecoveryDelayInMilliseconds()
+	 */
+	public void setStartupRecoveryDelayInMilliseconds(int startupRecoveryDelayInMilliseconds) {
+		this.startupRecoveryDelayInMilliseconds = startupRecoveryDelayInMilliseconds;
+	}
+
+	/**
+	 * Gets the delay in milliseconds before redundancy of the partitioned server {@link Region} is recovered
+	 * after a member joins.
+	 *
+	 * Defaults to {@literal 0} (immediately).
+	 *
+	 * @return an integer value specifying the startup recovery delay in milliseconds.
+	 */
+	protected int getStartupRecoveryDelayInMilliseconds() {
+		return this.startupRecoveryDelayInMilliseconds;
+	}
+
+	/**
+	 * Sets the total number of buckets of the partitioned server {@link Region}.
+	 *
+	 * @param totalNumberOfBuckets integer value specifying the total number of buckets.
+	 * @see EnableGemFireHttpSession#totalNumberOfBuckets()
+	 */
+	public void setTotalNumberOfBuckets(int totalNumberOfBuckets) {
+		this.totalNumberOfBuckets = totalNumberOfBuckets;
+	}
+
+	/**
+	 * Gets the total number of buckets of the partitioned server {@link Region}.
+	 *
+	 * Defaults to {@literal 113}.
+	 *
+	 * @return an integer value specifying the total number of buckets.
+	 */
+	protected int getTotalNumberOfBuckets() {
+		return this.totalNumberOfBuckets;
+	}
+
+	/**
+	 * Sets the name of the (Client)Cache {@link Region} used to store {@link Session} state.
+	 *
+	 * @param sessionRegionName {@link String} specifying the name of the (Client)Cache {@link Region}
+	 * used to store {@link Session} state.
+	 * @see EnableGemFireHttpSession#regionName()
+	 */
+	public void setSessionRegionName(String sessionRegionName) {
+		this.sessionRegionName = sessionRegionName;
+	}
+
+	/**
+	 * Returns the name of the (Client)Cache {@link Region} used to store {@link Session} state.
+	 *
+	 * @return a {@link String} specifying the name of the (Client)Cache {@link Region}
+	 * used to store {@link Session} state.
+	 * @see org.apache.geode.cache.Region#getName()
+	 */
+	protected String getSessionRegionName() {
+		return Optional.ofNullable(this.sessionRegionName).filter(StringUtils::hasText)
+			.orElse(DEFAULT_SESSION_REGION_NAME);
+	}
+
+	/**
+	 * Sets the {@link String bean name} of the Spring bean declared in the Spring application context
+	 * defining the serialization strategy for serializing the {@link Session}.
+	 *
+	 * The serialization strategy and bean referred to by its name must be an implementation of
+	 * {@link SessionSerializer}.
+	 *
+	 * Defaults to {@literal SessionDataSerializer}.
+	 *
+	 * @param sessionSerializerBeanName {@link String bean name} of the {@link SessionSerializer} used to
+	 * serialize the {@link Session}.
+	 * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
+	 */
+	public void setSessionSerializerBeanName(String sessionSerializerBeanName) {
+		this.sessionSerializerBeanName = sessionSerializerBeanName;
+	}
+
+	/**
+	 * Returns the configured {@link String bean name} of the Spring bean declared in the Spring application context
+	 * defining the serialization strategy for serializing the {@link Session}.
+	 *
+	 * The serialization strategy and bean referred to by its name must be an implementation of
+	 * {@link SessionSerializer}.
+	 *
+	 * Defaults to {@literal SessionDataSerializer}.
+	 *
+	 * @return the {@link String bean name} of the {@link SessionSerializer} used to serialize the {@link Session}.
+	 * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
+	 */
+	protected String getSessionSerializerBeanName() {
+		return Optional.ofNullable(this.sessionSerializerBeanName).filter(StringUtils::hasText)
+			.orElse(DEFAULT_SESSION_SERIALIZER_BEAN_NAME);
+	}
+
+	/**
+	 * Determine whether the configured serialization strategy is using Apache Geode / Pivotal GemFire's
+	 * DataSerialization framework.
+	 *
+	 * @return a boolean value indicating whether the configured serialization strategy is using Apache Geode
+	 * / Pivotal GemFire's DataSerialization framework.
+	 * @see #getSessionSerializerBeanName()
+	 */
+	protected boolean isUsingDataSerialization() {
+		return SESSION_DATA_SERIALIZER_BEAN_NAME.equals(getSessionSerializerBeanName());
+	}
+
+	/**
+	 * Sets the action performed when a {@link Session} exceeds the limits when it is saved.
+	 *
+	 * @param sessionSizeViolationAction {@link SessionSizeGuardrail.ViolationAction} performed
+	 * when a {@link Session} is too large.
+	 * @see EnableGemFireHttpSession#sessionSizeViolationAction()
+	 */
+	public void setSessionSizeViolationAction(SessionSizeGuardrail.ViolationAction sessionSizeViolationAction) {
+		this.sessionSizeViolationAction = sessionSizeViolationAction;
+	}
+
+	/**
+	 * Gets the action performed when a {@link Session} exceeds the limits when it is saved.
+	 *
+	 * Defaults to {@link SessionSizeGuardrail.ViolationAction#WARN}.
+	 *
+	 * @return the {@link SessionSizeGuardrail.ViolationAction} performed when a {@link Session} is too large.
+	 */
+	protected SessionSizeGuardrail.ViolationAction getSessionSizeViolationAction() {
+		return Optional.ofNullable(this.sessionSizeViolationAction).orElse(DEFAULT_SESSION_SIZE_VIOLATION_ACTION);
+	}
+
+	/**
+	 * Sets whether statistics about {@link Session} operations are recorded.
+	 *
+	 * @param sessionStatisticsEnabled boolean indicating whether statistics about {@link Session} operations
+	 * are recorded.
+	 * @see EnableGemFireHttpSession#sessionStatisticsEnabled()
+	 */
+	public void setSessionStatisticsEnabled(boolean sessionStatisticsEnabled) {
+		this.sessionStatisticsEnabled = sessionStatisticsEnabled;
+	}
+
+	/**
+	 * Determines whether statistics about {@link Session} operations are recorded.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether statistics about {@link Session} operations are recorded.
+	 */
+	protected boolean isSessionStatisticsEnabled() {
+		return this.sessionStatisticsEnabled;
+	}
+
+	/**
+	 * Callback with the {@link AnnotationMetadata} of the class containing {@link Import @Import} annotation
+	 * that imported this {@link Configuration @Configuration} class.
+	 *
+	 * @param importMetadata {@link AnnotationMetadata} of the application class importing
+	 * this {@link Configuration} class.
+	 * @see org.springframework.core.type.AnnotationMetadata
+	 */
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableGemFireHttpSessionAttributes =
+			AnnotationAttributes.fromMap(importMetadata.getAnnotationAttributes(
+				EnableGemFireHttpSession.class.getName()));
+
+		boolean defaultBackgroundIndexCreation =
+			enableGemFireHttpSessionAttributes.getBoolean("backgroundIndexCreation");
+
+		setBackgroundIndexCreation(resolveProperty(backgroundIndexCreationPropertyName(),
+			defaultBackgroundIndexCreation));
+
+		boolean defaultDeferredIndexCreation = enableGemFireHttpSessionAttributes.getBoolean("deferredIndexCreation");
+
+		setDeferredIndexCreation(resolveProperty(deferredIndexCreationPropertyName(), defaultDeferredIndexCreation));
+
+		boolean defaultDirectRegionAccess = enableGemFireHttpSessionAttributes.getBoolean("directRegionAccess");
+
+		setDirectRegionAccess(resolveProperty(directRegionAccessPropertyName(), defaultDirectRegionAccess));
+
+		boolean defaultChangeSessionIdOnServer =
+			enableGemFireHttpSessionAttributes.getBoolean("changeSessionIdOnServer");
+
+		setChangeSessionIdOnServer(resolveProperty(changeSessionIdOnServerPropertyName(),
+			defaultChangeSessionIdOnServer));
+
+		SessionEventType[] defaultContinuousQuerySessionEvents = (SessionEventType[])
+			enableGemFireHttpSessionAttributes.get("continuousQuerySessionEvents");
+
+		setContinuousQuerySessionEvents(resolveProperty(continuousQuerySessionEventsPropertyName(),
+			SessionEventType[].class, defaultContinuousQuerySessionEvents));
+
+		String defaultContinuousQuerySessionEventFilter =
+			enableGemFireHttpSessionAttributes.getString("continuousQuerySessionEventFilter");
+
+		setContinuousQuerySessionEventFilter(resolveProperty(continuousQuerySessionEventFilterPropertyName(),
+			defaultContinuousQuerySessionEventFilter));
+
+		ClientRegionShortcut defaultClientRegionShortcut =
+			enableGemFireHttpSessionAttributes.getEnum("clientRegionShortcut");
+
+		setClientRegionShortcut(resolveProperty(clientRegionShortcutPropertyName(),
+			ClientRegionShortcut.class, defaultClientRegionShortcut));
+
+		Integer defaultDiskQueueSize = enableGemFireHttpSessionAttributes.getNumber("diskQueueSize").intValue();
+
+		setDiskQueueSize(resolveProperty(diskQueueSizePropertyName(), defaultDiskQueueSize));
+
+		String defaultDiskStoreName = enableGemFireHttpSessionAttributes.getString("diskStoreName");
+
+		setDiskStoreName(resolveProperty(diskStoreNamePropertyName(), defaultDiskStoreName));
+
+		Integer defaultDiskTimeIntervalInMilliseconds =
+			enableGemFireHttpSessionAttributes.getNumber("diskTimeIntervalInMilliseconds").intValue();
+
+		setDiskTimeIntervalInMilliseconds(resolveProperty(diskTimeIntervalInMillisecondsPropertyName(),
+			defaultDiskTimeIntervalInMilliseconds));
+
+		EvictionActionType defaultEvictionAction = enableGemFireHttpSessionAttributes.getEnum("evictionAction");
+
+		setEvictionAction(resolveEnumeratedProperty(evictionActionPropertyName(),
+			EvictionActionType.class, defaultEvictionAction));
+
+		EvictionPolicyType defaultEvictionPolicy = enableGemFireHttpSessionAttributes.getEnum("evictionPolicy");
+
+		setEvictionPolicy(resolveEnumeratedProperty(evictionPolicyPropertyName(),
+			EvictionPolicyType.class, defaultEvictionPolicy));
+
+		Integer defaultEvictionThreshold =
+			enableGemFireHttpSessionAttributes.getNumber("evictionThreshold").intValue();
+
+		setEvictionThreshold(resolveProperty(evictionThresholdPropertyName(), defaultEvictionThreshold));
+
+		Integer defaultExpirationSweepIntervalInMilliseconds = enableGemFireHttpSessionAttributes
+			.getNumber("expirationSweepIntervalInMilliseconds").intValue();
+
+		setExpirationSweepIntervalInMilliseconds(resolveProperty(
+			expirationSweepIntervalInMillisecondsPropertyName(), defaultExpirationSweepIntervalInMilliseconds));
+
+		Integer defaultExpiredSessionDeletionIntervalInMilliseconds = enableGemFireHttpSessionAttributes
+			.getNumber("expiredSessionDeletionIntervalInMilliseconds").intValue();
+
+		setExpiredSessionDeletionIntervalInMilliseconds(resolveProperty(
+			expiredSessionDeletionIntervalInMillisecondsPropertyName(),
+				defaultExpiredSessionDeletionIntervalInMilliseconds));
+
+		String[] defaultIndexableSessionAttributes =
+			enableGemFireHttpSessionAttributes.getStringArray("indexableSessionAttributes");
 
 		setIndexableSessionAttributes(resolveProperty(indexableSessionAttributesPropertyName(),
 			defaultIndexableSessionAttributes));
 
+		boolean defaultIndividualSessionAttributeIndexes =
+			enableGemFireHttpSessionAttributes.getBoolean("individualSessionAttributeIndexes");
+
+		setIndividualSessionAttributeIndexes(resolveProperty(individualSessionAttributeIndexesPropertyName(),
+			defaultIndividualSessionAttributeIndexes));
+
+		IndexType defaultSessionAttributeIndexType =
+			enableGemFireHttpSessionAttributes.getEnum("sessionAttributeIndexType");
+
+		setSessionAttributeIndexType(resolveEnumeratedProperty(sessionAttributeIndexTypePropertyName(),
+			IndexType.class, defaultSessionAttributeIndexType));
+
 		Integer defaultMaxInactiveIntervalInSeconds =
 			enableGemFireHttpSessionAttributes.getNumber("maxInactiveIntervalInSeconds").intValue();
 
 		setMaxInactiveIntervalInSeconds(resolveProperty(maxInactiveIntervalInSecondsPropertyName(),
 			defaultMaxInactiveIntervalInSeconds));
 
+		Integer defaultMaxSessionAttributes =
+			enableGemFireHttpSessionAttributes.getNumber("maxSessionAttributes").intValue();
+
+		setMaxSessionAttributes(resolveProperty(maxSessionAttributesPropertyName(), defaultMaxSessionAttributes));
+
+		Integer defaultMaxSessionSizeInBytes =
+			enableGemFireHttpSessionAttributes.getNumber("maxSessionSizeInBytes").intValue();
+
+		setMaxSessionSizeInBytes(resolveProperty(maxSessionSizeInBytesPropertyName(), defaultMaxSessionSizeInBytes));
+
+		boolean defaultOffHeap = enableGemFireHttpSessionAttributes.getBoolean("offHeap");
+
+		setOffHeap(resolveProperty(offHeapPropertyName(), defaultOffHeap));
+
+		boolean defaultOptimisticConcurrency = enableGemFireHttpSessionAttributes.getBoolean("optimisticConcurrency");
+
+		setOptimisticConcurrency(resolveProperty(optimisticConcurrencyPropertyName(), defaultOptimisticConcurrency));
+
+		boolean defaultPersistent = enableGemFireHttpSessionAttributes.getBoolean("persistent");
+
+		setPersistent(resolveProperty(persistentPropertyName(), defaultPersistent));
+
 		String defaultPoolName = enableGemFireHttpSessionAttributes.getString("poolName");
 
 		setPoolName(resolveProperty(poolNamePropertyName(), defaultPoolName));
 
+		boolean defaultDedicatedPool = enableGemFireHttpSessionAttributes.getBoolean("dedicatedPool");
+
+		setDedicatedPool(resolveProperty(dedicatedPoolPropertyName(), defaultDedicatedPool));
+
+		Integer defaultPoolIdleTimeoutInMilliseconds =
+			enableGemFireHttpSessionAttributes.getNumber("poolIdleTimeoutInMilliseconds").intValue();
+
+		setPoolIdleTimeoutInMilliseconds(resolveProperty(poolIdleTimeoutInMillisecondsPropertyName(),
+			defaultPoolIdleTimeoutInMilliseconds));
+
+		Integer defaultPoolMaxConnections =
+			enableGemFireHttpSessionAttributes.getNumber("poolMaxConnections").intValue();
+
+		setPoolMaxConnections(resolveProperty(poolMaxConnectionsPropertyName(), defaultPoolMaxConnections));
+
+		Integer defaultPoolMinConnections =
+			enableGemFireHttpSessionAttributes.getNumber("poolMinConnections").intValue();
+
+		setPoolMinConnections(resolveProperty(poolMinConnectionsPropertyName(), defaultPoolMinConnections));
+
+		boolean defaultPoolPrSingleHopEnabled = enableGemFireHttpSessionAttributes.getBoolean("poolPrSingleHopEnabled");
+
+		setPoolPrSingleHopEnabled(resolveProperty(poolPrSingleHopEnabledPropertyName(),
+			defaultPoolPrSingleHopEnabled));
+
+		Integer defaultPoolReadTimeoutInMilliseconds =
+			enableGemFireHttpSessionAttributes.getNumber("poolReadTimeoutInMilliseconds").intValue();
+
+		setPoolReadTimeoutInMilliseconds(resolveProperty(poolReadTimeoutInMillisecondsPropertyName(),
+			defaultPoolReadTimeoutInMilliseconds));
+
+		Integer defaultPoolRetryAttempts =
+			enableGemFireHttpSessionAttributes.getNumber("poolRetryAttempts").intValue();
+
+		setPoolRetryAttempts(resolveProperty(poolRetryAttemptsPropertyName(), defaultPoolRetryAttempts));
+
+		Integer defaultPoolSubscriptionRedundancy =
+			enableGemFireHttpSessionAttributes.getNumber("poolSubscriptionRedundancy").intValue();
+
+		setPoolSubscriptionRedundancy(resolveProperty(poolSubscriptionRedundancyPropertyName(),
+			defaultPoolSubscriptionRedundancy));
+
+		boolean defaultPrincipalNameRouting = enableGemFireHttpSessionAttributes.getBoolean("principalNameRouting");
+
+		setPrincipalNameRouting(resolveProperty(principalNameRoutingPropertyName(), defaultPrincipalNameRouting));
+
+		Boolean defaultPublishEventsFromPrimaryOnly =
+			enableGemFireHttpSessionAttributes.getBoolean("publishEventsFromPrimaryOnly");
+
+		setPublishEventsFromPrimaryOnly(resolveProperty(publishEventsFromPrimaryOnlyPropertyName(),
+			defaultPublishEventsFromPrimaryOnly));
+
 		String defaultSessionRegionName = enableGemFireHttpSessionAttributes.getString("regionName");
 
 		setSessionRegionName(resolveProperty(sessionRegionNamePropertyName(), defaultSessionRegionName));
 
+		Integer defaultRecoveryDelayInMilliseconds =
+			enableGemFireHttpSessionAttributes.getNumber("recoveryDelayInMilliseconds").intValue();
+
+		setRecoveryDelayInMilliseconds(resolveProperty(recoveryDelayInMillisecondsPropertyName(),
+			defaultRecoveryDelayInMilliseconds));
+
+		Integer defaultRedundantCopies = enableGemFireHttpSessionAttributes.getNumber("redundantCopies").intValue();
+
+		setRedundantCopies(resolveProperty(redundantCopiesPropertyName(), defaultRedundantCopies));
+
 		RegionShortcut defaultServerRegionShortcut =
 			enableGemFireHttpSessionAttributes.getEnum("serverRegionShortcut");
 
 		setServerRegionShortcut(resolveProperty(serverRegionShortcutPropertyName(),
 			RegionShortcut.class, defaultServerRegionShortcut));
 
+		String defaultSessionIdGeneratorBeanName =
+			enableGemFireHttpSessionAttributes.getString("sessionIdGeneratorBeanName");
+
+		setSessionIdGeneratorBeanName(resolveProperty(sessionIdGeneratorBeanNamePropertyName(),
+			defaultSessionIdGeneratorBeanName));
+
+		Integer defaultSessionLookupCoalescingWindowInMilliseconds = enableGemFireHttpSessionAttributes
+			.getNumber("sessionLookupCoalescingWindowInMilliseconds").intValue();
+
+		setSessionLookupCoalescingWindowInMilliseconds(resolveProperty(
+			sessionLookupCoalescingWindowInMillisecondsPropertyName(),
+				defaultSessionLookupCoalescingWindowInMilliseconds));
+
 		String defaultSessionSerializerBeanName =
 			enableGemFireHttpSessionAttributes.getString("sessionSerializerBeanName");
 
 		setSessionSerializerBeanName(resolveProperty(sessionSerializerBeanNamePropertyName(),
 			defaultSessionSerializerBeanName));
 
+		SessionSizeGuardrail.ViolationAction defaultSessionSizeViolationAction =
+			enableGemFireHttpSessionAttributes.getEnum("sessionSizeViolationAction");
+
+		setSessionSizeViolationAction(resolveEnumeratedProperty(sessionSizeViolationActionPropertyName(),
+			SessionSizeGuardrail.ViolationAction.class, defaultSessionSizeViolationAction));
+
+		boolean defaultSessionStatisticsEnabled =
+			enableGemFireHttpSessionAttributes.getBoolean("sessionStatisticsEnabled");
+
+		setSessionStatisticsEnabled(resolveProperty(sessionStatisticsEnabledPropertyName(),
+			defaultSessionStatisticsEnabled));
+
+		Integer defaultStartupRecoveryDelayInMilliseconds =
+			enableGemFireHttpSessionAttributes.getNumber("startupRecoveryDelayInMilliseconds").intValue();
+
+		setStartupRecoveryDelayInMilliseconds(resolveProperty(startupRecoveryDelayInMillisecondsPropertyName(),
+			defaultStartupRecoveryDelayInMilliseconds));
+
+		Boolean defaultTargetedInterestRegistration =
+			enableGemFireHttpSessionAttributes.getBoolean("targetedInterestRegistration");
+
+		setTargetedInterestRegistration(resolveProperty(targetedInterestRegistrationPropertyName(),
+			defaultTargetedInterestRegistration));
+
+		Integer defaultTotalNumberOfBuckets =
+			enableGemFireHttpSessionAttributes.getNumber("totalNumberOfBuckets").intValue();
+
+		setTotalNumberOfBuckets(resolveProperty(totalNumberOfBucketsPropertyName(), defaultTotalNumberOfBuckets));
+
+		Integer defaultWriteBehindFlushIntervalInMilliseconds = enableGemFireHttpSessionAttributes
+			.getNumber("writeBehindFlushIntervalInMilliseconds").intValue();
+
+		setWriteBehindFlushIntervalInMilliseconds(resolveProperty(writeBehindFlushIntervalInMillisecondsPropertyName(),
+			defaultWriteBehindFlushIntervalInMilliseconds));
+
+		Integer defaultWriteBehindQueueCapacity =
+			enableGemFireHttpSessionAttributes.getNumber("writeBehindQueueCapacity").intValue();
+
+		setWriteBehindQueueCapacity(resolveProperty(writeBehindQueueCapacityPropertyName(),
+			defaultWriteBehindQueueCapacity));
+
+		boolean defaultWriteOptimized = enableGemFireHttpSessionAttributes.getBoolean("writeOptimized");
+
+		setWriteOptimized(resolveProperty(writeOptimizedPropertyName(), defaultWriteOptimized));
+
 		applySpringSessionGemFireConfigurer();
 	}
 
 	private Optional<SpringSessionGemFireConfigurer> resolveSpringSessionGemFireConfigurer() {
+		return resolveOptionalBean(SpringSessionGemFireConfigurer.class);
+	}
+
+	private Optional<PrincipalNameResolver> resolvePrincipalNameResolver() {
+		return resolveOptionalBean(PrincipalNameResolver.class);
+	}
+
+	private Optional<SessionIdGenerator> resolveSessionIdGenerator() {
+
+		return Optional.ofNullable(getSessionIdGeneratorBeanName())
+			.map(beanName -> getApplicationContext().getBean(beanName, SessionIdGenerator.class))
+			.map(Optional::of)
+			.orElseGet(() -> resolveOptionalBean(SessionIdGenerator.class));
+	}
+
+	private <T> Optional<T> resolveOptionalBean(Class<T> beanType) {
 
 		try {
-			return Optional.of(getApplicationContext().getBean(SpringSessionGemFireConfigurer.class));
+			return Optional.ofNullable(getApplicationContext().getBean(beanType));
 		}
 		catch (BeansException cause) {
 
-			if (isCauseBecauseNoSpringSessionGemFireConfigurerPresent(cause)) {
+			if (isCauseBecauseNoBeanPresent(cause)) {
 				return Optional.empty();
 			}
 
@@ -432,20 +1947,73 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		}
 	}
 
-	private boolean isCauseBecauseNoSpringSessionGemFireConfigurerPresent(Exception cause) {
+	private boolean isClientCachePresent() {
+		return resolveOptionalBean(GemFireCache.class).filter(GemFireUtils::isClient).isPresent();
+	}
+
+	private boolean isPeerCachePresent() {
+		return resolveOptionalBean(GemFireCache.class).filter(GemFireUtils::isPeer).isPresent();
+	}
+
+	private boolean isCauseBecauseNoBeanPresent(Exception cause) {
 		return (!(cause instanceof NoUniqueBeanDefinitionException) && cause instanceof NoSuchBeanDefinitionException);
 	}
 
 	private void applySpringSessionGemFireConfigurer() {
 
 		resolveSpringSessionGemFireConfigurer().ifPresent(configurer -> {
+			setBackgroundIndexCreation(configurer.getBackgroundIndexCreation());
+			setChangeSessionIdOnServer(configurer.getChangeSessionIdOnServer());
+			setDeferredIndexCreation(configurer.getDeferredIndexCreation());
+			setDirectRegionAccess(configurer.getDirectRegionAccess());
 			setClientRegionShortcut(configurer.getClientRegionShortcut());
+			setContinuousQuerySessionEventFilter(configurer.getContinuousQuerySessionEventFilter());
+			setContinuousQuerySessionEvents(configurer.getContinuousQuerySessionEvents());
+			setDiskQueueSize(configurer.getDiskQueueSize());
+			setDiskStoreName(configurer.getDiskStoreName());
+			setDiskTimeIntervalInMilliseconds(configurer.getDiskTimeIntervalInMilliseconds());
+			setEvictionAction(configurer.getEvictionAction());
+			setEvictionPolicy(configurer.getEvictionPolicy());
+			setEvictionThreshold(configurer.getEvictionThreshold());
+			setExpirationSweepIntervalInMilliseconds(configurer.getExpirationSweepIntervalInMilliseconds());
+			setExpiredSessionDeletionIntervalInMilliseconds(
+				configurer.getExpiredSessionDeletionIntervalInMilliseconds());
 			setIndexableSessionAttributes(configurer.getIndexableSessionAttributes());
+			setIndividualSessionAttributeIndexes(configurer.getIndividualSessionAttributeIndexes());
+			setSessionAttributeIndexType(configurer.getSessionAttributeIndexType());
 			setMaxInactiveIntervalInSeconds(configurer.getMaxInactiveIntervalInSeconds());
+			setMaxSessionAttributes(configurer.getMaxSessionAttributes());
+			setMaxSessionSizeInBytes(configurer.getMaxSessionSizeInBytes());
+			setOffHeap(configurer.getOffHeap());
+			setOptimisticConcurrency(configurer.getOptimisticConcurrency());
+			setPersistent(configurer.getPersistent());
 			setPoolName(configurer.getPoolName());
+			setDedicatedPool(configurer.getDedicatedPool());
+			setPoolIdleTimeoutInMilliseconds(configurer.getPoolIdleTimeoutInMilliseconds());
+			setPoolMaxConnections(configurer.getPoolMaxConnections());
+			setPoolMinConnections(configurer.getPoolMinConnections());
+			setPoolPrSingleHopEnabled(configurer.getPoolPrSingleHopEnabled());
+			setPoolReadTimeoutInMilliseconds(configurer.getPoolReadTimeoutInMilliseconds());
+			setPoolRetryAttempts(configurer.getPoolRetryAttempts());
+			setPoolSubscriptionRedundancy(configurer.getPoolSubscriptionRedundancy());
+			setPrincipalNameRouting(configurer.getPrincipalNameRouting());
+			setPublishEventsFromPrimaryOnly(configurer.getPublishEventsFromPrimaryOnly());
+			setRecoveryDelayInMilliseconds(configurer.getRecoveryDelayInMilliseconds());
+			setRedundantCopies(configurer.getRedundantCopies());
 			setServerRegionShortcut(configurer.getServerRegionShortcut());
+			setSessionIdGeneratorBeanName(configurer.getSessionIdGeneratorBeanName());
 			setSessionRegionName(configurer.getRegionName());
+			setSessionLookupCoalescingWindowInMilliseconds(
+				configurer.getSessionLookupCoalescingWindowInMilliseconds());
 			setSessionSerializerBeanName(configurer.getSessionSerializerBeanName());
+			setSessionSizeViolationAction(configurer.getSessionSizeViolationAction());
+			setSessionStatisticsEnabled(configurer.getSessionStatisticsEnabled());
+			setStartupRecoveryDelayInMilliseconds(configurer.getStartupRecoveryDelayInMilliseconds());
+			setTargetedInterestRegistration(configurer.getTargetedInterestRegistration());
+			setTotalNumberOfBuckets(configurer.getTotalNumberOfBuckets());
+			setWriteBehindFlushIntervalInMilliseconds(configurer.getWriteBehindFlushIntervalInMilliseconds());
+			setWriteBehindQueueCapacity(configurer.getWriteBehindQueueCapacity());
+			setWriteOptimized(configurer.getWriteOptimized());
 		});
 	}
 
@@ -514,9 +2082,51 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		return new DataSerializableSessionSerializer();
 	}
 
-	@Bean(SESSION_PDX_SERIALIZER_BEAN_NAME)
-	public Object sessionPdxSerializer() {
-		return new PdxSerializableSessionSerializer();
+	@Bean(SESSION_PDX_SERIALIZER_BEAN_NAME)
+	public Object sessionPdxSerializer() {
+		return new PdxSerializableSessionSerializer();
+	}
+
+	/**
+	 * Defines the {@link SessionSizeGuardrail} limiting the number of attributes and the size of the {@link Session}
+	 * state saved by the {@link GemFireOperationsSessionRepository}.
+	 *
+	 * The limits are enforced by the {@link GemFireOperationsSessionRepository} on the client, or peer, saving
+	 * the {@link Session}.  The bean exposes the violation count and the largest {@link Session} attributes
+	 * to the application.
+	 *
+	 * @return the {@link SessionSizeGuardrail} in use.
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail
+	 * @see #getMaxSessionAttributes()
+	 * @see #getMaxSessionSizeInBytes()
+	 * @see #getSessionSizeViolationAction()
+	 */
+	@Bean
+	public SessionSizeGuardrail sessionSizeGuardrail() {
+
+		return new SessionSizeGuardrail(getMaxSessionAttributes(), getMaxSessionSizeInBytes(),
+			getSessionSizeViolationAction());
+	}
+
+	/**
+	 * Defines the {@link SessionOperationStatistics} recording statistics about {@link Session} operations
+	 * with Apache Geode / Pivotal GemFire {@link org.apache.geode.Statistics} created by the
+	 * {@link org.apache.geode.distributed.DistributedSystem} of the client or peer {@link GemFireCache},
+	 * so that the statistics are sampled and archived with the cache statistics.
+	 *
+	 * No statistics are recorded unless {@link #isSessionStatisticsEnabled() enabled}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link SessionOperationStatistics} in use.
+	 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+	 * @see #isSessionStatisticsEnabled()
+	 */
+	@Bean(destroyMethod = "close")
+	public SessionOperationStatistics sessionOperationStatistics(GemFireCache gemfireCache) {
+
+		return isSessionStatisticsEnabled()
+			? SessionOperationStatistics.create(gemfireCache.getDistributedSystem(), getSessionRegionName())
+			: SessionOperationStatistics.NONE;
 	}
 
 	/**
@@ -530,11 +2140,13 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * @see org.apache.geode.cache.GemFireCache
 	 * @see org.apache.geode.cache.RegionAttributes
 	 * @see #getClientRegionShortcut()
-	 * @see #getPoolName()
+	 * @see #resolvePoolName(GemFireCache)
 	 * @see #getServerRegionShortcut()
 	 * @see #getSessionRegionName()
+	 * @see #sessionPool(GemFireCache)
 	 */
 	@Bean(name = DEFAULT_SESSION_REGION_NAME)
+	@DependsOn(SESSION_POOL_BEAN_NAME)
 	public GemFireCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegion(GemFireCache gemfireCache,
 			@Qualifier("sessionRegionAttributes") RegionAttributes<Object, Session> sessionRegionAttributes) {
 
@@ -544,19 +2156,136 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		sessionRegion.setAttributes(sessionRegionAttributes);
 		sessionRegion.setCache(gemfireCache);
 		sessionRegion.setClientRegionShortcut(getClientRegionShortcut());
-		sessionRegion.setPoolName(getPoolName());
+		sessionRegion.setPoolName(resolvePoolName(gemfireCache));
 		sessionRegion.setRegionName(getSessionRegionName());
-		sessionRegion.setServerRegionShortcut(getServerRegionShortcut());
+		sessionRegion.setServerRegionShortcut(resolveServerRegionShortcut(gemfireCache));
+		sessionRegion.setTargetedInterestRegistration(isTargetedInterestRegistrationEnabled());
+		sessionRegion.setContinuousQuerySessionEvents(isContinuousQuerySessionEventsEnabled());
 
 		return sessionRegion;
 	}
 
+	/**
+	 * Resolves the name of the {@link Pool} used by the client {@link Region} to send {@link Session} state
+	 * to the servers, which is the dedicated {@link Pool} when allowed, or the {@link #getPoolName() named Pool}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the name of the {@link Pool} used by the client {@link Region}.
+	 * @see #sessionPool(GemFireCache)
+	 * @see #isDedicatedPoolAllowed(GemFireCache)
+	 * @see #getPoolName()
+	 */
+	String resolvePoolName(GemFireCache gemfireCache) {
+		return isDedicatedPoolAllowed(gemfireCache) ? SESSION_POOL_BEAN_NAME : getPoolName();
+	}
+
+	/**
+	 * Determines whether the client {@link Region} uses a dedicated {@link Pool}.
+	 *
+	 * A dedicated {@link Pool} is only used by a non-{@literal LOCAL} {@link Region} on a {@link ClientCache}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if the client {@link Region} uses a dedicated {@link Pool}.
+	 * @see GemFireUtils#isClient(GemFireCache)
+	 * @see GemFireUtils#isLocal(ClientRegionShortcut)
+	 * @see #isDedicatedPool()
+	 */
+	boolean isDedicatedPoolAllowed(GemFireCache gemfireCache) {
+
+		return isDedicatedPool()
+			&& GemFireUtils.isClient(gemfireCache)
+			&& !GemFireUtils.isLocal(getClientRegionShortcut());
+	}
+
+	/**
+	 * Defines the dedicated {@link Pool} used by the client {@link Region} to send {@link Session} state
+	 * to the servers.
+	 *
+	 * The dedicated {@link Pool} connects to the same locators or servers, in the same server group and
+	 * with the same subscription as the {@link #getPoolName() named Pool}, or the {@literal DEFAULT} {@link Pool}
+	 * of the {@link ClientCache} when no {@link Pool} with that name exists.
+	 *
+	 * The {@link Pool} is only defined when {@link #isDedicatedPoolAllowed(GemFireCache) allowed}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link PoolFactoryBean} creating the {@link Pool} named {@link #SESSION_POOL_BEAN_NAME},
+	 * or {@literal null} if no dedicated {@link Pool} is used.
+	 * @throws IllegalStateException if no {@link Pool} to connect to the servers is found.
+	 * @see org.springframework.data.gemfire.client.PoolFactoryBean
+	 * @see #isDedicatedPoolAllowed(GemFireCache)
+	 */
+	@Bean(SESSION_POOL_BEAN_NAME)
+	public PoolFactoryBean sessionPool(GemFireCache gemfireCache) {
+
+		if (isDedicatedPoolAllowed(gemfireCache)) {
+
+			Pool pool = Optional.ofNullable(findPool(getPoolName()))
+				.orElseGet(((ClientCache) gemfireCache)::getDefaultPool);
+
+			if (pool == null) {
+				throw newIllegalStateException("No Pool [%1$s] found to connect the Session Pool [%2$s] to the servers",
+					getPoolName(), SESSION_POOL_BEAN_NAME);
+			}
+
+			PoolFactoryBean sessionPool = new PoolFactoryBean();
+
+			sessionPool.setName(SESSION_POOL_BEAN_NAME);
+			sessionPool.setLocators(toConnectionEndpoints(pool.getLocators()));
+			sessionPool.setServers(toConnectionEndpoints(pool.getServers()));
+			sessionPool.setServerGroup(pool.getServerGroup());
+			sessionPool.setSubscriptionEnabled(pool.getSubscriptionEnabled());
+			sessionPool.setSubscriptionRedundancy(getPoolSubscriptionRedundancy());
+			sessionPool.setPrSingleHopEnabled(isPoolPrSingleHopEnabled());
+			sessionPool.setIdleTimeout(getPoolIdleTimeoutInMilliseconds());
+			sessionPool.setMaxConnections(getPoolMaxConnections());
+			sessionPool.setMinConnections(getPoolMinConnections());
+			sessionPool.setReadTimeout(getPoolReadTimeoutInMilliseconds());
+			sessionPool.setRetryAttempts(getPoolRetryAttempts());
+
+			return sessionPool;
+		}
+
+		return null;
+	}
+
+	private List<ConnectionEndpoint> toConnectionEndpoints(List<InetSocketAddress> socketAddresses) {
+
+		return Optional.ofNullable(socketAddresses).orElseGet(Collections::emptyList).stream()
+			.map(socketAddress -> new ConnectionEndpoint(socketAddress.getHostString(), socketAddress.getPort()))
+			.collect(Collectors.toList());
+	}
+
+	Pool findPool(String poolName) {
+		return PoolManager.find(poolName);
+	}
+
 	/**
 	 * Defines a {@link RegionAttributes} used to configure and initialize the cache {@link Region}
 	 * used to store {@link Session} state.
 	 *
 	 * Expiration is also configured for the {@link Region} on the basis that the cache {@link Region}
-	 * is a not a proxy on either the client or server.
+	 * is a not a proxy on either the client or server.  When {@link Session Sessions} are expired by
+	 * the {@link SessionExpirationSweeper} on the server, neither entry idle-timeout expiration
+	 * nor per-entry statistics are configured for the server {@link Region}.
+	 *
+	 * When configured, the server {@link Region} stores {@link Session Sessions} off-heap, in serialized form.
+	 *
+	 * When an {@link EvictionPolicyType eviction policy} is configured, least recently used {@link Session Sessions}
+	 * are evicted from a non-proxy {@link Region} using the configured {@link EvictionActionType action},
+	 * which overflows {@link Session Sessions} to disk on the server by default.  A client {@link Region}
+	 * locally destroys evicted {@link Session Sessions}, like {@link ClientRegionShortcut#CACHING_PROXY_HEAP_LRU},
+	 * since the servers remain the system of record.
+	 *
+	 * When configured, the server {@link Region} persists {@link Session Sessions} with asynchronous disk writes
+	 * to the {@link org.apache.geode.cache.DiskStore} with the configured name, or to the dedicated
+	 * {@link #sessionDiskStore(GemFireCache) session DiskStore}, which is referenced by name.
+	 *
+	 * A partitioned server {@link Region} is configured with the {@link PartitionAttributes}, including
+	 * the {@link PrincipalNamePartitionResolver} when {@link Session Sessions} are routed by principal name.
+	 *
+	 * When write-optimized, {@link org.apache.geode.cache.query.Index Indexes} are maintained asynchronously,
+	 * cloning and statistics are disabled, and concurrency checks are disabled when the {@link Region}
+	 * keeps a single copy of each {@link Session}.
 	 *
 	 * @param gemfireCache reference to the {@link GemFireCache}.
 	 * @return an instance of {@link RegionAttributes} used to configure and initialize cache {@link Region}
@@ -565,8 +2294,17 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * @see org.apache.geode.cache.GemFireCache
 	 * @see org.apache.geode.cache.PartitionAttributes
 	 * @see #isExpirationAllowed(GemFireCache)
+	 * @see #isExpirationSweepEnabled(GemFireCache)
+	 * @see #isEvictionAllowed(GemFireCache)
+	 * @see #isOffHeapAllowed(GemFireCache)
+	 * @see #isPartitionAllowed(GemFireCache)
+	 * @see #isPersistenceAllowed(GemFireCache)
+	 * @see #isConcurrencyChecksDisableAllowed(GemFireCache)
+	 * @see #isWriteOptimized()
+	 * @see #sessionDiskStore(GemFireCache)
 	 */
 	@Bean
+	@DependsOn(SESSION_DISK_STORE_BEAN_NAME)
 	@SuppressWarnings({ "unchecked", "deprecation" })
 	public RegionAttributesFactoryBean sessionRegionAttributes(GemFireCache gemfireCache) {
 
@@ -575,15 +2313,83 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		regionAttributes.setKeyConstraint(SESSION_REGION_KEY_CONSTRAINT);
 		regionAttributes.setValueConstraint(SESSION_REGION_VALUE_CONSTRAINT);
 
-		if (isExpirationAllowed(gemfireCache)) {
+		if (isExpirationAllowed(gemfireCache) && !isExpirationSweepEnabled(gemfireCache)) {
 			regionAttributes.setStatisticsEnabled(true);
 			regionAttributes.setEntryIdleTimeout(
 				new ExpirationAttributes(Math.max(getMaxInactiveIntervalInSeconds(), 0), ExpirationAction.INVALIDATE));
 		}
+		else if (isWriteOptimized()) {
+			regionAttributes.setStatisticsEnabled(false);
+		}
+
+		if (isEvictionAllowed(gemfireCache)) {
+
+			EvictionAttributes evictionAttributes = newEvictionAttributes(gemfireCache);
+
+			regionAttributes.setEvictionAttributes(evictionAttributes);
+
+			if (EvictionAction.OVERFLOW_TO_DISK.equals(evictionAttributes.getAction())) {
+				Optional.ofNullable(getDiskStoreName()).ifPresent(regionAttributes::setDiskStoreName);
+			}
+		}
+
+		if (isOffHeapAllowed(gemfireCache)) {
+			regionAttributes.setOffHeap(true);
+		}
+
+		if (isPartitionAllowed(gemfireCache)) {
+			regionAttributes.setPartitionAttributes(newPartitionAttributes());
+		}
+
+		if (isPersistenceAllowed(gemfireCache)) {
+			regionAttributes.setDiskStoreName(resolveDiskStoreName());
+			regionAttributes.setDiskSynchronous(false);
+		}
+
+		if (isWriteOptimized()) {
+
+			regionAttributes.setCloningEnabled(false);
+			regionAttributes.setIndexMaintenanceSynchronous(false);
+
+			if (isConcurrencyChecksDisableAllowed(gemfireCache)) {
+				regionAttributes.setConcurrencyChecksEnabled(false);
+			}
+		}
 
 		return regionAttributes;
 	}
 
+	/**
+	 * Determines whether concurrency checks can be safely disabled on the cache {@link Region} used to store
+	 * and manage {@link Session} state.
+	 *
+	 * Concurrency checks keep copies of a {@link Session} on different members consistent, and are therefore
+	 * only disabled on a non-proxy server {@link Region} keeping a single copy of each {@link Session},
+	 * i.e. a {@literal LOCAL} or non-redundant {@literal PARTITION} {@link Region}.  Client {@link Region Regions}
+	 * keep concurrency checks to apply server events in order.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if concurrency checks can be disabled on the {@link Region}.
+	 * @see GemFireUtils#isPeer(GemFireCache)
+	 * @see GemFireUtils#isLocal(RegionShortcut)
+	 * @see GemFireUtils#isPartition(RegionShortcut)
+	 * @see GemFireUtils#isRedundant(RegionShortcut)
+	 * @see #getRedundantCopies()
+	 */
+	boolean isConcurrencyChecksDisableAllowed(GemFireCache gemfireCache) {
+
+		RegionShortcut serverRegionShortcut = getServerRegionShortcut();
+
+		boolean singleCopy = GemFireUtils.isLocal(serverRegionShortcut)
+			|| (GemFireUtils.isPartition(serverRegionShortcut)
+				&& (getRedundantCopies() < 0 ? !GemFireUtils.isRedundant(serverRegionShortcut)
+					: getRedundantCopies() == 0));
+
+		return singleCopy
+			&& GemFireUtils.isPeer(gemfireCache)
+			&& !GemFireUtils.isProxy(serverRegionShortcut);
+	}
+
 	/**
 	 * Determines whether expiration configuration is allowed to be set on the cache {@link Region}
 	 * used to store and manage {@link Session} state.
@@ -602,6 +2408,233 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			: GemFireUtils.isProxy(getServerRegionShortcut()));
 	}
 
+	/**
+	 * Determines whether eviction is configured for the cache {@link Region} used to store and manage
+	 * {@link Session} state.
+	 *
+	 * Eviction is only configured for a non-proxy {@link Region} on either the client or server.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if {@link Session Sessions} are evicted from the {@link Region}.
+	 * @see GemFireUtils#isClient(GemFireCache)
+	 * @see GemFireUtils#isProxy(ClientRegionShortcut)
+	 * @see GemFireUtils#isProxy(RegionShortcut)
+	 * @see #getEvictionPolicy()
+	 */
+	boolean isEvictionAllowed(GemFireCache gemfireCache) {
+
+		return !EvictionPolicyType.NONE.equals(getEvictionPolicy())
+			&& !(GemFireUtils.isClient(gemfireCache)
+				? GemFireUtils.isProxy(getClientRegionShortcut())
+				: GemFireUtils.isProxy(getServerRegionShortcut()));
+	}
+
+	/**
+	 * Constructs the {@link EvictionAttributes} for the cache {@link Region} used to store and manage
+	 * {@link Session} state from the configured {@link EvictionPolicyType policy}, {@link EvictionActionType action}
+	 * and threshold.
+	 *
+	 * A client {@link Region} always locally destroys evicted {@link Session Sessions}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link EvictionAttributes} for the {@link Session} {@link Region}.
+	 * @throws IllegalStateException if the {@link EvictionPolicyType} is not supported.
+	 * @see org.apache.geode.cache.EvictionAttributes
+	 * @see #getEvictionAction()
+	 * @see #getEvictionPolicy()
+	 * @see #getEvictionThreshold()
+	 */
+	EvictionAttributes newEvictionAttributes(GemFireCache gemfireCache) {
+
+		EvictionAction evictionAction = GemFireUtils.isClient(gemfireCache)
+			? EvictionAction.LOCAL_DESTROY
+			: getEvictionAction().getEvictionAction();
+
+		int evictionThreshold = getEvictionThreshold();
+
+		switch (getEvictionPolicy()) {
+			case ENTRY_COUNT:
+				return EvictionAttributes.createLRUEntryAttributes(evictionThreshold > 0 ? evictionThreshold
+					: EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM, evictionAction);
+			case HEAP_PERCENTAGE:
+				return EvictionAttributes.createLRUHeapAttributes(ObjectSizer.DEFAULT, evictionAction);
+			case MEMORY_SIZE:
+				return EvictionAttributes.createLRUMemoryAttributes(evictionThreshold > 0 ? evictionThreshold
+					: EvictionAttributes.DEFAULT_MEMORY_MAXIMUM, ObjectSizer.DEFAULT, evictionAction);
+			default:
+				throw newIllegalStateException("Eviction policy [%s] is not supported", getEvictionPolicy());
+		}
+	}
+
+	/**
+	 * Determines whether {@link PartitionAttributes} are configured for the cache {@link Region} used to store
+	 * and manage {@link Session} state.
+	 *
+	 * {@link PartitionAttributes} are only configured for a partitioned {@link Region}, including
+	 * a {@literal PARTITION_PROXY}, on a peer {@link GemFireCache}, i.e. on the servers.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if the {@link Region} is configured with {@link PartitionAttributes}.
+	 * @see GemFireUtils#isPartition(RegionShortcut)
+	 * @see GemFireUtils#isPeer(GemFireCache)
+	 */
+	boolean isPartitionAllowed(GemFireCache gemfireCache) {
+		return GemFireUtils.isPeer(gemfireCache) && GemFireUtils.isPartition(getServerRegionShortcut());
+	}
+
+	/**
+	 * Constructs the {@link PartitionAttributes} for the partitioned server cache {@link Region} used to store
+	 * and manage {@link Session} state.
+	 *
+	 * Redundancy is only configured when the number of redundant copies is not negative, and is otherwise
+	 * determined by the {@link RegionShortcut}.
+	 *
+	 * @return the {@link PartitionAttributes} for the {@link Session} {@link Region}.
+	 * @see org.apache.geode.cache.PartitionAttributesFactory
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver
+	 */
+	PartitionAttributes<Object, Session> newPartitionAttributes() {
+
+		PartitionAttributesFactory<Object, Session> partitionAttributesFactory = new PartitionAttributesFactory<>();
+
+		partitionAttributesFactory.setRecoveryDelay(getRecoveryDelayInMilliseconds());
+		partitionAttributesFactory.setStartupRecoveryDelay(getStartupRecoveryDelayInMilliseconds());
+		partitionAttributesFactory.setTotalNumBuckets(getTotalNumberOfBuckets());
+
+		if (getRedundantCopies() >= 0) {
+			partitionAttributesFactory.setRedundantCopies(getRedundantCopies());
+		}
+
+		if (isPrincipalNameRouting()) {
+			partitionAttributesFactory.setPartitionResolver(PrincipalNamePartitionResolver.INSTANCE);
+		}
+
+		return partitionAttributesFactory.create();
+	}
+
+	/**
+	 * Determines whether the cache {@link Region} used to store and manage {@link Session} state
+	 * persists {@link Session Sessions} to disk.
+	 *
+	 * Persistence is only configured for a non-proxy {@link Region} on a peer {@link GemFireCache},
+	 * i.e. on the servers.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if the {@link Region} persists {@link Session Sessions}.
+	 * @see GemFireUtils#isPeer(GemFireCache)
+	 * @see GemFireUtils#isProxy(RegionShortcut)
+	 * @see #isPersistent()
+	 */
+	boolean isPersistenceAllowed(GemFireCache gemfireCache) {
+
+		return isPersistent()
+			&& GemFireUtils.isPeer(gemfireCache)
+			&& !GemFireUtils.isProxy(getServerRegionShortcut());
+	}
+
+	/**
+	 * Resolves the {@link RegionShortcut} used to create the server cache {@link Region} used to store
+	 * and manage {@link Session} state, which is the persistent equivalent of the configured
+	 * {@link RegionShortcut} when the {@link Region} is persistent.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the resolved {@link RegionShortcut}.
+	 * @see GemFireUtils#toPersistent(RegionShortcut)
+	 * @see #getServerRegionShortcut()
+	 * @see #isPersistenceAllowed(GemFireCache)
+	 */
+	RegionShortcut resolveServerRegionShortcut(GemFireCache gemfireCache) {
+
+		return isPersistenceAllowed(gemfireCache)
+			? GemFireUtils.toPersistent(getServerRegionShortcut())
+			: getServerRegionShortcut();
+	}
+
+	/**
+	 * Defines the dedicated {@link org.apache.geode.cache.DiskStore} used to persist the server cache {@link Region}
+	 * used to store and manage {@link Session} state.
+	 *
+	 * Writes are queued asynchronously, bounded by the {@link #getDiskQueueSize() queue size}
+	 * and flushed at least once per {@link #getDiskTimeIntervalInMilliseconds() time interval}.
+	 *
+	 * The {@link org.apache.geode.cache.DiskStore} is only defined when the {@link Region} is persistent
+	 * and no {@link #getDiskStoreName() DiskStore name} is configured, in which case the application
+	 * defines the named {@link org.apache.geode.cache.DiskStore}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link DiskStoreFactoryBean} creating the {@link org.apache.geode.cache.DiskStore}
+	 * named {@link #SESSION_DISK_STORE_BEAN_NAME}, or {@literal null} if no dedicated
+	 * {@link org.apache.geode.cache.DiskStore} is required.
+	 * @see org.springframework.data.gemfire.DiskStoreFactoryBean
+	 * @see #isPersistenceAllowed(GemFireCache)
+	 * @see #getDiskStoreName()
+	 */
+	@Bean(SESSION_DISK_STORE_BEAN_NAME)
+	public DiskStoreFactoryBean sessionDiskStore(GemFireCache gemfireCache) {
+
+		if (isPersistenceAllowed(gemfireCache) && getDiskStoreName() == null) {
+
+			DiskStoreFactoryBean sessionDiskStore = new DiskStoreFactoryBean();
+
+			sessionDiskStore.setCache(gemfireCache);
+			sessionDiskStore.setQueueSize(Math.max(getDiskQueueSize(), 0));
+			sessionDiskStore.setTimeInterval((long) Math.max(getDiskTimeIntervalInMilliseconds(), 1));
+
+			return sessionDiskStore;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Resolves the name of the {@link org.apache.geode.cache.DiskStore} used to persist the server cache
+	 * {@link Region}, which defaults to the dedicated {@link #SESSION_DISK_STORE_BEAN_NAME session DiskStore}.
+	 *
+	 * @return the name of the {@link org.apache.geode.cache.DiskStore} used to persist {@link Session Sessions}.
+	 * @see #sessionDiskStore(GemFireCache)
+	 * @see #getDiskStoreName()
+	 */
+	String resolveDiskStoreName() {
+		return Optional.ofNullable(getDiskStoreName()).orElse(SESSION_DISK_STORE_BEAN_NAME);
+	}
+
+	/**
+	 * Determines whether the cache {@link Region} used to store and manage {@link Session} state
+	 * is configured to store values in off-heap memory.
+	 *
+	 * Off-heap memory is only configured for a non-proxy {@link Region} on a peer {@link GemFireCache},
+	 * i.e. on the servers.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if the {@link Region} stores values off-heap.
+	 * @see GemFireUtils#isPeer(GemFireCache)
+	 * @see GemFireUtils#isProxy(RegionShortcut)
+	 * @see #isOffHeap()
+	 */
+	boolean isOffHeapAllowed(GemFireCache gemfireCache) {
+
+		return isOffHeap()
+			&& GemFireUtils.isPeer(gemfireCache)
+			&& !GemFireUtils.isProxy(getServerRegionShortcut());
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} stored in the cache {@link Region} are expired by
+	 * the {@link SessionExpirationSweeper} rather than by {@link Region} entry idle-timeout expiration.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating if {@link Session Sessions} are expired by the {@link SessionExpirationSweeper}.
+	 * @see GemFireUtils#isPeer(GemFireCache)
+	 * @see #getExpirationSweepIntervalInMilliseconds()
+	 * @see #isExpirationAllowed(GemFireCache)
+	 */
+	boolean isExpirationSweepEnabled(GemFireCache gemfireCache) {
+
+		return getExpirationSweepIntervalInMilliseconds() > 0
+			&& GemFireUtils.isPeer(gemfireCache)
+			&& isExpirationAllowed(gemfireCache);
+	}
+
 	/**
 	 * Defines a {@link GemfireTemplate} bean used to interact with the (Client)Cache {@link Region}
 	 * used to store {@link Session} state.
@@ -627,28 +2660,198 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 *
 	 * @param gemfireOperations instance of {@link GemfireOperations} used to manage {@link Session} state
 	 * in Apache Geode or Pivotal GemFire.
+	 * @param sessionOperationStatistics {@link SessionOperationStatistics} recording statistics about
+	 * {@link Session} operations.
 	 * @return a {@link GemFireOperationsSessionRepository} for managing (clustering/replicating) {@link Session} state
 	 * in Apache Geode or Pivotal GemFire.
 	 * @see org.springframework.session.data.gemfire.GemFireOperationsSessionRepository
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
 	 * @see org.springframework.data.gemfire.GemfireOperations
 	 */
 	@Bean
 	public GemFireOperationsSessionRepository sessionRepository(
-		@Qualifier("sessionRegionTemplate") GemfireOperations gemfireOperations) {
+		@Qualifier("sessionRegionTemplate") GemfireOperations gemfireOperations,
+			SessionOperationStatistics sessionOperationStatistics) {
 
 		GemFireOperationsSessionRepository sessionRepository =
 			new GemFireOperationsSessionRepository(gemfireOperations);
 
 		sessionRepository.setMaxInactiveIntervalInSeconds(getMaxInactiveIntervalInSeconds());
 		sessionRepository.setUseDataSerialization(isUsingDataSerialization());
+		sessionRepository.setPrincipalNameResolver(resolvePrincipalNameResolver().orElse(null));
+		sessionRepository.setSessionIdGenerator(resolveSessionIdGenerator().orElse(null));
+		sessionRepository.setChangeSessionIdOnServer(isChangeSessionIdOnServer());
+		sessionRepository.setDirectRegionAccess(isDirectRegionAccess());
+		sessionRepository.setOptimisticConcurrency(isOptimisticConcurrency());
+		sessionRepository.setPrincipalNameRouting(isPrincipalNameRouting());
+		sessionRepository.setPublishEventsFromPrimaryOnly(isPublishEventsFromPrimaryOnly() && isPeerCachePresent());
+		sessionRepository.setSessionEventListenerDetector(sessionEventListenerDetector());
+		sessionRepository.setSessionOperationStatistics(sessionOperationStatistics);
+		sessionRepository.setSessionSizeGuardrail(sessionSizeGuardrail());
+		sessionRepository.setSessionLookupCoalescingWindow(
+			Duration.ofMillis(getSessionLookupCoalescingWindowInMilliseconds()));
+
+		sessionRepository.setExpiredSessionDeletionInterval(
+			Duration.ofMillis(getExpiredSessionDeletionIntervalInMilliseconds()));
+
+		if (isWriteBehindEnabled()) {
+			sessionRepository.setSessionWriteBehindQueue(new SessionWriteBehindQueue(gemfireOperations,
+				Duration.ofMillis(getWriteBehindFlushIntervalInMilliseconds()), getWriteBehindQueueCapacity(),
+					SessionWriteBehindQueue.DEFAULT_FLUSH_THREAD_COUNT));
+		}
+
+		if (isTargetedInterestRegistrationEnabled() && isClientCachePresent()) {
+			sessionRepository.setSessionInterestRegistrar(new SessionInterestRegistrar(gemfireOperations));
+		}
+
+		if (isContinuousQuerySessionEventsEnabled() && isClientCachePresent()) {
+			sessionRepository.setContinuousQuerySessionEvents(getContinuousQuerySessionEvents());
+			sessionRepository.setContinuousQuerySessionEventFilter(getContinuousQuerySessionEventFilter());
+		}
 
 		return sessionRepository;
 	}
 
+	/**
+	 * Defines the {@link SessionEventListenerDetector} used by the {@link GemFireOperationsSessionRepository}
+	 * to skip {@link Session} events no one listens for.
+	 *
+	 * @return the {@link SessionEventListenerDetector}.
+	 * @see org.springframework.session.data.gemfire.support.SessionEventListenerDetector
+	 */
+	@Bean
+	public SessionEventListenerDetector sessionEventListenerDetector() {
+		return new SessionEventListenerDetector();
+	}
+
+	/**
+	 * Defines the {@link ChangeSessionIdFunction} used to change the ID of a {@link Session} on the server
+	 * in a single, routed operation.
+	 *
+	 * The {@link ChangeSessionIdFunction} is only registered with a peer {@link Cache} (e.g. a server).
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link ChangeSessionIdFunction}.
+	 * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(org.apache.geode.cache.execute.Function)
+	 */
+	@Bean
+	public ChangeSessionIdFunction changeSessionIdFunction(GemFireCache gemfireCache) {
+
+		ChangeSessionIdFunction changeSessionIdFunction = new ChangeSessionIdFunction();
+
+		if (GemFireUtils.isPeer(gemfireCache)) {
+			FunctionService.registerFunction(changeSessionIdFunction);
+		}
+
+		return changeSessionIdFunction;
+	}
+
+	/**
+	 * Defines the {@link FindSessionsByPrincipalNameFunction} used to find the {@link Session Sessions}
+	 * of a principal with a query routed to a single bucket.
+	 *
+	 * The {@link FindSessionsByPrincipalNameFunction} is only registered with a peer {@link Cache} (e.g. a server).
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link FindSessionsByPrincipalNameFunction}.
+	 * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(org.apache.geode.cache.execute.Function)
+	 */
+	@Bean
+	public FindSessionsByPrincipalNameFunction findSessionsByPrincipalNameFunction(GemFireCache gemfireCache) {
+
+		FindSessionsByPrincipalNameFunction findSessionsByPrincipalNameFunction =
+			new FindSessionsByPrincipalNameFunction();
+
+		if (GemFireUtils.isPeer(gemfireCache)) {
+			FunctionService.registerFunction(findSessionsByPrincipalNameFunction);
+		}
+
+		return findSessionsByPrincipalNameFunction;
+	}
+
+	/**
+	 * Defines the {@link ReplaceSessionFunction} used to save a {@link Session} with an optimistic,
+	 * version-checked replace on the server.
+	 *
+	 * The {@link ReplaceSessionFunction} is only registered with a peer {@link Cache} (e.g. a server).
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link ReplaceSessionFunction}.
+	 * @see org.springframework.session.data.gemfire.function.ReplaceSessionFunction
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(org.apache.geode.cache.execute.Function)
+	 */
+	@Bean
+	public ReplaceSessionFunction replaceSessionFunction(GemFireCache gemfireCache) {
+
+		ReplaceSessionFunction replaceSessionFunction = new ReplaceSessionFunction();
+
+		if (GemFireUtils.isPeer(gemfireCache)) {
+			FunctionService.registerFunction(replaceSessionFunction);
+		}
+
+		return replaceSessionFunction;
+	}
+
+	/**
+	 * Defines the {@link SessionStatisticsFunction} used to compute statistics about the {@link Session Sessions}
+	 * on each server hosting the {@link Session Sessions}.
+	 *
+	 * The {@link SessionStatisticsFunction} is only registered with a peer {@link Cache} (e.g. a server).
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link SessionStatisticsFunction}.
+	 * @see org.springframework.session.data.gemfire.function.SessionStatisticsFunction
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(org.apache.geode.cache.execute.Function)
+	 */
+	@Bean
+	public SessionStatisticsFunction sessionStatisticsFunction(GemFireCache gemfireCache) {
+
+		SessionStatisticsFunction sessionStatisticsFunction = new SessionStatisticsFunction();
+
+		if (GemFireUtils.isPeer(gemfireCache)) {
+			FunctionService.registerFunction(sessionStatisticsFunction);
+		}
+
+		return sessionStatisticsFunction;
+	}
+
+	/**
+	 * Defines the {@link SessionExpirationSweeper} used to expire {@link Session Sessions} on the server
+	 * in batches.
+	 *
+	 * The {@link SessionExpirationSweeper} is only started on a peer {@link Cache} (e.g. a server) when
+	 * an {@link #getExpirationSweepIntervalInMilliseconds() expiration sweep interval} has been configured.
+	 * As a {@link org.springframework.context.SmartLifecycle} bean, it is started once the Spring container
+	 * has been refreshed and stopped when the Spring container is closed.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link SessionExpirationSweeper}.
+	 * @see org.springframework.session.data.gemfire.support.SessionExpirationSweeper
+	 * @see #isExpirationSweepEnabled(GemFireCache)
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public SessionExpirationSweeper sessionExpirationSweeper(GemFireCache gemfireCache) {
+
+		SessionExpirationSweeper sessionExpirationSweeper = new SessionExpirationSweeper(
+			Duration.ofMillis(Math.max(getExpirationSweepIntervalInMilliseconds(), 1)));
+
+		if (isExpirationSweepEnabled(gemfireCache)) {
+			sessionExpirationSweeper.setRegion(gemfireCache.getRegion(getSessionRegionName()));
+		}
+
+		return sessionExpirationSweeper;
+	}
+
 	/**
 	 * Defines a Pivotal GemFire Index bean on the Pivotal GemFire cache {@link Region} storing and managing Sessions,
 	 * specifically on the 'principalName' property for quick lookup of Sessions by 'principalName'.
 	 *
+	 * When {@link #isDeferredIndexCreation() deferred}, the Index is only defined, and then created
+	 * along with all other defined Indexes by the {@link SessionIndexCreator}.
+	 *
 	 * @param gemfireCache a reference to the Pivotal GemFire cache.
 	 * @return a {@link IndexFactoryBean} to create an Pivotal GemFire Index on the 'principalName' property
 	 * for Sessions stored in the Pivotal GemFire cache {@link Region}.
@@ -662,6 +2865,7 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		IndexFactoryBean principalNameIndex = new IndexFactoryBean();
 
 		principalNameIndex.setCache(gemfireCache);
+		principalNameIndex.setDefine(isDeferredIndexCreation());
 		principalNameIndex.setName("principalNameIndex");
 		principalNameIndex.setExpression("principalName");
 		principalNameIndex.setFrom(GemFireUtils.toRegionPath(getSessionRegionName()));
@@ -676,11 +2880,16 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * specifically on all Session attributes for quick lookup and queries on Session attribute names
 	 * with a given value.
 	 *
+	 * Optionally, each indexable Session attribute is indexed individually with an Index
+	 * of the configured {@link IndexType}.
+	 *
 	 * @param gemfireCache a reference to the Pivotal GemFire cache.
 	 * @return a {@link IndexFactoryBean} to create an Pivotal GemFire Index on attributes of Sessions
 	 * stored in the Pivotal GemFire cache {@link Region}.
 	 * @see org.springframework.data.gemfire.IndexFactoryBean
 	 * @see org.apache.geode.cache.GemFireCache
+	 * @see #isIndividualSessionAttributeIndexes()
+	 * @see #getSessionAttributeIndexType()
 	 */
 	@Bean
 	@DependsOn(DEFAULT_SESSION_REGION_NAME)
@@ -688,10 +2897,46 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 
 		SessionAttributesIndexFactoryBean sessionAttributesIndex = new SessionAttributesIndexFactoryBean();
 
+		sessionAttributesIndex.setDefine(isDeferredIndexCreation());
 		sessionAttributesIndex.setGemFireCache(gemfireCache);
 		sessionAttributesIndex.setIndexableSessionAttributes(getIndexableSessionAttributes());
+		sessionAttributesIndex.setIndividualSessionAttributeIndexes(isIndividualSessionAttributeIndexes());
+		sessionAttributesIndex.setSessionAttributeIndexType(getSessionAttributeIndexType());
 		sessionAttributesIndex.setRegionName(getSessionRegionName());
 
 		return sessionAttributesIndex;
 	}
+
+	/**
+	 * Defines the {@link SessionIndexCreator} used to create all defined {@link Session}
+	 * {@link org.apache.geode.cache.query.Index Indexes} in a single pass over the {@link Region} once the Spring
+	 * {@link org.springframework.context.ApplicationContext} is refreshed, in the background when configured.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link SessionIndexCreator}.
+	 * @see org.springframework.session.data.gemfire.support.SessionIndexCreator
+	 * @see #isBackgroundIndexCreation()
+	 * @see #isDeferredIndexCreation()
+	 */
+	@Bean
+	public SessionIndexCreator sessionIndexCreator(GemFireCache gemfireCache) {
+		return new SessionIndexCreator(resolveQueryService(gemfireCache),
+			isDeferredIndexCreation() && isBackgroundIndexCreation());
+	}
+
+	/**
+	 * Resolves the {@link QueryService} used to create {@link org.apache.geode.cache.query.Index Indexes}
+	 * in the {@link GemFireCache}, which is the local {@link QueryService} on a {@link ClientCache}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link QueryService} used to create {@link org.apache.geode.cache.query.Index Indexes}.
+	 * @see org.apache.geode.cache.client.ClientCache#getLocalQueryService()
+	 * @see org.apache.geode.cache.GemFireCache#getQueryService()
+	 */
+	QueryService resolveQueryService(GemFireCache gemfireCache) {
+
+		return GemFireUtils.isClient(gemfireCache)
+			? ((ClientCache) gemfireCache).getLocalQueryService()
+			: gemfireCache.getQueryService();
+	}
 }
@@ -71,6 +71,10 @@ public class GemFireCacheTypeAwareRegionFactoryBean<K, V> extends CacheTypeAware
 	protected static final String DEFAULT_SESSION_REGION_NAME =
 		GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME;
 
+	private boolean continuousQuerySessionEvents = false;
+
+	private boolean targetedInterestRegistration = false;
+
 	private String regionName;
 
 	@Override
@@ -84,12 +88,62 @@ public class GemFireCacheTypeAwareRegionFactoryBean<K, V> extends CacheTypeAware
 		return super.getClientRegionShortcut();
 	}
 
+	/**
+	 * Sets whether {@link Session} events are delivered by Continuous Queries, in which case a {@literal PROXY}
+	 * client {@link Region} registers no interest in {@literal ALL_KEYS} when created.
+	 *
+	 * A {@literal CACHING_PROXY} client {@link Region} still registers interest to keep its local cache up-to-date.
+	 *
+	 * @param continuousQuerySessionEvents boolean indicating whether {@link Session} events are delivered
+	 * by Continuous Queries.
+	 */
+	public void setContinuousQuerySessionEvents(boolean continuousQuerySessionEvents) {
+		this.continuousQuerySessionEvents = continuousQuerySessionEvents;
+	}
+
+	/**
+	 * Determines whether {@link Session} events are delivered by Continuous Queries.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are delivered by Continuous Queries.
+	 */
+	protected boolean isContinuousQuerySessionEvents() {
+		return this.continuousQuerySessionEvents;
+	}
+
+	/**
+	 * Sets whether interest is registered in only those {@link Session Sessions} created or loaded by the client,
+	 * in which case no interest in {@literal ALL_KEYS} is registered when the client {@link Region} is created.
+	 *
+	 * @param targetedInterestRegistration boolean indicating whether interest is registered in individual
+	 * {@link Session Sessions} rather than in {@literal ALL_KEYS}.
+	 * @see org.springframework.session.data.gemfire.support.SessionInterestRegistrar
+	 */
+	public void setTargetedInterestRegistration(boolean targetedInterestRegistration) {
+		this.targetedInterestRegistration = targetedInterestRegistration;
+	}
+
+	/**
+	 * Determines whether interest is registered in only those {@link Session Sessions} created or loaded
+	 * by the client.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether interest is registered in individual {@link Session Sessions}.
+	 */
+	protected boolean isTargetedInterestRegistration() {
+		return this.targetedInterestRegistration;
+	}
+
 	@Override
 	protected Interest<K>[] getInterests() {
 
 		ClientRegionShortcut clientRegionShortcut = getClientRegionShortcut();
 
-		return registerInterests(!(clientRegionShortcut == null || GemFireUtils.isLocal(clientRegionShortcut)));
+		return registerInterests(!(clientRegionShortcut == null || GemFireUtils.isLocal(clientRegionShortcut)
+			|| isTargetedInterestRegistration()
+			|| (isContinuousQuerySessionEvents() && GemFireUtils.isProxy(clientRegionShortcut))));
 	}
 
 	/**
@@ -16,6 +16,9 @@
 
 package org.springframework.session.data.gemfire.config.annotation.web.http.support;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import javax.servlet.http.HttpSession;
@@ -30,6 +33,7 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.IndexType;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -37,6 +41,16 @@ import org.springframework.util.ObjectUtils;
  * The SessionAttributesIndexFactoryBean class is a Spring {@link FactoryBean} that creates a Pivotal GemFire {@link Index}
  * on the session attributes of the {@link HttpSession} object.
  *
+ * By default, a single map {@link Index} is created over all indexable session attributes.  Alternatively,
+ * an individual {@link Index} of the configured {@link IndexType} (e.g. {@link IndexType#HASH}) is created
+ * for each indexable session attribute, named after the session attribute suffixed with
+ * {@literal SessionAttributeIndex}.  An individual {@link Index} is not created when a bean
+ * with the same name is defined, which allows each {@link Index} to be overridden.
+ *
+ * When {@link #setDefine(boolean) defined}, the {@link Index Indexes} are only defined with the
+ * {@link org.apache.geode.cache.query.QueryService}, to be created together with all other defined
+ * {@link Index Indexes} by {@link org.apache.geode.cache.query.QueryService#createDefinedIndexes()}.
+ *
  * @author John Blum
  * @since 1.3.0
  * @see org.springframework.beans.factory.BeanFactoryAware
@@ -44,18 +58,31 @@ import org.springframework.util.ObjectUtils;
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.data.gemfire.IndexType
  */
 public class SessionAttributesIndexFactoryBean
 		implements FactoryBean<Index>, InitializingBean, BeanFactoryAware, BeanNameAware {
 
 	protected static final String[] DEFAULT_INDEXABLE_SESSION_ATTRIBUTES = {};
 
+	protected static final String SESSION_ATTRIBUTE_INDEX_NAME_SUFFIX = "SessionAttributeIndex";
+
+	protected static final IndexType DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE = IndexType.HASH;
+
+	private boolean define;
+
+	private boolean individualSessionAttributeIndexes;
+
 	private BeanFactory beanFactory;
 
 	private GemFireCache gemfireCache;
 
 	private Index sessionAttributesIndex;
 
+	private IndexType sessionAttributeIndexType;
+
+	private List<Index> sessionAttributeIndexes = Collections.emptyList();
+
 	private String beanName;
 	private String regionName;
 
@@ -65,7 +92,12 @@ public class SessionAttributesIndexFactoryBean
 	public void afterPropertiesSet() throws Exception {
 
 		if (isIndexableSessionAttributesConfigured()) {
-			this.sessionAttributesIndex = newIndex();
+			if (isIndividualSessionAttributeIndexes()) {
+				this.sessionAttributeIndexes = newIndexes();
+			}
+			else {
+				this.sessionAttributesIndex = newIndex();
+			}
 		}
 	}
 
@@ -89,21 +121,92 @@ public class SessionAttributesIndexFactoryBean
 	 */
 	protected Index newIndex() throws Exception {
 
+		return newIndex(this.beanName, "sessionAttributesIndex",
+			String.format("s.attributes[%1$s]", getIndexableSessionAttributesAsGemFireIndexExpression()),
+			null);
+	}
+
+	/**
+	 * Constructs an individual Pivotal GemFire {@link Index} of the configured {@link IndexType}
+	 * for each indexable attribute of the {@link HttpSession}, unless a bean with the name
+	 * of the {@link Index} is defined.
+	 *
+	 * @return a {@link List} of the Pivotal GemFire {@link Index Indexes} on the {@link HttpSession} attributes.
+	 * @throws Exception if an error occurs while initializing a Pivotal GemFire {@link Index}.
+	 * @see #toSessionAttributeIndexName(String)
+	 * @see #getSessionAttributeIndexType()
+	 */
+	protected List<Index> newIndexes() throws Exception {
+
+		List<Index> indexes = new ArrayList<>();
+
+		for (String sessionAttribute : getIndexableSessionAttributes()) {
+
+			String indexName = toSessionAttributeIndexName(sessionAttribute);
+
+			if (!isOverridden(indexName)) {
+				indexes.add(newIndex(indexName, indexName,
+					String.format("s.attributes['%s']", sessionAttribute), getSessionAttributeIndexType()));
+			}
+		}
+
+		return indexes;
+	}
+
+	/**
+	 * Constructs a Pivotal GemFire {@link Index} on the {@link HttpSession} {@link org.apache.geode.cache.Region}.
+	 *
+	 * @param beanName name of the {@link Index} bean.
+	 * @param indexName name of the {@link Index}.
+	 * @param expression {@link Index} expression over {@link HttpSession} {@literal s}.
+	 * @param indexType {@link IndexType} of the {@link Index}; {@literal null} uses the default.
+	 * @return the Pivotal GemFire {@link Index}.
+	 * @throws Exception if an error occurs while initializing the Pivotal GemFire {@link Index}.
+	 * @see org.springframework.data.gemfire.IndexFactoryBean
+	 */
+	protected Index newIndex(String beanName, String indexName, String expression, IndexType indexType)
+			throws Exception {
+
 		IndexFactoryBean indexFactory = new IndexFactoryBean();
 
 		indexFactory.setBeanFactory(this.beanFactory);
-		indexFactory.setBeanName(this.beanName);
+		indexFactory.setBeanName(beanName);
 		indexFactory.setCache(this.gemfireCache);
-		indexFactory.setName("sessionAttributesIndex");
-		indexFactory.setExpression(String.format("s.attributes[%1$s]",
-			getIndexableSessionAttributesAsGemFireIndexExpression()));
+		indexFactory.setDefine(isDefine());
+		indexFactory.setName(indexName);
+		indexFactory.setExpression(expression);
 		indexFactory.setFrom(String.format("%1$s s", GemFireUtils.toRegionPath(this.regionName)));
 		indexFactory.setOverride(true);
+
+		if (indexType != null) {
+			indexFactory.setType(indexType);
+		}
+
 		indexFactory.afterPropertiesSet();
 
 		return indexFactory.getObject();
 	}
 
+	/**
+	 * Determines whether a bean with the given {@link Index} name is defined, overriding the {@link Index}.
+	 *
+	 * @param indexName name of the {@link Index}.
+	 * @return a boolean value indicating whether the {@link Index} is overridden by a bean.
+	 */
+	protected boolean isOverridden(String indexName) {
+		return this.beanFactory != null && this.beanFactory.containsBean(indexName);
+	}
+
+	/**
+	 * Returns the name of the individual {@link Index} on the given session attribute.
+	 *
+	 * @param sessionAttribute name of the session attribute.
+	 * @return the name of the {@link Index} on the session attribute.
+	 */
+	protected String toSessionAttributeIndexName(String sessionAttribute) {
+		return sessionAttribute + SESSION_ATTRIBUTE_INDEX_NAME_SUFFIX;
+	}
+
 	/**
 	 * Gets the names of all Session attributes that will be indexed by Pivotal GemFire as single, comma-delimited
 	 * String value constituting the Index expression of the Index definition.
@@ -132,6 +235,16 @@ public class SessionAttributesIndexFactoryBean
 		return this.sessionAttributesIndex;
 	}
 
+	/**
+	 * Returns the individual {@link Index Indexes} created on each indexable session attribute.
+	 *
+	 * @return a {@link List} of the individual session attribute {@link Index Indexes}.
+	 * @see #setIndividualSessionAttributeIndexes(boolean)
+	 */
+	public List<Index> getSessionAttributeIndexes() {
+		return Collections.unmodifiableList(this.sessionAttributeIndexes);
+	}
+
 	/* (non-Javadoc) */
 	@SuppressWarnings("unchecked")
 	public Class<?> getObjectType() {
@@ -153,6 +266,16 @@ public class SessionAttributesIndexFactoryBean
 		this.beanName = beanName;
 	}
 
+	/* (non-Javadoc) */
+	public void setDefine(boolean define) {
+		this.define = define;
+	}
+
+	/* (non-Javadoc) */
+	protected boolean isDefine() {
+		return this.define;
+	}
+
 	/* (non-Javadoc) */
 	public void setGemFireCache(GemFireCache gemfireCache) {
 		this.gemfireCache = gemfireCache;
@@ -168,6 +291,29 @@ public class SessionAttributesIndexFactoryBean
 		return Optional.ofNullable(this.indexableSessionAttributes).orElse(DEFAULT_INDEXABLE_SESSION_ATTRIBUTES);
 	}
 
+	/* (non-Javadoc) */
+	public void setIndividualSessionAttributeIndexes(boolean individualSessionAttributeIndexes) {
+		this.individualSessionAttributeIndexes = individualSessionAttributeIndexes;
+	}
+
+	/* (non-Javadoc) */
+	protected boolean isIndividualSessionAttributeIndexes() {
+		return this.individualSessionAttributeIndexes;
+	}
+
+	/* (non-Javadoc) */
+	public void setSessionAttributeIndexType(IndexType sessionAttributeIndexType) {
+		this.sessionAttributeIndexType = sessionAttributeIndexType;
+	}
+
+	/* (non-Javadoc) */
+	protected IndexType getSessionAttributeIndexType() {
+
+		return Optional.ofNullable(this.sessionAttributeIndexType)
+			.filter(indexType -> !indexType.isKey())
+			.orElse(DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE);
+	}
+
 	/* (non-Javadoc) */
 	public void setRegionName(String regionName) {
 		this.regionName = regionName;
@@ -23,9 +23,14 @@ import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
 
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
+import org.springframework.session.data.gemfire.support.SessionEventType;
 
 /**
  * The {@link SpringSessionGemFireConfigurer} interface defines a contract for programmatically controlling
@@ -40,6 +45,33 @@ import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 @SuppressWarnings("unused")
 public interface SpringSessionGemFireConfigurer {
 
+	/**
+	 * Defines whether the deferred {@link Session} {@link org.apache.geode.cache.query.Index Indexes} are created
+	 * in the background once the Spring {@link org.springframework.context.ApplicationContext} is refreshed.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} {@link org.apache.geode.cache.query.Index Indexes}
+	 * are created in the background.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_BACKGROUND_INDEX_CREATION
+	 */
+	default boolean getBackgroundIndexCreation() {
+		return GemFireHttpSessionConfiguration.DEFAULT_BACKGROUND_INDEX_CREATION;
+	}
+
+	/**
+	 * Determines whether a {@link Session} ID change is performed on the server as a single, routed
+	 * {@link org.apache.geode.cache.execute.Function} execution.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} ID changes are performed on the server.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_CHANGE_SESSION_ID_ON_SERVER
+	 */
+	default boolean getChangeSessionIdOnServer() {
+		return GemFireHttpSessionConfiguration.DEFAULT_CHANGE_SESSION_ID_ON_SERVER;
+	}
+
 	/**
 	 * Defines the {@link ClientCache} {@link Region} data management policy.
 	 *
@@ -54,6 +86,181 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_CLIENT_REGION_SHORTCUT;
 	}
 
+	/**
+	 * Defines an OQL predicate filtering the {@link Session} events delivered by Continuous Queries.
+	 *
+	 * Defaults to empty (unfiltered).
+	 *
+	 * @return a {@link String} containing the OQL predicate filtering {@link Session} events.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_CONTINUOUS_QUERY_SESSION_EVENT_FILTER
+	 */
+	default String getContinuousQuerySessionEventFilter() {
+		return GemFireHttpSessionConfiguration.DEFAULT_CONTINUOUS_QUERY_SESSION_EVENT_FILTER;
+	}
+
+	/**
+	 * Defines the types of {@link Session} events a client subscribes to with Continuous Queries.
+	 *
+	 * Defaults to empty, which delivers {@link Session} events with a {@link org.apache.geode.cache.CacheListener}.
+	 *
+	 * @return an array of {@link SessionEventType types} of {@link Session} events subscribed to.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_CONTINUOUS_QUERY_SESSION_EVENTS
+	 * @see org.springframework.session.data.gemfire.support.SessionEventType
+	 */
+	default SessionEventType[] getContinuousQuerySessionEvents() {
+		return GemFireHttpSessionConfiguration.DEFAULT_CONTINUOUS_QUERY_SESSION_EVENTS;
+	}
+
+	/**
+	 * Defines whether the {@link ClientCache} {@link Region} sends {@link Session} state to the servers using
+	 * a dedicated {@link Pool} tuned for {@link Session} access.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the client {@link Region} uses a dedicated {@link Pool}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DEDICATED_POOL
+	 */
+	default boolean getDedicatedPool() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DEDICATED_POOL;
+	}
+
+	/**
+	 * Defines whether the {@link Session} {@link org.apache.geode.cache.query.Index Indexes} are defined up front
+	 * and then created together, in a single pass over the {@link Region}.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} {@link org.apache.geode.cache.query.Index Indexes}
+	 * are defined and then created together.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DEFERRED_INDEX_CREATION
+	 */
+	default boolean getDeferredIndexCreation() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DEFERRED_INDEX_CREATION;
+	}
+
+	/**
+	 * Defines whether {@link Session Sessions} are looked up, saved and deleted directly on the cache
+	 * {@link org.apache.geode.cache.Region} rather than through the template.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link org.apache.geode.cache.Region}
+	 * is accessed directly.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DIRECT_REGION_ACCESS
+	 */
+	default boolean getDirectRegionAccess() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DIRECT_REGION_ACCESS;
+	}
+
+	/**
+	 * Defines the maximum number of pending asynchronous writes queued by the {@link org.apache.geode.cache.DiskStore}
+	 * used to persist the server {@link Region}.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @return an integer value defining the maximum number of queued disk writes.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DISK_QUEUE_SIZE
+	 */
+	default int getDiskQueueSize() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DISK_QUEUE_SIZE;
+	}
+
+	/**
+	 * Specifies the name of the {@link org.apache.geode.cache.DiskStore} used by the server {@link Region}
+	 * to overflow evicted {@link Session Sessions} to disk, or to persist {@link Session Sessions}.
+	 *
+	 * Defaults to the Apache Geode {@literal DEFAULT} {@link org.apache.geode.cache.DiskStore} for overflow,
+	 * and a dedicated {@link org.apache.geode.cache.DiskStore} for persistence.
+	 *
+	 * @return the name of the {@link org.apache.geode.cache.DiskStore} used to overflow {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DISK_STORE_NAME
+	 */
+	default String getDiskStoreName() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DISK_STORE_NAME;
+	}
+
+	/**
+	 * Defines the maximum interval in milliseconds that asynchronous writes remain queued by
+	 * the {@link org.apache.geode.cache.DiskStore} used to persist the server {@link Region}.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 *
+	 * @return an integer value defining the maximum interval in milliseconds before queued disk writes are flushed.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DISK_TIME_INTERVAL_IN_MILLISECONDS
+	 */
+	default int getDiskTimeIntervalInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DISK_TIME_INTERVAL_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the {@link EvictionActionType action} taken by the server {@link Region} when a {@link Session}
+	 * is evicted.
+	 *
+	 * Defaults to {@link EvictionActionType#OVERFLOW_TO_DISK}.
+	 *
+	 * @return the {@link EvictionActionType} taken when a {@link Session} is evicted.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EVICTION_ACTION
+	 */
+	default EvictionActionType getEvictionAction() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EVICTION_ACTION;
+	}
+
+	/**
+	 * Defines the {@link EvictionPolicyType policy} used to evict {@link Session Sessions} from the cache
+	 * {@link Region}.
+	 *
+	 * Defaults to {@link EvictionPolicyType#NONE}.
+	 *
+	 * @return the {@link EvictionPolicyType} used to evict {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EVICTION_POLICY
+	 */
+	default EvictionPolicyType getEvictionPolicy() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EVICTION_POLICY;
+	}
+
+	/**
+	 * Defines the eviction threshold, which is the maximum number of {@link Session Sessions}
+	 * for {@link EvictionPolicyType#ENTRY_COUNT} and the maximum size in megabytes
+	 * for {@link EvictionPolicyType#MEMORY_SIZE}.
+	 *
+	 * Defaults to {@literal 0}, which uses the Apache Geode default.
+	 *
+	 * @return an integer value defining the eviction threshold.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EVICTION_THRESHOLD
+	 */
+	default int getEvictionThreshold() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EVICTION_THRESHOLD;
+	}
+
+	/**
+	 * Defines the interval in milliseconds between background removals of expired {@link Session Sessions}
+	 * discovered on read.  A value of {@literal 0} or less removes expired {@link Session Sessions}
+	 * on the calling thread.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * @return an integer value defining the interval in milliseconds between background removals
+	 * of expired {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EXPIRED_SESSION_DELETION_INTERVAL_IN_MILLISECONDS
+	 */
+	default int getExpiredSessionDeletionIntervalInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EXPIRED_SESSION_DELETION_INTERVAL_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the interval in milliseconds between sweeps of expired {@link Session Sessions} on the server.
+	 * A positive value replaces {@link org.apache.geode.cache.Region} entry idle-timeout expiration.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * @return an integer value defining the interval in milliseconds between sweeps of expired
+	 * {@link Session Sessions} on the server.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_EXPIRATION_SWEEP_INTERVAL_IN_MILLISECONDS
+	 */
+	default int getExpirationSweepIntervalInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_EXPIRATION_SWEEP_INTERVAL_IN_MILLISECONDS;
+	}
+
 	/**
 	 * Identifies the {@link Session} attributes by name that will be indexed for query operations.
 	 *
@@ -69,6 +276,33 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_INDEXABLE_SESSION_ATTRIBUTES;
 	}
 
+	/**
+	 * Defines whether an individual {@link org.apache.geode.cache.query.Index} is created for each
+	 * indexable {@link Session} attribute, rather than a single map {@link org.apache.geode.cache.query.Index}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether each indexable {@link Session} attribute is indexed individually.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_INDIVIDUAL_SESSION_ATTRIBUTE_INDEXES
+	 */
+	default boolean getIndividualSessionAttributeIndexes() {
+		return GemFireHttpSessionConfiguration.DEFAULT_INDIVIDUAL_SESSION_ATTRIBUTE_INDEXES;
+	}
+
+	/**
+	 * Defines the {@link IndexType} of the individual {@link org.apache.geode.cache.query.Index}
+	 * on each indexable {@link Session} attribute.
+	 *
+	 * Defaults to {@link IndexType#HASH}.
+	 *
+	 * @return the {@link IndexType} of each individual {@link Session} attribute
+	 * {@link org.apache.geode.cache.query.Index}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE
+	 */
+	default IndexType getSessionAttributeIndexType() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_INDEX_TYPE;
+	}
+
 	/**
 	 * Defines the maximum interval in seconds that a {@link Session} can remain inactive before it expires.
 	 *
@@ -81,6 +315,168 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS;
 	}
 
+	/**
+	 * Defines the maximum number of attributes of a {@link Session} when saved.
+	 *
+	 * Defaults to {@literal -1}, which does not limit the number of {@link Session} attributes.
+	 *
+	 * @return an integer value defining the maximum number of attributes of a {@link Session}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_MAX_SESSION_ATTRIBUTES
+	 */
+	default int getMaxSessionAttributes() {
+		return GemFireHttpSessionConfiguration.DEFAULT_MAX_SESSION_ATTRIBUTES;
+	}
+
+	/**
+	 * Defines the maximum size in bytes of a {@link Session} when saved.
+	 *
+	 * Defaults to {@literal -1}, which does not limit the size of a {@link Session}.
+	 *
+	 * @return an integer value defining the maximum size in bytes of a {@link Session}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_MAX_SESSION_SIZE_IN_BYTES
+	 */
+	default int getMaxSessionSizeInBytes() {
+		return GemFireHttpSessionConfiguration.DEFAULT_MAX_SESSION_SIZE_IN_BYTES;
+	}
+
+	/**
+	 * Defines whether the values of the server cache {@link Region} used to store {@link Session} state
+	 * are stored in off-heap memory.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} stores values off-heap.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_OFF_HEAP
+	 */
+	default boolean getOffHeap() {
+		return GemFireHttpSessionConfiguration.DEFAULT_OFF_HEAP;
+	}
+
+	/**
+	 * Defines whether a {@link Session} is saved with an optimistic, version-checked replace on the server.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved with a version-checked replace.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_OPTIMISTIC_CONCURRENCY
+	 */
+	default boolean getOptimisticConcurrency() {
+		return GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY;
+	}
+
+	/**
+	 * Defines whether the server cache {@link Region} used to store {@link Session} state persists
+	 * {@link Session Sessions} to disk.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link Region} is persistent.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PERSISTENT
+	 */
+	default boolean getPersistent() {
+		return GemFireHttpSessionConfiguration.DEFAULT_PERSISTENT;
+	}
+
+	/**
+	 * Defines whether {@link Session Sessions} are routed by principal name, colocating all {@link Session Sessions}
+	 * of the same principal in the same bucket of a partitioned {@link Region}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal name.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PRINCIPAL_NAME_ROUTING
+	 */
+	default boolean getPrincipalNameRouting() {
+		return GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_NAME_ROUTING;
+	}
+
+	/**
+	 * Defines the delay in milliseconds before redundancy of the partitioned server {@link Region} is recovered
+	 * after a member leaves.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * @return an integer value defining the recovery delay in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_RECOVERY_DELAY_IN_MILLISECONDS
+	 */
+	default int getRecoveryDelayInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_RECOVERY_DELAY_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the number of redundant copies of each {@link Session} in the partitioned server {@link Region}.
+	 *
+	 * Defaults to {@literal -1}, using the redundancy of the {@link RegionShortcut}.
+	 *
+	 * @return an integer value defining the number of redundant copies.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_REDUNDANT_COPIES
+	 */
+	default int getRedundantCopies() {
+		return GemFireHttpSessionConfiguration.DEFAULT_REDUNDANT_COPIES;
+	}
+
+	/**
+	 * Defines the delay in milliseconds before redundancy of the partitioned server {@link Region} is recovered
+	 * after a member joins.
+	 *
+	 * Defaults to {@literal 0} (immediately).
+	 *
+	 * @return an integer value defining the startup recovery delay in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_STARTUP_RECOVERY_DELAY_IN_MILLISECONDS
+	 */
+	default int getStartupRecoveryDelayInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_STARTUP_RECOVERY_DELAY_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the total number of buckets of the partitioned server {@link Region}.
+	 *
+	 * Defaults to {@literal 113}.
+	 *
+	 * @return an integer value defining the total number of buckets.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_TOTAL_NUMBER_OF_BUCKETS
+	 */
+	default int getTotalNumberOfBuckets() {
+		return GemFireHttpSessionConfiguration.DEFAULT_TOTAL_NUMBER_OF_BUCKETS;
+	}
+
+	/**
+	 * Defines the amount of time in milliseconds a connection of the dedicated {@link Pool} may remain idle
+	 * before it is closed.
+	 *
+	 * Defaults to {@literal 5000} milliseconds.
+	 *
+	 * @return an integer value defining the idle timeout of {@link Pool} connections in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_IDLE_TIMEOUT_IN_MILLISECONDS
+	 */
+	default int getPoolIdleTimeoutInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_IDLE_TIMEOUT_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the maximum number of connections of the dedicated {@link Pool} to the servers.
+	 *
+	 * Defaults to {@literal -1}, which is unbounded.
+	 *
+	 * @return an integer value defining the maximum number of {@link Pool} connections.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_MAX_CONNECTIONS
+	 */
+	default int getPoolMaxConnections() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_MAX_CONNECTIONS;
+	}
+
+	/**
+	 * Defines the minimum number of connections of the dedicated {@link Pool} kept open to the servers.
+	 *
+	 * Defaults to {@literal 1}.
+	 *
+	 * @return an integer value defining the minimum number of {@link Pool} connections.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_MIN_CONNECTIONS
+	 */
+	default int getPoolMinConnections() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_MIN_CONNECTIONS;
+	}
+
 	/**
 	 * Specifies the name of the specific {@link Pool} used by the {@link ClientCache} {@link Region}
 	 * (i.e. {@literal ClusteredSpringSessions}) when performing cache data access operations.
@@ -97,6 +493,70 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_POOL_NAME;
 	}
 
+	/**
+	 * Defines whether the dedicated {@link Pool} sends single-key operations directly to the server hosting
+	 * the {@link Session}.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether single-hop access to partitioned {@link Region Regions}
+	 * is enabled.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_PR_SINGLE_HOP_ENABLED
+	 */
+	default boolean getPoolPrSingleHopEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_PR_SINGLE_HOP_ENABLED;
+	}
+
+	/**
+	 * Defines the amount of time in milliseconds the dedicated {@link Pool} waits for a response from a server.
+	 *
+	 * Defaults to {@literal 10000} milliseconds.
+	 *
+	 * @return an integer value defining the read timeout of {@link Pool} operations in milliseconds.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_READ_TIMEOUT_IN_MILLISECONDS
+	 */
+	default int getPoolReadTimeoutInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_READ_TIMEOUT_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the number of times the dedicated {@link Pool} retries a failed operation on another server.
+	 *
+	 * Defaults to {@literal -1}, which tries every server once.
+	 *
+	 * @return an integer value defining the number of retry attempts of {@link Pool} operations.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_RETRY_ATTEMPTS
+	 */
+	default int getPoolRetryAttempts() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_RETRY_ATTEMPTS;
+	}
+
+	/**
+	 * Defines the number of servers hosting a redundant copy of the subscription queue of the dedicated {@link Pool}.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * @return an integer value defining the redundancy of the {@link Pool} subscription queue.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_POOL_SUBSCRIPTION_REDUNDANCY
+	 */
+	default int getPoolSubscriptionRedundancy() {
+		return GemFireHttpSessionConfiguration.DEFAULT_POOL_SUBSCRIPTION_REDUNDANCY;
+	}
+
+	/**
+	 * Defines whether {@link Session} events are published only by the one peer member responsible for
+	 * the {@link Session}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} events are published only by
+	 * the primary peer member.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PUBLISH_EVENTS_FROM_PRIMARY_ONLY
+	 */
+	default boolean getPublishEventsFromPrimaryOnly() {
+		return GemFireHttpSessionConfiguration.DEFAULT_PUBLISH_EVENTS_FROM_PRIMARY_ONLY;
+	}
+
 	/**
 	 * Defines the {@link String name} of the (client)cache {@link Region} used to store {@link Session} state.
 	 *
@@ -124,6 +584,35 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_SERVER_REGION_SHORTCUT;
 	}
 
+	/**
+	 * Defines the bean name of the {@link org.springframework.session.data.gemfire.support.SessionIdGenerator}
+	 * used to generate {@link Session} IDs.
+	 *
+	 * Defaults to {@literal ""}, using a single {@link org.springframework.session.data.gemfire.support.SessionIdGenerator}
+	 * bean if present, or the {@link org.springframework.session.data.gemfire.support.UuidSessionIdGenerator}.
+	 *
+	 * @return a {@link String} containing the bean name of the configured
+	 * {@link org.springframework.session.data.gemfire.support.SessionIdGenerator}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ID_GENERATOR_BEAN_NAME
+	 */
+	default String getSessionIdGeneratorBeanName() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_ID_GENERATOR_BEAN_NAME;
+	}
+
+	/**
+	 * Defines the window in milliseconds during which concurrent lookups of the same {@link Session} by ID
+	 * are coalesced into a single fetch.  A negative value disables coalescing.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * @return an integer value defining the window in milliseconds during which {@link Session} lookups
+	 * are coalesced.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_LOOKUP_COALESCING_WINDOW_IN_MILLISECONDS
+	 */
+	default int getSessionLookupCoalescingWindowInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_LOOKUP_COALESCING_WINDOW_IN_MILLISECONDS;
+	}
+
 	/**
 	 * Defines the bean name of the {@link SessionSerializer} used to serialize {@link Session} state
 	 * between client and server or to disk when persisting or overflowing {@link Session} state.
@@ -140,4 +629,86 @@ public interface SpringSessionGemFireConfigurer {
 	default String getSessionSerializerBeanName() {
 		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 	}
+
+	/**
+	 * Defines the action performed when a {@link Session} exceeds the maximum number of attributes
+	 * or the maximum size when it is saved.
+	 *
+	 * Defaults to {@link SessionSizeGuardrail.ViolationAction#WARN}.
+	 *
+	 * @return the {@link SessionSizeGuardrail.ViolationAction} performed when a {@link Session} is too large.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_SIZE_VIOLATION_ACTION
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail
+	 */
+	default SessionSizeGuardrail.ViolationAction getSessionSizeViolationAction() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_SIZE_VIOLATION_ACTION;
+	}
+
+	/**
+	 * Determines whether statistics about {@link Session} operations are recorded with Apache Geode
+	 * / Pivotal GemFire {@link org.apache.geode.Statistics}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether statistics about {@link Session} operations are recorded.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_STATISTICS_ENABLED
+	 * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+	 */
+	default boolean getSessionStatisticsEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_STATISTICS_ENABLED;
+	}
+
+	/**
+	 * Defines whether a client registers interest in only those {@link Session Sessions} it has created or loaded,
+	 * rather than in {@literal ALL_KEYS}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether interest is registered in individual {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_TARGETED_INTEREST_REGISTRATION
+	 */
+	default boolean getTargetedInterestRegistration() {
+		return GemFireHttpSessionConfiguration.DEFAULT_TARGETED_INTEREST_REGISTRATION;
+	}
+
+	/**
+	 * Defines the interval in milliseconds between flushes of the write-behind queue.  A value of {@literal 0}
+	 * or less disables write-behind.
+	 *
+	 * Defaults to {@literal -1} (disabled).
+	 *
+	 * @return an integer value defining the interval in milliseconds between flushes of the write-behind queue.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL_IN_MILLISECONDS
+	 */
+	default int getWriteBehindFlushIntervalInMilliseconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL_IN_MILLISECONDS;
+	}
+
+	/**
+	 * Defines the maximum number of {@link Session Sessions} held in the write-behind queue.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * @return an integer value defining the maximum number of {@link Session Sessions} held
+	 * in the write-behind queue.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY
+	 */
+	default int getWriteBehindQueueCapacity() {
+		return GemFireHttpSessionConfiguration.DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY;
+	}
+
+	/**
+	 * Defines whether the cache {@link org.apache.geode.cache.Region} used to store {@link Session Sessions}
+	 * favors the throughput of {@link Session} writes, with asynchronous index maintenance and without cloning,
+	 * statistics and concurrency checks where they are not required.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether the {@link Session} {@link org.apache.geode.cache.Region}
+	 * is write-optimized.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_WRITE_OPTIMIZED
+	 */
+	default boolean getWriteOptimized() {
+		return GemFireHttpSessionConfiguration.DEFAULT_WRITE_OPTIMIZED;
+	}
 }
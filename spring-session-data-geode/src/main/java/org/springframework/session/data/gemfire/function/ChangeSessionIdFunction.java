@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+
+import org.springframework.session.Session;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ChangeSessionIdFunction} class is an Apache Geode / Pivotal GemFire {@link Function} used to move
+ * a {@link Session} from its previous ID (key) to its new ID in a single, routed server-side operation.
+ *
+ * The {@link Function} is routed to the member hosting the previous {@link Session} ID and expects the arguments
+ * to be an {@link Object} array containing the previous {@link Session} ID followed by the {@link Session}
+ * with its new ID.  The {@link Session} is first stored under its new ID before the entry for the previous ID
+ * is destroyed, so that the {@link Session} is never absent from the {@link Region}.
+ *
+ * Both {@link Region} operations are performed with the {@link #SESSION_ID_CHANGED_CALLBACK_ARGUMENT} so that
+ * {@link org.apache.geode.cache.CacheListener CacheListeners} can distinguish a {@link Session} ID change from
+ * a {@link Session} being created or destroyed.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class ChangeSessionIdFunction implements Function<Object[]> {
+
+	public static final String ID = "SpringSessionChangeSessionIdFunction";
+
+	public static final String SESSION_ID_CHANGED_CALLBACK_ARGUMENT =
+		"org.springframework.session.data.gemfire.SESSION_ID_CHANGED";
+
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by a {@link Session} ID change.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the given {@link EntryEvent} was caused by
+	 * a {@link Session} ID change.
+	 * @see org.apache.geode.cache.EntryEvent#getCallbackArgument()
+	 */
+	public static boolean isSessionIdChange(EntryEvent<?, ?> event) {
+		return event != null && SESSION_ID_CHANGED_CALLBACK_ARGUMENT.equals(event.getCallbackArgument());
+	}
+
+	/**
+	 * Moves the given {@link Session} from the previous {@link Session} ID to its current ID
+	 * in the given {@link Region}.
+	 *
+	 * @param region {@link Region} storing {@link Session} state.
+	 * @param previousSessionId {@link String} containing the previous ID of the {@link Session}.
+	 * @param session {@link Session} stored under its current ID.
+	 * @return the new {@link String ID} of the {@link Session}.
+	 * @throws IllegalArgumentException if the previous {@link Session} ID is {@literal null} or empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public static String changeSessionId(Region<?, ?> region, String previousSessionId, Session session) {
+
+		Region<Object, Session> sessionRegion = (Region<Object, Session>) region;
+
+		String resolvedPreviousSessionId = Optional.ofNullable(previousSessionId)
+			.filter(StringUtils::hasText)
+			.orElseThrow(() -> newIllegalArgumentException("Previous Session ID [%s] is required",
+				previousSessionId));
+
+		String newSessionId = session.getId();
+
+		sessionRegion.put(newSessionId, session, SESSION_ID_CHANGED_CALLBACK_ARGUMENT);
+
+		if (!resolvedPreviousSessionId.equals(newSessionId)) {
+			try {
+				sessionRegion.destroy(resolvedPreviousSessionId, SESSION_ID_CHANGED_CALLBACK_ARGUMENT);
+			}
+			catch (EntryNotFoundException ignore) {
+				// the Session stored under the previous ID already expired or was deleted
+			}
+		}
+
+		return newSessionId;
+	}
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> context) {
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+		Object[] arguments = context.getArguments();
+
+		if (arguments == null || arguments.length < 2 || !(arguments[1] instanceof Session)) {
+			throw newIllegalArgumentException("Expected the previous Session ID and the Session as arguments");
+		}
+
+		String newSessionId = changeSessionId(regionFunctionContext.getDataSet(),
+			String.valueOf(arguments[0]), (Session) arguments[1]);
+
+		context.getResultSender().lastResult(newSessionId);
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.session.Session;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link FindSessionsByPrincipalNameFunction} class is an Apache Geode / Pivotal GemFire {@link Function}
+ * used to find all {@link Session Sessions} of a principal with a query routed to a single bucket.
+ *
+ * The {@link Function} expects the arguments to be an {@link Object} array containing the principal name,
+ * and must be executed with a filter routed to the bucket storing the {@link Session Sessions} of the principal,
+ * as determined by the {@link org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver}.
+ * The query is then executed on the filtered bucket of the primary member only, rather than on all members.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query#execute(RegionFunctionContext, Object[])
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver
+ * @since 2.1.0
+ */
+public class FindSessionsByPrincipalNameFunction implements Function<Object[]> {
+
+	public static final String ID = "SpringSessionFindSessionsByPrincipalNameFunction";
+
+	protected static final String FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY =
+		"SELECT s FROM %1$s s WHERE s.principalName = $1";
+
+	/**
+	 * Finds all {@link Session Sessions} of the given principal in the buckets of the {@link Region}
+	 * selected by the filter of the given {@link RegionFunctionContext}.
+	 *
+	 * @param regionFunctionContext {@link RegionFunctionContext} of the {@link Function} execution.
+	 * @param principalName {@link String} containing the principal name.
+	 * @return a {@link List} of the {@link Session Sessions} of the principal.
+	 * @throws IllegalArgumentException if the principal name is {@literal null} or empty.
+	 * @throws IllegalStateException if the query fails.
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Session> findSessionsByPrincipalName(RegionFunctionContext regionFunctionContext,
+			String principalName) {
+
+		if (!StringUtils.hasText(principalName)) {
+			throw newIllegalArgumentException("Principal name is required");
+		}
+
+		Region<?, ?> region = regionFunctionContext.getDataSet();
+
+		Query query = region.getRegionService().getQueryService()
+			.newQuery(String.format(FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY, region.getFullPath()));
+
+		try {
+
+			SelectResults<Session> results = (SelectResults<Session>)
+				query.execute(regionFunctionContext, new Object[] { principalName });
+
+			return new ArrayList<>(results.asList());
+		}
+		catch (QueryException cause) {
+			throw newIllegalStateException(cause, "Failed to find Sessions for principal [%s]", principalName);
+		}
+	}
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> context) {
+
+		Object[] arguments = context.getArguments();
+
+		if (arguments == null || arguments.length < 1 || !(arguments[0] instanceof String)) {
+			throw newIllegalArgumentException("Expected the principal name as argument");
+		}
+
+		context.getResultSender().lastResult(findSessionsByPrincipalName((RegionFunctionContext) context,
+			(String) arguments[0]));
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+}
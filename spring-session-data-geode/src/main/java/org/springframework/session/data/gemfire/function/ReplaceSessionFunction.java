@@ -0,0 +1,239 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
+
+/**
+ * The {@link ReplaceSessionFunction} class is an Apache Geode / Pivotal GemFire {@link Function} used to store
+ * a {@link Session} with an optimistic, version-checked replace in a single, routed server-side operation.
+ *
+ * The {@link Function} is routed to the member hosting the {@link Session} and expects the arguments to be
+ * an {@link Object} array containing the version of the {@link Session} when it was read, the {@link Session}
+ * and the names of the {@link Session} attributes that were set or removed since the {@link Session} was read.
+ *
+ * When the stored version matches the expected version, the {@link Session} is stored as is.  Otherwise,
+ * the {@link Session} was stored concurrently by another request, and the changes are merged: the stored
+ * {@link Session} is kept, the changed attributes are applied on top of it, and the latest last accessed time
+ * is retained.  Changes to different attributes are therefore never lost, and when both requests changed
+ * the same attribute, the request stored last wins, as with a plain put.  Either way, the stored version
+ * is incremented and returned.
+ *
+ * When no {@link Session} is stored and the expected version is greater than {@literal 0}, the {@link Session}
+ * was deleted or expired since it was read, and is not stored again.
+ *
+ * The stored {@link Session} is replaced atomically with {@link Region#replace(Object, Object, Object)}
+ * conditioned on the stored version, or created with {@link Region#putIfAbsent(Object, Object)}, and the
+ * replacement is retried when another request stored the {@link Session} in the meantime.  Concurrent
+ * replacements are therefore resolved by the {@link Region} rather than by a lock held in the member executing
+ * the {@link Function}, which also holds when the {@link Function} is re-executed on another member.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession
+ * @since 2.1.0
+ */
+public class ReplaceSessionFunction implements Function<Object[]> {
+
+	public static final String ID = "SpringSessionReplaceSessionFunction";
+
+	public static final long SESSION_NOT_FOUND = -1L;
+
+	static final int MAX_REPLACE_ATTEMPTS = 16;
+
+	/**
+	 * Stores the given {@link Session} in the given {@link Region} if the stored version matches
+	 * the expected version, or merges the changed attributes into the stored {@link Session} otherwise.
+	 *
+	 * @param region {@link Region} storing {@link Session} state.
+	 * @param expectedVersion version of the {@link Session} when it was read.
+	 * @param session {@link Session} to store.
+	 * @param changedAttributeNames {@link Set} of names of the {@link Session} attributes set or removed
+	 * since the {@link Session} was read.
+	 * @return the new version of the stored {@link Session}, or {@link #SESSION_NOT_FOUND} if the {@link Session}
+	 * was deleted or expired since it was read.
+	 * @throws IllegalArgumentException if the {@link Session} is {@literal null}.
+	 * @throws IllegalStateException if the {@link Session} could not be replaced
+	 * after {@link #MAX_REPLACE_ATTEMPTS} attempts.
+	 */
+	@SuppressWarnings("unchecked")
+	public static long replaceSession(Region<?, ?> region, long expectedVersion, Session session,
+			Set<String> changedAttributeNames) {
+
+		if (session == null) {
+			throw newIllegalArgumentException("Session is required");
+		}
+
+		Region<Object, Session> sessionRegion = (Region<Object, Session>) region;
+
+		String sessionId = session.getId();
+
+		for (int attempt = 0; attempt < MAX_REPLACE_ATTEMPTS; attempt++) {
+
+			Session storedSession = sessionRegion.get(sessionId);
+
+			if (storedSession == null && expectedVersion > 0L) {
+				return SESSION_NOT_FOUND;
+			}
+
+			long storedVersion = versionOf(storedSession);
+
+			GemFireSession<?> replacementSession = storedSession == null || storedVersion == expectedVersion
+				? GemFireSession.from(session)
+				: merge(storedSession, session, changedAttributeNames);
+
+			replacementSession.setVersion(Math.max(storedVersion, expectedVersion) + 1L);
+
+			// store the complete Session rather than a delta so that all copies receive the version
+			replacementSession.clearDelta();
+			replacementSession.getAttributes().clearDelta();
+
+			boolean replaced = storedSession == null
+				? sessionRegion.putIfAbsent(sessionId, replacementSession) == null
+				: sessionRegion.replace(sessionId, new ExpectedSession(sessionId, storedVersion), replacementSession);
+
+			if (replaced) {
+				return replacementSession.getVersion();
+			}
+		}
+
+		throw newIllegalStateException("Failed to replace Session [%1$s] after [%2$d] attempts",
+			sessionId, MAX_REPLACE_ATTEMPTS);
+	}
+
+	/**
+	 * Merges the changes of the given {@link Session} into a copy of the concurrently stored {@link Session}.
+	 *
+	 * @param storedSession {@link Session} currently stored in the {@link Region}.
+	 * @param session {@link Session} to store.
+	 * @param changedAttributeNames {@link Set} of names of the {@link Session} attributes set or removed
+	 * since the {@link Session} was read.
+	 * @return the merged {@link GemFireSession}.
+	 */
+	static GemFireSession<?> merge(Session storedSession, Session session, Set<String> changedAttributeNames) {
+
+		GemFireSession<?> mergedSession = GemFireSession.copy(storedSession);
+
+		(changedAttributeNames != null ? changedAttributeNames : Collections.<String>emptySet())
+			.forEach(attributeName -> mergedSession.setAttribute(attributeName, session.getAttribute(attributeName)));
+
+		if (session.getLastAccessedTime().isAfter(mergedSession.getLastAccessedTime())) {
+			mergedSession.setLastAccessedTime(session.getLastAccessedTime());
+		}
+
+		mergedSession.setMaxInactiveInterval(session.getMaxInactiveInterval());
+
+		return mergedSession;
+	}
+
+	private static long versionOf(Session session) {
+		return (session instanceof GemFireSession ? ((GemFireSession<?>) session).getVersion() : 0L);
+	}
+
+	/**
+	 * {@link GemFireSession} used as the expected value of a conditional {@link Region#replace(Object, Object, Object)}
+	 * that is equal to a stored {@link GemFireSession} only when both the ID and the version are equal.
+	 *
+	 * {@link GemFireSession#equals(Object)} only compares IDs, which would allow the replace to succeed
+	 * even though the {@link Session} was stored concurrently.
+	 */
+	static final class ExpectedSession extends GemFireSession<GemFireSessionAttributes> {
+
+		ExpectedSession(String id, long version) {
+			super(id);
+			setVersion(version);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof GemFireSession)) {
+				return false;
+			}
+
+			GemFireSession<?> that = (GemFireSession<?>) obj;
+
+			return this.getId().equals(that.getId()) && this.getVersion() == that.getVersion();
+		}
+
+		@Override
+		public int hashCode() {
+			return super.hashCode();
+		}
+	}
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void execute(FunctionContext<Object[]> context) {
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+		Object[] arguments = context.getArguments();
+
+		if (arguments == null || arguments.length < 3 || !(arguments[0] instanceof Number)
+				|| !(arguments[1] instanceof Session)) {
+
+			throw newIllegalArgumentException(
+				"Expected the expected version, the Session and the changed attribute names as arguments");
+		}
+
+		long newVersion = replaceSession(regionFunctionContext.getDataSet(), ((Number) arguments[0]).longValue(),
+			(Session) arguments[1], (Set<String>) arguments[2]);
+
+		context.getResultSender().lastResult(newVersion);
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+}
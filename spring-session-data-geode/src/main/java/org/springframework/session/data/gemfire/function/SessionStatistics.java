@@ -0,0 +1,255 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionStatistics} class aggregates statistics about a population of {@link Session Sessions},
+ * such as the number and total size of the {@link Session Sessions}, a histogram of the {@link Session} sizes
+ * and ages, the frequency of each {@link Session} attribute name and the largest {@link Session Sessions}.
+ *
+ * {@link SessionStatistics} are computed on each member hosting {@link Session Sessions}
+ * by the {@link SessionStatisticsFunction} and {@link #merge(SessionStatistics) merged} by the caller,
+ * so that only the aggregates, and not the {@link Session Sessions}, are sent over the network.
+ *
+ * The histograms are arrays of counts, where the count at index {@literal i} is the number of
+ * {@link Session Sessions} less than the bound at index {@literal i}, and at least the bound at index
+ * {@literal i - 1}, of {@link #SIZE_HISTOGRAM_BOUNDS_IN_BYTES} or {@link #AGE_HISTOGRAM_BOUNDS_IN_SECONDS}.
+ * The last count is the number of {@link Session Sessions} at least the last bound.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.function.SessionStatisticsFunction
+ * @since 2.1.0
+ */
+public class SessionStatistics implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final int DEFAULT_LARGEST_SESSION_COUNT = 10;
+
+	public static final long[] AGE_HISTOGRAM_BOUNDS_IN_SECONDS = { 60, 300, 900, 1800, 3600, 14400 };
+
+	public static final long[] SIZE_HISTOGRAM_BOUNDS_IN_BYTES = { 1024, 4096, 16384, 65536, 262144, 1048576 };
+
+	private final int largestSessionCount;
+
+	private long sessionCount;
+	private long totalSizeInBytes;
+
+	private final long[] ageHistogram = new long[AGE_HISTOGRAM_BOUNDS_IN_SECONDS.length + 1];
+	private final long[] sizeHistogram = new long[SIZE_HISTOGRAM_BOUNDS_IN_BYTES.length + 1];
+
+	private final Map<String, Integer> largestSessions = new HashMap<>();
+
+	private final Map<String, Long> attributeNameFrequency = new HashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link SessionStatistics} recording
+	 * the {@link #DEFAULT_LARGEST_SESSION_COUNT default number} of the largest {@link Session Sessions}.
+	 */
+	public SessionStatistics() {
+		this(DEFAULT_LARGEST_SESSION_COUNT);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionStatistics} recording the given number
+	 * of the largest {@link Session Sessions}.
+	 *
+	 * @param largestSessionCount number of the largest {@link Session Sessions} to record;
+	 * {@literal 0} or less records none.
+	 */
+	public SessionStatistics(int largestSessionCount) {
+		this.largestSessionCount = Math.max(largestSessionCount, 0);
+	}
+
+	/**
+	 * Adds the given {@link Session} of the given serialized size to these {@link SessionStatistics}.
+	 *
+	 * @param session {@link Session} to add.
+	 * @param sizeInBytes serialized size of the {@link Session} in bytes.
+	 * @param now {@link Instant} used to determine the age of the {@link Session}.
+	 * @return these {@link SessionStatistics}.
+	 */
+	public SessionStatistics add(Session session, int sizeInBytes, Instant now) {
+
+		this.sessionCount++;
+		this.totalSizeInBytes += sizeInBytes;
+		this.sizeHistogram[indexOf(SIZE_HISTOGRAM_BOUNDS_IN_BYTES, sizeInBytes)]++;
+
+		long ageInSeconds = Duration.between(session.getCreationTime(), now).getSeconds();
+
+		this.ageHistogram[indexOf(AGE_HISTOGRAM_BOUNDS_IN_SECONDS, ageInSeconds)]++;
+
+		session.getAttributeNames().forEach(attributeName ->
+			this.attributeNameFrequency.merge(attributeName, 1L, Long::sum));
+
+		recordLargestSession(session.getId(), sizeInBytes);
+
+		return this;
+	}
+
+	/**
+	 * Merges the given {@link SessionStatistics} into these {@link SessionStatistics}.
+	 *
+	 * @param sessionStatistics {@link SessionStatistics} to merge; may be {@literal null}.
+	 * @return these {@link SessionStatistics}.
+	 */
+	public SessionStatistics merge(SessionStatistics sessionStatistics) {
+
+		if (sessionStatistics != null) {
+
+			this.sessionCount += sessionStatistics.sessionCount;
+			this.totalSizeInBytes += sessionStatistics.totalSizeInBytes;
+
+			for (int index = 0; index < this.ageHistogram.length; index++) {
+				this.ageHistogram[index] += sessionStatistics.ageHistogram[index];
+			}
+
+			for (int index = 0; index < this.sizeHistogram.length; index++) {
+				this.sizeHistogram[index] += sessionStatistics.sizeHistogram[index];
+			}
+
+			sessionStatistics.attributeNameFrequency.forEach((attributeName, frequency) ->
+				this.attributeNameFrequency.merge(attributeName, frequency, Long::sum));
+
+			sessionStatistics.largestSessions.forEach(this::recordLargestSession);
+		}
+
+		return this;
+	}
+
+	private int indexOf(long[] bounds, long value) {
+
+		int index = 0;
+
+		while (index < bounds.length && value >= bounds[index]) {
+			index++;
+		}
+
+		return index;
+	}
+
+	private void recordLargestSession(String sessionId, int sizeInBytes) {
+
+		if (this.largestSessionCount > 0) {
+
+			this.largestSessions.merge(sessionId, sizeInBytes, Math::max);
+
+			if (this.largestSessions.size() > this.largestSessionCount) {
+				this.largestSessions.entrySet().stream()
+					.min(Map.Entry.comparingByValue())
+					.map(Map.Entry::getKey)
+					.ifPresent(this.largestSessions::remove);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions}.
+	 *
+	 * @return the number of {@link Session Sessions}.
+	 */
+	public long getSessionCount() {
+		return this.sessionCount;
+	}
+
+	/**
+	 * Returns the total serialized size of all {@link Session Sessions} in bytes.
+	 *
+	 * @return the total serialized size of all {@link Session Sessions} in bytes.
+	 */
+	public long getTotalSizeInBytes() {
+		return this.totalSizeInBytes;
+	}
+
+	/**
+	 * Returns the average serialized size of a {@link Session} in bytes.
+	 *
+	 * @return the average serialized size of a {@link Session} in bytes; {@literal 0} if there are
+	 * no {@link Session Sessions}.
+	 */
+	public long getAverageSizeInBytes() {
+		return this.sessionCount > 0 ? this.totalSizeInBytes / this.sessionCount : 0L;
+	}
+
+	/**
+	 * Returns the histogram of the {@link Session} ages since creation,
+	 * bounded by {@link #AGE_HISTOGRAM_BOUNDS_IN_SECONDS}.
+	 *
+	 * @return the histogram of the {@link Session} ages.
+	 */
+	public long[] getAgeHistogram() {
+		return Arrays.copyOf(this.ageHistogram, this.ageHistogram.length);
+	}
+
+	/**
+	 * Returns the histogram of the serialized {@link Session} sizes, bounded by {@link #SIZE_HISTOGRAM_BOUNDS_IN_BYTES}.
+	 *
+	 * @return the histogram of the serialized {@link Session} sizes.
+	 */
+	public long[] getSizeHistogram() {
+		return Arrays.copyOf(this.sizeHistogram, this.sizeHistogram.length);
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} containing each attribute name.
+	 *
+	 * @return a {@link Map} of attribute name to the number of {@link Session Sessions} containing the attribute.
+	 */
+	public Map<String, Long> getAttributeNameFrequency() {
+		return Collections.unmodifiableMap(this.attributeNameFrequency);
+	}
+
+	/**
+	 * Returns the IDs and serialized sizes of the largest {@link Session Sessions}, ordered from the largest
+	 * to the smallest {@link Session}.
+	 *
+	 * @return a {@link Map} of {@link Session} ID to the serialized size of the {@link Session} in bytes.
+	 */
+	public Map<String, Integer> getLargestSessions() {
+
+		Map<String, Integer> largestSessions = new LinkedHashMap<>();
+
+		this.largestSessions.entrySet().stream()
+			.sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+			.forEach(session -> largestSessions.put(session.getKey(), session.getValue()));
+
+		return largestSessions;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{sessionCount=%2$d, totalSizeInBytes=%3$d, sizeHistogram=%4$s, ageHistogram=%5$s,"
+				+ " attributeNameFrequency=%6$s, largestSessions=%7$s}", getClass().getSimpleName(),
+			getSessionCount(), getTotalSizeInBytes(), Arrays.toString(this.sizeHistogram),
+			Arrays.toString(this.ageHistogram), this.attributeNameFrequency, getLargestSessions());
+	}
+}
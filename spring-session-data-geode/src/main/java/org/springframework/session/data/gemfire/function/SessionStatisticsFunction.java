@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.time.Instant;
+import java.util.function.ToIntFunction;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
+
+/**
+ * The {@link SessionStatisticsFunction} class is an Apache Geode / Pivotal GemFire {@link Function}
+ * used to compute {@link SessionStatistics} on each member hosting the {@link Session} {@link Region}.
+ *
+ * The {@link Function} is executed on all members hosting the {@link Region} and computes
+ * the {@link SessionStatistics} from the {@link Session Sessions} in the local buckets of a partitioned
+ * {@link Region} assigned to the member, or from all {@link Session Sessions} in a non-partitioned {@link Region}.
+ * Only the aggregated {@link SessionStatistics} are sent to the caller, which merges the results of all members.
+ *
+ * The {@link Function} optionally expects the arguments to be an {@link Object} array containing the number
+ * of the largest {@link Session Sessions} to record.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalDataForContext(RegionFunctionContext)
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.function.SessionStatistics
+ * @since 2.1.0
+ */
+public class SessionStatisticsFunction implements Function<Object[]> {
+
+	public static final String ID = "SpringSessionStatisticsFunction";
+
+	/**
+	 * Computes the {@link SessionStatistics} of all {@link Session Sessions} in the given {@link Region}.
+	 *
+	 * The size of each {@link Session} is its serialized size.  Values that are not {@link Session Sessions},
+	 * such as {@link Session Sessions} read as {@literal PdxInstances}, are ignored.
+	 *
+	 * @param region {@link Region} containing the {@link Session Sessions}.
+	 * @param largestSessionCount number of the largest {@link Session Sessions} to record.
+	 * @return the {@link SessionStatistics} of all {@link Session Sessions} in the given {@link Region}.
+	 * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail#sizeOf(Object)
+	 */
+	public static SessionStatistics computeSessionStatistics(Region<?, ?> region, int largestSessionCount) {
+		return computeSessionStatistics(region, largestSessionCount, SessionSizeGuardrail::sizeOf);
+	}
+
+	static SessionStatistics computeSessionStatistics(Region<?, ?> region, int largestSessionCount,
+			ToIntFunction<Session> sessionSizer) {
+
+		SessionStatistics sessionStatistics = new SessionStatistics(largestSessionCount);
+
+		Instant now = Instant.now();
+
+		region.values().stream()
+			.filter(Session.class::isInstance)
+			.map(Session.class::cast)
+			.forEach(session -> sessionStatistics.add(session, sessionSizer.applyAsInt(session), now));
+
+		return sessionStatistics;
+	}
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> context) {
+
+		if (!(context instanceof RegionFunctionContext)) {
+			throw newIllegalArgumentException("Expected to be executed on the Session Region");
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+		Region<?, ?> region = regionFunctionContext.getDataSet();
+
+		Region<?, ?> localRegion = PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalDataForContext(regionFunctionContext)
+			: region;
+
+		context.getResultSender().lastResult(computeSessionStatistics(localRegion,
+			resolveLargestSessionCount(context.getArguments())));
+	}
+
+	private int resolveLargestSessionCount(Object[] arguments) {
+
+		return arguments != null && arguments.length > 0 && arguments[0] instanceof Number
+			? ((Number) arguments[0]).intValue()
+			: SessionStatistics.DEFAULT_LARGEST_SESSION_COUNT;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+}
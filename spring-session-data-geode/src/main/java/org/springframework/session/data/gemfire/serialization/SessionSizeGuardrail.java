@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.DataSerializer;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionSizeGuardrail} class limits the number of attributes and the serialized size
+ * of a {@link Session}.
+ *
+ * The limits are enforced by the {@link org.springframework.session.SessionRepository} when a {@link Session}
+ * is saved, before the {@link Session} is sent to the cache in full or as a delta.  The size of a {@link Session}
+ * is the sum of the serialized sizes of its attributes.  When a {@link Session} exceeds either limit,
+ * the {@link SessionSizeGuardrail} either rejects the {@link Session} by throwing a {@link SerializationException},
+ * logs a warning, or names the largest attributes to strip from the {@link Session} until it is within the limits,
+ * depending on the configured {@link ViolationAction}.
+ *
+ * Every violation is logged with the largest attributes of the {@link Session}, and the largest size
+ * of each attribute found in a violating {@link Session} is recorded, so that the attributes responsible
+ * for large {@link Session Sessions} can be identified.
+ *
+ * @author John Blum
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.serialization.SerializationException
+ * @since 2.1.0
+ */
+public class SessionSizeGuardrail {
+
+	public static final int DEFAULT_REPORTED_ATTRIBUTE_COUNT = 5;
+	public static final int MAX_TRACKED_ATTRIBUTE_COUNT = 100;
+
+	public static final SessionSizeGuardrail NONE = new SessionSizeGuardrail(-1, -1, ViolationAction.WARN);
+
+	private final int maxAttributeCount;
+	private final int maxSessionSizeInBytes;
+
+	private final ConcurrentMap<String, Integer> largestAttributeSizes = new ConcurrentHashMap<>();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final LongAdder violationCount = new LongAdder();
+
+	private final ViolationAction violationAction;
+
+	/**
+	 * Returns the number of bytes of the given {@link Object value} serialized with Apache Geode / Pivotal GemFire
+	 * {@link DataSerializer#writeObject(Object, java.io.DataOutput) Data Serialization}.
+	 *
+	 * @param value {@link Object} to size.
+	 * @return the serialized size of the given {@link Object value} in bytes.
+	 * @throws SerializationException if the {@link Object value} could not be serialized.
+	 */
+	public static int sizeOf(Object value) {
+
+		try {
+
+			DataOutputStream out = new DataOutputStream(new OutputStream() {
+
+				@Override
+				public void write(int b) {
+				}
+
+				@Override
+				public void write(byte[] bytes, int offset, int length) {
+				}
+			});
+
+			DataSerializer.writeObject(value, out);
+
+			return out.size();
+		}
+		catch (IOException cause) {
+			throw new SerializationException(cause);
+		}
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionSizeGuardrail} initialized with the given limits.
+	 *
+	 * @param maxAttributeCount maximum number of attributes of a {@link Session};
+	 * {@literal 0} or less is unlimited.
+	 * @param maxSessionSizeInBytes maximum serialized size of a {@link Session} in bytes;
+	 * {@literal 0} or less is unlimited.
+	 * @param violationAction {@link ViolationAction} performed when a {@link Session} exceeds the limits;
+	 * defaults to {@link ViolationAction#WARN}.
+	 */
+	public SessionSizeGuardrail(int maxAttributeCount, int maxSessionSizeInBytes, ViolationAction violationAction) {
+
+		this.maxAttributeCount = maxAttributeCount;
+		this.maxSessionSizeInBytes = maxSessionSizeInBytes;
+		this.violationAction = Optional.ofNullable(violationAction).orElse(ViolationAction.WARN);
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are limited, which requires the size of each attribute
+	 * to be accounted for when the {@link Session} is saved.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are limited.
+	 */
+	public boolean isEnabled() {
+		return getMaxAttributeCount() > 0 || getMaxSessionSizeInBytes() > 0;
+	}
+
+	/**
+	 * Returns the maximum number of attributes of a {@link Session}; {@literal 0} or less is unlimited.
+	 *
+	 * @return the maximum number of attributes of a {@link Session}.
+	 */
+	public int getMaxAttributeCount() {
+		return this.maxAttributeCount;
+	}
+
+	/**
+	 * Returns the maximum serialized size of a {@link Session} in bytes; {@literal 0} or less is unlimited.
+	 *
+	 * @return the maximum serialized size of a {@link Session} in bytes.
+	 */
+	public int getMaxSessionSizeInBytes() {
+		return this.maxSessionSizeInBytes;
+	}
+
+	/**
+	 * Returns the {@link ViolationAction} performed when a {@link Session} exceeds the limits.
+	 *
+	 * @return the {@link ViolationAction} performed when a {@link Session} exceeds the limits.
+	 */
+	public ViolationAction getViolationAction() {
+		return this.violationAction;
+	}
+
+	/**
+	 * Returns the largest serialized size of each attribute found in {@link Session Sessions} that exceeded
+	 * the limits, ordered from the largest to the smallest attribute.
+	 *
+	 * At most {@link #MAX_TRACKED_ATTRIBUTE_COUNT} attributes are recorded.
+	 *
+	 * @return a {@link Map} of attribute name to the largest serialized size of the attribute in bytes.
+	 */
+	public Map<String, Integer> getLargestAttributeSizes() {
+		return largest(this.largestAttributeSizes.entrySet(), MAX_TRACKED_ATTRIBUTE_COUNT);
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} that exceeded the limits.
+	 *
+	 * @return the number of {@link Session Sessions} that exceeded the limits.
+	 */
+	public long getViolationCount() {
+		return this.violationCount.sum();
+	}
+
+	/**
+	 * Enforces the limits on a {@link Session} with attributes of the given serialized sizes.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session}; may be {@literal null}.
+	 * @param attributeSizes {@link Map} of attribute name to the serialized size of the attribute in bytes.
+	 * @return the {@link Set} of names of the attributes to strip from the {@link Session},
+	 * which is empty unless the {@link Session} exceeds the limits and the {@link ViolationAction}
+	 * is {@link ViolationAction#STRIP}.
+	 * @throws SerializationException if the {@link Session} exceeds the limits and the {@link ViolationAction}
+	 * is {@link ViolationAction#REJECT}.
+	 */
+	public Set<String> enforce(String sessionId, Map<String, Integer> attributeSizes) {
+
+		int attributeCount = attributeSizes.size();
+
+		long sessionSize = sum(attributeSizes);
+
+		if (isWithinLimits(attributeCount, sessionSize)) {
+			return Collections.emptySet();
+		}
+
+		this.violationCount.increment();
+
+		attributeSizes.forEach(this::record);
+
+		Map<String, Integer> attributeSizesInDescendingOrder =
+			largest(attributeSizes.entrySet(), attributeSizes.size());
+
+		String message = String.format("%1$s with [%2$d] attributes of [%3$d] bytes exceeds the limit of"
+				+ " [%4$d] attributes and [%5$d] bytes; largest attributes %6$s",
+			sessionId != null ? String.format("Session [%s]", sessionId) : "Session",
+			attributeCount, sessionSize, getMaxAttributeCount(), getMaxSessionSizeInBytes(),
+			largest(attributeSizesInDescendingOrder.entrySet(), DEFAULT_REPORTED_ATTRIBUTE_COUNT));
+
+		switch (getViolationAction()) {
+			case REJECT:
+				throw new SerializationException(message);
+			case STRIP:
+
+				Set<String> strippedAttributeNames = new LinkedHashSet<>();
+
+				for (Map.Entry<String, Integer> attribute : attributeSizesInDescendingOrder.entrySet()) {
+
+					if (isWithinLimits(attributeCount, sessionSize)) {
+						break;
+					}
+
+					strippedAttributeNames.add(attribute.getKey());
+					attributeCount--;
+					sessionSize -= attribute.getValue();
+				}
+
+				this.logger.warn(String.format("%1$s; stripped attributes %2$s", message, strippedAttributeNames));
+
+				return strippedAttributeNames;
+			default:
+				this.logger.warn(message);
+				return Collections.emptySet();
+		}
+	}
+
+	private boolean isWithinLimits(int attributeCount, long sessionSize) {
+
+		return (getMaxAttributeCount() <= 0 || attributeCount <= getMaxAttributeCount())
+			&& (getMaxSessionSizeInBytes() <= 0 || sessionSize <= getMaxSessionSizeInBytes());
+	}
+
+	private Map<String, Integer> largest(Set<Map.Entry<String, Integer>> attributeSizes, int limit) {
+
+		List<Map.Entry<String, Integer>> sortedAttributeSizes = attributeSizes.stream()
+			.sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+			.limit(limit)
+			.collect(Collectors.toList());
+
+		Map<String, Integer> largest = new LinkedHashMap<>();
+
+		sortedAttributeSizes.forEach(attribute -> largest.put(attribute.getKey(), attribute.getValue()));
+
+		return largest;
+	}
+
+	private void record(String attributeName, Integer attributeSize) {
+
+		if (this.largestAttributeSizes.size() < MAX_TRACKED_ATTRIBUTE_COUNT
+				|| this.largestAttributeSizes.containsKey(attributeName)) {
+
+			this.largestAttributeSizes.merge(attributeName, attributeSize, Math::max);
+		}
+	}
+
+	private long sum(Map<String, Integer> attributeSizes) {
+		return attributeSizes.values().stream().mapToLong(Integer::longValue).sum();
+	}
+
+	/**
+	 * Action performed when a {@link Session} exceeds the limits.
+	 */
+	public enum ViolationAction {
+
+		/**
+		 * Rejects the {@link Session} by throwing a {@link SerializationException}.
+		 */
+		REJECT,
+
+		/**
+		 * Strips the largest attributes from the {@link Session} until the {@link Session} is within the limits.
+		 */
+		STRIP,
+
+		/**
+		 * Logs a warning and stores the {@link Session} as is.
+		 */
+		WARN
+
+	}
+}
@@ -23,17 +23,26 @@ import static org.springframework.session.data.gemfire.AbstractGemFireOperations
 
 import java.io.DataInput;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Set;
 
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.AbstractDataSerializableSessionSerializer;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
 
 /**
  * The {@link DataSerializableSessionAttributesSerializer} class is an implementation of the {@link SessionSerializer}
  * interface used to serialize a Spring {@link Session} attributes using the GemFire/Geode's Data Serialization
  * framework.
  *
+ * When the {@link GemFireSessionAttributes#getSessionOperationStatistics() SessionOperationStatistics} of the
+ * {@link Session} attributes are recorded, the attributes are written through a {@link DataOutputStream}
+ * counting the bytes written for each attribute value, so that each attribute is still serialized once, directly
+ * to the {@link DataOutput}.
+ *
  * @author John Blum
  * @see java.io.DataInput
  * @see java.io.DataOutput
@@ -68,17 +77,67 @@ public class DataSerializableSessionAttributesSerializer
 
 			Set<String> attributeNames = nullSafeSet(sessionAttributes.getAttributeNames());
 
-			safeWrite(out, output -> output.writeInt(attributeNames.size()));
+			SessionOperationStatistics sessionOperationStatistics = sessionAttributes.getSessionOperationStatistics();
+
+			if (sessionOperationStatistics.isEnabled()) {
+				serializeWithStatistics(sessionAttributes, attributeNames, sessionOperationStatistics, out);
+			}
+			else {
 
-			attributeNames.forEach(attributeName -> {
-				safeWrite(out, output -> output.writeUTF(attributeName));
-				safeWrite(out, output -> serializeObject(sessionAttributes.getAttribute(attributeName), output));
-			});
+				safeWrite(out, output -> output.writeInt(attributeNames.size()));
+
+				attributeNames.forEach(attributeName -> {
+					safeWrite(out, output -> output.writeUTF(attributeName));
+					safeWrite(out, output -> serializeObject(sessionAttributes.getAttribute(attributeName), output));
+				});
+			}
 
 			sessionAttributes.clearDelta();
 		}
 	}
 
+	private void serializeWithStatistics(GemFireSessionAttributes sessionAttributes, Set<String> attributeNames,
+			SessionOperationStatistics sessionOperationStatistics, DataOutput out) {
+
+		DataOutputStream countingOut = newCountingDataOutput(out);
+
+		safeWrite(out, output -> output.writeInt(attributeNames.size()));
+
+		attributeNames.forEach(attributeName -> {
+
+			safeWrite(out, output -> output.writeUTF(attributeName));
+
+			int sizeBefore = countingOut.size();
+
+			safeWrite(countingOut, output -> serializeObject(sessionAttributes.getAttribute(attributeName), output));
+
+			sessionOperationStatistics.incBytesSerialized(countingOut.size() - sizeBefore);
+		});
+	}
+
+	/**
+	 * Returns a {@link DataOutputStream} writing through to the given {@link DataOutput} without buffering,
+	 * which counts the bytes written with {@link DataOutputStream#size()}.
+	 *
+	 * @param out {@link DataOutput} to write through to.
+	 * @return a {@link DataOutputStream} counting the bytes written to the given {@link DataOutput}.
+	 */
+	private DataOutputStream newCountingDataOutput(DataOutput out) {
+
+		return new DataOutputStream(new OutputStream() {
+
+			@Override
+			public void write(int b) throws IOException {
+				out.write(b);
+			}
+
+			@Override
+			public void write(byte[] bytes, int offset, int length) throws IOException {
+				out.write(bytes, offset, length);
+			}
+		});
+	}
+
 	@Override
 	public GemFireSessionAttributes deserialize(DataInput in) {
 
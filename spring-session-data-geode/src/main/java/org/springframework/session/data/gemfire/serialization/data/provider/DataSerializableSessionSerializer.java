@@ -29,6 +29,7 @@ import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
+import org.springframework.session.data.gemfire.serialization.SerializationException;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.AbstractDataSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.support.AbstractSession;
@@ -38,6 +39,11 @@ import org.springframework.util.StringUtils;
  * The {@link DataSerializableSessionSerializer} class is an implementation of the {@link SessionSerializer} interface
  * used to serialize a Spring {@link Session} using the GemFire/Geode's Data Serialization framework.
  *
+ * The serialized form starts with a format header, an empty {@link String} followed by the {@link #FORMAT_VERSION},
+ * which can never be mistaken for the {@link Session} ID that starts the legacy serialized form since
+ * a {@link Session} ID is never empty.  {@link Session Sessions} serialized in the legacy form, which has
+ * no version, are read as version {@literal 0}.
+ *
  * @author John Blum
  * @see java.io.DataInput
  * @see java.io.DataOutput
@@ -49,6 +55,11 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class DataSerializableSessionSerializer extends AbstractDataSerializableSessionSerializer<GemFireSession> {
 
+	protected static final byte FORMAT_VERSION = 1;
+	protected static final byte LEGACY_FORMAT_VERSION = 0;
+
+	protected static final String FORMAT_HEADER = "";
+
 	public static void register() {
 		register(DataSerializableSessionSerializer.class);
 		DataSerializableSessionAttributesSerializer.register();
@@ -70,6 +81,8 @@ public class DataSerializableSessionSerializer extends AbstractDataSerializableS
 
 		synchronized (session) {
 
+			safeWrite(out, output -> output.writeUTF(FORMAT_HEADER));
+			safeWrite(out, output -> output.writeByte(FORMAT_VERSION));
 			safeWrite(out, output -> output.writeUTF(session.getId()));
 			safeWrite(out, output -> output.writeLong(session.getCreationTime().toEpochMilli()));
 			safeWrite(out, output -> output.writeLong(session.getLastAccessedTime().toEpochMilli()));
@@ -86,6 +99,7 @@ public class DataSerializableSessionSerializer extends AbstractDataSerializableS
 			}
 
 			safeWrite(out, output -> serializeObject(session.getAttributes(), out));
+			safeWrite(out, output -> output.writeLong(session.getVersion()));
 
 			session.clearDelta();
 			session.getAttributes().clearDelta();
@@ -95,11 +109,24 @@ public class DataSerializableSessionSerializer extends AbstractDataSerializableS
 	@Override
 	public GemFireSession deserialize(DataInput in) {
 
+		String header = safeRead(in, DataInput::readUTF);
+
+		boolean legacyFormat = !FORMAT_HEADER.equals(header);
+
+		byte formatVersion = legacyFormat ? LEGACY_FORMAT_VERSION : safeRead(in, DataInput::readByte);
+
+		if (formatVersion > FORMAT_VERSION) {
+			throw new SerializationException(String.format("Session serialization format version [%1$d]"
+				+ " is not supported; the latest supported version is [%2$d]", formatVersion, FORMAT_VERSION));
+		}
+
+		String id = legacyFormat ? header : safeRead(in, DataInput::readUTF);
+
 		GemFireSession session = GemFireSession.from(new AbstractSession() {
 
 			@Override
 			public String getId() {
-				return safeRead(in, DataInput::readUTF);
+				return id;
 			}
 
 			@Override
@@ -131,7 +158,9 @@ public class DataSerializableSessionSerializer extends AbstractDataSerializableS
 
 		session.getAttributes().from(this.<GemFireSessionAttributes>safeRead(in, this::deserializeObject));
 		session.getAttributes().clearDelta();
+		session.getAttributes().clearChangedAttributeNames();
 		session.clearDelta();
+		session.setVersion(formatVersion >= FORMAT_VERSION ? safeRead(in, DataInput::readLong) : 0L);
 
 		return session;
 	}
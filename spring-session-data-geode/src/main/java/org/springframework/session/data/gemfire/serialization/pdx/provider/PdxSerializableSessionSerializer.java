@@ -38,6 +38,9 @@ import org.springframework.session.data.gemfire.support.AbstractSession;
  * The {@link PdxSerializableSessionSerializer} class is an implementation of the {@link SessionSerializer} interface
  * used to serialize a Spring {@link Session} using the GemFire/Geode's PDX Serialization framework.
  *
+ * PDX writes the {@link Session} attributes itself, so the serialized size of the attributes is not recorded
+ * in the {@link org.springframework.session.data.gemfire.support.SessionOperationStatistics}.
+ *
  * @author John Blum
  * @see org.apache.geode.pdx.PdxReader
  * @see org.apache.geode.pdx.PdxWriter
@@ -60,6 +63,7 @@ public class PdxSerializableSessionSerializer extends AbstractPdxSerializableSes
 			writer.writeLong("maxInactiveIntervalInSeconds", session.getMaxInactiveInterval().getSeconds());
 			writer.writeString("principalName", session.getPrincipalName());
 			writer.writeObject("attributes", newMap(session.getAttributes()));
+			writer.writeLong("version", session.getVersion());
 		}
 	}
 
@@ -101,6 +105,11 @@ public class PdxSerializableSessionSerializer extends AbstractPdxSerializableSes
 
 		session.setPrincipalName(reader.readString("principalName"));
 		session.getAttributes().from((Map<String, Object>) reader.readObject("attributes"));
+		session.getAttributes().clearChangedAttributeNames();
+
+		if (reader.hasField("version")) {
+			session.setVersion(reader.readLong("version"));
+		}
 
 		return session;
 	}
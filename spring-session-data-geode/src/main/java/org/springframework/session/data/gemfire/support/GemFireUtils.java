@@ -115,6 +115,27 @@ public abstract class GemFireUtils {
 		}
 	}
 
+	/**
+	 * Determines whether the given peer {@link RegionShortcut} is local only.
+	 *
+	 * @param shortcut the peer {@link RegionShortcut} to evaluate.
+	 * @return a boolean value indicating if the peer {@link RegionShortcut} is local or not.
+	 * @see org.apache.geode.cache.RegionShortcut
+	 */
+	public static boolean isLocal(RegionShortcut shortcut) {
+
+		switch (shortcut) {
+			case LOCAL:
+			case LOCAL_HEAP_LRU:
+			case LOCAL_OVERFLOW:
+			case LOCAL_PERSISTENT:
+			case LOCAL_PERSISTENT_OVERFLOW:
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	/**
 	 * Determines whether the client {@link ClientRegionShortcut} is a proxy-based
 	 * shortcut. NOTE: "proxy"-based Regions keep no local state.
@@ -159,6 +180,35 @@ public abstract class GemFireUtils {
 		return proxy;
 	}
 
+	/**
+	 * Determines whether the peer {@link RegionShortcut} is a partition-based shortcut.
+	 *
+	 * @param shortcut the peer {@link RegionShortcut} to evaluate.
+	 * @return a boolean value indicating whether the peer {@link RegionShortcut} refers
+	 * to a partition-based shortcut.
+	 * @see org.apache.geode.cache.RegionShortcut
+	 */
+	public static boolean isPartition(RegionShortcut shortcut) {
+
+		switch (shortcut) {
+			case PARTITION:
+			case PARTITION_HEAP_LRU:
+			case PARTITION_OVERFLOW:
+			case PARTITION_PERSISTENT:
+			case PARTITION_PERSISTENT_OVERFLOW:
+			case PARTITION_PROXY:
+			case PARTITION_PROXY_REDUNDANT:
+			case PARTITION_REDUNDANT:
+			case PARTITION_REDUNDANT_HEAP_LRU:
+			case PARTITION_REDUNDANT_OVERFLOW:
+			case PARTITION_REDUNDANT_PERSISTENT:
+			case PARTITION_REDUNDANT_PERSISTENT_OVERFLOW:
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	/**
 	 * Determines whether the peer {@link RegionShortcut} is a proxy-based shortcut. NOTE:
 	 * "proxy"-based Regions keep no local state.
@@ -180,6 +230,64 @@ public abstract class GemFireUtils {
 		}
 	}
 
+	/**
+	 * Determines whether the peer {@link RegionShortcut} is a redundant partition-based shortcut.
+	 *
+	 * @param shortcut the peer {@link RegionShortcut} to evaluate.
+	 * @return a boolean value indicating whether the peer {@link RegionShortcut} refers
+	 * to a redundant partition-based shortcut.
+	 * @see org.apache.geode.cache.RegionShortcut
+	 */
+	public static boolean isRedundant(RegionShortcut shortcut) {
+
+		switch (shortcut) {
+			case PARTITION_PROXY_REDUNDANT:
+			case PARTITION_REDUNDANT:
+			case PARTITION_REDUNDANT_HEAP_LRU:
+			case PARTITION_REDUNDANT_OVERFLOW:
+			case PARTITION_REDUNDANT_PERSISTENT:
+			case PARTITION_REDUNDANT_PERSISTENT_OVERFLOW:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Converts the given peer {@link RegionShortcut} into the equivalent {@link RegionShortcut} that also persists
+	 * {@link Region} data to disk.
+	 *
+	 * {@link RegionShortcut RegionShortcuts} that are already persistent, or that have no persistent equivalent,
+	 * such as proxies and {@literal HEAP_LRU} {@link RegionShortcut RegionShortcuts}, are returned as is.
+	 *
+	 * @param shortcut the peer {@link RegionShortcut} to convert.
+	 * @return the persistent equivalent of the given {@link RegionShortcut}.
+	 * @see org.apache.geode.cache.RegionShortcut
+	 */
+	public static RegionShortcut toPersistent(RegionShortcut shortcut) {
+
+		switch (shortcut) {
+			case LOCAL:
+				return RegionShortcut.LOCAL_PERSISTENT;
+			case LOCAL_OVERFLOW:
+				return RegionShortcut.LOCAL_PERSISTENT_OVERFLOW;
+			case PARTITION:
+				return RegionShortcut.PARTITION_PERSISTENT;
+			case PARTITION_OVERFLOW:
+				return RegionShortcut.PARTITION_PERSISTENT_OVERFLOW;
+			case PARTITION_REDUNDANT:
+				return RegionShortcut.PARTITION_REDUNDANT_PERSISTENT;
+			case PARTITION_REDUNDANT_OVERFLOW:
+				return RegionShortcut.PARTITION_REDUNDANT_PERSISTENT_OVERFLOW;
+			case REPLICATE:
+				return RegionShortcut.REPLICATE_PERSISTENT;
+			case REPLICATE_OVERFLOW:
+				return RegionShortcut.REPLICATE_PERSISTENT_OVERFLOW;
+			default:
+				return shortcut;
+		}
+	}
+
 	/**
 	 * Converts a {@link Region} name to a {@link Region} path.
 	 *
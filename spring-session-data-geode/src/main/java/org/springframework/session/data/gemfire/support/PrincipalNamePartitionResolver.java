@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.PartitionResolver;
+
+import org.springframework.session.Session;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link PrincipalNamePartitionResolver} class is an Apache Geode / Pivotal GemFire {@link PartitionResolver}
+ * colocating all {@link Session Sessions} of the same principal in the same bucket of a
+ * {@link org.apache.geode.cache.RegionShortcut#PARTITION} {@link org.apache.geode.cache.Region}.
+ *
+ * A {@link PartitionResolver} only has access to the key of a {@link org.apache.geode.cache.Region} operation,
+ * which is the {@link Session} ID, so the principal is encoded in the {@link Session} ID as a routing key
+ * derived from the principal name, followed by the {@link #ROUTING_KEY_SEPARATOR}.  The routing key is
+ * the routing object of the {@link Session}.  {@link Session} IDs without a routing key are routed by ID.
+ *
+ * The routing key is a bucket number between {@literal 0} and {@link #ROUTING_KEY_COUNT} (exclusive)
+ * rather than a hash of the principal name, so that the {@link Session} ID, which is sent to the browser
+ * in the {@link Session} cookie, does not disclose a fingerprint of the principal name.  Principals sharing
+ * a routing key share a bucket.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.EntryOperation
+ * @see org.apache.geode.cache.PartitionResolver
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class PrincipalNamePartitionResolver implements PartitionResolver<Object, Session> {
+
+	public static final PrincipalNamePartitionResolver INSTANCE = new PrincipalNamePartitionResolver();
+
+	public static final char ROUTING_KEY_SEPARATOR = '.';
+
+	public static final int ROUTING_KEY_COUNT = 113;
+
+	/**
+	 * Returns the routing key of the given principal name, which is the bucket number of the principal name
+	 * between {@literal 0} and {@link #ROUTING_KEY_COUNT} (exclusive).
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @return the routing key of the principal name.
+	 * @throws IllegalArgumentException if the principal name is {@literal null} or empty.
+	 */
+	public static String routingKey(String principalName) {
+
+		if (!StringUtils.hasText(principalName)) {
+			throw newIllegalArgumentException("Principal name is required");
+		}
+
+		return String.valueOf(Math.floorMod(principalName.hashCode(), ROUTING_KEY_COUNT));
+	}
+
+	/**
+	 * Returns a {@link Session} ID routed by the given principal name, which is the given {@link Session} ID
+	 * prefixed with the routing key of the principal name.
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @param sessionId {@link String} containing the {@link Session} ID to route.
+	 * @return the {@link Session} ID routed by the principal name.
+	 * @see #routingKey(String)
+	 */
+	public static String toRoutedSessionId(String principalName, String sessionId) {
+		return routingKey(principalName) + ROUTING_KEY_SEPARATOR + sessionId;
+	}
+
+	/**
+	 * Returns a key routed to the bucket storing the {@link Session Sessions} of the given principal name,
+	 * used as a filter to execute a {@link org.apache.geode.cache.execute.Function} on that bucket only.
+	 *
+	 * @param principalName {@link String} containing the principal name.
+	 * @return a key routed by the principal name.
+	 * @see #routingKey(String)
+	 */
+	public static String toRoutingFilterKey(String principalName) {
+		return routingKey(principalName) + ROUTING_KEY_SEPARATOR;
+	}
+
+	/**
+	 * Determines whether the given {@link Session} ID is routed by the given principal name.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session} ID.
+	 * @param principalName {@link String} containing the principal name.
+	 * @return a boolean value indicating whether the {@link Session} ID is routed by the principal name.
+	 * @see #toRoutingFilterKey(String)
+	 */
+	public static boolean isRoutedBy(String sessionId, String principalName) {
+		return sessionId != null && sessionId.startsWith(toRoutingFilterKey(principalName));
+	}
+
+	@Override
+	public String getName() {
+		return getClass().getName();
+	}
+
+	@Override
+	public Object getRoutingObject(EntryOperation<Object, Session> entryOperation) {
+
+		Object key = entryOperation.getKey();
+
+		if (key instanceof String) {
+
+			String sessionId = (String) key;
+
+			int separatorIndex = sessionId.indexOf(ROUTING_KEY_SEPARATOR);
+
+			return separatorIndex > 0 ? sessionId.substring(0, separatorIndex) : sessionId;
+		}
+
+		return key;
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link PrincipalNameResolver} interface is a Strategy interface used to resolve the {@link String name}
+ * of the principal (i.e. user) that owns a {@link Session} from the security context stored in the {@link Session}
+ * (e.g. the {@literal SPRING_SECURITY_CONTEXT} {@link Session} attribute).
+ *
+ * The resolved principal name is cached by the {@link Session} until the {@literal Authentication} of the security
+ * context changes; implementations should therefore be stateless and free of side effects.
+ *
+ * @author John Blum
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.SpelExpressionPrincipalNameResolver
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface PrincipalNameResolver {
+
+	/**
+	 * Resolves the {@link String name} of the principal from the given security context.
+	 *
+	 * @param securityContext {@link Object} containing the security context stored in the {@link Session}.
+	 * @return the {@link String name} of the principal or {@literal null} if the principal name
+	 * could not be resolved.
+	 */
+	String resolvePrincipalName(Object securityContext);
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * The {@link SecureRandomSessionIdGenerator} class is an implementation of the {@link SessionIdGenerator}
+ * interface, generating {@link org.springframework.session.Session} IDs from cryptographically strong random bytes
+ * encoded as URL-safe Base64 without padding.
+ *
+ * Each thread uses its own {@link SecureRandom}, seeded from a shared {@link SecureRandom}, so that concurrent
+ * {@link org.springframework.session.Session} creation does not contend on a single {@link SecureRandom},
+ * as {@link java.util.UUID#randomUUID()} does.  By default, {@literal 16} random bytes ({@literal 128} bits)
+ * are encoded as a {@literal 22} character ID, which is at least as strong as a random {@link java.util.UUID}
+ * ({@literal 122} random bits) in less than two-thirds of its {@literal 36} characters.
+ *
+ * The {@link SecureRandomSessionIdGenerator} is not used by default, since it changes the format of
+ * {@link org.springframework.session.Session} IDs from the {@link UuidSessionIdGenerator default}.
+ * Declare it as a {@link SessionIdGenerator} bean to use it.
+ *
+ * @author John Blum
+ * @see java.security.SecureRandom
+ * @see java.util.Base64#getUrlEncoder()
+ * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+ * @see org.springframework.session.data.gemfire.support.UuidSessionIdGenerator
+ * @since 2.1.0
+ */
+public class SecureRandomSessionIdGenerator implements SessionIdGenerator {
+
+	public static final int DEFAULT_ID_LENGTH_IN_BYTES = 16;
+
+	public static final SecureRandomSessionIdGenerator INSTANCE = new SecureRandomSessionIdGenerator();
+
+	protected static final String SECURE_RANDOM_ALGORITHM = "SHA1PRNG";
+
+	private static final int SEED_LENGTH_IN_BYTES = 32;
+
+	private static final Base64.Encoder ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+	private final int idLengthInBytes;
+
+	private final ThreadLocal<SecureRandom> secureRandom = ThreadLocal.withInitial(this::newSecureRandom);
+
+	/**
+	 * Constructs a new instance of {@link SecureRandomSessionIdGenerator} generating IDs
+	 * from {@link #DEFAULT_ID_LENGTH_IN_BYTES} random bytes.
+	 */
+	public SecureRandomSessionIdGenerator() {
+		this(DEFAULT_ID_LENGTH_IN_BYTES);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SecureRandomSessionIdGenerator} generating IDs
+	 * from the given number of random bytes.
+	 *
+	 * @param idLengthInBytes number of random bytes in each generated ID.
+	 * @throws IllegalArgumentException if the number of random bytes is less than
+	 * {@link #DEFAULT_ID_LENGTH_IN_BYTES}.
+	 */
+	public SecureRandomSessionIdGenerator(int idLengthInBytes) {
+
+		if (idLengthInBytes < DEFAULT_ID_LENGTH_IN_BYTES) {
+			throw newIllegalArgumentException("ID length in bytes [%d] must be at least [%d]",
+				idLengthInBytes, DEFAULT_ID_LENGTH_IN_BYTES);
+		}
+
+		this.idLengthInBytes = idLengthInBytes;
+	}
+
+	/**
+	 * Returns the number of random bytes in each generated ID.
+	 *
+	 * @return the number of random bytes in each generated ID.
+	 */
+	public int getIdLengthInBytes() {
+		return this.idLengthInBytes;
+	}
+
+	/**
+	 * Constructs a new {@link SecureRandom} for the calling thread.
+	 *
+	 * The {@link SecureRandom} is explicitly seeded from the shared seed source, which is only accessed
+	 * once per thread, so that the thread-local {@link SecureRandom} neither blocks on self-seeding
+	 * nor shares state with other threads.
+	 *
+	 * @return a new {@link SecureRandom}.
+	 */
+	protected SecureRandom newSecureRandom() {
+
+		byte[] seed = new byte[SEED_LENGTH_IN_BYTES];
+
+		SEED_SOURCE.nextBytes(seed);
+
+		try {
+
+			SecureRandom secureRandom = SecureRandom.getInstance(SECURE_RANDOM_ALGORITHM);
+
+			secureRandom.setSeed(seed);
+
+			return secureRandom;
+		}
+		catch (NoSuchAlgorithmException ignore) {
+			return new SecureRandom(seed);
+		}
+	}
+
+	@Override
+	public String generateId() {
+
+		byte[] randomBytes = new byte[getIdLengthInBytes()];
+
+		this.secureRandom.get().nextBytes(randomBytes);
+
+		return ID_ENCODER.encodeToString(randomBytes);
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionDeletionQueue} class queues expired {@link Session Sessions} discovered on read and removes
+ * them from the cache {@link org.apache.geode.cache.Region} in batches from a background thread.
+ *
+ * Each batch is removed with a single {@link org.apache.geode.cache.Region#removeAll(java.util.Collection)}
+ * after which the deletion handler is notified of every removed {@link Session}, for instance to publish
+ * a {@link org.springframework.session.events.SessionDeletedEvent}.
+ *
+ * The queue is bounded.  When the queue is full, or closed, the {@link Session} is removed immediately
+ * on the calling thread.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ScheduledExecutorService
+ * @see org.apache.geode.cache.Region#removeAll(java.util.Collection)
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class SessionDeletionQueue {
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	private final AtomicLong batchCount = new AtomicLong(0L);
+	private final AtomicLong deletedSessionCount = new AtomicLong(0L);
+
+	private final BiConsumer<String, Session> deletionHandler;
+
+	private final ConcurrentMap<String, Session> expiredSessions = new ConcurrentHashMap<>();
+
+	private final GemfireOperations template;
+
+	private final int capacity;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ScheduledExecutorService deletionExecutor;
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Constructs a new instance of {@link SessionDeletionQueue} initialized with the given {@link GemfireOperations},
+	 * deletion interval and deletion handler using the {@link #DEFAULT_CAPACITY default capacity}.
+	 *
+	 * @param template {@link GemfireOperations} used to remove expired {@link Session Sessions}.
+	 * @param deletionInterval {@link Duration} between removals of queued, expired {@link Session Sessions}.
+	 * @param deletionHandler {@link BiConsumer} notified of every removed {@link Session}.
+	 * @see #SessionDeletionQueue(GemfireOperations, Duration, int, BiConsumer)
+	 */
+	public SessionDeletionQueue(GemfireOperations template, Duration deletionInterval,
+			BiConsumer<String, Session> deletionHandler) {
+
+		this(template, deletionInterval, DEFAULT_CAPACITY, deletionHandler);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionDeletionQueue} initialized with the given {@link GemfireOperations},
+	 * deletion interval, capacity and deletion handler.
+	 *
+	 * @param template {@link GemfireOperations} used to remove expired {@link Session Sessions}.
+	 * @param deletionInterval {@link Duration} between removals of queued, expired {@link Session Sessions}.
+	 * @param capacity maximum number of expired {@link Session Sessions} queued.
+	 * @param deletionHandler {@link BiConsumer} notified of every removed {@link Session}.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} or the deletion handler is {@literal null},
+	 * the deletion interval is {@literal null} or not positive, or the capacity is less than {@literal 1}.
+	 */
+	public SessionDeletionQueue(GemfireOperations template, Duration deletionInterval, int capacity,
+			BiConsumer<String, Session> deletionHandler) {
+
+		this.template = Optional.ofNullable(template)
+			.orElseThrow(() -> newIllegalArgumentException("GemfireOperations is required"));
+
+		Duration resolvedDeletionInterval = Optional.ofNullable(deletionInterval)
+			.filter(interval -> !(interval.isNegative() || interval.isZero()))
+			.orElseThrow(() -> newIllegalArgumentException("Deletion interval [%s] must be greater than 0",
+				deletionInterval));
+
+		if (capacity < 1) {
+			throw newIllegalArgumentException("Capacity [%d] must be greater than 0", capacity);
+		}
+
+		this.capacity = capacity;
+
+		this.deletionHandler = Optional.ofNullable(deletionHandler)
+			.orElseThrow(() -> newIllegalArgumentException("Deletion handler is required"));
+
+		this.deletionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread deletionThread = new Thread(runnable, "SpringSessionExpiredSessionDeletionThread");
+
+			deletionThread.setDaemon(true);
+
+			return deletionThread;
+		});
+
+		long deletionIntervalInNanoseconds = resolvedDeletionInterval.toNanos();
+
+		this.deletionExecutor.scheduleWithFixedDelay(this::flushQuietly,
+			deletionIntervalInNanoseconds, deletionIntervalInNanoseconds, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of batches of expired {@link Session Sessions} removed.
+	 *
+	 * @return the number of batches removed.
+	 */
+	public long getBatchCount() {
+		return this.batchCount.get();
+	}
+
+	/**
+	 * Returns the number of expired {@link Session Sessions} removed.
+	 *
+	 * @return the number of expired {@link Session Sessions} removed.
+	 */
+	public long getDeletedSessionCount() {
+		return this.deletedSessionCount.get();
+	}
+
+	/**
+	 * Returns the number of expired {@link Session Sessions} currently queued.
+	 *
+	 * @return the number of queued, expired {@link Session Sessions}.
+	 */
+	public int getPendingDeletionCount() {
+		return this.expiredSessions.size();
+	}
+
+	/**
+	 * Determines whether this queue has been closed.
+	 *
+	 * @return a boolean value indicating whether this queue has been closed.
+	 * @see #close()
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Queues the given expired {@link Session} to be removed.
+	 *
+	 * @param sessionId {@link String} containing the ID of the expired {@link Session}.
+	 * @param session expired {@link Session} to remove.
+	 */
+	public void enqueue(String sessionId, Session session) {
+
+		if (isClosed() || (getPendingDeletionCount() >= this.capacity
+				&& !this.expiredSessions.containsKey(sessionId))) {
+
+			delete(Collections.singletonMap(sessionId, session));
+		}
+		else {
+
+			this.expiredSessions.putIfAbsent(sessionId, session);
+
+			// the queue may have been closed, and flushed, while the Session was being queued
+			if (isClosed()) {
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Removes all queued, expired {@link Session Sessions} from the cache {@link org.apache.geode.cache.Region}.
+	 */
+	public synchronized void flush() {
+
+		if (!this.expiredSessions.isEmpty()) {
+
+			Map<String, Session> batch = new HashMap<>(this.expiredSessions);
+
+			batch.forEach(this.expiredSessions::remove);
+
+			delete(batch);
+		}
+	}
+
+	private void flushQuietly() {
+
+		try {
+			flush();
+		}
+		catch (RuntimeException cause) {
+			// Sessions that could not be removed are eventually removed by Region entry expiration
+			this.logger.error("Failed to remove expired Sessions", cause);
+		}
+	}
+
+	private void delete(Map<String, Session> batch) {
+
+		this.template.execute(region -> {
+			region.removeAll(batch.keySet());
+			return null;
+		});
+
+		this.batchCount.incrementAndGet();
+		this.deletedSessionCount.addAndGet(batch.size());
+
+		batch.forEach(this.deletionHandler);
+	}
+
+	/**
+	 * Closes this queue, stopping the background deletion thread and removing all queued,
+	 * expired {@link Session Sessions}.
+	 *
+	 * Expired {@link Session Sessions} queued after this queue has been closed are removed immediately.
+	 */
+	public void close() {
+
+		this.closed = true;
+		this.deletionExecutor.shutdown();
+
+		try {
+			this.deletionExecutor.awaitTermination(30L, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			flush();
+		}
+	}
+}
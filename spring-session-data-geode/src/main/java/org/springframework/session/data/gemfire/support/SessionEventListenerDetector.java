@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+
+/**
+ * The {@link SessionEventListenerDetector} class determines whether any {@link ApplicationListener ApplicationListeners}
+ * are registered for a given type of {@link org.springframework.session.Session} event, so that
+ * {@link org.springframework.session.Session} events no one listens for need not be constructed nor published.
+ *
+ * Listeners are detected once the Spring {@link ApplicationContext} has been refreshed, which is when both
+ * {@link ApplicationListener} beans and {@link org.springframework.context.event.EventListener} methods
+ * have been registered.  The result is cached per event type.  Until the {@link ApplicationContext}
+ * has been refreshed, or when the listeners cannot be determined, listeners are assumed to be present.
+ * {@link ApplicationListener ApplicationListeners} added after the refresh are not detected.
+ *
+ * @author John Blum
+ * @see org.springframework.context.ApplicationContext
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @see org.springframework.context.event.GenericApplicationListenerAdapter
+ * @since 2.1.0
+ */
+public class SessionEventListenerDetector
+		implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
+
+	private final List<Runnable> refreshCallbacks = new CopyOnWriteArrayList<>();
+
+	private final Map<Class<?>, Boolean> listenedEventTypes = new ConcurrentHashMap<>();
+
+	private volatile ApplicationContext applicationContext;
+
+	private volatile boolean refreshed = false;
+
+	/**
+	 * Sets the {@link ApplicationContext} in which {@link ApplicationListener ApplicationListeners} are detected.
+	 *
+	 * @param applicationContext Spring {@link ApplicationContext} in which listeners are registered.
+	 * @throws BeansException if the {@link ApplicationContext} could not be set.
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Returns the {@link ApplicationContext} in which {@link ApplicationListener ApplicationListeners} are detected.
+	 *
+	 * @return an {@link Optional} {@link ApplicationContext}.
+	 */
+	protected Optional<ApplicationContext> getApplicationContext() {
+		return Optional.ofNullable(this.applicationContext);
+	}
+
+	/**
+	 * Determines whether the {@link ApplicationContext} has been refreshed and listeners can be detected.
+	 *
+	 * @return a boolean value indicating whether the {@link ApplicationContext} has been refreshed.
+	 */
+	public boolean isRefreshed() {
+		return this.refreshed;
+	}
+
+	/**
+	 * Detects the {@link ApplicationListener ApplicationListeners} again once the {@link ApplicationContext}
+	 * has been refreshed and notifies all {@link #whenRefreshed(Runnable) registered callbacks}.
+	 *
+	 * Refreshes of other, e.g. child, {@link ApplicationContext ApplicationContexts} are ignored.
+	 *
+	 * @param event {@link ContextRefreshedEvent} published when an {@link ApplicationContext} is refreshed.
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (event.getApplicationContext() == this.applicationContext) {
+			this.listenedEventTypes.clear();
+			this.refreshed = true;
+			this.refreshCallbacks.forEach(Runnable::run);
+		}
+	}
+
+	/**
+	 * Registers a callback invoked each time the {@link ApplicationContext} has been refreshed,
+	 * after which {@link #hasListeners(Class)} reflects the registered listeners.
+	 *
+	 * @param callback {@link Runnable} invoked after the {@link ApplicationContext} has been refreshed.
+	 */
+	public void whenRefreshed(Runnable callback) {
+		Optional.ofNullable(callback).ifPresent(this.refreshCallbacks::add);
+	}
+
+	/**
+	 * Determines whether any {@link ApplicationListener} is registered for the given type of event.
+	 *
+	 * @param eventType {@link Class type} of {@link ApplicationEvent}.
+	 * @return a boolean value indicating whether any listener is registered for the given type of event;
+	 * always {@literal true} until the {@link ApplicationContext} has been refreshed.
+	 */
+	public boolean hasListeners(Class<? extends ApplicationEvent> eventType) {
+		return !isRefreshed() || this.listenedEventTypes.computeIfAbsent(eventType, this::detectListeners);
+	}
+
+	/**
+	 * Determines whether any {@link ApplicationListener} is registered for any of the given types of events.
+	 *
+	 * @param eventTypes array of {@link ApplicationEvent} {@link Class types}.
+	 * @return a boolean value indicating whether any listener is registered for any of the given types of events.
+	 * @see #hasListeners(Class)
+	 */
+	@SafeVarargs
+	public final boolean hasAnyListeners(Class<? extends ApplicationEvent>... eventTypes) {
+		return Arrays.stream(eventTypes).anyMatch(this::hasListeners);
+	}
+
+	private boolean detectListeners(Class<?> eventType) {
+
+		ResolvableType resolvableEventType = ResolvableType.forClass(eventType);
+
+		// events published in a child ApplicationContext are also published in the parent ApplicationContext
+		for (ApplicationContext context = this.applicationContext; context != null; context = context.getParent()) {
+
+			if (!(context instanceof AbstractApplicationContext)) {
+				return true;
+			}
+
+			boolean registered = ((AbstractApplicationContext) context).getApplicationListeners().stream()
+				.anyMatch(listener -> supportsEventType(listener, resolvableEventType));
+
+			if (registered) {
+				return true;
+			}
+
+			ApplicationContext currentContext = context;
+
+			registered = Arrays.stream(context.getBeanNamesForType(ApplicationListener.class, true, false))
+				.map(currentContext::getType)
+				.anyMatch(listenerType -> supportsEventType(listenerType, resolvableEventType));
+
+			if (registered) {
+				return true;
+			}
+		}
+
+		return this.applicationContext == null;
+	}
+
+	private boolean supportsEventType(ApplicationListener<?> listener, ResolvableType eventType) {
+		return new GenericApplicationListenerAdapter(listener).supportsEventType(eventType);
+	}
+
+	private boolean supportsEventType(Class<?> listenerType, ResolvableType eventType) {
+
+		if (listenerType == null || GenericApplicationListener.class.isAssignableFrom(listenerType)
+				|| SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+
+			return true;
+		}
+
+		ResolvableType declaredEventType = ResolvableType.forClass(listenerType)
+			.as(ApplicationListener.class).getGeneric();
+
+		return declaredEventType == ResolvableType.NONE || declaredEventType.resolve() == null
+			|| declaredEventType.isAssignableFrom(eventType);
+	}
+}
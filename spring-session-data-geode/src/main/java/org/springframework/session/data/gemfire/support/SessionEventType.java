@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+/**
+ * The {@link SessionEventType} enum enumerates the types of {@link org.springframework.session.Session} events
+ * an application can subscribe to when {@link org.springframework.session.Session} events are delivered
+ * by Apache Geode Continuous Queries (CQ).
+ *
+ * @author John Blum
+ * @see org.springframework.session.events.SessionCreatedEvent
+ * @see org.springframework.session.events.SessionDestroyedEvent
+ * @see org.springframework.session.events.SessionExpiredEvent
+ * @since 2.1.0
+ */
+public enum SessionEventType {
+
+	/**
+	 * A {@link org.springframework.session.Session} was created.
+	 *
+	 * @see org.springframework.session.events.SessionCreatedEvent
+	 */
+	CREATED,
+
+	/**
+	 * A {@link org.springframework.session.Session} was deleted (destroyed).
+	 *
+	 * @see org.springframework.session.events.SessionDestroyedEvent
+	 */
+	DELETED,
+
+	/**
+	 * A {@link org.springframework.session.Session} expired.
+	 *
+	 * @see org.springframework.session.events.SessionExpiredEvent
+	 */
+	EXPIRED
+
+}
@@ -0,0 +1,558 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionExpirationSweeper} class is a server-side {@link org.apache.geode.cache.CacheListener}
+ * that expires {@link Session Sessions} in batches, in place of {@link Region} entry idle-timeout expiration.
+ *
+ * The sweeper keeps an index of {@link Session} IDs bucketed by the time at which each {@link Session} expires,
+ * as determined from the {@link Session Session's} last accessed time and max inactive interval.  The index is
+ * maintained from the {@link Region} entry events.  On each sweep, all buckets that have elapsed are removed from
+ * the index and every {@link Session} that is still expired is destroyed with a single
+ * {@link Region#removeAll(java.util.Collection, Object)} per batch, using the
+ * {@link #SESSION_EXPIRED_CALLBACK_ARGUMENT} so that {@link org.apache.geode.cache.CacheListener CacheListeners}
+ * can distinguish an expiration from a delete.
+ *
+ * Since the sweeper does not rely on entry idle-timeout expiration, the {@link Region} can be configured
+ * without per-entry statistics.
+ *
+ * In a partitioned {@link Region}, only {@link Session Sessions} for which this member is primary are destroyed.
+ *
+ * The sweeper never deserializes a {@link Session} to index an entry event for a redundant copy, or for a value
+ * stored in serialized form (e.g. PDX or off-heap).  Only the {@link Session} ID is indexed in the bucket of
+ * the next sweep, which resolves the expiration time from the local primary data, once per sweep regardless of
+ * the number of updates, and re-checks a redundant copy on each sweep until this member becomes primary for it,
+ * after a redundancy recovery or rebalance.
+ *
+ * As a Spring {@link SmartLifecycle} bean, the sweeper is started on the {@link #setRegion(Region) configured}
+ * {@link Region} once the Spring container has been refreshed, and stopped when the container is stopped or closed.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ScheduledExecutorService
+ * @see org.apache.geode.cache.Region#removeAll(java.util.Collection, Object)
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class SessionExpirationSweeper extends CacheListenerAdapter<Object, Session> implements SmartLifecycle {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	public static final String SESSION_EXPIRED_CALLBACK_ARGUMENT =
+		"org.springframework.session.data.gemfire.SESSION_EXPIRED";
+
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by the expiration of a {@link Session}
+	 * by a {@link SessionExpirationSweeper}.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the {@link EntryEvent} was caused by a {@link Session} expiration.
+	 * @see org.apache.geode.cache.EntryEvent#getCallbackArgument()
+	 */
+	public static boolean isSessionExpiration(EntryEvent<?, ?> event) {
+		return event != null && SESSION_EXPIRED_CALLBACK_ARGUMENT.equals(event.getCallbackArgument());
+	}
+
+	private final AtomicLong expiredSessionCount = new AtomicLong(0L);
+	private final AtomicLong sweepCount = new AtomicLong(0L);
+
+	private final ConcurrentMap<String, Long> expirationBuckets = new ConcurrentHashMap<>();
+
+	private final ConcurrentNavigableMap<Long, Set<String>> sessionIdsByExpirationBucket =
+		new ConcurrentSkipListMap<>();
+
+	private final Duration sweepInterval;
+
+	private final int batchSize;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final long bucketWidthInMilliseconds;
+
+	private volatile boolean registered = false;
+
+	private volatile Region<Object, Session> region;
+
+	private volatile ScheduledExecutorService sweepExecutor;
+
+	/**
+	 * Constructs a new instance of {@link SessionExpirationSweeper} initialized with the given sweep interval
+	 * using the {@link #DEFAULT_BATCH_SIZE default batch size}.
+	 *
+	 * @param sweepInterval {@link Duration} between sweeps; also the width of each expiration bucket.
+	 * @see #SessionExpirationSweeper(Duration, int)
+	 */
+	public SessionExpirationSweeper(Duration sweepInterval) {
+		this(sweepInterval, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionExpirationSweeper} initialized with the given sweep interval
+	 * and batch size.
+	 *
+	 * @param sweepInterval {@link Duration} between sweeps; also the width of each expiration bucket.
+	 * @param batchSize maximum number of expired {@link Session Sessions} destroyed in a single
+	 * {@link Region#removeAll(java.util.Collection, Object)}.
+	 * @throws IllegalArgumentException if the sweep interval is {@literal null} or less than 1 millisecond,
+	 * or the batch size is less than {@literal 1}.
+	 */
+	public SessionExpirationSweeper(Duration sweepInterval, int batchSize) {
+
+		this.sweepInterval = Optional.ofNullable(sweepInterval)
+			.filter(interval -> interval.toMillis() > 0)
+			.orElseThrow(() -> newIllegalArgumentException("Sweep interval [%s] must be at least 1 millisecond",
+				sweepInterval));
+
+		if (batchSize < 1) {
+			throw newIllegalArgumentException("Batch size [%d] must be greater than 0", batchSize);
+		}
+
+		this.batchSize = batchSize;
+		this.bucketWidthInMilliseconds = this.sweepInterval.toMillis();
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} expired by this sweeper.
+	 *
+	 * @return the number of {@link Session Sessions} expired.
+	 */
+	public long getExpiredSessionCount() {
+		return this.expiredSessionCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} currently indexed by expiration time.
+	 *
+	 * @return the number of indexed {@link Session Sessions}.
+	 */
+	public int getIndexedSessionCount() {
+		return this.expirationBuckets.size();
+	}
+
+	/**
+	 * Returns the number of sweeps performed by this sweeper.
+	 *
+	 * @return the number of sweeps.
+	 */
+	public long getSweepCount() {
+		return this.sweepCount.get();
+	}
+
+	/**
+	 * Returns the {@link Duration} between sweeps.
+	 *
+	 * @return the {@link Duration} between sweeps.
+	 */
+	public Duration getSweepInterval() {
+		return this.sweepInterval;
+	}
+
+	/**
+	 * Sets the {@link Region} storing the {@link Session Sessions} to expire once this sweeper is
+	 * {@link #start() started} by the Spring container.
+	 *
+	 * @param region {@link Region} storing the {@link Session Sessions} to expire; if {@literal null},
+	 * this sweeper is not started by the Spring container.
+	 * @see #start()
+	 */
+	public void setRegion(Region<Object, Session> region) {
+		this.region = region;
+	}
+
+	/**
+	 * Determines whether this sweeper has been started.
+	 *
+	 * @return a boolean value indicating whether this sweeper has been started.
+	 * @see #start(Region)
+	 */
+	@Override
+	public boolean isRunning() {
+		return this.sweepExecutor != null;
+	}
+
+	/**
+	 * Determines whether this sweeper is started by the Spring container, which is only when
+	 * a {@link #setRegion(Region) Region} has been configured.
+	 *
+	 * @return a boolean value indicating whether this sweeper is started by the Spring container.
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return this.region != null;
+	}
+
+	/**
+	 * Starts the sweeps last and stops them first, after and before all other {@link SmartLifecycle} beans.
+	 *
+	 * @return the phase of this sweeper.
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Starts this sweeper on the {@link #setRegion(Region) configured} {@link Region}, if any,
+	 * unless this sweeper is already running.
+	 *
+	 * @see #start(Region)
+	 */
+	@Override
+	public synchronized void start() {
+
+		Region<Object, Session> region = this.region;
+
+		if (region != null && !isRunning()) {
+			start(region);
+		}
+	}
+
+	/**
+	 * Registers this sweeper as a {@link org.apache.geode.cache.CacheListener} on the given {@link Region},
+	 * indexes all {@link Session Sessions} already stored locally and schedules the sweeps.
+	 *
+	 * @param region {@link Region} storing the {@link Session Sessions} to expire.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @throws IllegalStateException if this sweeper has already been started.
+	 * @see org.apache.geode.cache.AttributesMutator#addCacheListener(org.apache.geode.cache.CacheListener)
+	 */
+	public synchronized void start(Region<Object, Session> region) {
+
+		if (isRunning()) {
+			throw new IllegalStateException("SessionExpirationSweeper has already been started");
+		}
+
+		this.region = Optional.ofNullable(region)
+			.orElseThrow(() -> newIllegalArgumentException("Region is required"));
+
+		if (!this.registered) {
+			region.getAttributesMutator().addCacheListener(this);
+			this.registered = true;
+		}
+
+		resolveLocalData(region).keySet().forEach(key -> indexForNextSweep(String.valueOf(key)));
+
+		this.sweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread sweepThread = new Thread(runnable, "SpringSessionExpirationSweeperThread");
+
+			sweepThread.setDaemon(true);
+
+			return sweepThread;
+		});
+
+		this.sweepExecutor.scheduleWithFixedDelay(this::sweepQuietly,
+			this.bucketWidthInMilliseconds, this.bucketWidthInMilliseconds, TimeUnit.MILLISECONDS);
+	}
+
+	private Map<Object, Session> resolveLocalData(Region<Object, Session> region) {
+		return PartitionRegionHelper.isPartitionedRegion(region) ? PartitionRegionHelper.getLocalData(region) : region;
+	}
+
+	private Map<Object, Session> resolveLocalPrimaryData(Region<Object, Session> region) {
+
+		return PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalPrimaryData(region)
+			: region;
+	}
+
+	/**
+	 * Determines whether this member is primary for the {@link Session} with the given key
+	 * in the given {@link Region}.
+	 *
+	 * @param region {@link Region} storing the {@link Session}.
+	 * @param key key of the {@link Session}.
+	 * @return a boolean value indicating whether this member is primary for the {@link Session};
+	 * always {@literal true} if the {@link Region} is not partitioned.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)
+	 */
+	boolean isPrimary(Region<Object, Session> region, Object key) {
+
+		return !PartitionRegionHelper.isPartitionedRegion(region)
+			|| region.getCache().getDistributedSystem().getDistributedMember()
+				.equals(PartitionRegionHelper.getPrimaryMemberForKey(region, key));
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<Object, Session> event) {
+		index(event);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<Object, Session> event) {
+		index(event);
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<Object, Session> event) {
+		unindex(String.valueOf(event.getKey()));
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<Object, Session> event) {
+		unindex(String.valueOf(event.getKey()));
+	}
+
+	/**
+	 * Indexes the {@link Session} of the given {@link EntryEvent} by its expiration time only if this member is
+	 * primary for the {@link Session} and the new value is not in serialized form.  Otherwise, the
+	 * {@link Session} is not deserialized and its ID is indexed for the next sweep.
+	 *
+	 * @see org.apache.geode.cache.EntryEvent#getSerializedNewValue()
+	 */
+	private void index(EntryEvent<Object, Session> event) {
+
+		String sessionId = String.valueOf(event.getKey());
+
+		if (isPrimary(event.getRegion(), event.getKey()) && event.getSerializedNewValue() == null) {
+			index(sessionId, event.getNewValue());
+		}
+		else {
+			indexForNextSweep(sessionId);
+		}
+	}
+
+	void index(String sessionId, Session session) {
+
+		Optional<Long> expirationBucket = resolveExpirationBucket(session);
+
+		if (expirationBucket.isPresent()) {
+			index(sessionId, expirationBucket.get());
+		}
+		else {
+			unindex(sessionId);
+		}
+	}
+
+	private void index(String sessionId, long expirationBucket) {
+
+		Long previousExpirationBucket = this.expirationBuckets.put(sessionId, expirationBucket);
+
+		if (previousExpirationBucket == null || previousExpirationBucket != expirationBucket) {
+
+			Set<String> sessionIds;
+
+			// retry if the bucket was polled by a concurrent sweep before the Session ID was added
+			do {
+				sessionIds = this.sessionIdsByExpirationBucket
+					.computeIfAbsent(expirationBucket, bucket -> ConcurrentHashMap.newKeySet());
+
+				sessionIds.add(sessionId);
+			}
+			while (this.sessionIdsByExpirationBucket.get(expirationBucket) != sessionIds);
+
+			removeFromBucket(sessionId, previousExpirationBucket);
+		}
+	}
+
+	private void indexForNextSweep(String sessionId) {
+		index(sessionId, Instant.now().toEpochMilli() / this.bucketWidthInMilliseconds + 1);
+	}
+
+	private void unindex(String sessionId) {
+		removeFromBucket(sessionId, this.expirationBuckets.remove(sessionId));
+	}
+
+	private void removeFromBucket(String sessionId, Long expirationBucket) {
+
+		Optional.ofNullable(expirationBucket)
+			.map(this.sessionIdsByExpirationBucket::get)
+			.ifPresent(sessionIds -> sessionIds.remove(sessionId));
+	}
+
+	/**
+	 * A {@link Session} with a {@literal null}, zero or negative max inactive interval never expires,
+	 * consistent with {@link Session#isExpired()}.
+	 */
+	private Optional<Long> resolveExpirationBucket(Session session) {
+
+		return Optional.ofNullable(session)
+			.filter(it -> it.getLastAccessedTime() != null)
+			.filter(it -> it.getMaxInactiveInterval() != null)
+			.filter(it -> !(it.getMaxInactiveInterval().isNegative() || it.getMaxInactiveInterval().isZero()))
+			.map(it -> toExpirationBucket(it.getLastAccessedTime().plus(it.getMaxInactiveInterval())));
+	}
+
+	/**
+	 * Rounds the expiration time up to the end of its bucket so that a {@link Session} is never swept
+	 * before it has expired.
+	 */
+	private long toExpirationBucket(Instant expirationTime) {
+
+		long expirationTimeInMilliseconds = expirationTime.toEpochMilli();
+
+		return expirationTimeInMilliseconds / this.bucketWidthInMilliseconds
+			+ (expirationTimeInMilliseconds % this.bucketWidthInMilliseconds > 0 ? 1 : 0);
+	}
+
+	/**
+	 * Destroys all {@link Session Sessions} expired as of now.
+	 *
+	 * @see #sweep(Instant)
+	 */
+	public void sweep() {
+		sweep(Instant.now());
+	}
+
+	/**
+	 * Destroys all {@link Session Sessions} in the elapsed expiration buckets that are still expired
+	 * as of the given time.  {@link Session Sessions} that were accessed since they were indexed, or for which
+	 * this member is not primary, are indexed again in a later bucket.
+	 *
+	 * @param now {@link Instant} as of which {@link Session Sessions} are expired.
+	 */
+	synchronized void sweep(Instant now) {
+
+		Region<Object, Session> region = this.region;
+
+		if (region != null) {
+
+			long elapsedBucket = now.toEpochMilli() / this.bucketWidthInMilliseconds;
+
+			Map<Object, Session> localPrimaryData = resolveLocalPrimaryData(region);
+
+			List<String> expiredSessionIds = new ArrayList<>(this.batchSize);
+
+			for (Map.Entry<Long, Set<String>> bucket = pollElapsedBucket(elapsedBucket); bucket != null;
+					bucket = pollElapsedBucket(elapsedBucket)) {
+
+				for (String sessionId : bucket.getValue()) {
+					if (this.expirationBuckets.remove(sessionId, bucket.getKey())) {
+
+						Session session = localPrimaryData.get(sessionId);
+
+						if (session == null) {
+							// the Session was destroyed, or is stored on another member
+							if (localPrimaryData != region && region.containsKey(sessionId)) {
+								index(sessionId, elapsedBucket + 1);
+							}
+						}
+						else {
+
+							Optional<Long> expirationBucket = resolveExpirationBucket(session);
+
+							if (!expirationBucket.isPresent()) {
+								continue;
+							}
+
+							if (expirationBucket.get() > elapsedBucket) {
+								index(sessionId, expirationBucket.get());
+								continue;
+							}
+
+							expiredSessionIds.add(sessionId);
+
+							if (expiredSessionIds.size() >= this.batchSize) {
+								expire(region, expiredSessionIds);
+								expiredSessionIds = new ArrayList<>(this.batchSize);
+							}
+						}
+					}
+				}
+			}
+
+			if (!expiredSessionIds.isEmpty()) {
+				expire(region, expiredSessionIds);
+			}
+
+			this.sweepCount.incrementAndGet();
+		}
+	}
+
+	private Map.Entry<Long, Set<String>> pollElapsedBucket(long elapsedBucket) {
+
+		Map.Entry<Long, Set<String>> firstBucket = this.sessionIdsByExpirationBucket.firstEntry();
+
+		return firstBucket != null && firstBucket.getKey() <= elapsedBucket
+			&& this.sessionIdsByExpirationBucket.remove(firstBucket.getKey(), firstBucket.getValue())
+			? firstBucket
+			: null;
+	}
+
+	private void expire(Region<Object, Session> region, List<String> expiredSessionIds) {
+		region.removeAll(expiredSessionIds, SESSION_EXPIRED_CALLBACK_ARGUMENT);
+		this.expiredSessionCount.addAndGet(expiredSessionIds.size());
+	}
+
+	private void sweepQuietly() {
+
+		try {
+			sweep();
+		}
+		catch (RuntimeException cause) {
+			this.logger.error("Failed to expire Sessions", cause);
+		}
+	}
+
+	/**
+	 * Stops the sweeps.  {@link Session Sessions} remain indexed but are no longer expired by this member.
+	 */
+	@Override
+	public synchronized void close() {
+
+		Optional.ofNullable(this.sweepExecutor).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		this.sweepExecutor = null;
+	}
+
+	/**
+	 * Stops the sweeps when the Spring container is stopped or closed.
+	 *
+	 * @see #close()
+	 */
+	@Override
+	public void stop() {
+		close();
+	}
+
+	@Override
+	public void stop(Runnable callback) {
+
+		stop();
+		callback.run();
+	}
+}
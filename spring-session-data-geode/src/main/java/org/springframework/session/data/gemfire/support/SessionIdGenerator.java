@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionIdGenerator} interface is a Strategy interface used to generate the {@link String ID}
+ * of a new {@link Session}, or the new {@link String ID} of a {@link Session} when its ID is changed.
+ *
+ * The generated {@link String ID} is used as the key of the {@link Session} in the cache and must be unique
+ * and unguessable.  Implementations must be thread-safe and should not contend when many {@link Session Sessions}
+ * are created concurrently.
+ *
+ * @author John Blum
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.SecureRandomSessionIdGenerator
+ * @see org.springframework.session.data.gemfire.support.UuidSessionIdGenerator
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface SessionIdGenerator {
+
+	/**
+	 * Generates a new, unique {@link String ID} for a {@link Session}.
+	 *
+	 * @return a new, unique {@link String ID}; must not be {@literal null} or empty.
+	 */
+	String generateId();
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.MultiIndexCreationException;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * The {@link SessionIndexCreator} class is a Spring {@link ApplicationListener} that creates all {@link Index Indexes}
+ * defined with the {@link QueryService}, e.g. by {@link QueryService#defineIndex(String, String, String)}, in a single
+ * pass over the {@link org.apache.geode.cache.Region} once the Spring
+ * {@link org.springframework.context.ApplicationContext} is refreshed.
+ *
+ * Creating the defined {@link Index Indexes} together avoids a full scan of the {@link org.apache.geode.cache.Region}
+ * per {@link Index}, which matters when a server recovers a large number of {@link org.springframework.session.Session
+ * Sessions} on restart.
+ *
+ * When created in the background, the {@link Index Indexes} are created on a daemon {@link Thread}, so
+ * the application is available for key-based {@link org.springframework.session.Session} lookups while
+ * the {@link Index Indexes} are being built.  Queries run without the {@link Index Indexes} until they are created.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Index
+ * @see org.apache.geode.cache.query.QueryService#createDefinedIndexes()
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @since 2.1.0
+ */
+public class SessionIndexCreator implements ApplicationListener<ContextRefreshedEvent> {
+
+	protected static final String INDEX_CREATOR_THREAD_NAME = "SpringSessionIndexCreatorThread";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final boolean background;
+
+	private final CompletableFuture<List<Index>> indexes = new CompletableFuture<>();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final QueryService queryService;
+
+	/**
+	 * Constructs a new instance of {@link SessionIndexCreator} initialized with the given {@link QueryService}.
+	 *
+	 * @param queryService {@link QueryService} used to create the defined {@link Index Indexes}.
+	 * @param background boolean indicating whether the defined {@link Index Indexes} are created
+	 * in the background.
+	 * @throws IllegalArgumentException if the {@link QueryService} is {@literal null}.
+	 */
+	public SessionIndexCreator(QueryService queryService, boolean background) {
+
+		this.queryService = Optional.ofNullable(queryService)
+			.orElseThrow(() -> newIllegalArgumentException("QueryService is required"));
+
+		this.background = background;
+	}
+
+	/**
+	 * Determines whether the defined {@link Index Indexes} are created in the background.
+	 *
+	 * @return a boolean value indicating whether the defined {@link Index Indexes} are created in the background.
+	 */
+	public boolean isBackground() {
+		return this.background;
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} completed with the created {@link Index Indexes}.
+	 *
+	 * @return a {@link CompletableFuture} completed with the created {@link Index Indexes}.
+	 */
+	public CompletableFuture<List<Index>> getIndexes() {
+		return this.indexes;
+	}
+
+	/**
+	 * Creates the defined {@link Index Indexes} once the Spring {@link org.springframework.context.ApplicationContext}
+	 * is first refreshed, in the background when configured.
+	 *
+	 * @param event {@link ContextRefreshedEvent} fired when the Spring
+	 * {@link org.springframework.context.ApplicationContext} is refreshed.
+	 * @see #createDefinedIndexes()
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (this.started.compareAndSet(false, true)) {
+			if (isBackground()) {
+
+				Thread indexCreatorThread = new Thread(this::createDefinedIndexesInBackground,
+					INDEX_CREATOR_THREAD_NAME);
+
+				indexCreatorThread.setDaemon(true);
+				indexCreatorThread.start();
+			}
+			else {
+				createDefinedIndexes();
+			}
+		}
+	}
+
+	/**
+	 * Creates all {@link Index Indexes} defined with the {@link QueryService} in a single pass.
+	 *
+	 * @return a {@link List} of the created {@link Index Indexes}.
+	 * @throws IllegalStateException if any of the defined {@link Index Indexes} could not be created.
+	 * @see org.apache.geode.cache.query.QueryService#createDefinedIndexes()
+	 */
+	protected List<Index> createDefinedIndexes() {
+
+		try {
+
+			List<Index> indexes = Optional.ofNullable(this.queryService.createDefinedIndexes())
+				.orElseGet(Collections::emptyList);
+
+			this.indexes.complete(indexes);
+
+			return indexes;
+		}
+		catch (MultiIndexCreationException cause) {
+
+			IllegalStateException indexCreationFailure =
+				newIllegalStateException(cause, "Failed to create Indexes %s", cause.getFailedIndexNames());
+
+			this.indexes.completeExceptionally(indexCreationFailure);
+
+			throw indexCreationFailure;
+		}
+	}
+
+	private void createDefinedIndexesInBackground() {
+
+		try {
+			createDefinedIndexes();
+		}
+		catch (RuntimeException cause) {
+			this.logger.error("Failed to create Indexes in the background", cause);
+		}
+	}
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.InterestResultPolicy;
+
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionInterestRegistrar} class registers interest in only those {@link Session Sessions}
+ * created or loaded by this client, in place of interest in {@literal ALL_KEYS} of the client {@link Session}
+ * {@link org.apache.geode.cache.Region}.
+ *
+ * Interest is registered when a {@link Session} is created or loaded, and unregistered when the {@link Session}
+ * is deleted or expires.  Registrations and unregistrations are batched and sent to the servers from a background
+ * thread with a single {@link org.apache.geode.cache.Region#registerInterest(Object, InterestResultPolicy)}
+ * and {@link org.apache.geode.cache.Region#unregisterInterest(Object)} per batch.
+ *
+ * The number of {@link Session Sessions} in which interest is registered is bounded.  When the bound is reached,
+ * interest in the least recently used {@link Session} is unregistered, and that {@link Session} is then no longer
+ * kept up-to-date by the servers until it is used by this client again.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ScheduledExecutorService
+ * @see org.apache.geode.cache.InterestResultPolicy
+ * @see org.apache.geode.cache.Region#registerInterest(Object, InterestResultPolicy)
+ * @see org.apache.geode.cache.Region#unregisterInterest(Object)
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @since 2.1.0
+ */
+public class SessionInterestRegistrar {
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	public static final long DEFAULT_FLUSH_INTERVAL_IN_MILLISECONDS = 100L;
+
+	private final AtomicLong batchCount = new AtomicLong(0L);
+
+	private final GemfireOperations template;
+
+	private final int capacity;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, Boolean> registeredSessionIds = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Object flushLock = new Object();
+
+	private final ScheduledExecutorService flushExecutor;
+
+	private final Set<String> pendingRegistrations = new LinkedHashSet<>();
+	private final Set<String> pendingUnregistrations = new LinkedHashSet<>();
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Constructs a new instance of {@link SessionInterestRegistrar} initialized with the given
+	 * {@link GemfireOperations} using the {@link #DEFAULT_FLUSH_INTERVAL_IN_MILLISECONDS default flush interval}
+	 * and {@link #DEFAULT_CAPACITY default capacity}.
+	 *
+	 * @param template {@link GemfireOperations} used to register interest in the client {@link Session}
+	 * {@link org.apache.geode.cache.Region}.
+	 * @see #SessionInterestRegistrar(GemfireOperations, Duration, int)
+	 */
+	public SessionInterestRegistrar(GemfireOperations template) {
+		this(template, Duration.ofMillis(DEFAULT_FLUSH_INTERVAL_IN_MILLISECONDS), DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionInterestRegistrar} initialized with the given
+	 * {@link GemfireOperations}, flush interval and capacity.
+	 *
+	 * @param template {@link GemfireOperations} used to register interest in the client {@link Session}
+	 * {@link org.apache.geode.cache.Region}.
+	 * @param flushInterval {@link Duration} between batches of interest (un)registrations.
+	 * @param capacity maximum number of {@link Session Sessions} in which interest is registered.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} is {@literal null}, the flush interval
+	 * is {@literal null} or not positive, or the capacity is less than {@literal 1}.
+	 */
+	public SessionInterestRegistrar(GemfireOperations template, Duration flushInterval, int capacity) {
+
+		this.template = Optional.ofNullable(template)
+			.orElseThrow(() -> newIllegalArgumentException("GemfireOperations is required"));
+
+		Duration resolvedFlushInterval = Optional.ofNullable(flushInterval)
+			.filter(interval -> !(interval.isNegative() || interval.isZero()))
+			.orElseThrow(() -> newIllegalArgumentException("Flush interval [%s] must be greater than 0",
+				flushInterval));
+
+		if (capacity < 1) {
+			throw newIllegalArgumentException("Capacity [%d] must be greater than 0", capacity);
+		}
+
+		this.capacity = capacity;
+
+		this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread flushThread = new Thread(runnable, "SpringSessionInterestRegistrationThread");
+
+			flushThread.setDaemon(true);
+
+			return flushThread;
+		});
+
+		long flushIntervalInNanoseconds = resolvedFlushInterval.toNanos();
+
+		this.flushExecutor.scheduleWithFixedDelay(this::flushQuietly,
+			flushIntervalInNanoseconds, flushIntervalInNanoseconds, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of batches of interest (un)registrations sent to the servers.
+	 *
+	 * @return the number of batches sent to the servers.
+	 */
+	public long getBatchCount() {
+		return this.batchCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} in which interest is, or is about to be, registered.
+	 *
+	 * @return the number of {@link Session Sessions} in which interest is registered.
+	 */
+	public int getRegisteredSessionCount() {
+
+		synchronized (this.registeredSessionIds) {
+			return this.registeredSessionIds.size();
+		}
+	}
+
+	/**
+	 * Returns the number of interest (un)registrations not yet sent to the servers.
+	 *
+	 * @return the number of pending interest (un)registrations.
+	 */
+	public int getPendingRegistrationCount() {
+
+		synchronized (this.registeredSessionIds) {
+			return this.pendingRegistrations.size() + this.pendingUnregistrations.size();
+		}
+	}
+
+	/**
+	 * Determines whether interest is, or is about to be, registered in the {@link Session} with the given ID.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session}.
+	 * @return a boolean value indicating whether interest is registered in the {@link Session}.
+	 */
+	public boolean isRegistered(String sessionId) {
+
+		synchronized (this.registeredSessionIds) {
+			return this.registeredSessionIds.containsKey(sessionId);
+		}
+	}
+
+	/**
+	 * Determines whether this registrar has been closed.
+	 *
+	 * @return a boolean value indicating whether this registrar has been closed.
+	 * @see #close()
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Registers interest in the {@link Session} with the given ID, evicting the least recently used
+	 * {@link Session} if the capacity of this registrar has been reached.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session}.
+	 */
+	public void register(String sessionId) {
+
+		if (sessionId != null && !isClosed()) {
+			synchronized (this.registeredSessionIds) {
+				if (this.registeredSessionIds.put(sessionId, Boolean.TRUE) == null) {
+
+					if (!this.pendingUnregistrations.remove(sessionId)) {
+						this.pendingRegistrations.add(sessionId);
+					}
+
+					evictLeastRecentlyUsed();
+				}
+			}
+		}
+	}
+
+	private void evictLeastRecentlyUsed() {
+
+		Iterator<String> sessionIds = this.registeredSessionIds.keySet().iterator();
+
+		while (this.registeredSessionIds.size() > this.capacity && sessionIds.hasNext()) {
+
+			String sessionId = sessionIds.next();
+
+			sessionIds.remove();
+			unregisterLocked(sessionId);
+		}
+	}
+
+	/**
+	 * Unregisters interest in the {@link Session} with the given ID.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session}.
+	 */
+	public void unregister(String sessionId) {
+
+		if (sessionId != null) {
+			synchronized (this.registeredSessionIds) {
+				if (this.registeredSessionIds.remove(sessionId) != null) {
+					unregisterLocked(sessionId);
+				}
+			}
+		}
+	}
+
+	private void unregisterLocked(String sessionId) {
+
+		// interest that was never sent to the servers need not be unregistered
+		if (!this.pendingRegistrations.remove(sessionId)) {
+			this.pendingUnregistrations.add(sessionId);
+		}
+	}
+
+	/**
+	 * Sends all pending interest registrations and unregistrations to the servers.
+	 */
+	public void flush() {
+
+		synchronized (this.flushLock) {
+
+			List<String> registrations;
+			List<String> unregistrations;
+
+			synchronized (this.registeredSessionIds) {
+				registrations = new ArrayList<>(this.pendingRegistrations);
+				unregistrations = new ArrayList<>(this.pendingUnregistrations);
+				this.pendingRegistrations.clear();
+				this.pendingUnregistrations.clear();
+			}
+
+			try {
+				if (!(registrations.isEmpty() && unregistrations.isEmpty())) {
+
+					this.template.execute(region -> {
+
+						if (!unregistrations.isEmpty()) {
+							region.unregisterInterest(unregistrations);
+						}
+
+						if (!registrations.isEmpty()) {
+							region.registerInterest(registrations, InterestResultPolicy.NONE);
+						}
+
+						return null;
+					});
+
+					this.batchCount.incrementAndGet();
+				}
+			}
+			catch (RuntimeException cause) {
+				requeue(registrations, unregistrations);
+				throw cause;
+			}
+		}
+	}
+
+	private void requeue(List<String> registrations, List<String> unregistrations) {
+
+		synchronized (this.registeredSessionIds) {
+
+			unregistrations.stream()
+				.filter(sessionId -> !this.registeredSessionIds.containsKey(sessionId))
+				.forEach(this.pendingUnregistrations::add);
+
+			registrations.stream()
+				.filter(this.registeredSessionIds::containsKey)
+				.filter(sessionId -> !this.pendingUnregistrations.contains(sessionId))
+				.forEach(this.pendingRegistrations::add);
+		}
+	}
+
+	private void flushQuietly() {
+
+		try {
+			flush();
+		}
+		catch (RuntimeException cause) {
+			this.logger.warn("Failed to register interest in Sessions; will retry", cause);
+		}
+	}
+
+	/**
+	 * Closes this registrar, stopping the background thread and sending all pending interest registrations
+	 * and unregistrations to the servers.  Subsequent registrations are ignored.
+	 */
+	public void close() {
+
+		this.closed = true;
+		this.flushExecutor.shutdown();
+
+		try {
+			this.flushExecutor.awaitTermination(30L, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			flush();
+		}
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionLookupCoalescer} class coalesces concurrent lookups of the same {@link Session} by ID
+ * into a single fetch.
+ *
+ * The first caller looking up a {@link Session} ID performs the fetch while concurrent callers looking up
+ * the same {@link Session} ID wait for and share its result.  Every caller, including the caller that performed
+ * the fetch, receives an independent copy of the fetched {@link Session} so that callers never share mutable
+ * {@link Session} state.
+ *
+ * The result of a fetch may additionally be shared with callers arriving within the configured coalescing window
+ * after the fetch completed.  A coalescing window of {@link Duration#ZERO} only shares fetches that are in-flight.
+ * Completed fetches are queued in order of completion, and therefore expiration, so that each completed fetch
+ * only expunges the fetches at the head of the queue whose coalescing window has elapsed.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class SessionLookupCoalescer {
+
+	private final AtomicLong coalescedLookupCount = new AtomicLong(0L);
+	private final AtomicLong fetchCount = new AtomicLong(0L);
+	private final AtomicLong lookupCount = new AtomicLong(0L);
+
+	private final ConcurrentMap<String, SessionLookup> sessionLookups = new ConcurrentHashMap<>();
+
+	private final Queue<SessionLookup> completedSessionLookups = new ConcurrentLinkedQueue<>();
+
+	private final long coalescingWindowInNanoseconds;
+
+	private final UnaryOperator<Session> sessionCopier;
+
+	/**
+	 * Constructs a new instance of {@link SessionLookupCoalescer} initialized with the given coalescing window
+	 * and {@link UnaryOperator} used to copy the fetched {@link Session} for each caller.
+	 *
+	 * @param coalescingWindow {@link Duration} after a fetch completes during which its result is shared
+	 * with subsequent lookups of the same {@link Session} ID.
+	 * @param sessionCopier {@link UnaryOperator} used to copy the fetched {@link Session}.
+	 * @throws IllegalArgumentException if the coalescing window is {@literal null} or negative,
+	 * or the {@link UnaryOperator} is {@literal null}.
+	 */
+	public SessionLookupCoalescer(Duration coalescingWindow, UnaryOperator<Session> sessionCopier) {
+
+		Duration resolvedCoalescingWindow = Optional.ofNullable(coalescingWindow)
+			.filter(window -> !window.isNegative())
+			.orElseThrow(() -> newIllegalArgumentException("Coalescing window [%s] must not be negative",
+				coalescingWindow));
+
+		this.coalescingWindowInNanoseconds = resolvedCoalescingWindow.toNanos();
+
+		this.sessionCopier = Optional.ofNullable(sessionCopier)
+			.orElseThrow(() -> newIllegalArgumentException("Session copier is required"));
+	}
+
+	/**
+	 * Returns the coalescing window during which the result of a completed fetch is shared.
+	 *
+	 * @return the coalescing window.
+	 * @see java.time.Duration
+	 */
+	public Duration getCoalescingWindow() {
+		return Duration.ofNanos(this.coalescingWindowInNanoseconds);
+	}
+
+	/**
+	 * Returns the number of lookups that were satisfied by the fetch of another caller.
+	 *
+	 * @return the number of coalesced lookups.
+	 */
+	public long getCoalescedLookupCount() {
+		return this.coalescedLookupCount.get();
+	}
+
+	/**
+	 * Returns the number of fetches performed by this coalescer.
+	 *
+	 * @return the number of fetches.
+	 */
+	public long getFetchCount() {
+		return this.fetchCount.get();
+	}
+
+	/**
+	 * Returns the total number of lookups performed with this coalescer.
+	 *
+	 * @return the total number of lookups.
+	 */
+	public long getLookupCount() {
+		return this.lookupCount.get();
+	}
+
+	/**
+	 * Returns the number of in-flight or completed lookups currently retained by this coalescer.
+	 *
+	 * @return the number of retained lookups.
+	 */
+	public int getSessionLookupCount() {
+		return this.sessionLookups.size();
+	}
+
+	/**
+	 * Looks up the {@link Session} with the given ID, sharing the fetch of a concurrent or, within
+	 * the coalescing window, recently completed lookup of the same {@link Session} ID.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session} to lookup.
+	 * @param fetch {@link Function} used to fetch the {@link Session} when no fetch can be shared.
+	 * @return a copy of the fetched {@link Session} or {@literal null} if no {@link Session} was found.
+	 * @throws RuntimeException if the fetch fails.
+	 */
+	public Session lookup(String sessionId, Function<String, Session> fetch) {
+
+		this.lookupCount.incrementAndGet();
+
+		while (true) {
+
+			SessionLookup sessionLookup = this.sessionLookups.get(sessionId);
+
+			if (sessionLookup != null) {
+				if (sessionLookup.isShareable()) {
+					this.coalescedLookupCount.incrementAndGet();
+					return copy(sessionLookup.join());
+				}
+
+				this.sessionLookups.remove(sessionId, sessionLookup);
+			}
+			else {
+
+				SessionLookup newSessionLookup = new SessionLookup(sessionId);
+
+				if (this.sessionLookups.putIfAbsent(sessionId, newSessionLookup) == null) {
+					return copy(fetch(sessionId, newSessionLookup, fetch));
+				}
+			}
+		}
+	}
+
+	private Session fetch(String sessionId, SessionLookup sessionLookup, Function<String, Session> fetch) {
+
+		this.fetchCount.incrementAndGet();
+
+		try {
+
+			Session session = fetch.apply(sessionId);
+
+			sessionLookup.complete(session);
+
+			return session;
+		}
+		catch (RuntimeException cause) {
+			sessionLookup.completeExceptionally(cause);
+			throw cause;
+		}
+		finally {
+			if (this.coalescingWindowInNanoseconds == 0L || sessionLookup.isCompletedExceptionally()) {
+				this.sessionLookups.remove(sessionId, sessionLookup);
+			}
+			else {
+				this.completedSessionLookups.offer(sessionLookup);
+				expungeExpiredSessionLookups();
+			}
+		}
+	}
+
+	private Session copy(Session session) {
+		return session != null ? this.sessionCopier.apply(session) : null;
+	}
+
+	private void expungeExpiredSessionLookups() {
+
+		synchronized (this.completedSessionLookups) {
+
+			SessionLookup sessionLookup = this.completedSessionLookups.peek();
+
+			while (sessionLookup != null && sessionLookup.isExpired()) {
+				this.completedSessionLookups.poll();
+				this.sessionLookups.remove(sessionLookup.getSessionId(), sessionLookup);
+				sessionLookup = this.completedSessionLookups.peek();
+			}
+		}
+	}
+
+	/**
+	 * Forgets any in-flight or completed lookup of the {@link Session} with the given ID so that the next lookup
+	 * fetches the {@link Session}, for instance after the {@link Session} was saved or deleted.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session} to forget.
+	 */
+	public void forget(String sessionId) {
+
+		if (sessionId != null) {
+			this.sessionLookups.remove(sessionId);
+		}
+	}
+
+	private final class SessionLookup extends CompletableFuture<Session> {
+
+		private final String sessionId;
+
+		private volatile long completionTime;
+
+		SessionLookup(String sessionId) {
+			this.sessionId = sessionId;
+		}
+
+		String getSessionId() {
+			return this.sessionId;
+		}
+
+		@Override
+		public boolean complete(Session session) {
+
+			this.completionTime = System.nanoTime();
+
+			return super.complete(session);
+		}
+
+		boolean isExpired() {
+			return isDone() && System.nanoTime() - this.completionTime > coalescingWindowInNanoseconds;
+		}
+
+		boolean isShareable() {
+			return !isCompletedExceptionally() && !isExpired();
+		}
+
+		@Override
+		public Session join() {
+
+			try {
+				return super.join();
+			}
+			catch (CompletionException cause) {
+				throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+			}
+		}
+	}
+}
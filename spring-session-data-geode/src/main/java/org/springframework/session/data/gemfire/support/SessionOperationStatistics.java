@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.Optional;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link SessionOperationStatistics} class records statistics about {@link Session} operations
+ * with Apache Geode / Pivotal GemFire {@link Statistics} of the {@link #STATISTICS_TYPE_NAME} {@link StatisticsType},
+ * so that the {@link Session} operations are sampled and archived along with the cache statistics,
+ * for example in a {@literal .gfs} statistics archive.
+ *
+ * The {@link Statistics} record the number of {@link Session Sessions} created, read, saved, sent as a delta
+ * and expired, the time spent reading and saving {@link Session Sessions}, the number of bytes of serialized
+ * {@link Session} attributes and the number of {@link Session} events published.
+ *
+ * The {@link SessionOperationStatistics} are injected into the {@link org.springframework.session.SessionRepository},
+ * which passes them on to the {@link Session Sessions} it creates, finds and saves, so that the serializers record
+ * to the {@link SessionOperationStatistics} of the {@link Session} being serialized.  {@link Session Sessions}
+ * deserialized by the cache outside of a {@link org.springframework.session.SessionRepository} record to
+ * {@link #NONE}, which records nothing.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.apache.geode.StatisticsType
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class SessionOperationStatistics {
+
+	public static final SessionOperationStatistics NONE = new SessionOperationStatistics(null);
+
+	public static final String STATISTICS_TYPE_NAME = "SpringSessionStatistics";
+
+	protected static final String BYTES_SERIALIZED = "bytesSerialized";
+	protected static final String CREATES = "creates";
+	protected static final String DELTAS = "deltas";
+	protected static final String EVENTS_PUBLISHED = "eventsPublished";
+	protected static final String EXPIRATIONS = "expirations";
+	protected static final String READ_TIME = "readTime";
+	protected static final String READS = "reads";
+	protected static final String SAVE_TIME = "saveTime";
+	protected static final String SAVES = "saves";
+
+	private final int bytesSerializedId;
+	private final int createsId;
+	private final int deltasId;
+	private final int eventsPublishedId;
+	private final int expirationsId;
+	private final int readTimeId;
+	private final int readsId;
+	private final int saveTimeId;
+	private final int savesId;
+
+	private final Statistics statistics;
+
+	/**
+	 * Factory method used to create {@link SessionOperationStatistics} with {@link Statistics} created by
+	 * the given {@link StatisticsFactory}, such as the {@link org.apache.geode.distributed.DistributedSystem}
+	 * of a client or peer cache.
+	 *
+	 * The {@link #STATISTICS_TYPE_NAME} {@link StatisticsType} is created on first use.
+	 *
+	 * @param statisticsFactory {@link StatisticsFactory} used to create the {@link Statistics}.
+	 * @param textId {@link String} identifying the {@link Statistics} instance, such as the {@link Session}
+	 * {@link org.apache.geode.cache.Region} name.
+	 * @return new {@link SessionOperationStatistics}.
+	 * @throws IllegalArgumentException if the {@link StatisticsFactory} is {@literal null}.
+	 * @see org.apache.geode.StatisticsFactory#createAtomicStatistics(StatisticsType, String)
+	 */
+	public static SessionOperationStatistics create(StatisticsFactory statisticsFactory, String textId) {
+
+		if (statisticsFactory == null) {
+			throw newIllegalArgumentException("StatisticsFactory is required");
+		}
+
+		StatisticsType statisticsType = Optional.ofNullable(statisticsFactory.findType(STATISTICS_TYPE_NAME))
+			.orElseGet(() -> createStatisticsType(statisticsFactory));
+
+		return new SessionOperationStatistics(statisticsFactory.createAtomicStatistics(statisticsType, textId));
+	}
+
+	private static StatisticsType createStatisticsType(StatisticsFactory statisticsFactory) {
+
+		return statisticsFactory.createType(STATISTICS_TYPE_NAME, "Statistics for Spring Session operations",
+			new StatisticDescriptor[] {
+				statisticsFactory.createLongCounter(CREATES, "Number of Sessions created", "operations"),
+				statisticsFactory.createLongCounter(READS, "Number of Session reads", "operations"),
+				statisticsFactory.createLongCounter(READ_TIME, "Total time spent reading Sessions",
+					"nanoseconds", false),
+				statisticsFactory.createLongCounter(SAVES, "Number of Session saves", "operations"),
+				statisticsFactory.createLongCounter(SAVE_TIME, "Total time spent saving Sessions",
+					"nanoseconds", false),
+				statisticsFactory.createLongCounter(DELTAS, "Number of Session deltas sent", "operations"),
+				statisticsFactory.createLongCounter(BYTES_SERIALIZED, "Number of bytes of serialized Session attributes",
+					"bytes"),
+				statisticsFactory.createLongCounter(EXPIRATIONS, "Number of Sessions expired", "operations"),
+				statisticsFactory.createLongCounter(EVENTS_PUBLISHED, "Number of Session events published",
+					"operations")
+			});
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionOperationStatistics} recording to the given {@link Statistics}.
+	 *
+	 * @param statistics {@link Statistics} of the {@link #STATISTICS_TYPE_NAME} {@link StatisticsType};
+	 * if {@literal null}, no statistics are recorded.
+	 */
+	protected SessionOperationStatistics(Statistics statistics) {
+
+		this.statistics = statistics;
+
+		StatisticsType statisticsType = statistics != null ? statistics.getType() : null;
+
+		this.bytesSerializedId = idOf(statisticsType, BYTES_SERIALIZED);
+		this.createsId = idOf(statisticsType, CREATES);
+		this.deltasId = idOf(statisticsType, DELTAS);
+		this.eventsPublishedId = idOf(statisticsType, EVENTS_PUBLISHED);
+		this.expirationsId = idOf(statisticsType, EXPIRATIONS);
+		this.readTimeId = idOf(statisticsType, READ_TIME);
+		this.readsId = idOf(statisticsType, READS);
+		this.saveTimeId = idOf(statisticsType, SAVE_TIME);
+		this.savesId = idOf(statisticsType, SAVES);
+	}
+
+	private int idOf(StatisticsType statisticsType, String statisticName) {
+		return statisticsType != null ? statisticsType.nameToId(statisticName) : -1;
+	}
+
+	/**
+	 * Determines whether statistics are recorded.
+	 *
+	 * @return a boolean value indicating whether statistics are recorded.
+	 */
+	public boolean isEnabled() {
+		return this.statistics != null;
+	}
+
+	/**
+	 * Returns the {@link Statistics} recorded to, if any.
+	 *
+	 * @return an {@link Optional} {@link Statistics} recorded to.
+	 */
+	public Optional<Statistics> getStatistics() {
+		return Optional.ofNullable(this.statistics);
+	}
+
+	/**
+	 * Returns the start time of a timed {@link Session} operation.
+	 *
+	 * @return the start time of a timed {@link Session} operation in nanoseconds, or {@literal 0}
+	 * when statistics are not recorded.
+	 * @see #endRead(long)
+	 * @see #endSave(long)
+	 */
+	public long startTime() {
+		return isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	public void endRead(long startTime) {
+		end(this.readsId, this.readTimeId, startTime);
+	}
+
+	public void endSave(long startTime) {
+		end(this.savesId, this.saveTimeId, startTime);
+	}
+
+	private void end(int operationsId, int timeId, long startTime) {
+
+		if (isEnabled()) {
+			this.statistics.incLong(operationsId, 1L);
+			this.statistics.incLong(timeId, System.nanoTime() - startTime);
+		}
+	}
+
+	public void incBytesSerialized(long bytes) {
+		inc(this.bytesSerializedId, bytes);
+	}
+
+	public void incCreates() {
+		inc(this.createsId, 1L);
+	}
+
+	public void incDeltas() {
+		inc(this.deltasId, 1L);
+	}
+
+	public void incEventsPublished() {
+		inc(this.eventsPublishedId, 1L);
+	}
+
+	public void incExpirations() {
+		inc(this.expirationsId, 1L);
+	}
+
+	private void inc(int id, long delta) {
+
+		if (isEnabled()) {
+			this.statistics.incLong(id, delta);
+		}
+	}
+
+	/**
+	 * Closes the {@link Statistics}.
+	 *
+	 * @see org.apache.geode.Statistics#close()
+	 */
+	public void close() {
+		getStatistics().filter(statistics -> !statistics.isClosed()).ifPresent(Statistics::close);
+	}
+}
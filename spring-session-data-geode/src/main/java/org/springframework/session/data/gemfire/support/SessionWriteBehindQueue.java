@@ -0,0 +1,685 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.Session;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link SessionWriteBehindQueue} class queues {@link Session} saves and writes them to the cache
+ * {@link org.apache.geode.cache.Region} in batches from background threads.
+ *
+ * Saves are queued by {@link Session} ID with last-write-wins coalescing; a {@link Session} saved several times
+ * before the queue is flushed is only written once, in its latest state.  Queued {@link Session Sessions} are
+ * partitioned into stripes by {@link Session} ID, one per flush thread, and each stripe is written with a single
+ * {@link GemfireOperations#putAll(Map)}.  A stripe is only ever flushed by one thread at a time, so writes of
+ * the same {@link Session} are applied in order.
+ *
+ * The queue is bounded.  When the stripe of a {@link Session} is full, the saving thread requests an immediate flush
+ * of the stripe from the flush threads and waits, up to the maximum enqueue wait, for space in the stripe.  If the stripe
+ * is still full, the saving thread writes only its own {@link Session} with a single put.  The saving thread never
+ * writes other {@link Session Sessions} queued in the stripe, so it never sees the failure to write them.
+ * {@link Session Sessions} that are queued or being written can be read back with {@link #getPendingSession(String)}
+ * so that reads in the same JVM see their own writes.
+ *
+ * The flush latency is recorded in a fixed histogram with 4 sub-buckets per power of 2 nanoseconds, so that
+ * percentiles of the flush latency, such as the 99th percentile, are reported within 25% of the recorded latency.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ScheduledExecutorService
+ * @see org.springframework.data.gemfire.GemfireOperations#putAll(Map)
+ * @see org.springframework.session.Session
+ * @since 2.1.0
+ */
+public class SessionWriteBehindQueue {
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	public static final int DEFAULT_FLUSH_THREAD_COUNT = 2;
+
+	public static final Duration DEFAULT_MAX_ENQUEUE_WAIT = Duration.ofMillis(100L);
+
+	private final AtomicLong coalescedWriteCount = new AtomicLong(0L);
+	private final AtomicLong directWriteCount = new AtomicLong(0L);
+	private final AtomicLong flushCount = new AtomicLong(0L);
+	private final AtomicLong lastFlushLatencyInNanoseconds = new AtomicLong(0L);
+	private final AtomicLong maxFlushLatencyInNanoseconds = new AtomicLong(0L);
+	private final AtomicLong totalFlushLatencyInNanoseconds = new AtomicLong(0L);
+	private final AtomicLong writeCount = new AtomicLong(0L);
+
+	private final FlushLatencyHistogram flushLatencyHistogram = new FlushLatencyHistogram();
+
+	private final GemfireOperations template;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ScheduledExecutorService flushExecutor;
+
+	private final Stripe[] stripes;
+
+	private final int stripeCapacity;
+
+	private final long maxEnqueueWaitInNanoseconds;
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Constructs a new instance of {@link SessionWriteBehindQueue} initialized with the given
+	 * {@link GemfireOperations} and flush interval using the {@link #DEFAULT_CAPACITY default capacity}
+	 * and {@link #DEFAULT_FLUSH_THREAD_COUNT default number of flush threads}.
+	 *
+	 * @param template {@link GemfireOperations} used to write {@link Session Sessions}.
+	 * @param flushInterval {@link Duration} between flushes of the queue.
+	 * @see #SessionWriteBehindQueue(GemfireOperations, Duration, int, int)
+	 */
+	public SessionWriteBehindQueue(GemfireOperations template, Duration flushInterval) {
+		this(template, flushInterval, DEFAULT_CAPACITY, DEFAULT_FLUSH_THREAD_COUNT);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionWriteBehindQueue} initialized with the given
+	 * {@link GemfireOperations}, flush interval, capacity and number of flush threads.
+	 *
+	 * @param template {@link GemfireOperations} used to write {@link Session Sessions}.
+	 * @param flushInterval {@link Duration} between flushes of the queue.
+	 * @param capacity maximum number of {@link Session Sessions} queued.
+	 * @param flushThreadCount number of background threads flushing the queue.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} is {@literal null}, the flush interval
+	 * is {@literal null} or not positive, or the capacity or number of flush threads is less than {@literal 1}.
+	 * @see #SessionWriteBehindQueue(GemfireOperations, Duration, int, int, Duration)
+	 */
+	public SessionWriteBehindQueue(GemfireOperations template, Duration flushInterval, int capacity,
+			int flushThreadCount) {
+
+		this(template, flushInterval, capacity, flushThreadCount, DEFAULT_MAX_ENQUEUE_WAIT);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionWriteBehindQueue} initialized with the given
+	 * {@link GemfireOperations}, flush interval, capacity, number of flush threads and maximum time
+	 * a save waits for space in a full queue.
+	 *
+	 * @param template {@link GemfireOperations} used to write {@link Session Sessions}.
+	 * @param flushInterval {@link Duration} between flushes of the queue.
+	 * @param capacity maximum number of {@link Session Sessions} queued.
+	 * @param flushThreadCount number of background threads flushing the queue.
+	 * @param maxEnqueueWait maximum {@link Duration} a save waits for space in a full queue before the
+	 * {@link Session} is written by the saving thread; {@literal null} or negative does not wait.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} is {@literal null}, the flush interval
+	 * is {@literal null} or not positive, or the capacity or number of flush threads is less than {@literal 1}.
+	 */
+	public SessionWriteBehindQueue(GemfireOperations template, Duration flushInterval, int capacity,
+			int flushThreadCount, Duration maxEnqueueWait) {
+
+		this.template = Optional.ofNullable(template)
+			.orElseThrow(() -> newIllegalArgumentException("GemfireOperations is required"));
+
+		Duration resolvedFlushInterval = Optional.ofNullable(flushInterval)
+			.filter(interval -> !(interval.isNegative() || interval.isZero()))
+			.orElseThrow(() -> newIllegalArgumentException("Flush interval [%s] must be greater than 0",
+				flushInterval));
+
+		if (capacity < 1) {
+			throw newIllegalArgumentException("Capacity [%d] must be greater than 0", capacity);
+		}
+
+		if (flushThreadCount < 1) {
+			throw newIllegalArgumentException("Flush thread count [%d] must be greater than 0", flushThreadCount);
+		}
+
+		this.stripeCapacity = Math.max(capacity / flushThreadCount, 1);
+		this.maxEnqueueWaitInNanoseconds = Optional.ofNullable(maxEnqueueWait)
+			.filter(wait -> !wait.isNegative())
+			.map(Duration::toNanos)
+			.orElse(0L);
+		this.stripes = new Stripe[flushThreadCount];
+		this.flushExecutor = newFlushExecutor(flushThreadCount);
+
+		long flushIntervalInNanoseconds = resolvedFlushInterval.toNanos();
+
+		for (int index = 0; index < this.stripes.length; index++) {
+			this.stripes[index] = new Stripe();
+			this.flushExecutor.scheduleWithFixedDelay(this.stripes[index]::flushQuietly,
+				flushIntervalInNanoseconds, flushIntervalInNanoseconds, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private ScheduledExecutorService newFlushExecutor(int flushThreadCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return Executors.newScheduledThreadPool(flushThreadCount, runnable -> {
+
+			Thread flushThread = new Thread(runnable,
+				String.format("SpringSessionWriteBehindFlushThread-%d", threadNumber.incrementAndGet()));
+
+			flushThread.setDaemon(true);
+
+			return flushThread;
+		});
+	}
+
+	/**
+	 * Returns the number of {@link Session} saves coalesced with a {@link Session} save already in the queue.
+	 *
+	 * @return the number of coalesced {@link Session} saves.
+	 */
+	public long getCoalescedWriteCount() {
+		return this.coalescedWriteCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} written by the saving thread, either because the queue
+	 * was closed or because the stripe of the {@link Session} remained full for the maximum enqueue wait.
+	 *
+	 * @return the number of {@link Session Sessions} written by the saving thread.
+	 */
+	public long getDirectWriteCount() {
+		return this.directWriteCount.get();
+	}
+
+	/**
+	 * Returns the number of batches written to the cache {@link org.apache.geode.cache.Region}.
+	 *
+	 * @return the number of flushes.
+	 */
+	public long getFlushCount() {
+		return this.flushCount.get();
+	}
+
+	/**
+	 * Returns the average time taken to write a batch of {@link Session Sessions}.
+	 *
+	 * @return the average flush latency.
+	 * @see java.time.Duration
+	 */
+	public Duration getAverageFlushLatency() {
+
+		long flushCount = getFlushCount();
+
+		return flushCount > 0L
+			? Duration.ofNanos(this.totalFlushLatencyInNanoseconds.get() / flushCount)
+			: Duration.ZERO;
+	}
+
+	/**
+	 * Returns the given percentile of the time taken to write a batch of {@link Session Sessions}.
+	 *
+	 * The percentile is the upper bound of the histogram bucket containing the percentile, which is within 25%
+	 * of the recorded flush latency, and never more than the {@link #getMaxFlushLatency() maximum flush latency}.
+	 *
+	 * @param percentile percentile between {@literal 0} and {@literal 100}, such as {@literal 99.0}.
+	 * @return the given percentile of the flush latency; {@link Duration#ZERO} if no batch has been written.
+	 * @throws IllegalArgumentException if the percentile is not between {@literal 0} and {@literal 100}.
+	 * @see #getP99FlushLatency()
+	 * @see java.time.Duration
+	 */
+	public Duration getFlushLatencyPercentile(double percentile) {
+
+		if (!(percentile >= 0.0d && percentile <= 100.0d)) {
+			throw newIllegalArgumentException("Percentile [%s] must be between 0 and 100", percentile);
+		}
+
+		return Duration.ofNanos(Math.min(this.flushLatencyHistogram.valueAt(percentile),
+			this.maxFlushLatencyInNanoseconds.get()));
+	}
+
+	/**
+	 * Returns the 99th percentile of the time taken to write a batch of {@link Session Sessions}.
+	 *
+	 * @return the 99th percentile of the flush latency.
+	 * @see #getFlushLatencyPercentile(double)
+	 * @see java.time.Duration
+	 */
+	public Duration getP99FlushLatency() {
+		return getFlushLatencyPercentile(99.0d);
+	}
+
+	/**
+	 * Returns the time taken to write the last batch of {@link Session Sessions}.
+	 *
+	 * @return the latency of the last flush.
+	 * @see java.time.Duration
+	 */
+	public Duration getLastFlushLatency() {
+		return Duration.ofNanos(this.lastFlushLatencyInNanoseconds.get());
+	}
+
+	/**
+	 * Returns the longest time taken to write a batch of {@link Session Sessions}.
+	 *
+	 * @return the maximum flush latency.
+	 * @see java.time.Duration
+	 */
+	public Duration getMaxFlushLatency() {
+		return Duration.ofNanos(this.maxFlushLatencyInNanoseconds.get());
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} currently queued.
+	 *
+	 * @return the number of queued {@link Session Sessions}.
+	 */
+	public int getPendingWriteCount() {
+
+		int pendingWriteCount = 0;
+
+		for (Stripe stripe : this.stripes) {
+			pendingWriteCount += stripe.pendingSessions.size();
+		}
+
+		return pendingWriteCount;
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} written to the cache {@link org.apache.geode.cache.Region}.
+	 *
+	 * @return the number of {@link Session Sessions} written.
+	 */
+	public long getWriteCount() {
+		return this.writeCount.get();
+	}
+
+	/**
+	 * Determines whether this queue has been closed.
+	 *
+	 * @return a boolean value indicating whether this queue has been closed.
+	 * @see #close()
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Returns the queued or in-flight {@link Session} with the given ID.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session}.
+	 * @return an {@link Optional} {@link Session} that has not yet been written
+	 * to the cache {@link org.apache.geode.cache.Region}.
+	 */
+	public Optional<Session> getPendingSession(String sessionId) {
+
+		Stripe stripe = stripeFor(sessionId);
+
+		Session pendingSession = stripe.pendingSessions.get(sessionId);
+
+		return Optional.ofNullable(pendingSession != null ? pendingSession : stripe.inFlightSessions.get(sessionId));
+	}
+
+	/**
+	 * Queues the given {@link Session} to be written under the given ID, replacing any {@link Session}
+	 * already queued with the same ID.
+	 *
+	 * When the stripe of the {@link Session} is full, an immediate flush of the stripe is requested
+	 * from the flush threads and the saving thread waits, up to the maximum enqueue wait, for space.
+	 * If the stripe is still full, only the given {@link Session} is written, by the saving thread,
+	 * once any in-flight write of the same {@link Session} completes.
+	 *
+	 * Once this queue is {@link #close() closed}, the {@link Session} is written immediately.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session}.
+	 * @param session {@link Session} to write.
+	 */
+	public void enqueue(String sessionId, Session session) {
+
+		if (isClosed()) {
+			writeDirectly(sessionId, session);
+		}
+		else {
+
+			Stripe stripe = stripeFor(sessionId);
+
+			long deadline = System.nanoTime() + this.maxEnqueueWaitInNanoseconds;
+
+			while (true) {
+
+				if (coalesce(stripe, sessionId, session)) {
+					break;
+				}
+
+				if (stripe.pendingSessions.size() < this.stripeCapacity) {
+					if (stripe.pendingSessions.putIfAbsent(sessionId, session) == null) {
+						break;
+					}
+				}
+				else if (!stripe.awaitSpace(deadline)) {
+
+					// a failed in-flight write of the same Session is queued again, so it is coalesced
+					// rather than allowed to overwrite the Session written by this thread
+					stripe.awaitInFlightWrite(sessionId);
+
+					if (!coalesce(stripe, sessionId, session)) {
+						writeDirectly(sessionId, session);
+					}
+
+					break;
+				}
+			}
+
+			// the queue may have been closed, and flushed, while the Session was being queued
+			if (isClosed() && stripe.pendingSessions.remove(sessionId, session)) {
+				writeDirectly(sessionId, session);
+			}
+		}
+	}
+
+	private boolean coalesce(Stripe stripe, String sessionId, Session session) {
+
+		if (stripe.pendingSessions.computeIfPresent(sessionId, (id, pendingSession) -> session) != null) {
+			this.coalescedWriteCount.incrementAndGet();
+			return true;
+		}
+
+		return false;
+	}
+
+	private void writeDirectly(String sessionId, Session session) {
+
+		this.template.put(sessionId, session);
+		this.directWriteCount.incrementAndGet();
+		this.writeCount.incrementAndGet();
+	}
+
+	/**
+	 * Discards the queued {@link Session} with the given ID, waiting for any in-flight write of the stripe
+	 * containing the {@link Session} to complete, for instance before the {@link Session} is deleted.
+	 *
+	 * @param sessionId {@link String} containing the ID of the {@link Session} to discard.
+	 */
+	public void discard(String sessionId) {
+
+		Stripe stripe = stripeFor(sessionId);
+
+		stripe.flushLock.lock();
+
+		try {
+			stripe.pendingSessions.remove(sessionId);
+		}
+		finally {
+			stripe.flushLock.unlock();
+			stripe.signalSpace();
+		}
+	}
+
+	/**
+	 * Writes all queued {@link Session Sessions} to the cache {@link org.apache.geode.cache.Region}.
+	 */
+	public void flush() {
+
+		for (Stripe stripe : this.stripes) {
+			stripe.flush();
+		}
+	}
+
+	/**
+	 * Closes this queue, stopping the background flush threads and writing all queued {@link Session Sessions}.
+	 *
+	 * {@link Session Sessions} saved after this queue has been closed are written immediately.
+	 */
+	public void close() {
+
+		this.closed = true;
+		this.flushExecutor.shutdown();
+
+		try {
+			this.flushExecutor.awaitTermination(30L, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			flush();
+		}
+	}
+
+	private Stripe stripeFor(String sessionId) {
+		return this.stripes[Math.abs(ObjectUtils.nullSafeHashCode(sessionId) % this.stripes.length)];
+	}
+
+	private void recordFlushLatency(long flushLatencyInNanoseconds) {
+
+		this.flushCount.incrementAndGet();
+		this.lastFlushLatencyInNanoseconds.set(flushLatencyInNanoseconds);
+		this.maxFlushLatencyInNanoseconds.accumulateAndGet(flushLatencyInNanoseconds, Math::max);
+		this.totalFlushLatencyInNanoseconds.addAndGet(flushLatencyInNanoseconds);
+		this.flushLatencyHistogram.record(flushLatencyInNanoseconds);
+	}
+
+	/**
+	 * Fixed histogram of flush latencies in nanoseconds with 4 sub-buckets per power of 2.
+	 */
+	private static final class FlushLatencyHistogram {
+
+		private static final int SUB_BUCKET_COUNT = 4;
+
+		private final AtomicLongArray counts = new AtomicLongArray(Long.SIZE * SUB_BUCKET_COUNT);
+
+		private static int bucketOf(long value) {
+
+			if (value < SUB_BUCKET_COUNT) {
+				return (int) Math.max(value, 0L);
+			}
+
+			int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+
+			int subBucket = (int) (value >>> (exponent - 2)) & (SUB_BUCKET_COUNT - 1);
+
+			return exponent * SUB_BUCKET_COUNT + subBucket;
+		}
+
+		private static long upperBoundOf(int bucket) {
+
+			if (bucket < SUB_BUCKET_COUNT) {
+				return bucket;
+			}
+
+			int exponent = bucket / SUB_BUCKET_COUNT;
+
+			int subBucket = bucket % SUB_BUCKET_COUNT;
+
+			long upperBound = (long) (SUB_BUCKET_COUNT + subBucket + 1) << (exponent - 2);
+
+			return upperBound > 0L ? upperBound - 1L : Long.MAX_VALUE;
+		}
+
+		void record(long value) {
+			this.counts.incrementAndGet(bucketOf(value));
+		}
+
+		long valueAt(double percentile) {
+
+			long totalCount = 0L;
+
+			for (int bucket = 0; bucket < this.counts.length(); bucket++) {
+				totalCount += this.counts.get(bucket);
+			}
+
+			long targetCount = Math.max((long) Math.ceil(totalCount * percentile / 100.0d), 1L);
+
+			long count = 0L;
+
+			for (int bucket = 0; bucket < this.counts.length() && totalCount > 0L; bucket++) {
+
+				count += this.counts.get(bucket);
+
+				if (count >= targetCount) {
+					return upperBoundOf(bucket);
+				}
+			}
+
+			return 0L;
+		}
+	}
+
+	private final class Stripe {
+
+		private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+		private final ConcurrentMap<String, Session> pendingSessions = new ConcurrentHashMap<>();
+
+		private final Object spaceMonitor = new Object();
+
+		private final ReentrantLock flushLock = new ReentrantLock();
+
+		private volatile Map<String, Session> inFlightSessions = Collections.emptyMap();
+
+		boolean isFull() {
+			return this.pendingSessions.size() >= stripeCapacity;
+		}
+
+		/**
+		 * Requests an immediate flush of this stripe from the flush threads and waits for space in this stripe
+		 * until the given deadline.
+		 *
+		 * @param deadline {@link System#nanoTime()} after which the saving thread stops waiting.
+		 * @return {@literal false} if the deadline passed, or the saving thread was interrupted, while waiting.
+		 */
+		boolean awaitSpace(long deadline) {
+
+			requestFlush();
+
+			synchronized (this.spaceMonitor) {
+
+				long remainingWait = deadline - System.nanoTime();
+
+				if (remainingWait <= 0L) {
+					return false;
+				}
+
+				if (isFull()) {
+					try {
+						TimeUnit.NANOSECONDS.timedWait(this.spaceMonitor, remainingWait);
+					}
+					catch (InterruptedException cause) {
+						Thread.currentThread().interrupt();
+						return false;
+					}
+				}
+
+				return true;
+			}
+		}
+
+		void awaitInFlightWrite(String sessionId) {
+
+			synchronized (this.spaceMonitor) {
+				while (this.inFlightSessions.containsKey(sessionId)) {
+					try {
+						this.spaceMonitor.wait();
+					}
+					catch (InterruptedException cause) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+			}
+		}
+
+		void requestFlush() {
+
+			if (this.flushRequested.compareAndSet(false, true)) {
+				try {
+					flushExecutor.execute(() -> {
+						this.flushRequested.set(false);
+						flushQuietly();
+					});
+				}
+				catch (RejectedExecutionException ignore) {
+					this.flushRequested.set(false);
+				}
+			}
+		}
+
+		void signalSpace() {
+
+			synchronized (this.spaceMonitor) {
+				this.spaceMonitor.notifyAll();
+			}
+		}
+
+		void flush() {
+
+			this.flushLock.lock();
+
+			try {
+				if (!this.pendingSessions.isEmpty()) {
+
+					Map<String, Session> batch = new HashMap<>(this.pendingSessions);
+
+					this.inFlightSessions = batch;
+
+					batch.forEach(this.pendingSessions::remove);
+
+					try {
+
+						long startTime = System.nanoTime();
+
+						template.putAll(batch);
+
+						recordFlushLatency(System.nanoTime() - startTime);
+						writeCount.addAndGet(batch.size());
+					}
+					catch (RuntimeException cause) {
+						batch.forEach(this.pendingSessions::putIfAbsent);
+						throw cause;
+					}
+					finally {
+						this.inFlightSessions = Collections.emptyMap();
+					}
+				}
+			}
+			finally {
+				this.flushLock.unlock();
+				signalSpace();
+			}
+		}
+
+		void flushQuietly() {
+
+			try {
+				flush();
+			}
+			catch (RuntimeException cause) {
+				logger.error("Failed to write queued Sessions; the Sessions will be written on the next flush",
+					cause);
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.Optional;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link SpelExpressionPrincipalNameResolver} class is an implementation of the {@link PrincipalNameResolver}
+ * interface that resolves the principal name by evaluating a SpEL {@link Expression} against the security context.
+ *
+ * The SpEL {@link Expression} is parsed once, when this resolver is constructed, and is evaluated in
+ * {@link SpelCompilerMode#MIXED mixed} mode so that it is compiled to byte code once it becomes hot.  A single,
+ * shared instance ({@link #INSTANCE}) is used by default across all {@link org.springframework.session.Session}
+ * instances.
+ *
+ * @author John Blum
+ * @see org.springframework.expression.Expression
+ * @see org.springframework.expression.spel.SpelCompilerMode
+ * @see org.springframework.expression.spel.standard.SpelExpressionParser
+ * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+ * @since 2.1.0
+ */
+public class SpelExpressionPrincipalNameResolver implements PrincipalNameResolver {
+
+	public static final String DEFAULT_PRINCIPAL_NAME_EXPRESSION = "authentication?.name";
+
+	public static final SpelExpressionPrincipalNameResolver INSTANCE = new SpelExpressionPrincipalNameResolver();
+
+	private final Expression principalNameExpression;
+
+	/**
+	 * Constructs a new instance of {@link SpelExpressionPrincipalNameResolver} initialized with
+	 * the {@link #DEFAULT_PRINCIPAL_NAME_EXPRESSION default principal name expression}.
+	 */
+	public SpelExpressionPrincipalNameResolver() {
+		this(DEFAULT_PRINCIPAL_NAME_EXPRESSION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SpelExpressionPrincipalNameResolver} initialized with
+	 * the given SpEL {@link String expression} used to resolve the principal name from the security context.
+	 *
+	 * @param principalNameExpression {@link String} containing the SpEL expression evaluated against
+	 * the security context to resolve the principal name.
+	 * @throws IllegalArgumentException if the {@link String expression} is {@literal null} or empty.
+	 */
+	public SpelExpressionPrincipalNameResolver(String principalNameExpression) {
+
+		String resolvedPrincipalNameExpression = Optional.ofNullable(principalNameExpression)
+			.filter(StringUtils::hasText)
+			.orElseThrow(() -> newIllegalArgumentException("Principal name expression [%s] is required",
+				principalNameExpression));
+
+		SpelParserConfiguration parserConfiguration = new SpelParserConfiguration(SpelCompilerMode.MIXED,
+			SpelExpressionPrincipalNameResolver.class.getClassLoader());
+
+		this.principalNameExpression =
+			new SpelExpressionParser(parserConfiguration).parseExpression(resolvedPrincipalNameExpression);
+	}
+
+	/**
+	 * Returns the parsed SpEL {@link Expression} used to resolve the principal name.
+	 *
+	 * @return the parsed SpEL {@link Expression} used to resolve the principal name.
+	 * @see org.springframework.expression.Expression
+	 */
+	protected Expression getPrincipalNameExpression() {
+		return this.principalNameExpression;
+	}
+
+	@Override
+	public String resolvePrincipalName(Object securityContext) {
+
+		return securityContext != null
+			? getPrincipalNameExpression().getValue(securityContext, String.class)
+			: null;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.util.UUID;
+
+/**
+ * The {@link UuidSessionIdGenerator} class is the default implementation of the {@link SessionIdGenerator}
+ * interface, generating {@link org.springframework.session.Session} IDs from a random {@link UUID},
+ * which is the {@literal 36} character {@link org.springframework.session.Session} ID format Spring Session
+ * has always used.
+ *
+ * @author John Blum
+ * @see java.util.UUID#randomUUID()
+ * @see org.springframework.session.data.gemfire.support.SessionIdGenerator
+ * @since 2.1.0
+ */
+public class UuidSessionIdGenerator implements SessionIdGenerator {
+
+	public static final UuidSessionIdGenerator INSTANCE = new UuidSessionIdGenerator();
+
+	@Override
+	public String generateId() {
+		return UUID.randomUUID().toString();
+	}
+}
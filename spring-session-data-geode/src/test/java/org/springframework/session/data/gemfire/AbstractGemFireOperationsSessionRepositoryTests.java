@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
@@ -52,7 +53,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -71,15 +75,28 @@ import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.QueryService;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.session.data.gemfire.function.ChangeSessionIdFunction;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.session.data.gemfire.support.SessionEventListenerDetector;
+import org.springframework.session.data.gemfire.support.SessionEventType;
+import org.springframework.session.data.gemfire.support.SessionExpirationSweeper;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
+import org.springframework.session.data.gemfire.support.UuidSessionIdGenerator;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionCreatedEvent;
 import org.springframework.session.events.SessionDeletedEvent;
@@ -145,6 +162,17 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		return mockEntryEvent;
 	}
 
+	protected CqEvent mockCqEvent(Operation baseOperation, Operation queryOperation, Object key) {
+
+		CqEvent mockCqEvent = mock(CqEvent.class);
+
+		given(mockCqEvent.getBaseOperation()).willReturn(baseOperation);
+		given(mockCqEvent.getQueryOperation()).willReturn(queryOperation);
+		given(mockCqEvent.getKey()).willReturn(key);
+
+		return mockCqEvent;
+	}
+
 	@SuppressWarnings("unchecked")
 	protected <K, V> Region<K, V> mockRegion(String name, DataPolicy dataPolicy) {
 
@@ -231,6 +259,61 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(mockAttributesMutator, times(1)).addCacheListener(same(sessionRepository));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void initializeWithContinuousQuerySessionEventsRegistersContinuousQueryInsteadOfCacheListener()
+			throws Exception {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		CqQuery mockCqQuery = mock(CqQuery.class);
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		Region<Object, Session> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Session> mockRegionAttributes = mock(RegionAttributes.class);
+
+		given(mockRegion.getFullPath()).willReturn(GemFireUtils.toRegionPath("Example"));
+		given(mockRegion.getAttributes()).willReturn(mockRegionAttributes);
+		given(mockRegion.getRegionService()).willReturn(mockClientCache);
+		given(mockRegionAttributes.getPoolName()).willReturn("TestPool");
+		given(mockClientCache.getQueryService(eq("TestPool"))).willReturn(mockQueryService);
+		given(mockQueryService.newCq(anyString(), any(CqAttributes.class))).willReturn(mockCqQuery);
+
+		AbstractGemFireOperationsSessionRepository sessionRepository =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(mockRegion));
+
+		sessionRepository.setContinuousQuerySessionEvents(SessionEventType.CREATED, SessionEventType.EXPIRED);
+		sessionRepository.setContinuousQuerySessionEventFilter("s.principalName = 'jxblum'");
+		sessionRepository.afterPropertiesSet();
+
+		assertThat(sessionRepository.getContinuousQuerySessionEvents())
+			.containsExactly(SessionEventType.CREATED, SessionEventType.EXPIRED);
+		assertThat(sessionRepository.getSessionEventContinuousQuery()).contains(mockCqQuery);
+
+		verify(mockQueryService, times(1)).newCq(
+			eq("SELECT * FROM /Example s WHERE s.principalName = 'jxblum'"), any(CqAttributes.class));
+		verify(mockCqQuery, times(1)).execute();
+		verify(mockRegion, never()).getAttributesMutator();
+
+		sessionRepository.closeSessionEventContinuousQuery();
+
+		assertThat(sessionRepository.getSessionEventContinuousQuery()).isNotPresent();
+
+		verify(mockCqQuery, times(1)).close();
+	}
+
+	@Test
+	public void newSessionEventQueryWithoutFilterSelectsAllSessions() {
+
+		doReturn(GemFireUtils.toRegionPath("Example")).when(this.sessionRepository).getFullyQualifiedRegionName();
+
+		this.sessionRepository.setContinuousQuerySessionEventFilter("  ");
+
+		assertThat(this.sessionRepository.newSessionEventQuery()).isEqualTo("SELECT * FROM /Example s");
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void constructGemFireOperationsSessionRepositoryWithNullTemplate() {
 
@@ -542,6 +625,166 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(this.sessionRepository, never()).handleCreated(anyString(), any());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterCreateForSessionIdChangeDoesNotPublishSessionCreatedEventAndRemembersSessionId() {
+
+		EntryEvent<Object, Session> mockEntryEvent =
+			this.mockEntryEvent(Operation.CREATE, "12345", null, this.mockSession);
+
+		given(mockEntryEvent.getCallbackArgument())
+			.willReturn(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT);
+
+		withRegion(this.sessionRepository, mockRegion("Example", DataPolicy.EMPTY));
+
+		this.sessionRepository.afterCreate(mockEntryEvent);
+
+		assertThat(this.sessionRepository.forget("12345")).isTrue();
+
+		verifyZeroInteractions(this.mockSession);
+		verify(this.sessionRepository, never()).handleCreated(anyString(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterDestroyForSessionIdChangeDoesNotPublishSessionDestroyedEventAndForgetsSessionId() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		EntryEvent<Object, Session> mockEntryEvent =
+			this.mockEntryEvent(Operation.DESTROY, "12345", this.mockSession, null);
+
+		given(mockEntryEvent.getCallbackArgument())
+			.willReturn(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT);
+
+		withRegion(this.sessionRepository, mockRegion("Example", DataPolicy.EMPTY));
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+
+		assertThat(this.sessionRepository.remember("12345")).isTrue();
+
+		this.sessionRepository.afterDestroy(mockEntryEvent);
+
+		assertThat(this.sessionRepository.forget("12345")).isFalse();
+
+		verifyZeroInteractions(this.mockSession);
+		verifyZeroInteractions(mockApplicationEventPublisher);
+		verify(this.sessionRepository, never()).handleDestroyed(anyString(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterDestroyForSessionExpirationPublishesSessionExpiredEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		EntryEvent<Object, Session> mockEntryEvent =
+			this.mockEntryEvent(Operation.REMOVEALL_DESTROY, "12345", this.mockSession, null);
+
+		given(mockEntryEvent.getCallbackArgument())
+			.willReturn(SessionExpirationSweeper.SESSION_EXPIRED_CALLBACK_ARGUMENT);
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.afterDestroy(mockEntryEvent);
+
+		verify(this.sessionRepository, times(1)).handleExpired(eq("12345"), isA(Session.class));
+		verify(this.sessionRepository, never()).handleDestroyed(anyString(), any());
+		verify(mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionExpiredEvent.class));
+	}
+
+	@Test
+	public void onEventForCreatePublishesSessionCreatedEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		CqEvent mockCqEvent = mockCqEvent(Operation.CREATE, Operation.CREATE, "12345");
+
+		given(mockCqEvent.getNewValue()).willReturn(this.mockSession);
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.setContinuousQuerySessionEvents(SessionEventType.values());
+		this.sessionRepository.onEvent(mockCqEvent);
+
+		verify(this.sessionRepository, times(1)).handleCreated(eq("12345"), eq(this.mockSession));
+		verify(mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionCreatedEvent.class));
+	}
+
+	@Test
+	public void onEventForDestroyPublishesSessionDestroyedEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.setContinuousQuerySessionEvents(SessionEventType.values());
+		this.sessionRepository.onEvent(mockCqEvent(Operation.DESTROY, Operation.DESTROY, "12345"));
+
+		verify(this.sessionRepository, times(1)).handleDestroyed(eq("12345"), isA(Session.class));
+		verify(this.sessionRepository, never()).handleExpired(anyString(), any());
+		verify(mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDestroyedEvent.class));
+	}
+
+	@Test
+	public void onEventForExpirationPublishesSessionExpiredEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.setContinuousQuerySessionEvents(SessionEventType.EXPIRED);
+		this.sessionRepository.onEvent(mockCqEvent(Operation.EXPIRE_DESTROY, Operation.DESTROY, "12345"));
+		this.sessionRepository.onEvent(mockCqEvent(Operation.EXPIRE_INVALIDATE, Operation.DESTROY, "67890"));
+
+		verify(this.sessionRepository, times(1)).handleExpired(eq("12345"), isA(Session.class));
+		verify(this.sessionRepository, times(1)).handleExpired(eq("67890"), isA(Session.class));
+		verify(this.sessionRepository, never()).handleDestroyed(anyString(), any());
+		verify(mockApplicationEventPublisher, times(2)).publishEvent(isA(SessionExpiredEvent.class));
+	}
+
+	@Test
+	public void onEventForSessionIdChangeDoesNotPublishSessionCreatedOrDestroyedEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.setContinuousQuerySessionEvents(SessionEventType.values());
+		this.sessionRepository.rememberSessionIdChange("12345", "67890");
+		this.sessionRepository.onEvent(mockCqEvent(Operation.CREATE, Operation.CREATE, "67890"));
+		this.sessionRepository.onEvent(mockCqEvent(Operation.DESTROY, Operation.DESTROY, "12345"));
+
+		verify(this.sessionRepository, never()).handleCreated(anyString(), any());
+		verify(this.sessionRepository, never()).handleDestroyed(anyString(), any());
+		verify(mockApplicationEventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+
+		this.sessionRepository.onEvent(mockCqEvent(Operation.DESTROY, Operation.DESTROY, "67890"));
+
+		verify(this.sessionRepository, times(1)).handleDestroyed(eq("67890"), isA(Session.class));
+		verify(mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDestroyedEvent.class));
+	}
+
+	@Test
+	public void rememberSessionIdChangeWithoutContinuousQuerySessionEventsRemembersNothing() {
+
+		this.sessionRepository.rememberSessionIdChange("12345", "67890");
+
+		assertThat(this.sessionRepository.forgetSessionIdChange("12345")).isFalse();
+		assertThat(this.sessionRepository.forgetSessionIdChange("67890")).isFalse();
+	}
+
+	@Test
+	public void onEventForUnsubscribedEventOrUpdateDoesNotPublishEvent() {
+
+		this.sessionRepository.setContinuousQuerySessionEvents(SessionEventType.EXPIRED);
+		this.sessionRepository.onEvent(mockCqEvent(Operation.CREATE, Operation.CREATE, "1"));
+		this.sessionRepository.onEvent(mockCqEvent(Operation.DESTROY, Operation.DESTROY, "2"));
+		this.sessionRepository.onEvent(mockCqEvent(Operation.UPDATE, Operation.UPDATE, "3"));
+		this.sessionRepository.onEvent(mockCqEvent(Operation.UPDATE, Operation.CREATE, "4"));
+		this.sessionRepository.onEvent(mockCqEvent(Operation.UPDATE, Operation.DESTROY, "5"));
+		this.sessionRepository.onEvent(null);
+
+		verify(this.sessionRepository, never()).handleCreated(anyString(), any());
+		verify(this.sessionRepository, never()).handleDestroyed(anyString(), any());
+		verify(this.sessionRepository, never()).handleExpired(anyString(), any());
+	}
+
 	@Test
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void afterCreateForLocalLoadCreateOperationDoesNotPublishSessionCreatedEvent() {
@@ -801,6 +1044,118 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verifyZeroInteractions(mockApplicationEventPublisher);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterInvalidateWithoutSessionEventListenersDoesNotPublishEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		SessionEventListenerDetector mockDetector = mock(SessionEventListenerDetector.class);
+
+		given(mockDetector.hasListeners(any())).willReturn(false);
+
+		EntryEvent<Object, Session> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getKey()).willReturn("12345");
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.setSessionEventListenerDetector(mockDetector);
+		this.sessionRepository.afterInvalidate(mockEntryEvent);
+
+		verify(mockDetector, times(1)).whenRefreshed(any(Runnable.class));
+		verify(this.sessionRepository, times(1)).handleExpired(eq("12345"), isNull());
+		verify(this.sessionRepository, never()).toSession(any(), anyString());
+		verify(this.sessionRepository, times(1)).forget(eq("12345"));
+		verifyZeroInteractions(mockApplicationEventPublisher);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void detachCacheListenerIfUnusedRemovesCacheListenerWhenNoOneListens() {
+
+		AttributesMutator<Object, Session> mockAttributesMutator = mock(AttributesMutator.class);
+
+		Region<Object, Session> mockRegion = mock(Region.class);
+
+		SessionEventListenerDetector mockDetector = mock(SessionEventListenerDetector.class);
+
+		given(mockRegion.getAttributesMutator()).willReturn(mockAttributesMutator);
+		given(mockDetector.hasListeners(any())).willReturn(false);
+
+		AbstractGemFireOperationsSessionRepository sessionRepository =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(mockRegion));
+
+		sessionRepository.setSessionEventListenerDetector(mockDetector);
+		sessionRepository.detachCacheListenerIfUnused();
+
+		verify(mockAttributesMutator, times(1)).removeCacheListener(same(sessionRepository));
+		verify(mockRegion, never()).unregisterInterest(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void detachCacheListenerIfUnusedKeepsCacheListenerWhenSomeoneListens() {
+
+		Region<Object, Session> mockRegion = mock(Region.class);
+
+		SessionEventListenerDetector mockDetector = mock(SessionEventListenerDetector.class);
+
+		given(mockDetector.hasListeners(eq(SessionCreatedEvent.class))).willReturn(false);
+		given(mockDetector.hasListeners(eq(SessionDestroyedEvent.class))).willReturn(true);
+
+		AbstractGemFireOperationsSessionRepository sessionRepository =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(mockRegion));
+
+		sessionRepository.setSessionEventListenerDetector(mockDetector);
+		sessionRepository.detachCacheListenerIfUnused();
+
+		verify(mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterInvalidateWithPublishEventsFromPrimaryOnlyIgnoresRemoteOriginEvent() {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		Region<Object, Session> mockRegion = mock(Region.class);
+
+		EntryEvent<Object, Session> mockLocalEntryEvent = mock(EntryEvent.class, "Local");
+		EntryEvent<Object, Session> mockRemoteEntryEvent = mock(EntryEvent.class, "Remote");
+
+		given(mockLocalEntryEvent.getKey()).willReturn("12345");
+		given(mockLocalEntryEvent.getOldValue()).willReturn(this.mockSession);
+		given(mockLocalEntryEvent.getRegion()).willReturn(mockRegion);
+		given(mockLocalEntryEvent.isOriginRemote()).willReturn(false);
+		given(mockRemoteEntryEvent.getRegion()).willReturn(mockRegion);
+		given(mockRemoteEntryEvent.isOriginRemote()).willReturn(true);
+
+		this.sessionRepository.setApplicationEventPublisher(mockApplicationEventPublisher);
+		this.sessionRepository.setPublishEventsFromPrimaryOnly(true);
+
+		assertThat(this.sessionRepository.isPublishEventsFromPrimaryOnly()).isTrue();
+
+		this.sessionRepository.afterInvalidate(mockRemoteEntryEvent);
+		this.sessionRepository.afterInvalidate(mockLocalEntryEvent);
+
+		verify(mockRemoteEntryEvent, never()).getKey();
+		verify(this.sessionRepository, times(1)).handleExpired(anyString(), any());
+		verify(this.sessionRepository, times(1)).handleExpired(eq("12345"), eq(this.mockSession));
+		verify(mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionExpiredEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void isPublisherWithoutPublishEventsFromPrimaryOnlyReturnsTrue() {
+
+		EntryEvent<Object, Session> mockEntryEvent = mock(EntryEvent.class);
+
+		assertThat(this.sessionRepository.isPublishEventsFromPrimaryOnly()).isFalse();
+		assertThat(this.sessionRepository.isPublisher(mockEntryEvent)).isTrue();
+
+		verifyZeroInteractions(mockEntryEvent);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void afterInvalidateWithSessionPublishesSessionExpiredEvent() {
@@ -1379,6 +1734,125 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.getPrincipalName()).isNull();
 	}
 
+	@Test
+	public void getPrincipalNameResolvesAndCachesPrincipalNameUntilSecurityContextChanges() {
+
+		AtomicInteger resolveCount = new AtomicInteger(0);
+
+		this.sessionRepository.setPrincipalNameResolver(securityContext -> {
+			resolveCount.incrementAndGet();
+			return String.valueOf(securityContext);
+		});
+
+		try {
+			GemFireSession<?> session = this.sessionRepository.configureSession(GemFireSession.create(Duration.ZERO));
+
+			assertThat(session.getPrincipalName()).isNull();
+			assertThat(resolveCount.get()).isEqualTo(0);
+
+			session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, "jblum");
+
+			assertThat(session.getPrincipalName()).isEqualTo("jblum");
+			assertThat(session.getPrincipalName()).isEqualTo("jblum");
+			assertThat(resolveCount.get()).isEqualTo(1);
+
+			session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, "rwinch");
+
+			assertThat(session.getPrincipalName()).isEqualTo("rwinch");
+			assertThat(resolveCount.get()).isEqualTo(2);
+
+			session.setPrincipalName("pieter");
+
+			assertThat(session.getPrincipalName()).isEqualTo("pieter");
+			assertThat(resolveCount.get()).isEqualTo(2);
+
+			session.removeAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
+			session.removeAttribute(GemFireSession.SPRING_SECURITY_CONTEXT);
+
+			assertThat(session.getPrincipalName()).isNull();
+			assertThat(resolveCount.get()).isEqualTo(2);
+		}
+		finally {
+			this.sessionRepository.setPrincipalNameResolver(null);
+		}
+	}
+
+	@Test
+	public void getPrincipalNameResolvesPrincipalNameWhenAuthenticationOfSecurityContextChanges() {
+
+		SecurityContextImpl securityContext = new SecurityContextImpl();
+
+		securityContext.setAuthentication(new TestingAuthenticationToken("jblum", "p@55w0rd"));
+
+		GemFireSession<?> session = this.sessionRepository.configureSession(GemFireSession.create(Duration.ZERO));
+
+		session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, securityContext);
+
+		assertThat(session.getPrincipalName()).isEqualTo("jblum");
+
+		securityContext.setAuthentication(new TestingAuthenticationToken("rwinch", "p@55w0rd"));
+
+		assertThat(session.getPrincipalName()).isEqualTo("rwinch");
+	}
+
+	@Test
+	public void principalNameResolverIsConfiguredPerSessionRepository() {
+
+		AbstractGemFireOperationsSessionRepository otherSessionRepository =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(mock(Region.class)));
+
+		this.sessionRepository.setPrincipalNameResolver(securityContext -> "jblum");
+		otherSessionRepository.setPrincipalNameResolver(securityContext -> "rwinch");
+
+		GemFireSession<?> session = this.sessionRepository.configureSession(GemFireSession.create(Duration.ZERO));
+		GemFireSession<?> otherSession = otherSessionRepository.configureSession(GemFireSession.create(Duration.ZERO));
+
+		session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, "securityContext");
+		otherSession.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, "securityContext");
+
+		assertThat(session.getPrincipalName()).isEqualTo("jblum");
+		assertThat(otherSession.getPrincipalName()).isEqualTo("rwinch");
+		assertThat(GemFireSession.copy(session).getPrincipalName()).isEqualTo("jblum");
+	}
+
+	@Test
+	public void sessionIdsAreGeneratedWithConfiguredSessionIdGenerator() {
+
+		AtomicInteger sequence = new AtomicInteger(0);
+
+		this.sessionRepository.setSessionIdGenerator(() -> String.valueOf(sequence.incrementAndGet()));
+
+		GemFireSession<?> session = GemFireSession.create(Duration.ZERO,
+			this.sessionRepository.getSessionIdGenerator());
+
+		assertThat(session.getId()).isEqualTo("1");
+		assertThat(session.changeSessionId()).isEqualTo("2");
+		assertThat(session.getId()).isEqualTo("2");
+
+		GemFireSession<?> configuredSession = this.sessionRepository.configureSession(GemFireSession.create());
+
+		assertThat(configuredSession.changeSessionId()).isEqualTo("3");
+		assertThat(GemFireSession.copy(configuredSession).changeSessionId()).isEqualTo("4");
+	}
+
+	@Test
+	public void sessionIdGeneratorIsConfiguredPerSessionRepositoryAndDefaultsToUuids() {
+
+		this.sessionRepository.setSessionIdGenerator(() -> "1");
+
+		TestGemFireOperationsSessionRepository otherSessionRepository =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(mock(Region.class)));
+
+		assertThat(otherSessionRepository.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.INSTANCE);
+		assertThat(UUID.fromString(GemFireSession.create().getId())).isNotNull();
+		assertThat(UUID.fromString(otherSessionRepository.configureSession(GemFireSession.create())
+			.changeSessionId())).isNotNull();
+
+		this.sessionRepository.setSessionIdGenerator(null);
+
+		assertThat(this.sessionRepository.getSessionIdGenerator()).isSameAs(UuidSessionIdGenerator.INSTANCE);
+	}
+
 	@Test
 	public void hasDeltaWhenNoSessionChangesIsFalse() {
 		assertThat(new AbstractGemFireOperationsSessionRepository.GemFireSession().hasDelta()).isFalse();
@@ -1440,6 +1914,52 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.hasDelta()).isTrue();
 	}
 
+	@Test
+	public void changedAttributeNamesAreTrackedUntilSessionIsStored() {
+
+		GemFireSession<?> session = new DeltaCapableGemFireSession();
+
+		session.setAttribute("attrOne", "testOne");
+		session.setAttribute("attrTwo", "testTwo");
+		session.storedAs(session.getId());
+
+		assertThat(session.getAttributes().getChangedAttributeNames()).isEmpty();
+
+		session.setAttribute("attrOne", "test");
+		session.removeAttribute("attrTwo");
+		session.removeAttribute("attrThree");
+
+		assertThat(session.getAttributes().getChangedAttributeNames()).containsOnly("attrOne", "attrTwo");
+
+		session.getAttributes().clearDelta();
+
+		assertThat(session.hasDelta()).isFalse();
+		assertThat(session.getAttributes().getChangedAttributeNames()).containsOnly("attrOne", "attrTwo");
+
+		session.storedAs(session.getId());
+
+		assertThat(session.getAttributes().getChangedAttributeNames()).isEmpty();
+	}
+
+	@Test
+	public void copyOfSessionRetainsVersionAndChangedAttributeNames() {
+
+		GemFireSession<?> session = new GemFireSession();
+
+		session.setAttribute("attrOne", "testOne");
+		session.setAttribute("attrTwo", "testTwo");
+		session.storedAs(session.getId());
+		session.setAttribute("attrTwo", "test");
+		session.setVersion(2L);
+
+		GemFireSession<?> sessionCopy = GemFireSession.copy(session);
+
+		assertThat(sessionCopy).isNotSameAs(session);
+		assertThat(sessionCopy.getVersion()).isEqualTo(2L);
+		assertThat(sessionCopy.getAttributeNames()).containsOnly("attrOne", "attrTwo");
+		assertThat(sessionCopy.getAttributes().getChangedAttributeNames()).containsOnly("attrTwo");
+	}
+
 	@Test
 	public void sessionToDelta() throws Exception {
 
@@ -1464,6 +1984,26 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(mockDataOutput, times(1)).writeUTF(eq("attrOne"));
 	}
 
+	@Test
+	public void sessionToDeltaRecordsToSessionOperationStatisticsOfSession() throws Exception {
+
+		SessionOperationStatistics mockSessionOperationStatistics = mock(SessionOperationStatistics.class);
+
+		@SuppressWarnings("serial")
+		DeltaCapableGemFireSession session = new DeltaCapableGemFireSession();
+
+		session.setSessionOperationStatistics(mockSessionOperationStatistics);
+
+		GemFireSession<?> sessionCopy = GemFireSession.copy(session);
+
+		assertThat(sessionCopy.getSessionOperationStatistics()).isSameAs(mockSessionOperationStatistics);
+		assertThat(sessionCopy.getAttributes().getSessionOperationStatistics()).isSameAs(mockSessionOperationStatistics);
+
+		session.toDelta(mock(DataOutput.class));
+
+		verify(mockSessionOperationStatistics, times(1)).incDeltas();
+	}
+
 	@Test
 	public void sessionFromDelta() throws Exception {
 
@@ -1873,6 +2413,87 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		}
 	}
 
+	@Test
+	public void sessionReadsDoNotContendWithSessionLock() throws Throwable {
+		TestFramework.runOnce(new SessionReadsDoNotContendWithSessionLockTest(GemFireSession::new));
+	}
+
+	@Test
+	public void deltaCapableSessionReadsDoNotContendWithSessionLock() throws Throwable {
+		TestFramework.runOnce(new SessionReadsDoNotContendWithSessionLockTest(DeltaCapableGemFireSession::new));
+	}
+
+	@Test
+	public void deltaCapableSessionAttributesAreGuardedBySessionLock() {
+
+		DeltaCapableGemFireSession session = new DeltaCapableGemFireSession("1");
+
+		assertThat(session.getAttributes().getLock()).isSameAs(session);
+	}
+
+	@SuppressWarnings("unused")
+	protected static final class SessionReadsDoNotContendWithSessionLockTest extends MultithreadedTestCase {
+
+		private final Function<String, GemFireSession<?>> sessionFactory;
+
+		private GemFireSession<?> session;
+
+		SessionReadsDoNotContendWithSessionLockTest(Function<String, GemFireSession<?>> sessionFactory) {
+			this.sessionFactory = sessionFactory;
+		}
+
+		@Override
+		public void initialize() {
+
+			this.session = this.sessionFactory.apply("1");
+			this.session.setAttribute("tennis", "ping");
+			this.session.setLastAccessedTime(Instant.ofEpochSecond(1L));
+			this.session.setPrincipalName("jblum");
+			this.session.clearDelta();
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Session Serialization Thread");
+
+			// holds the Session lock (as the SessionSerializers do) while the other thread reads
+			synchronized (this.session) {
+				waitForTick(2);
+			}
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("HTTP Request Processing Thread");
+
+			waitForTick(1);
+
+			assertThat(this.session.getId()).isEqualTo("1");
+			assertThat(this.session.getLastAccessedTime()).isEqualTo(Instant.ofEpochSecond(1L));
+			assertThat(this.session.getMaxInactiveInterval()).isEqualTo(Duration.ZERO);
+			assertThat(this.session.getPrincipalName()).isEqualTo("jblum");
+			assertThat(this.session.getAttributeNames()).containsAll(asSet("tennis"));
+			assertThat(this.session.<String>getAttribute("tennis")).isEqualTo("ping");
+			assertThat(this.session.isExpired()).isFalse();
+			assertThat(this.session.hasDelta()).isFalse();
+
+			// reads must not have waited on the Session lock
+			assertTick(1);
+
+			this.session.setAttribute("tennis", "pong");
+
+			// writes must wait until the Session lock is released
+			assertTick(2);
+			assertThat(this.session.<String>getAttribute("tennis")).isEqualTo("pong");
+			assertThat(this.session.hasDelta()).isTrue();
+		}
+
+		@Override
+		public void finish() {
+			this.session = null;
+		}
+	}
+
 	static class TestGemFireOperationsSessionRepository extends AbstractGemFireOperationsSessionRepository {
 
 		TestGemFireOperationsSessionRepository(GemfireOperations gemfireOperations) {
@@ -26,6 +26,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -46,16 +47,27 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheLoaderException;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.gemfire.GemfireAccessor;
+import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.function.ChangeSessionIdFunction;
+import org.springframework.session.data.gemfire.function.SessionStatistics;
+import org.springframework.session.data.gemfire.serialization.SerializationException;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver;
+import org.springframework.session.data.gemfire.support.SessionInterestRegistrar;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
+import org.springframework.session.data.gemfire.support.SessionWriteBehindQueue;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionDeletedEvent;
 
@@ -219,6 +231,57 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(mockSelectResults, times(1)).asList();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByPrincipalNameWithPrincipalNameRoutingOnNonPartitionedRegionUsesQuery() {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		Session mockSession = mock(Session.class, "MockSession");
+
+		given(mockSession.getId()).willReturn("1");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		given(mockSelectResults.asList()).willReturn(Collections.singletonList(mockSession));
+
+		String principalName = "jblum";
+
+		String expectedOql = String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY,
+			this.sessionRepository.getFullyQualifiedRegionName());
+
+		given(this.mockTemplate.find(eq(expectedOql), eq(principalName))).willReturn(mockSelectResults);
+
+		this.sessionRepository.setPrincipalNameRouting(true);
+
+		Map<String, Session> sessions = this.sessionRepository.findByIndexNameAndIndexValue(
+			FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principalName);
+
+		assertThat(sessions).containsOnlyKeys("1");
+
+		verify(this.mockTemplate, times(1)).execute(any());
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq(principalName));
+	}
+
+	@Test
+	public void getSessionStatisticsOnNonPartitionedRegionComputesSessionStatisticsLocally() {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		given(this.mockRegion.values()).willReturn(Collections.emptyList());
+
+		SessionStatistics sessionStatistics = this.sessionRepository.getSessionStatistics(5);
+
+		assertThat(sessionStatistics).isNotNull();
+		assertThat(sessionStatistics.getSessionCount()).isZero();
+		assertThat(sessionStatistics.getLargestSessions()).isEmpty();
+
+		verify(this.mockTemplate, times(1)).execute(any());
+		verify(this.mockRegion, times(1)).values();
+	}
+
 	@Test
 	public void prepareQueryReturnsPrincipalNameOql() {
 
@@ -296,6 +359,35 @@ public class GemFireOperationsSessionRepositoryTests {
 			.publishEvent(isA(SessionDeletedEvent.class));
 	}
 
+	@Test
+	public void getSessionDeletesMatchingExpiredSessionByIdInBackground() {
+
+		String expectedSessionId = "1";
+
+		Session mockSession = mock(Session.class);
+
+		given(mockSession.isExpired()).willReturn(true);
+		given(mockSession.getId()).willReturn(expectedSessionId);
+		given(this.mockTemplate.get(eq(expectedSessionId))).willReturn(mockSession);
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		this.sessionRepository.setExpiredSessionDeletionInterval(Duration.ofHours(1L));
+
+		assertThat(this.sessionRepository.findById(expectedSessionId)).isNull();
+		assertThat(this.sessionRepository.getSessionDeletionQueue()
+			.map(queue -> queue.getPendingDeletionCount()).orElse(0)).isEqualTo(1);
+
+		verify(this.mockTemplate, never()).remove(any());
+		verify(this.mockApplicationEventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+
+		this.sessionRepository.destroy();
+
+		verify(this.mockRegion, times(1)).removeAll(eq(Collections.singleton(expectedSessionId)));
+		verify(this.mockApplicationEventPublisher, times(1))
+			.publishEvent(isA(SessionDeletedEvent.class));
+	}
+
 	@Test
 	public void getSessionFindsMatchingNonExpiredSessionById() {
 
@@ -333,12 +425,90 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(mockSession, times(1)).getAttribute(eq("attrOne"));
 	}
 
+	@Test
+	public void getSessionWithinCoalescingWindowSharesFetchAndReturnsCopies() {
+
+		Session storedSession = this.sessionRepository.createSession();
+
+		String sessionId = storedSession.getId();
+
+		given(this.mockTemplate.get(eq(sessionId))).willReturn(storedSession);
+
+		this.sessionRepository.setSessionLookupCoalescingWindow(Duration.ofMinutes(1L));
+
+		Session sessionOne = this.sessionRepository.findById(sessionId);
+		Session sessionTwo = this.sessionRepository.findById(sessionId);
+
+		assertThat(sessionOne).isNotSameAs(storedSession);
+		assertThat(sessionTwo).isNotSameAs(storedSession);
+		assertThat(sessionOne).isNotSameAs(sessionTwo);
+		assertThat(sessionOne.getId()).isEqualTo(sessionId);
+		assertThat(sessionTwo.getId()).isEqualTo(sessionId);
+		assertThat(this.sessionRepository.getSessionLookupCoalescer()
+			.map(it -> it.getCoalescedLookupCount()).orElse(0L)).isEqualTo(1L);
+
+		this.sessionRepository.save(sessionOne);
+		this.sessionRepository.findById(sessionId);
+
+		verify(this.mockTemplate, times(2)).get(eq(sessionId));
+		verify(this.mockTemplate, times(1)).put(eq(sessionId), same(sessionOne));
+	}
+
 	@Test
 	public void getSessionReturnsNull() {
 		given(this.mockTemplate.get(anyString())).willReturn(null);
 		assertThat(this.sessionRepository.findById("1")).isNull();
 	}
 
+	@Test
+	public void findSaveAndDeleteWithDirectRegionAccessUseRegion() {
+
+		Session storedSession = this.sessionRepository.createSession();
+
+		String sessionId = storedSession.getId();
+
+		given(this.mockRegion.get(eq(sessionId))).willReturn(storedSession);
+		given(this.mockRegion.remove(eq(sessionId))).willReturn(storedSession);
+
+		this.sessionRepository.setDirectRegionAccess(true);
+
+		Session session = this.sessionRepository.findById(sessionId);
+
+		assertThat(session).isNotNull();
+		assertThat(session).isNotSameAs(storedSession);
+		assertThat(session.getId()).isEqualTo(sessionId);
+
+		this.sessionRepository.save(session);
+		this.sessionRepository.deleteById(sessionId);
+
+		verify(this.mockRegion, times(1)).get(eq(sessionId));
+		verify(this.mockRegion, times(1)).put(eq(sessionId), same(session));
+		verify(this.mockRegion, times(1)).remove(eq(sessionId));
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockTemplate, never()).put(any(), any());
+		verify(this.mockTemplate, never()).remove(any());
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void findWithDirectRegionAccessTranslatesGemFireException() {
+
+		CacheLoaderException cause = new CacheLoaderException("TEST");
+
+		given(this.mockRegion.get(eq("1"))).willThrow(cause);
+
+		this.sessionRepository.setDirectRegionAccess(true);
+
+		try {
+			this.sessionRepository.findById("1");
+		}
+		catch (DataAccessException expected) {
+
+			assertThat(expected).hasCause(cause);
+
+			throw expected;
+		}
+	}
+
 	@Test
 	public void saveStoresSession() {
 
@@ -383,6 +553,278 @@ public class GemFireOperationsSessionRepositoryTests {
 			isA(AbstractGemFireOperationsSessionRepository.GemFireSession.class));
 	}
 
+	@Test
+	public void saveAfterChangeSessionIdMovesSessionToNewSessionId() {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		Session session = this.sessionRepository.createSession();
+
+		String originalSessionId = session.getId();
+
+		this.sessionRepository.save(session);
+
+		String newSessionId = session.changeSessionId();
+
+		assertThat(newSessionId).isNotEqualTo(originalSessionId);
+
+		this.sessionRepository.save(session);
+		this.sessionRepository.save(session);
+
+		verify(this.mockTemplate, times(1)).put(eq(originalSessionId), same(session));
+		verify(this.mockTemplate, times(1)).put(eq(newSessionId), same(session));
+		verify(this.mockTemplate, times(1)).execute(any());
+		verify(this.mockRegion, times(1)).put(eq(newSessionId), same(session),
+			eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion, times(1)).destroy(eq(originalSessionId),
+			eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void saveWithOptimisticConcurrencyReplacesSessionAndRecordsNewVersion() {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		this.sessionRepository.setOptimisticConcurrency(true);
+
+		AbstractGemFireOperationsSessionRepository.GemFireSession<?> session =
+			AbstractGemFireOperationsSessionRepository.GemFireSession.from(this.sessionRepository.createSession());
+
+		session.setAttribute("attrOne", "test");
+
+		assertThat(session.getVersion()).isEqualTo(0L);
+		assertThat(session.getAttributes().getChangedAttributeNames()).containsExactly("attrOne");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getVersion()).isEqualTo(1L);
+		assertThat(session.getAttributes().getChangedAttributeNames()).isEmpty();
+
+		verify(this.mockTemplate, times(1)).execute(any());
+		verify(this.mockTemplate, never()).put(any(), any());
+		verify(this.mockRegion, times(1)).get(eq(session.getId()));
+		verify(this.mockRegion, times(1)).putIfAbsent(eq(session.getId()), same(session));
+	}
+
+	@Test
+	public void saveWithOptimisticConcurrencyDoesNotStoreSessionDeletedSinceRead() {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		this.sessionRepository.setOptimisticConcurrency(true);
+
+		AbstractGemFireOperationsSessionRepository.GemFireSession<?> session =
+			AbstractGemFireOperationsSessionRepository.GemFireSession.from(this.sessionRepository.createSession());
+
+		session.setVersion(3L);
+		session.setAttribute("attrOne", "test");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getVersion()).isEqualTo(3L);
+
+		verify(this.mockRegion, times(1)).get(eq(session.getId()));
+		verify(this.mockRegion, never()).put(any(), any());
+		verify(this.mockRegion, never()).putIfAbsent(any(), any());
+		verify(this.mockRegion, never()).replace(any(), any(), any());
+	}
+
+	@Test
+	public void saveWithPrincipalNameRoutingDoesNotChangeSessionId() {
+
+		this.sessionRepository.setPrincipalNameRouting(true);
+
+		Session session = this.sessionRepository.createSession();
+
+		String sessionId = session.getId();
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jxblum");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getId()).isEqualTo(sessionId);
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(sessionId, "jxblum")).isFalse();
+
+		verify(this.mockTemplate, times(1)).put(eq(sessionId), same(session));
+		verify(this.mockTemplate, never()).execute(any());
+	}
+
+	@Test
+	public void changeSessionIdWithPrincipalNameRoutingChangesSessionIdToIdRoutedByPrincipalName() {
+
+		this.sessionRepository.setPrincipalNameRouting(true);
+
+		Session session = this.sessionRepository.createSession();
+
+		String originalSessionId = session.getId();
+
+		this.sessionRepository.save(session);
+
+		String unroutedSessionId = session.changeSessionId();
+
+		assertThat(unroutedSessionId).isNotEqualTo(originalSessionId);
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(unroutedSessionId, "jxblum")).isFalse();
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jxblum");
+
+		String routedSessionId = session.changeSessionId();
+
+		assertThat(routedSessionId).isNotEqualTo(unroutedSessionId);
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(routedSessionId, "jxblum")).isTrue();
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getId()).isEqualTo(routedSessionId);
+
+		verify(this.mockTemplate, times(1)).put(eq(originalSessionId), same(session));
+		verify(this.mockTemplate, times(1)).execute(any());
+		verify(this.mockTemplate, times(1)).put(eq(routedSessionId), same(session));
+	}
+
+	@Test
+	public void changeSessionIdWithoutPrincipalNameRoutingDoesNotRouteSessionIdByPrincipalName() {
+
+		Session session = this.sessionRepository.createSession();
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jxblum");
+
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(session.changeSessionId(), "jxblum")).isFalse();
+	}
+
+	@Test
+	public void createSessionAndSaveRecordToInjectedSessionOperationStatistics() {
+
+		SessionOperationStatistics mockSessionOperationStatistics = mock(SessionOperationStatistics.class);
+
+		given(mockSessionOperationStatistics.startTime()).willReturn(1L);
+
+		this.sessionRepository.setSessionOperationStatistics(mockSessionOperationStatistics);
+
+		AbstractGemFireOperationsSessionRepository.GemFireSession<?> session =
+			(AbstractGemFireOperationsSessionRepository.GemFireSession<?>) this.sessionRepository.createSession();
+
+		assertThat(session.getSessionOperationStatistics()).isSameAs(mockSessionOperationStatistics);
+		assertThat(session.getAttributes().getSessionOperationStatistics()).isSameAs(mockSessionOperationStatistics);
+
+		this.sessionRepository.save(session);
+
+		verify(mockSessionOperationStatistics, times(1)).incCreates();
+		verify(mockSessionOperationStatistics, times(1)).startTime();
+		verify(mockSessionOperationStatistics, times(1)).endSave(eq(1L));
+	}
+
+	@Test
+	public void saveStripsLargestAttributesFromSessionExceedingLimitsBeforeStoringSession() {
+
+		SessionSizeGuardrail sessionSizeGuardrail =
+			new SessionSizeGuardrail(1, -1, SessionSizeGuardrail.ViolationAction.STRIP);
+
+		this.sessionRepository.setSessionSizeGuardrail(sessionSizeGuardrail);
+
+		Session session = this.sessionRepository.createSession();
+
+		session.setAttribute("attrOne", "test");
+
+		this.sessionRepository.save(session);
+
+		session.setAttribute("attrTwo", "largerTest");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getAttributeNames()).containsExactly("attrOne");
+		assertThat(sessionSizeGuardrail.getViolationCount()).isEqualTo(1L);
+
+		verify(this.mockTemplate, times(2)).put(eq(session.getId()), same(session));
+	}
+
+	@Test(expected = SerializationException.class)
+	public void saveRejectsSessionExceedingLimitsBeforeStoringSession() {
+
+		this.sessionRepository.setSessionSizeGuardrail(
+			new SessionSizeGuardrail(-1, 8, SessionSizeGuardrail.ViolationAction.REJECT));
+
+		Session session = this.sessionRepository.createSession();
+
+		session.setAttribute("attrOne", "testOne");
+		session.setAttribute("attrTwo", "testTwo");
+
+		try {
+			this.sessionRepository.save(session);
+		}
+		catch (SerializationException expected) {
+
+			assertThat(expected).hasMessageStartingWith(String.format("Session [%s] with [2] attributes",
+				session.getId()));
+
+			assertThat(expected).hasNoCause();
+
+			verify(this.mockTemplate, never()).put(any(), any());
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void saveWithWriteBehindQueuesSessionAndReadsOwnWrite() {
+
+		SessionWriteBehindQueue sessionWriteBehindQueue =
+			new SessionWriteBehindQueue(this.mockTemplate, Duration.ofHours(1L));
+
+		this.sessionRepository.setSessionWriteBehindQueue(sessionWriteBehindQueue);
+
+		Session session = this.sessionRepository.createSession();
+
+		session.setAttribute("attrOne", "test");
+
+		this.sessionRepository.save(session);
+
+		Session foundSession = this.sessionRepository.findById(session.getId());
+
+		assertThat(foundSession).isNotSameAs(session);
+		assertThat(foundSession.getId()).isEqualTo(session.getId());
+		assertThat(foundSession.<String>getAttribute("attrOne")).isEqualTo("test");
+		assertThat(sessionWriteBehindQueue.getPendingWriteCount()).isEqualTo(1);
+
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockTemplate, never()).put(any(), any());
+
+		this.sessionRepository.destroy();
+
+		assertThat(sessionWriteBehindQueue.isClosed()).isTrue();
+		assertThat(sessionWriteBehindQueue.getPendingWriteCount()).isEqualTo(0);
+
+		verify(this.mockTemplate, times(1)).putAll(eq(Collections.singletonMap(session.getId(), session)));
+	}
+
+	@Test
+	public void saveRegistersInterestInSessionAndDeleteUnregistersInterest() {
+
+		SessionInterestRegistrar sessionInterestRegistrar =
+			new SessionInterestRegistrar(this.mockTemplate, Duration.ofHours(1L), 100);
+
+		this.sessionRepository.setSessionInterestRegistrar(sessionInterestRegistrar);
+
+		Session session = this.sessionRepository.createSession();
+
+		this.sessionRepository.save(session);
+
+		assertThat(sessionInterestRegistrar.isRegistered(session.getId())).isTrue();
+
+		this.sessionRepository.deleteById(session.getId());
+
+		assertThat(sessionInterestRegistrar.isRegistered(session.getId())).isFalse();
+		assertThat(sessionInterestRegistrar.getPendingRegistrationCount()).isEqualTo(0);
+
+		this.sessionRepository.destroy();
+
+		assertThat(sessionInterestRegistrar.isClosed()).isTrue();
+
+		verify(this.mockTemplate, never()).execute(any());
+	}
+
 	@Test
 	public void deleteRemovesExistingSessionAndHandlesDelete() {
 
@@ -17,15 +17,22 @@
 package org.springframework.session.data.gemfire.config.annotation.web.http;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,14 +40,20 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.query.QueryService;
 
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
@@ -49,11 +62,18 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.IndexType;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.GemFireCacheTypeAwareRegionFactoryBean;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
+import org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail;
+import org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver;
+import org.springframework.session.data.gemfire.support.SessionEventType;
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -320,26 +340,117 @@ public class GemFireHttpSessionConfigurationTests {
 
 		Map<String, Object> annotationAttributes = new HashMap<>(4);
 
+		annotationAttributes.put("backgroundIndexCreation", true);
+		annotationAttributes.put("changeSessionIdOnServer", true);
 		annotationAttributes.put("clientRegionShortcut", ClientRegionShortcut.CACHING_PROXY);
+		annotationAttributes.put("continuousQuerySessionEventFilter", "s.principalName = 'jxblum'");
+		annotationAttributes.put("continuousQuerySessionEvents", new SessionEventType[] { SessionEventType.EXPIRED });
+		annotationAttributes.put("dedicatedPool", true);
+		annotationAttributes.put("deferredIndexCreation", false);
+		annotationAttributes.put("directRegionAccess", true);
+		annotationAttributes.put("diskQueueSize", 5000);
+		annotationAttributes.put("diskStoreName", "TestDiskStore");
+		annotationAttributes.put("diskTimeIntervalInMilliseconds", 250);
+		annotationAttributes.put("evictionAction", EvictionActionType.LOCAL_DESTROY);
+		annotationAttributes.put("evictionPolicy", EvictionPolicyType.ENTRY_COUNT);
+		annotationAttributes.put("evictionThreshold", 10000);
+		annotationAttributes.put("expirationSweepIntervalInMilliseconds", 5000);
+		annotationAttributes.put("expiredSessionDeletionIntervalInMilliseconds", 1000);
 		annotationAttributes.put("indexableSessionAttributes", toArray("one", "two", "three"));
+		annotationAttributes.put("individualSessionAttributeIndexes", true);
 		annotationAttributes.put("maxInactiveIntervalInSeconds", 600);
+		annotationAttributes.put("maxSessionAttributes", 64);
+		annotationAttributes.put("maxSessionSizeInBytes", 65536);
+		annotationAttributes.put("offHeap", true);
+		annotationAttributes.put("optimisticConcurrency", true);
+		annotationAttributes.put("persistent", true);
+		annotationAttributes.put("poolIdleTimeoutInMilliseconds", 30000);
+		annotationAttributes.put("poolMaxConnections", 50);
+		annotationAttributes.put("poolMinConnections", 5);
 		annotationAttributes.put("poolName", "TestPool");
+		annotationAttributes.put("poolPrSingleHopEnabled", false);
+		annotationAttributes.put("poolReadTimeoutInMilliseconds", 2000);
+		annotationAttributes.put("poolRetryAttempts", 1);
+		annotationAttributes.put("poolSubscriptionRedundancy", 1);
+		annotationAttributes.put("principalNameRouting", true);
+		annotationAttributes.put("publishEventsFromPrimaryOnly", true);
+		annotationAttributes.put("recoveryDelayInMilliseconds", 30000);
+		annotationAttributes.put("redundantCopies", 2);
 		annotationAttributes.put("serverRegionShortcut", RegionShortcut.REPLICATE);
 		annotationAttributes.put("regionName", "TEST");
+		annotationAttributes.put("sessionAttributeIndexType", IndexType.FUNCTIONAL);
+		annotationAttributes.put("sessionIdGeneratorBeanName", "testSessionIdGenerator");
+		annotationAttributes.put("sessionLookupCoalescingWindowInMilliseconds", 50);
 		annotationAttributes.put("sessionSerializerBeanName", "testSessionSerializer");
+		annotationAttributes.put("sessionSizeViolationAction", SessionSizeGuardrail.ViolationAction.STRIP);
+		annotationAttributes.put("sessionStatisticsEnabled", true);
+		annotationAttributes.put("startupRecoveryDelayInMilliseconds", -1);
+		annotationAttributes.put("targetedInterestRegistration", true);
+		annotationAttributes.put("totalNumberOfBuckets", 251);
+		annotationAttributes.put("writeBehindFlushIntervalInMilliseconds", 100);
+		annotationAttributes.put("writeBehindQueueCapacity", 500);
+		annotationAttributes.put("writeOptimized", true);
 
 		given(mockAnnotationMetadata.getAnnotationAttributes(eq(EnableGemFireHttpSession.class.getName())))
 			.willReturn(annotationAttributes);
 
 		this.gemfireConfiguration.setImportMetadata(mockAnnotationMetadata);
 
+		assertThat(this.gemfireConfiguration.isBackgroundIndexCreation()).isTrue();
+		assertThat(this.gemfireConfiguration.isChangeSessionIdOnServer()).isTrue();
 		assertThat(this.gemfireConfiguration.getClientRegionShortcut()).isEqualTo(ClientRegionShortcut.CACHING_PROXY);
+		assertThat(this.gemfireConfiguration.getContinuousQuerySessionEventFilter())
+			.isEqualTo("s.principalName = 'jxblum'");
+		assertThat(this.gemfireConfiguration.getContinuousQuerySessionEvents())
+			.containsExactly(SessionEventType.EXPIRED);
+		assertThat(this.gemfireConfiguration.isContinuousQuerySessionEventsEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isDedicatedPool()).isTrue();
+		assertThat(this.gemfireConfiguration.isDeferredIndexCreation()).isFalse();
+		assertThat(this.gemfireConfiguration.isDirectRegionAccess()).isTrue();
+		assertThat(this.gemfireConfiguration.getDiskQueueSize()).isEqualTo(5000);
+		assertThat(this.gemfireConfiguration.getDiskStoreName()).isEqualTo("TestDiskStore");
+		assertThat(this.gemfireConfiguration.getDiskTimeIntervalInMilliseconds()).isEqualTo(250);
+		assertThat(this.gemfireConfiguration.getEvictionAction()).isEqualTo(EvictionActionType.LOCAL_DESTROY);
+		assertThat(this.gemfireConfiguration.getEvictionPolicy()).isEqualTo(EvictionPolicyType.ENTRY_COUNT);
+		assertThat(this.gemfireConfiguration.getEvictionThreshold()).isEqualTo(10000);
+		assertThat(this.gemfireConfiguration.getExpirationSweepIntervalInMilliseconds()).isEqualTo(5000);
+		assertThat(this.gemfireConfiguration.getExpiredSessionDeletionIntervalInMilliseconds()).isEqualTo(1000);
 		assertThat(this.gemfireConfiguration.getIndexableSessionAttributes()).isEqualTo(toArray("one", "two", "three"));
+		assertThat(this.gemfireConfiguration.isIndividualSessionAttributeIndexes()).isTrue();
 		assertThat(this.gemfireConfiguration.getMaxInactiveIntervalInSeconds()).isEqualTo(600);
+		assertThat(this.gemfireConfiguration.getMaxSessionAttributes()).isEqualTo(64);
+		assertThat(this.gemfireConfiguration.getMaxSessionSizeInBytes()).isEqualTo(65536);
+		assertThat(this.gemfireConfiguration.isOffHeap()).isTrue();
+		assertThat(this.gemfireConfiguration.isOptimisticConcurrency()).isTrue();
+		assertThat(this.gemfireConfiguration.isPersistent()).isTrue();
+		assertThat(this.gemfireConfiguration.getPoolIdleTimeoutInMilliseconds()).isEqualTo(30000);
+		assertThat(this.gemfireConfiguration.getPoolMaxConnections()).isEqualTo(50);
+		assertThat(this.gemfireConfiguration.getPoolMinConnections()).isEqualTo(5);
 		assertThat(this.gemfireConfiguration.getPoolName()).isEqualTo("TestPool");
+		assertThat(this.gemfireConfiguration.isPoolPrSingleHopEnabled()).isFalse();
+		assertThat(this.gemfireConfiguration.getPoolReadTimeoutInMilliseconds()).isEqualTo(2000);
+		assertThat(this.gemfireConfiguration.getPoolRetryAttempts()).isEqualTo(1);
+		assertThat(this.gemfireConfiguration.getPoolSubscriptionRedundancy()).isEqualTo(1);
+		assertThat(this.gemfireConfiguration.isPrincipalNameRouting()).isTrue();
+		assertThat(this.gemfireConfiguration.isPublishEventsFromPrimaryOnly()).isTrue();
+		assertThat(this.gemfireConfiguration.getRecoveryDelayInMilliseconds()).isEqualTo(30000);
+		assertThat(this.gemfireConfiguration.getRedundantCopies()).isEqualTo(2);
 		assertThat(this.gemfireConfiguration.getServerRegionShortcut()).isEqualTo(RegionShortcut.REPLICATE);
 		assertThat(this.gemfireConfiguration.getSessionRegionName()).isEqualTo("TEST");
+		assertThat(this.gemfireConfiguration.getSessionAttributeIndexType()).isEqualTo(IndexType.FUNCTIONAL);
+		assertThat(this.gemfireConfiguration.getSessionIdGeneratorBeanName()).isEqualTo("testSessionIdGenerator");
+		assertThat(this.gemfireConfiguration.getSessionLookupCoalescingWindowInMilliseconds()).isEqualTo(50);
 		assertThat(this.gemfireConfiguration.getSessionSerializerBeanName()).isEqualTo("testSessionSerializer");
+		assertThat(this.gemfireConfiguration.getSessionSizeViolationAction())
+			.isEqualTo(SessionSizeGuardrail.ViolationAction.STRIP);
+		assertThat(this.gemfireConfiguration.isSessionStatisticsEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.getStartupRecoveryDelayInMilliseconds()).isEqualTo(-1);
+		assertThat(this.gemfireConfiguration.isTargetedInterestRegistration()).isTrue();
+		assertThat(this.gemfireConfiguration.getTotalNumberOfBuckets()).isEqualTo(251);
+		assertThat(this.gemfireConfiguration.getWriteBehindFlushIntervalInMilliseconds()).isEqualTo(100);
+		assertThat(this.gemfireConfiguration.getWriteBehindQueueCapacity()).isEqualTo(500);
+		assertThat(this.gemfireConfiguration.isWriteOptimized()).isTrue();
+		assertThat(this.gemfireConfiguration.isWriteBehindEnabled()).isTrue();
 
 		verify(mockAnnotationMetadata, times(1))
 			.getAnnotationAttributes(eq(EnableGemFireHttpSession.class.getName()));
@@ -377,7 +488,7 @@ public class GemFireHttpSessionConfigurationTests {
 		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(120);
 
 		GemFireOperationsSessionRepository sessionRepository = this.gemfireConfiguration.sessionRepository(
-			mockGemfireOperations);
+			mockGemfireOperations, SessionOperationStatistics.NONE);
 
 		assertThat(sessionRepository).isNotNull();
 		assertThat(sessionRepository.getTemplate()).isSameAs(mockGemfireOperations);
@@ -434,6 +545,150 @@ public class GemFireHttpSessionConfigurationTests {
 		verifyZeroInteractions(mockRegionAttributes);
 	}
 
+	@Test
+	public void definesDedicatedSessionPoolConnectedToNamedPool() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		Pool mockPool = mock(Pool.class);
+
+		given(mockPool.getLocators())
+			.willReturn(Collections.singletonList(InetSocketAddress.createUnresolved("skullbox", 10334)));
+		given(mockPool.getServers()).willReturn(Collections.emptyList());
+		given(mockPool.getServerGroup()).willReturn("TestGroup");
+		given(mockPool.getSubscriptionEnabled()).willReturn(true);
+
+		GemFireHttpSessionConfiguration gemfireConfiguration = spy(this.gemfireConfiguration);
+
+		doReturn(mockPool).when(gemfireConfiguration).findPool(eq("TestPool"));
+
+		gemfireConfiguration.setDedicatedPool(true);
+		gemfireConfiguration.setPoolName("TestPool");
+		gemfireConfiguration.setSessionRegionName("TestRegion");
+
+		assertThat(gemfireConfiguration.sessionPool(mockClientCache)).isNotNull();
+		assertThat(gemfireConfiguration.resolvePoolName(mockClientCache))
+			.isEqualTo(GemFireHttpSessionConfiguration.SESSION_POOL_BEAN_NAME);
+
+		verify(mockPool, times(1)).getLocators();
+		verify(mockPool, times(1)).getServers();
+		verify(mockPool, times(1)).getServerGroup();
+		verify(mockPool, times(1)).getSubscriptionEnabled();
+		verifyZeroInteractions(mockClientCache);
+	}
+
+	@Test
+	public void dedicatedSessionPoolIsNotDefinedWhenNotAllowed() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		GemFireHttpSessionConfiguration gemfireConfiguration = spy(this.gemfireConfiguration);
+
+		assertThat(gemfireConfiguration.sessionPool(mockClientCache)).isNull();
+
+		gemfireConfiguration.setDedicatedPool(true);
+
+		assertThat(gemfireConfiguration.sessionPool(mockCache)).isNull();
+
+		verify(gemfireConfiguration, never()).findPool(anyString());
+		verifyZeroInteractions(mockClientCache);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void dedicatedSessionPoolWithNoPoolToConnectToServersThrowsIllegalStateException() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		GemFireHttpSessionConfiguration gemfireConfiguration = spy(this.gemfireConfiguration);
+
+		doReturn(null).when(gemfireConfiguration).findPool(anyString());
+
+		gemfireConfiguration.setDedicatedPool(true);
+		gemfireConfiguration.setPoolName("TestPool");
+
+		try {
+			gemfireConfiguration.sessionPool(mockClientCache);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected)
+				.hasMessage("No Pool [TestPool] found to connect the Session Pool [SessionPool] to the servers");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockClientCache, times(1)).getDefaultPool();
+		}
+	}
+
+	@Test
+	public void dedicatedPoolIsOnlyUsedOnClient() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setPoolName("TestPool");
+
+		assertThat(this.gemfireConfiguration.isDedicatedPoolAllowed(mockClientCache)).isFalse();
+		assertThat(this.gemfireConfiguration.resolvePoolName(mockClientCache)).isEqualTo("TestPool");
+
+		this.gemfireConfiguration.setDedicatedPool(true);
+
+		assertThat(this.gemfireConfiguration.isDedicatedPoolAllowed(mockClientCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isDedicatedPoolAllowed(mockCache)).isFalse();
+		assertThat(this.gemfireConfiguration.resolvePoolName(mockCache)).isEqualTo("TestPool");
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+
+		assertThat(this.gemfireConfiguration.isDedicatedPoolAllowed(mockClientCache)).isFalse();
+	}
+
+	@Test
+	public void resolvesLocalQueryServiceOnClient() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		given(mockClientCache.getLocalQueryService()).willReturn(mockQueryService);
+
+		assertThat(this.gemfireConfiguration.resolveQueryService(mockClientCache)).isSameAs(mockQueryService);
+
+		verify(mockClientCache, never()).getQueryService();
+	}
+
+	@Test
+	public void resolvesQueryServiceOnPeer() {
+
+		Cache mockCache = mock(Cache.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		given(mockCache.getQueryService()).willReturn(mockQueryService);
+
+		assertThat(this.gemfireConfiguration.resolveQueryService(mockCache)).isSameAs(mockQueryService);
+	}
+
+	@Test
+	public void sessionIndexCreatorCreatesIndexesInBackgroundOnlyWhenDeferred() {
+
+		Cache mockCache = mock(Cache.class);
+
+		given(mockCache.getQueryService()).willReturn(mock(QueryService.class));
+
+		assertThat(this.gemfireConfiguration.isDeferredIndexCreation()).isTrue();
+		assertThat(this.gemfireConfiguration.sessionIndexCreator(mockCache).isBackground()).isFalse();
+
+		this.gemfireConfiguration.setBackgroundIndexCreation(true);
+
+		assertThat(this.gemfireConfiguration.sessionIndexCreator(mockCache).isBackground()).isTrue();
+
+		this.gemfireConfiguration.setDeferredIndexCreation(false);
+
+		assertThat(this.gemfireConfiguration.sessionIndexCreator(mockCache).isBackground()).isFalse();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void createsAndInitializesSessionRegionAttributesWithExpiration() throws Exception {
@@ -494,6 +749,418 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(entryIdleTimeoutExpiration.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
 		assertThat(entryIdleTimeoutExpiration.getTimeout()).isEqualTo(0);
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionAttributesWithoutStatisticsWhenExpirationSweepIsEnabled()
+			throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setExpirationSweepIntervalInMilliseconds(5000);
+		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getStatisticsEnabled()).isFalse();
+		assertThat(sessionRegionAttributes.getEntryIdleTimeout().getTimeout()).isEqualTo(0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesWriteOptimizedSessionRegionAttributes() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setExpirationSweepIntervalInMilliseconds(5000);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setWriteOptimized(true);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getCloningEnabled()).isFalse();
+		assertThat(sessionRegionAttributes.getConcurrencyChecksEnabled()).isFalse();
+		assertThat(sessionRegionAttributes.getIndexMaintenanceSynchronous()).isFalse();
+		assertThat(sessionRegionAttributes.getStatisticsEnabled()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesWriteOptimizedRedundantSessionRegionAttributesWithConcurrencyChecks()
+			throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
+		this.gemfireConfiguration.setWriteOptimized(true);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getConcurrencyChecksEnabled()).isTrue();
+		assertThat(sessionRegionAttributes.getIndexMaintenanceSynchronous()).isFalse();
+		assertThat(sessionRegionAttributes.getStatisticsEnabled()).isTrue();
+		assertThat(sessionRegionAttributes.getEntryIdleTimeout().getTimeout()).isEqualTo(300);
+	}
+
+	@Test
+	public void concurrencyChecksAreOnlyDisabledOnServerRegionsKeepingSingleCopy() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.LOCAL);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isTrue();
+
+		this.gemfireConfiguration.setRedundantCopies(1);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
+		this.gemfireConfiguration.setRedundantCopies(0);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isTrue();
+
+		this.gemfireConfiguration.setRedundantCopies(-1);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_PROXY);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.REPLICATE);
+
+		assertThat(this.gemfireConfiguration.isConcurrencyChecksDisableAllowed(mockCache)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionAttributesWithOffHeap() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setOffHeap(true);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getOffHeap()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionAttributesWithHeapLruOverflowToDisk() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setDiskStoreName("SessionOverflowDiskStore");
+		this.gemfireConfiguration.setEvictionPolicy(EvictionPolicyType.HEAP_PERCENTAGE);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getDiskStoreName()).isEqualTo("SessionOverflowDiskStore");
+
+		EvictionAttributes evictionAttributes = sessionRegionAttributes.getEvictionAttributes();
+
+		assertThat(evictionAttributes).isNotNull();
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_HEAP);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.OVERFLOW_TO_DISK);
+	}
+
+	@Test
+	public void newEvictionAttributesForEntryCountUsesThreshold() {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setEvictionAction(EvictionActionType.LOCAL_DESTROY);
+		this.gemfireConfiguration.setEvictionPolicy(EvictionPolicyType.ENTRY_COUNT);
+		this.gemfireConfiguration.setEvictionThreshold(10000);
+
+		EvictionAttributes evictionAttributes = this.gemfireConfiguration.newEvictionAttributes(mockCache);
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_ENTRY);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+		assertThat(evictionAttributes.getMaximum()).isEqualTo(10000);
+
+		this.gemfireConfiguration.setEvictionThreshold(0);
+
+		assertThat(this.gemfireConfiguration.newEvictionAttributes(mockCache).getMaximum())
+			.isEqualTo(EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM);
+	}
+
+	@Test
+	public void newEvictionAttributesOnClientLocallyDestroysSessions() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setEvictionPolicy(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		EvictionAttributes evictionAttributes = this.gemfireConfiguration.newEvictionAttributes(mockClientCache);
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_HEAP);
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+	}
+
+	@Test
+	public void evictionIsNotAllowedForProxyRegions() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.isEvictionAllowed(mockCache)).isFalse();
+		assertThat(this.gemfireConfiguration.isEvictionAllowed(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setEvictionPolicy(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		assertThat(this.gemfireConfiguration.isEvictionAllowed(mockCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isEvictionAllowed(mockClientCache)).isTrue();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_PROXY);
+
+		assertThat(this.gemfireConfiguration.isEvictionAllowed(mockCache)).isFalse();
+		assertThat(this.gemfireConfiguration.isEvictionAllowed(mockClientCache)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionAttributesWithPersistence() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setDiskQueueSize(5000);
+		this.gemfireConfiguration.setDiskTimeIntervalInMilliseconds(250);
+		this.gemfireConfiguration.setPersistent(true);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
+
+		assertThat(this.gemfireConfiguration.sessionDiskStore(mockCache)).isNotNull();
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getDiskStoreName())
+			.isEqualTo(GemFireHttpSessionConfiguration.SESSION_DISK_STORE_BEAN_NAME);
+		assertThat(sessionRegionAttributes.isDiskSynchronous()).isFalse();
+		assertThat(this.gemfireConfiguration.resolveServerRegionShortcut(mockCache))
+			.isEqualTo(RegionShortcut.PARTITION_REDUNDANT_PERSISTENT);
+
+		verify(mockCache, never()).createDiskStoreFactory();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void sessionRegionAttributesWithPersistenceReferencesNamedDiskStore() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setDiskStoreName("TestDiskStore");
+		this.gemfireConfiguration.setPersistent(true);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.sessionDiskStore(mockCache)).isNull();
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes.getDiskStoreName()).isEqualTo("TestDiskStore");
+
+		verify(mockCache, never()).createDiskStoreFactory();
+	}
+
+	@Test
+	public void sessionDiskStoreIsNotDefinedWithoutPersistence() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setPersistent(true);
+
+		assertThat(this.gemfireConfiguration.sessionDiskStore(mockClientCache)).isNull();
+
+		this.gemfireConfiguration.setPersistent(false);
+
+		assertThat(this.gemfireConfiguration.sessionDiskStore(mock(Cache.class))).isNull();
+	}
+
+	@Test
+	public void persistenceIsOnlyAllowedOnServer() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.isPersistenceAllowed(mockCache)).isFalse();
+		assertThat(this.gemfireConfiguration.resolveServerRegionShortcut(mockCache))
+			.isEqualTo(RegionShortcut.PARTITION);
+
+		this.gemfireConfiguration.setPersistent(true);
+
+		assertThat(this.gemfireConfiguration.isPersistenceAllowed(mockCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isPersistenceAllowed(mockClientCache)).isFalse();
+		assertThat(this.gemfireConfiguration.resolveServerRegionShortcut(mockCache))
+			.isEqualTo(RegionShortcut.PARTITION_PERSISTENT);
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_PROXY);
+
+		assertThat(this.gemfireConfiguration.isPersistenceAllowed(mockCache)).isFalse();
+		assertThat(this.gemfireConfiguration.resolveServerRegionShortcut(mockCache))
+			.isEqualTo(RegionShortcut.PARTITION_PROXY);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionAttributesWithPartitionAttributes() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setPrincipalNameRouting(true);
+		this.gemfireConfiguration.setRecoveryDelayInMilliseconds(30000);
+		this.gemfireConfiguration.setRedundantCopies(2);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setStartupRecoveryDelayInMilliseconds(-1);
+		this.gemfireConfiguration.setTotalNumberOfBuckets(251);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+
+		PartitionAttributes<Object, Session> partitionAttributes = sessionRegionAttributes.getPartitionAttributes();
+
+		assertThat(partitionAttributes).isNotNull();
+		assertThat(partitionAttributes.getPartitionResolver()).isSameAs(PrincipalNamePartitionResolver.INSTANCE);
+		assertThat(partitionAttributes.getRecoveryDelay()).isEqualTo(30000L);
+		assertThat(partitionAttributes.getRedundantCopies()).isEqualTo(2);
+		assertThat(partitionAttributes.getStartupRecoveryDelay()).isEqualTo(-1L);
+		assertThat(partitionAttributes.getTotalNumBuckets()).isEqualTo(251);
+	}
+
+	@Test
+	public void partitionAttributesWithDefaultRedundantCopiesAndNoPrincipalNameRouting() {
+
+		PartitionAttributes<Object, Session> partitionAttributes = this.gemfireConfiguration.newPartitionAttributes();
+
+		assertThat(partitionAttributes).isNotNull();
+		assertThat(partitionAttributes.getPartitionResolver()).isNull();
+		assertThat(partitionAttributes.getRedundantCopies()).isEqualTo(0);
+		assertThat(partitionAttributes.getTotalNumBuckets())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_TOTAL_NUMBER_OF_BUCKETS);
+	}
+
+	@Test
+	public void partitionAttributesAreOnlyAllowedOnServer() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
+
+		assertThat(this.gemfireConfiguration.isPartitionAllowed(mockCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isPartitionAllowed(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.REPLICATE);
+
+		assertThat(this.gemfireConfiguration.isPartitionAllowed(mockCache)).isFalse();
+	}
+
+	@Test
+	public void offHeapIsOnlyAllowedOnServer() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.isOffHeapAllowed(mockCache)).isFalse();
+
+		this.gemfireConfiguration.setOffHeap(true);
+
+		assertThat(this.gemfireConfiguration.isOffHeapAllowed(mockCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isOffHeapAllowed(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_PROXY);
+
+		assertThat(this.gemfireConfiguration.isOffHeapAllowed(mockCache)).isFalse();
+	}
+
+	@Test
+	public void expirationSweepIsOnlyEnabledOnServer() {
+
+		Cache mockCache = mock(Cache.class);
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.isExpirationSweepEnabled(mockCache)).isFalse();
+
+		this.gemfireConfiguration.setExpirationSweepIntervalInMilliseconds(5000);
+
+		assertThat(this.gemfireConfiguration.isExpirationSweepEnabled(mockCache)).isTrue();
+		assertThat(this.gemfireConfiguration.isExpirationSweepEnabled(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_PROXY);
+
+		assertThat(this.gemfireConfiguration.isExpirationSweepEnabled(mockCache)).isFalse();
+	}
+
 	@Test
 
 	public void clientExpirationIsAllowed() {
@@ -165,6 +165,30 @@ public class GemFireCacheTypeAwareRegionFactoryBeanTests {
 			});
 	}
 
+	@Test
+	public void getInterestsWithTargetedInterestRegistrationReturnsNoKeys() {
+
+		this.regionFactoryBean.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.regionFactoryBean.setTargetedInterestRegistration(true);
+
+		assertThat(this.regionFactoryBean.isTargetedInterestRegistration()).isTrue();
+		assertThat(this.regionFactoryBean.getInterests()).isEmpty();
+	}
+
+	@Test
+	public void getInterestsWithContinuousQuerySessionEventsReturnsNoKeysForProxyOnly() {
+
+		this.regionFactoryBean.setContinuousQuerySessionEvents(true);
+		this.regionFactoryBean.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+
+		assertThat(this.regionFactoryBean.isContinuousQuerySessionEvents()).isTrue();
+		assertThat(this.regionFactoryBean.getInterests()).isEmpty();
+
+		this.regionFactoryBean.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+
+		assertThat(this.regionFactoryBean.getInterests()).hasSize(1);
+	}
+
 	@Test
 	public void getInterestsWhenClientRegionShortcutIsLocalReturnsNoKeys() {
 
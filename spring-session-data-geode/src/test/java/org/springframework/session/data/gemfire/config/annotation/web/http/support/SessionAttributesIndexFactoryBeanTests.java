@@ -17,13 +17,23 @@
 package org.springframework.session.data.gemfire.config.annotation.web.http.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import org.apache.geode.cache.query.Index;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.gemfire.IndexType;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 
 /**
@@ -84,6 +94,85 @@ public class SessionAttributesIndexFactoryBeanTests {
 		assertThat(indexFactoryBean.getObjectType()).isEqualTo(mockIndex.getClass());
 	}
 
+	@Test
+	public void initializesIndividualIndexesWhenIndividualSessionAttributeIndexesAreConfigured() throws Exception {
+
+		List<String> indexDefinitions = new ArrayList<>();
+
+		SessionAttributesIndexFactoryBean indexFactoryBean = new SessionAttributesIndexFactoryBean() {
+
+			@Override
+			protected Index newIndex() throws Exception {
+				throw new IllegalStateException("Map Index must not be created");
+			}
+
+			@Override
+			protected Index newIndex(String beanName, String indexName, String expression, IndexType indexType) {
+				indexDefinitions.add(String.format("%s|%s|%s|%s", beanName, indexName, expression, indexType));
+				return mock(Index.class, indexName);
+			}
+		};
+
+		indexFactoryBean.setIndexableSessionAttributes(toArray("one", "two"));
+		indexFactoryBean.setIndividualSessionAttributeIndexes(true);
+		indexFactoryBean.afterPropertiesSet();
+
+		assertThat(indexFactoryBean.getObject()).isNull();
+		assertThat(indexFactoryBean.getSessionAttributeIndexes()).hasSize(2);
+		assertThat(indexDefinitions).containsExactly(
+			"oneSessionAttributeIndex|oneSessionAttributeIndex|s.attributes['one']|HASH",
+			"twoSessionAttributeIndex|twoSessionAttributeIndex|s.attributes['two']|HASH");
+	}
+
+	@Test
+	public void individualIndexIsNotCreatedWhenOverriddenByBean() throws Exception {
+
+		BeanFactory mockBeanFactory = mock(BeanFactory.class);
+
+		given(mockBeanFactory.containsBean(anyString())).willReturn(false);
+		given(mockBeanFactory.containsBean(eq("twoSessionAttributeIndex"))).willReturn(true);
+
+		List<String> indexNames = new ArrayList<>();
+
+		SessionAttributesIndexFactoryBean indexFactoryBean = new SessionAttributesIndexFactoryBean() {
+
+			@Override
+			protected Index newIndex(String beanName, String indexName, String expression, IndexType indexType) {
+				indexNames.add(indexName);
+				return mock(Index.class, indexName);
+			}
+		};
+
+		indexFactoryBean.setBeanFactory(mockBeanFactory);
+		indexFactoryBean.setIndexableSessionAttributes(toArray("one", "two", "three"));
+		indexFactoryBean.setIndividualSessionAttributeIndexes(true);
+		indexFactoryBean.setSessionAttributeIndexType(IndexType.FUNCTIONAL);
+		indexFactoryBean.afterPropertiesSet();
+
+		assertThat(indexFactoryBean.getSessionAttributeIndexes()).hasSize(2);
+		assertThat(indexNames).containsExactly("oneSessionAttributeIndex", "threeSessionAttributeIndex");
+
+		verify(mockBeanFactory, times(1)).containsBean(eq("twoSessionAttributeIndex"));
+	}
+
+	@Test
+	public void setAndGetSessionAttributeIndexType() {
+
+		assertThat(this.indexFactoryBean.getSessionAttributeIndexType()).isEqualTo(IndexType.HASH);
+
+		this.indexFactoryBean.setSessionAttributeIndexType(IndexType.FUNCTIONAL);
+
+		assertThat(this.indexFactoryBean.getSessionAttributeIndexType()).isEqualTo(IndexType.FUNCTIONAL);
+
+		this.indexFactoryBean.setSessionAttributeIndexType(IndexType.PRIMARY_KEY);
+
+		assertThat(this.indexFactoryBean.getSessionAttributeIndexType()).isEqualTo(IndexType.HASH);
+
+		this.indexFactoryBean.setSessionAttributeIndexType(null);
+
+		assertThat(this.indexFactoryBean.getSessionAttributeIndexType()).isEqualTo(IndexType.HASH);
+	}
+
 	@Test
 	public void isSingletonIsTrue() {
 		assertThat(this.indexFactoryBean.isSingleton()).isTrue();
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link ChangeSessionIdFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.data.gemfire.function.ChangeSessionIdFunction
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ChangeSessionIdFunctionTests {
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	@Mock
+	private Session mockSession;
+
+	@Test
+	public void isSessionIdChangeWithSessionIdChangedCallbackArgumentReturnsTrue() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getCallbackArgument())
+			.willReturn(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT);
+
+		assertThat(ChangeSessionIdFunction.isSessionIdChange(mockEntryEvent)).isTrue();
+	}
+
+	@Test
+	public void isSessionIdChangeWithOtherCallbackArgumentReturnsFalse() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getCallbackArgument()).willReturn("test");
+
+		assertThat(ChangeSessionIdFunction.isSessionIdChange(mockEntryEvent)).isFalse();
+		assertThat(ChangeSessionIdFunction.isSessionIdChange(mock(EntryEvent.class))).isFalse();
+		assertThat(ChangeSessionIdFunction.isSessionIdChange(null)).isFalse();
+	}
+
+	@Test
+	public void changeSessionIdStoresSessionUnderNewIdAndDestroysPreviousId() {
+
+		given(this.mockSession.getId()).willReturn("2");
+
+		assertThat(ChangeSessionIdFunction.changeSessionId(this.mockRegion, "1", this.mockSession))
+			.isEqualTo("2");
+
+		verify(this.mockRegion).put(eq("2"), same(this.mockSession),
+			eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion).destroy(eq("1"), eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void changeSessionIdIgnoresPreviousSessionIdNotFound() {
+
+		given(this.mockSession.getId()).willReturn("2");
+
+		willThrow(new EntryNotFoundException("TEST")).given(this.mockRegion).destroy(any(), any());
+
+		assertThat(ChangeSessionIdFunction.changeSessionId(this.mockRegion, "1", this.mockSession))
+			.isEqualTo("2");
+
+		verify(this.mockRegion).put(eq("2"), same(this.mockSession),
+			eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion).destroy(eq("1"), eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void changeSessionIdWithSameSessionIdDoesNotDestroySession() {
+
+		given(this.mockSession.getId()).willReturn("1");
+
+		assertThat(ChangeSessionIdFunction.changeSessionId(this.mockRegion, "1", this.mockSession))
+			.isEqualTo("1");
+
+		verify(this.mockRegion).put(eq("1"), same(this.mockSession),
+			eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion, never()).destroy(any(), any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void changeSessionIdWithNoPreviousSessionIdThrowsIllegalArgumentException() {
+
+		try {
+			ChangeSessionIdFunction.changeSessionId(this.mockRegion, "  ", this.mockSession);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Previous Session ID [  ] is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verifyZeroInteractions(this.mockRegion);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeChangesSessionIdAndSendsNewSessionId() {
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		given(this.mockSession.getId()).willReturn("2");
+		given(mockFunctionContext.getArguments()).willReturn(new Object[] { "1", this.mockSession });
+		given(mockFunctionContext.getDataSet()).willReturn(this.mockRegion);
+		given(mockFunctionContext.getResultSender()).willReturn(mockResultSender);
+
+		new ChangeSessionIdFunction().execute(mockFunctionContext);
+
+		verify(this.mockRegion).put(eq("2"), same(this.mockSession),
+			eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+		verify(this.mockRegion).destroy(eq("1"), eq(ChangeSessionIdFunction.SESSION_ID_CHANGED_CALLBACK_ARGUMENT));
+		verify(mockResultSender).lastResult(eq("2"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void executeWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		given(mockFunctionContext.getArguments()).willReturn(new Object[] { "1" });
+
+		try {
+			new ChangeSessionIdFunction().execute(mockFunctionContext);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Expected the previous Session ID and the Session as arguments");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verifyZeroInteractions(this.mockRegion);
+		}
+	}
+
+	@Test
+	public void functionIsHighlyAvailableAndOptimizedForWrite() {
+
+		ChangeSessionIdFunction function = new ChangeSessionIdFunction();
+
+		assertThat(function.getId()).isEqualTo(ChangeSessionIdFunction.ID);
+		assertThat(function.hasResult()).isTrue();
+		assertThat(function.isHA()).isTrue();
+		assertThat(function.optimizeForWrite()).isTrue();
+	}
+}
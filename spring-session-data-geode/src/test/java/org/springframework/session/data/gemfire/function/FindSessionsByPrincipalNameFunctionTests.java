@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link FindSessionsByPrincipalNameFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query
+ * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FindSessionsByPrincipalNameFunctionTests {
+
+	@Mock
+	private Query mockQuery;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	@Mock
+	private RegionFunctionContext mockRegionFunctionContext;
+
+	@Mock
+	private RegionService mockRegionService;
+
+	@Mock
+	private ResultSender<Object> mockResultSender;
+
+	@Mock
+	private SelectResults<Object> mockSelectResults;
+
+	private final String expectedQuery = String.format(
+		FindSessionsByPrincipalNameFunction.FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY, "/Sessions");
+
+	private void mockQueryService() {
+
+		given(this.mockRegionFunctionContext.getDataSet()).willReturn(this.mockRegion);
+		given(this.mockRegion.getFullPath()).willReturn("/Sessions");
+		given(this.mockRegion.getRegionService()).willReturn(this.mockRegionService);
+		given(this.mockRegionService.getQueryService()).willReturn(this.mockQueryService);
+		given(this.mockQueryService.newQuery(eq(this.expectedQuery))).willReturn(this.mockQuery);
+	}
+
+	@Test
+	public void findSessionsByPrincipalNameExecutesQueryOnFilteredBuckets() throws Exception {
+
+		mockQueryService();
+
+		Session mockSessionOne = mock(Session.class, "MockSessionOne");
+		Session mockSessionTwo = mock(Session.class, "MockSessionTwo");
+
+		given(this.mockQuery.execute(same(this.mockRegionFunctionContext), any(Object[].class)))
+			.willReturn(this.mockSelectResults);
+
+		given(this.mockSelectResults.asList()).willReturn(Arrays.asList(mockSessionOne, mockSessionTwo));
+
+		List<Session> sessions = FindSessionsByPrincipalNameFunction
+			.findSessionsByPrincipalName(this.mockRegionFunctionContext, "jxblum");
+
+		assertThat(sessions).containsExactly(mockSessionOne, mockSessionTwo);
+
+		verify(this.mockQueryService).newQuery(eq(this.expectedQuery));
+		verify(this.mockQuery).execute(same(this.mockRegionFunctionContext), eq(new Object[] { "jxblum" }));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void findSessionsByPrincipalNameThrowsIllegalStateExceptionWhenQueryFails() throws Exception {
+
+		mockQueryService();
+
+		given(this.mockQuery.execute(same(this.mockRegionFunctionContext), any(Object[].class)))
+			.willThrow(new QueryInvocationTargetException("TEST"));
+
+		try {
+			FindSessionsByPrincipalNameFunction.findSessionsByPrincipalName(this.mockRegionFunctionContext, "jxblum");
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Failed to find Sessions for principal [jxblum]");
+			assertThat(expected).hasCauseInstanceOf(QueryInvocationTargetException.class);
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void findSessionsByPrincipalNameWithNoPrincipalNameThrowsIllegalArgumentException() {
+
+		try {
+			FindSessionsByPrincipalNameFunction.findSessionsByPrincipalName(this.mockRegionFunctionContext, "  ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Principal name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void executeSendsSessionsOfPrincipal() throws Exception {
+
+		mockQueryService();
+
+		Session mockSession = mock(Session.class);
+
+		given(this.mockRegionFunctionContext.getArguments()).willReturn(new Object[] { "jxblum" });
+		given(this.mockRegionFunctionContext.getResultSender()).willReturn(this.mockResultSender);
+		given(this.mockQuery.execute(same(this.mockRegionFunctionContext), any(Object[].class)))
+			.willReturn(this.mockSelectResults);
+		given(this.mockSelectResults.asList()).willReturn(Arrays.asList(mockSession));
+
+		new FindSessionsByPrincipalNameFunction().execute(this.mockRegionFunctionContext);
+
+		verify(this.mockResultSender).lastResult(eq(Arrays.asList(mockSession)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void executeWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		given(this.mockRegionFunctionContext.getArguments()).willReturn(new Object[] { 1 });
+
+		try {
+			new FindSessionsByPrincipalNameFunction().execute(this.mockRegionFunctionContext);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Expected the principal name as argument");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verifyZeroInteractions(this.mockQuery);
+		}
+	}
+
+	@Test
+	public void functionIsReadOnlyAndHighlyAvailableWithResult() {
+
+		FindSessionsByPrincipalNameFunction function = new FindSessionsByPrincipalNameFunction();
+
+		assertThat(function.getId()).isEqualTo(FindSessionsByPrincipalNameFunction.ID);
+		assertThat(function.hasResult()).isTrue();
+		assertThat(function.isHA()).isTrue();
+		assertThat(function.optimizeForWrite()).isFalse();
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link ReplaceSessionFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.data.gemfire.function.ReplaceSessionFunction
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReplaceSessionFunctionTests {
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	private GemFireSession<?> newSession(long version) {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setVersion(version);
+
+		return session;
+	}
+
+	@Test
+	public void replaceSessionWithMatchingVersionStoresSession() {
+
+		GemFireSession<?> storedSession = newSession(1L);
+		GemFireSession<?> session = GemFireSession.copy(storedSession);
+
+		session.setAttribute("attrOne", "testOne");
+
+		given(this.mockRegion.get(eq(session.getId()))).willReturn(storedSession);
+		given(this.mockRegion.replace(eq(session.getId()), any(), same(session))).willReturn(true);
+
+		assertThat(ReplaceSessionFunction.replaceSession(this.mockRegion, 1L, session,
+			Collections.singleton("attrOne"))).isEqualTo(2L);
+
+		assertThat(session.getVersion()).isEqualTo(2L);
+		assertThat(session.hasDelta()).isFalse();
+
+		verify(this.mockRegion).replace(eq(session.getId()), isA(ReplaceSessionFunction.ExpectedSession.class),
+			same(session));
+		verify(this.mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void replaceSessionWithoutStoredSessionStoresSession() {
+
+		GemFireSession<?> session = newSession(0L);
+
+		assertThat(ReplaceSessionFunction.replaceSession(this.mockRegion, 0L, session,
+			Collections.singleton("attrOne"))).isEqualTo(1L);
+
+		verify(this.mockRegion).putIfAbsent(eq(session.getId()), same(session));
+		verify(this.mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void replaceSessionDeletedSinceReadDoesNotStoreSession() {
+
+		GemFireSession<?> session = newSession(2L);
+
+		assertThat(ReplaceSessionFunction.replaceSession(this.mockRegion, 2L, session,
+			Collections.singleton("attrOne"))).isEqualTo(ReplaceSessionFunction.SESSION_NOT_FOUND);
+
+		verify(this.mockRegion).get(eq(session.getId()));
+		verify(this.mockRegion, never()).put(any(), any());
+		verify(this.mockRegion, never()).putIfAbsent(any(), any());
+		verify(this.mockRegion, never()).replace(any(), any(), any());
+	}
+
+	@Test
+	public void replaceSessionStoredConcurrentlyRetriesWithMergedSession() {
+
+		GemFireSession<?> storedSession = newSession(1L);
+
+		storedSession.setAttribute("cart", "book");
+
+		GemFireSession<?> concurrentlyStoredSession = GemFireSession.copy(storedSession);
+
+		concurrentlyStoredSession.setVersion(2L);
+		concurrentlyStoredSession.setAttribute("cart", "book, pen");
+
+		GemFireSession<?> session = GemFireSession.copy(storedSession);
+
+		session.setAttribute("profile", "jxblum");
+
+		given(this.mockRegion.get(eq(session.getId()))).willReturn(storedSession, concurrentlyStoredSession);
+		given(this.mockRegion.replace(eq(session.getId()), any(), any())).willReturn(false, true);
+
+		assertThat(ReplaceSessionFunction.replaceSession(this.mockRegion, 1L, session,
+			Collections.singleton("profile"))).isEqualTo(3L);
+
+		ArgumentCaptor<Session> replacementSession = ArgumentCaptor.forClass(Session.class);
+
+		verify(this.mockRegion, times(2)).replace(eq(session.getId()),
+			isA(ReplaceSessionFunction.ExpectedSession.class), replacementSession.capture());
+
+		assertThat(replacementSession.getValue().<String>getAttribute("cart")).isEqualTo("book, pen");
+		assertThat(replacementSession.getValue().<String>getAttribute("profile")).isEqualTo("jxblum");
+		assertThat(((GemFireSession<?>) replacementSession.getValue()).getVersion()).isEqualTo(3L);
+	}
+
+	@Test
+	public void expectedSessionEqualsStoredSessionWithSameIdAndVersionOnly() {
+
+		GemFireSession<?> storedSession = newSession(1L);
+
+		ReplaceSessionFunction.ExpectedSession expectedSession =
+			new ReplaceSessionFunction.ExpectedSession(storedSession.getId(), 1L);
+
+		assertThat(expectedSession).isEqualTo(storedSession);
+		assertThat(expectedSession.hashCode()).isEqualTo(storedSession.hashCode());
+
+		storedSession.setVersion(2L);
+
+		assertThat(expectedSession).isNotEqualTo(storedSession);
+		assertThat(expectedSession).isNotEqualTo(newSession(1L));
+	}
+
+	@Test
+	public void replaceSessionWithStaleVersionMergesChangedAttributes() {
+
+		GemFireSession<?> storedSession = newSession(1L);
+
+		storedSession.setAttribute("cart", "book");
+		storedSession.setAttribute("profile", "jblum");
+		storedSession.setAttribute("theme", "light");
+
+		GemFireSession<?> session = GemFireSession.copy(storedSession);
+
+		session.setVersion(0L);
+		session.setAttribute("profile", "jxblum");
+		session.removeAttribute("theme");
+		session.setLastAccessedTime(Instant.now().plusSeconds(60L));
+
+		storedSession.setAttribute("cart", "book, pen");
+
+		given(this.mockRegion.get(eq(session.getId()))).willReturn(storedSession);
+		given(this.mockRegion.replace(eq(session.getId()), any(), any())).willReturn(true);
+
+		assertThat(ReplaceSessionFunction.replaceSession(this.mockRegion, 0L, session,
+			asSet("profile", "theme"))).isEqualTo(2L);
+
+		ArgumentCaptor<Session> mergedSession = ArgumentCaptor.forClass(Session.class);
+
+		verify(this.mockRegion).replace(eq(session.getId()), isA(ReplaceSessionFunction.ExpectedSession.class),
+			mergedSession.capture());
+
+		assertThat(mergedSession.getValue()).isNotSameAs(session);
+		assertThat(mergedSession.getValue()).isNotSameAs(storedSession);
+		assertThat(mergedSession.getValue().<String>getAttribute("cart")).isEqualTo("book, pen");
+		assertThat(mergedSession.getValue().<String>getAttribute("profile")).isEqualTo("jxblum");
+		assertThat(mergedSession.getValue().getAttributeNames()).doesNotContain("theme");
+		assertThat(mergedSession.getValue().getLastAccessedTime()).isEqualTo(session.getLastAccessedTime());
+		assertThat(((GemFireSession<?>) mergedSession.getValue()).getVersion()).isEqualTo(2L);
+		assertThat(storedSession.<String>getAttribute("theme")).isEqualTo("light");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceSessionWithNullSessionThrowsIllegalArgumentException() {
+
+		try {
+			ReplaceSessionFunction.replaceSession(this.mockRegion, 0L, null, Collections.emptySet());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Session is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verifyZeroInteractions(this.mockRegion);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeReplacesSessionAndSendsNewVersion() {
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		GemFireSession<?> session = newSession(4L);
+
+		given(mockFunctionContext.getArguments())
+			.willReturn(new Object[] { 4L, session, Collections.singleton("attrOne") });
+		given(mockFunctionContext.getDataSet()).willReturn(this.mockRegion);
+		given(mockFunctionContext.getResultSender()).willReturn(mockResultSender);
+		given(this.mockRegion.get(eq(session.getId()))).willReturn(newSession(4L));
+		given(this.mockRegion.replace(eq(session.getId()), any(), same(session))).willReturn(true);
+
+		new ReplaceSessionFunction().execute(mockFunctionContext);
+
+		verify(this.mockRegion).replace(eq(session.getId()), isA(ReplaceSessionFunction.ExpectedSession.class),
+			same(session));
+		verify(mockResultSender).lastResult(eq(5L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void executeWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		given(mockFunctionContext.getArguments()).willReturn(new Object[] { 1L, "1" });
+
+		try {
+			new ReplaceSessionFunction().execute(mockFunctionContext);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected)
+				.hasMessage("Expected the expected version, the Session and the changed attribute names as arguments");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(this.mockRegion, never()).put(any(), any());
+		}
+	}
+
+	@Test
+	public void functionIsHighlyAvailableAndOptimizedForWrite() {
+
+		ReplaceSessionFunction function = new ReplaceSessionFunction();
+
+		assertThat(function.getId()).isEqualTo(ReplaceSessionFunction.ID);
+		assertThat(function.hasResult()).isTrue();
+		assertThat(function.isHA()).isTrue();
+		assertThat(function.optimizeForWrite()).isTrue();
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link SessionStatisticsFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.data.gemfire.function.SessionStatisticsFunction
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionStatisticsFunctionTests {
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@Mock
+	private RegionFunctionContext mockRegionFunctionContext;
+
+	@Mock
+	private ResultSender<Object> mockResultSender;
+
+	@Test
+	public void computeSessionStatisticsOfSessionsInRegion() {
+
+		Session sessionOne = GemFireSession.create();
+		Session sessionTwo = GemFireSession.create();
+
+		sessionTwo.setAttribute("attributeOne", "test");
+
+		given(this.mockRegion.values()).willReturn(Arrays.asList(sessionOne, "NonSession", sessionTwo));
+
+		SessionStatistics sessionStatistics = SessionStatisticsFunction.computeSessionStatistics(this.mockRegion, 1,
+			session -> session == sessionOne ? 100 : 200);
+
+		assertThat(sessionStatistics.getSessionCount()).isEqualTo(2L);
+		assertThat(sessionStatistics.getTotalSizeInBytes()).isEqualTo(300L);
+		assertThat(sessionStatistics.getAttributeNameFrequency()).containsOnly(entry("attributeOne", 1L));
+		assertThat(sessionStatistics.getLargestSessions()).containsExactly(entry(sessionTwo.getId(), 200));
+	}
+
+	@Test
+	public void executeSendsSessionStatisticsOfLocalSessions() {
+
+		given(this.mockRegionFunctionContext.getArguments()).willReturn(new Object[] { 5 });
+		given(this.mockRegionFunctionContext.getDataSet()).willReturn(this.mockRegion);
+		given(this.mockRegionFunctionContext.getResultSender()).willReturn(this.mockResultSender);
+		given(this.mockRegion.values()).willReturn(Collections.emptyList());
+
+		new SessionStatisticsFunction().execute(this.mockRegionFunctionContext);
+
+		ArgumentCaptor<Object> result = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockResultSender).lastResult(result.capture());
+		verify(this.mockRegion).values();
+
+		assertThat(result.getValue()).isInstanceOf(SessionStatistics.class);
+		assertThat(((SessionStatistics) result.getValue()).getSessionCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void executeWithoutRegionThrowsIllegalArgumentException() {
+
+		FunctionContext<Object[]> mockFunctionContext = mock(FunctionContext.class);
+
+		try {
+			new SessionStatisticsFunction().execute(mockFunctionContext);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Expected to be executed on the Session Region");
+			assertThat(expected).hasNoCause();
+
+			verify(mockFunctionContext, never()).getResultSender();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void functionIsReadOnlyAndHighlyAvailableWithResult() {
+
+		SessionStatisticsFunction function = new SessionStatisticsFunction();
+
+		assertThat(function.getId()).isEqualTo(SessionStatisticsFunction.ID);
+		assertThat(function.hasResult()).isTrue();
+		assertThat(function.isHA()).isTrue();
+		assertThat(function.optimizeForWrite()).isFalse();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Test;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link SessionStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.function.SessionStatistics
+ * @since 2.1.0
+ */
+public class SessionStatisticsTests {
+
+	private Session newSession(String... attributeNames) {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		for (String attributeName : attributeNames) {
+			session.setAttribute(attributeName, "test");
+		}
+
+		return session;
+	}
+
+	@Test
+	public void newSessionStatisticsAreEmpty() {
+
+		SessionStatistics sessionStatistics = new SessionStatistics();
+
+		assertThat(sessionStatistics.getSessionCount()).isZero();
+		assertThat(sessionStatistics.getTotalSizeInBytes()).isZero();
+		assertThat(sessionStatistics.getAverageSizeInBytes()).isZero();
+		assertThat(sessionStatistics.getAgeHistogram()).containsOnly(0L);
+		assertThat(sessionStatistics.getSizeHistogram()).containsOnly(0L);
+		assertThat(sessionStatistics.getAttributeNameFrequency()).isEmpty();
+		assertThat(sessionStatistics.getLargestSessions()).isEmpty();
+	}
+
+	@Test
+	public void addSessionsRecordsStatistics() {
+
+		Session sessionOne = newSession("attributeOne", "attributeTwo");
+		Session sessionTwo = newSession("attributeOne");
+		Session sessionThree = newSession();
+
+		Instant now = sessionOne.getCreationTime().plus(Duration.ofMinutes(10));
+
+		SessionStatistics sessionStatistics = new SessionStatistics(2)
+			.add(sessionOne, 512, now)
+			.add(sessionTwo, 2048, now)
+			.add(sessionThree, 2 * 1024 * 1024, now);
+
+		assertThat(sessionStatistics.getSessionCount()).isEqualTo(3L);
+		assertThat(sessionStatistics.getTotalSizeInBytes()).isEqualTo(512L + 2048L + 2 * 1024 * 1024);
+		assertThat(sessionStatistics.getAverageSizeInBytes()).isEqualTo((512L + 2048L + 2 * 1024 * 1024) / 3);
+		assertThat(sessionStatistics.getSizeHistogram()).containsExactly(1L, 1L, 0L, 0L, 0L, 0L, 1L);
+		assertThat(sessionStatistics.getAttributeNameFrequency())
+			.containsOnly(entry("attributeOne", 2L), entry("attributeTwo", 1L));
+		assertThat(sessionStatistics.getLargestSessions())
+			.containsExactly(entry(sessionThree.getId(), 2 * 1024 * 1024), entry(sessionTwo.getId(), 2048));
+	}
+
+	@Test
+	public void addSessionsRecordsAgeHistogram() {
+
+		Session session = newSession();
+
+		Instant creationTime = session.getCreationTime();
+
+		SessionStatistics sessionStatistics = new SessionStatistics()
+			.add(session, 100, creationTime)
+			.add(session, 100, creationTime.plus(Duration.ofMinutes(20)))
+			.add(session, 100, creationTime.plus(Duration.ofHours(5)));
+
+		assertThat(sessionStatistics.getAgeHistogram()).containsExactly(1L, 0L, 0L, 1L, 0L, 0L, 1L);
+	}
+
+	@Test
+	public void mergeCombinesSessionStatistics() {
+
+		Session sessionOne = newSession("attributeOne");
+		Session sessionTwo = newSession("attributeOne", "attributeTwo");
+
+		Instant now = sessionOne.getCreationTime();
+
+		SessionStatistics sessionStatistics = new SessionStatistics(1)
+			.add(sessionOne, 100, now)
+			.merge(new SessionStatistics(1).add(sessionTwo, 5000, now))
+			.merge(null);
+
+		assertThat(sessionStatistics.getSessionCount()).isEqualTo(2L);
+		assertThat(sessionStatistics.getTotalSizeInBytes()).isEqualTo(5100L);
+		assertThat(sessionStatistics.getSizeHistogram()).containsExactly(1L, 0L, 1L, 0L, 0L, 0L, 0L);
+		assertThat(sessionStatistics.getAgeHistogram()).containsExactly(2L, 0L, 0L, 0L, 0L, 0L, 0L);
+		assertThat(sessionStatistics.getAttributeNameFrequency())
+			.containsOnly(entry("attributeOne", 2L), entry("attributeTwo", 1L));
+		assertThat(sessionStatistics.getLargestSessions()).containsExactly(entry(sessionTwo.getId(), 5000));
+	}
+
+	@Test
+	public void largestSessionsAreNotRecordedWhenCountIsZero() {
+
+		Session session = newSession();
+
+		SessionStatistics sessionStatistics = new SessionStatistics(0).add(session, 100, session.getCreationTime());
+
+		assertThat(sessionStatistics.getSessionCount()).isEqualTo(1L);
+		assertThat(sessionStatistics.getLargestSessions()).isEmpty();
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SessionSizeGuardrail}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.serialization.SessionSizeGuardrail
+ * @since 2.1.0
+ */
+public class SessionSizeGuardrailTests {
+
+	private Map<String, Integer> attributeSizes() {
+
+		Map<String, Integer> attributeSizes = new LinkedHashMap<>();
+
+		attributeSizes.put("one", 100);
+		attributeSizes.put("two", 400);
+		attributeSizes.put("three", 200);
+		attributeSizes.put("four", 300);
+
+		return attributeSizes;
+	}
+
+	@Test
+	public void noneIsNotEnabled() {
+
+		assertThat(SessionSizeGuardrail.NONE.isEnabled()).isFalse();
+		assertThat(SessionSizeGuardrail.NONE.getViolationAction()).isEqualTo(SessionSizeGuardrail.ViolationAction.WARN);
+	}
+
+	@Test
+	public void constructSessionSizeGuardrail() {
+
+		SessionSizeGuardrail sessionSizeGuardrail = new SessionSizeGuardrail(10, 1024, null);
+
+		assertThat(sessionSizeGuardrail.isEnabled()).isTrue();
+		assertThat(sessionSizeGuardrail.getMaxAttributeCount()).isEqualTo(10);
+		assertThat(sessionSizeGuardrail.getMaxSessionSizeInBytes()).isEqualTo(1024);
+		assertThat(sessionSizeGuardrail.getViolationAction()).isEqualTo(SessionSizeGuardrail.ViolationAction.WARN);
+		assertThat(sessionSizeGuardrail.getViolationCount()).isZero();
+		assertThat(sessionSizeGuardrail.getLargestAttributeSizes()).isEmpty();
+	}
+
+	@Test
+	public void sizeOfReturnsSerializedSize() {
+		assertThat(SessionSizeGuardrail.sizeOf("test")).isGreaterThan("test".length());
+		assertThat(SessionSizeGuardrail.sizeOf("testing")).isGreaterThan(SessionSizeGuardrail.sizeOf("test"));
+	}
+
+	@Test
+	public void enforceWithinLimitsIsNoOp() {
+
+		SessionSizeGuardrail sessionSizeGuardrail =
+			new SessionSizeGuardrail(4, 1000, SessionSizeGuardrail.ViolationAction.REJECT);
+
+		assertThat(sessionSizeGuardrail.enforce("123", attributeSizes())).isEmpty();
+		assertThat(sessionSizeGuardrail.getViolationCount()).isZero();
+		assertThat(sessionSizeGuardrail.getLargestAttributeSizes()).isEmpty();
+	}
+
+	@Test(expected = SerializationException.class)
+	public void enforceRejectsSessionExceedingMaxSize() {
+
+		SessionSizeGuardrail sessionSizeGuardrail =
+			new SessionSizeGuardrail(-1, 500, SessionSizeGuardrail.ViolationAction.REJECT);
+
+		try {
+			sessionSizeGuardrail.enforce("123", attributeSizes());
+		}
+		catch (SerializationException expected) {
+
+			assertThat(expected).hasMessage("Session [123] with [4] attributes of [1000] bytes exceeds the limit of"
+				+ " [-1] attributes and [500] bytes; largest attributes {two=400, four=300, three=200, one=100}");
+
+			assertThat(expected).hasNoCause();
+			assertThat(sessionSizeGuardrail.getViolationCount()).isEqualTo(1L);
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void enforceStripsLargestAttributesUntilWithinLimits() {
+
+		SessionSizeGuardrail sessionSizeGuardrail =
+			new SessionSizeGuardrail(3, 500, SessionSizeGuardrail.ViolationAction.STRIP);
+
+		assertThat(sessionSizeGuardrail.enforce(null, attributeSizes())).containsExactly("two", "four");
+		assertThat(sessionSizeGuardrail.getViolationCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void enforceStripsAttributesExceedingMaxAttributeCount() {
+
+		SessionSizeGuardrail sessionSizeGuardrail =
+			new SessionSizeGuardrail(3, -1, SessionSizeGuardrail.ViolationAction.STRIP);
+
+		assertThat(sessionSizeGuardrail.enforce("123", attributeSizes())).containsExactly("two");
+	}
+
+	@Test
+	public void enforceWarnsAndRecordsLargestAttributeSizes() {
+
+		SessionSizeGuardrail sessionSizeGuardrail =
+			new SessionSizeGuardrail(2, -1, SessionSizeGuardrail.ViolationAction.WARN);
+
+		Map<String, Integer> attributeSizes = attributeSizes();
+
+		assertThat(sessionSizeGuardrail.enforce("123", attributeSizes)).isEmpty();
+
+		attributeSizes.put("one", 500);
+		attributeSizes.put("two", 50);
+
+		assertThat(sessionSizeGuardrail.enforce("456", attributeSizes)).isEmpty();
+		assertThat(sessionSizeGuardrail.getViolationCount()).isEqualTo(2L);
+		assertThat(sessionSizeGuardrail.getLargestAttributeSizes())
+			.containsExactly(entry("one", 500), entry("two", 400), entry("four", 300), entry("three", 200));
+	}
+}
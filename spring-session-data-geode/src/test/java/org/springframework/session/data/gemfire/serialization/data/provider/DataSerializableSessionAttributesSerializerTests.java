@@ -29,13 +29,19 @@ import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSessionAttributes;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
+import org.springframework.session.data.gemfire.support.SessionOperationStatistics;
+
 /**
  * Unit tests for {@link DataSerializableSessionAttributesSerializer}.
  *
@@ -97,6 +103,45 @@ public class DataSerializableSessionAttributesSerializerTests {
 		verify(mockDataOutput, times(1)).writeUTF(eq("testTwo"));
 	}
 
+	@Test
+	public void sessionAttributesToDataRecordsBytesSerializedOfEachAttributeValue() throws Exception {
+
+		SessionOperationStatistics mockSessionOperationStatistics = mock(SessionOperationStatistics.class);
+
+		given(mockSessionOperationStatistics.isEnabled()).willReturn(true);
+
+		GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+
+		sessionAttributes.setAttribute("attrOne", "testOne");
+		sessionAttributes.setAttribute("attrTwo", "testValueTwo");
+		sessionAttributes.setSessionOperationStatistics(mockSessionOperationStatistics);
+
+		doAnswer(invocation -> {
+
+			DataOutput dataOutput = invocation.getArgument(1);
+
+			dataOutput.writeUTF(invocation.getArgument(0));
+
+			return null;
+
+		}).when(sessionAttributesSerializer).serializeObject(any(), any(DataOutput.class));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		sessionAttributesSerializer.serialize(sessionAttributes, new DataOutputStream(bytes));
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+		assertThat(in.readInt()).isEqualTo(2);
+		assertThat(asSet(in.readUTF() + "=" + in.readUTF(), in.readUTF() + "=" + in.readUTF()))
+			.containsExactlyInAnyOrder("attrOne=testOne", "attrTwo=testValueTwo");
+		assertThat(in.available()).isZero();
+
+		verify(mockSessionOperationStatistics, times(1)).incBytesSerialized(eq(9L));
+		verify(mockSessionOperationStatistics, times(1)).incBytesSerialized(eq(14L));
+		verify(sessionAttributesSerializer, times(2)).serializeObject(any(), any(DataOutput.class));
+	}
+
 	@Test
 	public void sessionAttributesFromData() throws Exception {
 
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,6 +47,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
 import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.gemfire.serialization.SerializationException;
 
 /**
  * Unit tests for {@link DataSerializableSessionSerializer}.
@@ -87,6 +89,7 @@ public class DataSerializableSessionSerializerTests {
 		session.setLastAccessedTime(Instant.ofEpochMilli(123L));
 		session.setMaxInactiveInterval(Duration.ofSeconds(60L));
 		session.setPrincipalName("jblum");
+		session.setVersion(7L);
 
 		DataOutput mockDataOutput = mock(DataOutput.class);
 
@@ -102,6 +105,8 @@ public class DataSerializableSessionSerializerTests {
 
 		assertThat(session.hasDelta()).isFalse();
 
+		verify(mockDataOutput, times(1)).writeUTF(eq(DataSerializableSessionSerializer.FORMAT_HEADER));
+		verify(mockDataOutput, times(1)).writeByte(eq((int) DataSerializableSessionSerializer.FORMAT_VERSION));
 		verify(mockDataOutput, times(1)).writeUTF(eq(session.getId()));
 		verify(mockDataOutput, times(1)).writeLong(eq(session.getCreationTime().toEpochMilli()));
 		verify(mockDataOutput, times(1)).writeLong(eq(session.getLastAccessedTime().toEpochMilli()));
@@ -110,6 +115,7 @@ public class DataSerializableSessionSerializerTests {
 		verify(mockDataOutput, times(1)).writeUTF(eq(session.getPrincipalName()));
 		verify(this.sessionSerializer, times(1))
 			.serializeObject(eq(session.getAttributes()), eq(mockDataOutput));
+		verify(mockDataOutput, times(1)).writeLong(eq(session.getVersion()));
 	}
 
 	@Test
@@ -118,15 +124,18 @@ public class DataSerializableSessionSerializerTests {
 		long expectedCreationTime = 1L;
 		long expectedLastAccessedTime = 2L;
 		long expectedMaxInactiveIntervalInSeconds = TimeUnit.HOURS.toSeconds(2);
+		long expectedVersion = 3L;
 
 		String expectedPrincipalName = "jblum";
 		String expectedSessionId = "2";
 
 		DataInput mockDataInput = mock(DataInput.class);
 
-		given(mockDataInput.readUTF()).willReturn(expectedSessionId).willReturn(expectedPrincipalName);
+		given(mockDataInput.readUTF()).willReturn(DataSerializableSessionSerializer.FORMAT_HEADER)
+			.willReturn(expectedSessionId).willReturn(expectedPrincipalName);
+		given(mockDataInput.readByte()).willReturn(DataSerializableSessionSerializer.FORMAT_VERSION);
 		given(mockDataInput.readLong()).willReturn(expectedCreationTime).willReturn(expectedLastAccessedTime)
-			.willReturn(expectedMaxInactiveIntervalInSeconds);
+			.willReturn(expectedMaxInactiveIntervalInSeconds).willReturn(expectedVersion);
 		given(mockDataInput.readInt()).willReturn(expectedPrincipalName.length());
 
 		doAnswer(invocation -> {
@@ -150,7 +159,9 @@ public class DataSerializableSessionSerializerTests {
 		assertThat(session.getLastAccessedTime()).isEqualTo(Instant.ofEpochMilli(expectedLastAccessedTime));
 		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofSeconds(expectedMaxInactiveIntervalInSeconds));
 		assertThat(session.getPrincipalName()).isEqualTo(expectedPrincipalName);
+		assertThat(session.getVersion()).isEqualTo(expectedVersion);
 		assertThat(session.hasDelta()).isFalse();
+		assertThat(session.getAttributes().getChangedAttributeNames()).isEmpty();
 		assertThat(session.getAttributeNames()).hasSize(3);
 		assertThat(session.getAttributeNames()).containsAll(expectedAttributeNames);
 		assertThat(session.<String>getAttribute("attrOne")).isEqualTo("testOne");
@@ -158,11 +169,110 @@ public class DataSerializableSessionSerializerTests {
 		assertThat(session.<String>getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
 			.isEqualTo(expectedPrincipalName);
 
-		verify(mockDataInput, times(2)).readUTF();
+		verify(mockDataInput, times(3)).readUTF();
+		verify(mockDataInput, times(1)).readByte();
+		verify(mockDataInput, times(4)).readLong();
+		verify(mockDataInput, times(1)).readInt();
+	}
+
+	@Test
+	public void sessionFromLegacyDataWithoutFormatHeaderHasNoVersion() throws Exception {
+
+		DataInput mockDataInput = mock(DataInput.class);
+
+		given(mockDataInput.readUTF()).willReturn("2");
+		given(mockDataInput.readLong()).willReturn(1L).willReturn(2L).willReturn(3L);
+		given(mockDataInput.readInt()).willReturn(0);
+
+		doAnswer(invocation -> GemFireSessionAttributes.create())
+			.when(this.sessionSerializer).deserializeObject(any(DataInput.class));
+
+		GemFireSession<?> session = this.sessionSerializer.deserialize(mockDataInput);
+
+		assertThat(session.getId()).isEqualTo("2");
+		assertThat(session.getCreationTime()).isEqualTo(Instant.ofEpochMilli(1L));
+		assertThat(session.getLastAccessedTime()).isEqualTo(Instant.ofEpochMilli(2L));
+		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofSeconds(3L));
+		assertThat(session.getPrincipalName()).isNull();
+		assertThat(session.getVersion()).isEqualTo(0L);
+
+		verify(mockDataInput, times(1)).readUTF();
+		verify(mockDataInput, never()).readByte();
 		verify(mockDataInput, times(3)).readLong();
 		verify(mockDataInput, times(1)).readInt();
 	}
 
+	@Test(expected = SerializationException.class)
+	public void sessionFromDataWithUnsupportedFormatVersionThrowsSerializationException() throws Exception {
+
+		DataInput mockDataInput = mock(DataInput.class);
+
+		given(mockDataInput.readUTF()).willReturn(DataSerializableSessionSerializer.FORMAT_HEADER);
+		given(mockDataInput.readByte()).willReturn((byte) (DataSerializableSessionSerializer.FORMAT_VERSION + 1));
+
+		try {
+			this.sessionSerializer.deserialize(mockDataInput);
+		}
+		catch (SerializationException expected) {
+
+			assertThat(expected).hasMessage("Session serialization format version [2] is not supported;"
+				+ " the latest supported version is [1]");
+
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void sessionsToDataThenFromDataInSameStream() throws IOException {
+
+		GemFireSession<?> sessionOne = GemFireSession.create();
+		GemFireSession<?> sessionTwo = GemFireSession.create();
+
+		sessionOne.setPrincipalName("jblum");
+		sessionOne.setVersion(3L);
+		sessionTwo.setVersion(5L);
+
+		doAnswer(invocation -> {
+
+			GemFireSessionAttributes sessionAttributes = invocation.getArgument(0);
+
+			invocation.<DataOutput>getArgument(1).writeInt(sessionAttributes.getAttributeNames().size());
+
+			return null;
+
+		}).when(this.sessionSerializer).serializeObject(any(), any(DataOutput.class));
+
+		doAnswer(invocation -> {
+			invocation.<DataInput>getArgument(0).readInt();
+			return GemFireSessionAttributes.create();
+		}).when(this.sessionSerializer).deserializeObject(any(DataInput.class));
+
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+
+		DataOutputStream out = new DataOutputStream(outBytes);
+
+		this.sessionSerializer.serialize(sessionOne, out);
+		this.sessionSerializer.serialize(sessionTwo, out);
+
+		out.writeInt(42);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(outBytes.toByteArray()));
+
+		GemFireSession<?> deserializedSessionOne = this.sessionSerializer.deserialize(in);
+		GemFireSession<?> deserializedSessionTwo = this.sessionSerializer.deserialize(in);
+
+		assertThat(deserializedSessionOne).isEqualTo(sessionOne);
+		assertThat(deserializedSessionOne.getPrincipalName()).isEqualTo("jblum");
+		assertThat(deserializedSessionOne.getVersion()).isEqualTo(3L);
+		assertThat(deserializedSessionTwo).isEqualTo(sessionTwo);
+		assertThat(deserializedSessionTwo.getPrincipalName()).isNull();
+		assertThat(deserializedSessionTwo.getVersion()).isEqualTo(5L);
+		assertThat(in.readInt()).isEqualTo(42);
+		assertThat(in.available()).isZero();
+	}
+
 	@Test
 	public void sessionToDataThenFromDataWhenPrincipalNameIsNullGetsHandledProperly()
 			throws ClassNotFoundException, IOException {
@@ -329,6 +329,87 @@ public class GemFireUtilsTests {
 		assertThat(GemFireUtils.isProxy(RegionShortcut.PARTITION_REDUNDANT_PERSISTENT_OVERFLOW)).isFalse();
 	}
 
+	@Test
+	public void regionShortcutIsPartition() {
+
+		assertThat(GemFireUtils.isPartition(RegionShortcut.PARTITION)).isTrue();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.PARTITION_HEAP_LRU)).isTrue();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.PARTITION_PERSISTENT)).isTrue();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.PARTITION_PROXY)).isTrue();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.PARTITION_REDUNDANT_PERSISTENT_OVERFLOW)).isTrue();
+	}
+
+	@Test
+	public void regionShortcutIsNotPartition() {
+
+		assertThat(GemFireUtils.isPartition(RegionShortcut.LOCAL)).isFalse();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.LOCAL_PERSISTENT)).isFalse();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.REPLICATE)).isFalse();
+		assertThat(GemFireUtils.isPartition(RegionShortcut.REPLICATE_PROXY)).isFalse();
+	}
+
+	@Test
+	public void regionShortcutIsLocal() {
+
+		assertThat(GemFireUtils.isLocal(RegionShortcut.LOCAL)).isTrue();
+		assertThat(GemFireUtils.isLocal(RegionShortcut.LOCAL_HEAP_LRU)).isTrue();
+		assertThat(GemFireUtils.isLocal(RegionShortcut.LOCAL_PERSISTENT_OVERFLOW)).isTrue();
+	}
+
+	@Test
+	public void regionShortcutIsNotLocal() {
+
+		assertThat(GemFireUtils.isLocal(RegionShortcut.PARTITION)).isFalse();
+		assertThat(GemFireUtils.isLocal(RegionShortcut.REPLICATE)).isFalse();
+		assertThat(GemFireUtils.isLocal(RegionShortcut.REPLICATE_PROXY)).isFalse();
+	}
+
+	@Test
+	public void regionShortcutIsRedundant() {
+
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.PARTITION_PROXY_REDUNDANT)).isTrue();
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.PARTITION_REDUNDANT)).isTrue();
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.PARTITION_REDUNDANT_PERSISTENT_OVERFLOW)).isTrue();
+	}
+
+	@Test
+	public void regionShortcutIsNotRedundant() {
+
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.LOCAL)).isFalse();
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.PARTITION)).isFalse();
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.PARTITION_PERSISTENT)).isFalse();
+		assertThat(GemFireUtils.isRedundant(RegionShortcut.REPLICATE)).isFalse();
+	}
+
+	@Test
+	public void toPersistentRegionShortcut() {
+
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.LOCAL)).isEqualTo(RegionShortcut.LOCAL_PERSISTENT);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.LOCAL_OVERFLOW))
+			.isEqualTo(RegionShortcut.LOCAL_PERSISTENT_OVERFLOW);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION)).isEqualTo(RegionShortcut.PARTITION_PERSISTENT);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION_OVERFLOW))
+			.isEqualTo(RegionShortcut.PARTITION_PERSISTENT_OVERFLOW);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION_REDUNDANT))
+			.isEqualTo(RegionShortcut.PARTITION_REDUNDANT_PERSISTENT);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION_REDUNDANT_OVERFLOW))
+			.isEqualTo(RegionShortcut.PARTITION_REDUNDANT_PERSISTENT_OVERFLOW);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.REPLICATE)).isEqualTo(RegionShortcut.REPLICATE_PERSISTENT);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.REPLICATE_OVERFLOW))
+			.isEqualTo(RegionShortcut.REPLICATE_PERSISTENT_OVERFLOW);
+	}
+
+	@Test
+	public void toPersistentRegionShortcutWithoutPersistentEquivalentReturnsRegionShortcut() {
+
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION_HEAP_LRU))
+			.isEqualTo(RegionShortcut.PARTITION_HEAP_LRU);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION_PERSISTENT))
+			.isEqualTo(RegionShortcut.PARTITION_PERSISTENT);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.PARTITION_PROXY)).isEqualTo(RegionShortcut.PARTITION_PROXY);
+		assertThat(GemFireUtils.toPersistent(RegionShortcut.REPLICATE_PROXY)).isEqualTo(RegionShortcut.REPLICATE_PROXY);
+	}
+
 	@Test
 	public void toRegionPath() {
 
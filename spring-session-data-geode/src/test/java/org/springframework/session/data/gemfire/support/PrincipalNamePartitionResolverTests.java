@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryOperation;
+
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link PrincipalNamePartitionResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.EntryOperation
+ * @see org.springframework.session.data.gemfire.support.PrincipalNamePartitionResolver
+ * @since 2.1.0
+ */
+public class PrincipalNamePartitionResolverTests {
+
+	@SuppressWarnings("unchecked")
+	private EntryOperation<Object, Session> mockEntryOperation(Object key) {
+
+		EntryOperation<Object, Session> mockEntryOperation = mock(EntryOperation.class);
+
+		given(mockEntryOperation.getKey()).willReturn(key);
+
+		return mockEntryOperation;
+	}
+
+	@Test
+	public void routingKeyIsStableBucketNumberOfPrincipalName() {
+
+		String routingKey = PrincipalNamePartitionResolver.routingKey("jxblum");
+
+		assertThat(routingKey).isEqualTo(String.valueOf(
+			Math.floorMod("jxblum".hashCode(), PrincipalNamePartitionResolver.ROUTING_KEY_COUNT)));
+		assertThat(Integer.parseInt(routingKey))
+			.isBetween(0, PrincipalNamePartitionResolver.ROUTING_KEY_COUNT - 1);
+		assertThat(routingKey).isEqualTo(PrincipalNamePartitionResolver.routingKey("jxblum"));
+		assertThat(routingKey).isNotEqualTo(PrincipalNamePartitionResolver.routingKey("jdoe"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void routingKeyWithNoPrincipalNameThrowsIllegalArgumentException() {
+
+		try {
+			PrincipalNamePartitionResolver.routingKey("  ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Principal name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void toRoutedSessionIdPrefixesSessionIdWithRoutingKey() {
+
+		String routedSessionId = PrincipalNamePartitionResolver.toRoutedSessionId("jxblum", "12345");
+
+		assertThat(routedSessionId).isEqualTo(PrincipalNamePartitionResolver.routingKey("jxblum") + ".12345");
+		assertThat(routedSessionId).startsWith(PrincipalNamePartitionResolver.toRoutingFilterKey("jxblum"));
+	}
+
+	@Test
+	public void isRoutedByPrincipalName() {
+
+		String routedSessionId = PrincipalNamePartitionResolver.toRoutedSessionId("jxblum", "12345");
+
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(routedSessionId, "jxblum")).isTrue();
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(routedSessionId, "jdoe")).isFalse();
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy("12345", "jxblum")).isFalse();
+		assertThat(PrincipalNamePartitionResolver.isRoutedBy(null, "jxblum")).isFalse();
+	}
+
+	@Test
+	public void routingObjectOfRoutedSessionIdIsRoutingKey() {
+
+		String routingKey = PrincipalNamePartitionResolver.routingKey("jxblum");
+
+		String routedSessionIdOne = PrincipalNamePartitionResolver.toRoutedSessionId("jxblum", "1");
+		String routedSessionIdTwo = PrincipalNamePartitionResolver.toRoutedSessionId("jxblum", "2");
+		String routingFilterKey = PrincipalNamePartitionResolver.toRoutingFilterKey("jxblum");
+
+		PrincipalNamePartitionResolver resolver = PrincipalNamePartitionResolver.INSTANCE;
+
+		assertThat(resolver.getRoutingObject(mockEntryOperation(routedSessionIdOne))).isEqualTo(routingKey);
+		assertThat(resolver.getRoutingObject(mockEntryOperation(routedSessionIdTwo))).isEqualTo(routingKey);
+		assertThat(resolver.getRoutingObject(mockEntryOperation(routingFilterKey))).isEqualTo(routingKey);
+	}
+
+	@Test
+	public void routingObjectOfUnroutedSessionIdIsSessionId() {
+
+		PrincipalNamePartitionResolver resolver = PrincipalNamePartitionResolver.INSTANCE;
+
+		assertThat(resolver.getRoutingObject(mockEntryOperation("12345"))).isEqualTo("12345");
+		assertThat(resolver.getRoutingObject(mockEntryOperation(".12345"))).isEqualTo(".12345");
+		assertThat(resolver.getRoutingObject(mockEntryOperation(1L))).isEqualTo(1L);
+	}
+
+	@Test
+	public void nameIsClassName() {
+		assertThat(PrincipalNamePartitionResolver.INSTANCE.getName())
+			.isEqualTo(PrincipalNamePartitionResolver.class.getName());
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+/**
+ * Unit tests for {@link SecureRandomSessionIdGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see edu.umd.cs.mtc.TestFramework
+ * @see org.springframework.session.data.gemfire.support.SecureRandomSessionIdGenerator
+ * @since 2.1.0
+ */
+public class SecureRandomSessionIdGeneratorTests {
+
+	private static final String URL_SAFE_BASE64_PATTERN = "[A-Za-z0-9_-]+";
+
+	@Test
+	public void generateIdReturnsCompactUrlSafeId() {
+
+		String id = SecureRandomSessionIdGenerator.INSTANCE.generateId();
+
+		assertThat(id).hasSize(22);
+		assertThat(id).matches(URL_SAFE_BASE64_PATTERN);
+		assertThat(SecureRandomSessionIdGenerator.INSTANCE.generateId()).isNotEqualTo(id);
+	}
+
+	@Test
+	public void generateIdWithLongerIdLengthReturnsLongerId() {
+
+		SecureRandomSessionIdGenerator sessionIdGenerator = new SecureRandomSessionIdGenerator(32);
+
+		assertThat(sessionIdGenerator.getIdLengthInBytes()).isEqualTo(32);
+		assertThat(sessionIdGenerator.generateId()).hasSize(43).matches(URL_SAFE_BASE64_PATTERN);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithShortIdLengthThrowsIllegalArgumentException() {
+
+		try {
+			new SecureRandomSessionIdGenerator(8);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("ID length in bytes [8] must be at least [16]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void concurrentIdGenerationReturnsUniqueIds() throws Throwable {
+		TestFramework.runOnce(new ConcurrentIdGenerationMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	public static final class ConcurrentIdGenerationMultithreadedTestCase extends MultithreadedTestCase {
+
+		private static final int ID_COUNT_PER_THREAD = 10000;
+
+		private final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+		private SecureRandomSessionIdGenerator sessionIdGenerator;
+
+		@Override
+		public void initialize() {
+			this.sessionIdGenerator = new SecureRandomSessionIdGenerator();
+		}
+
+		private void generateIds() {
+
+			for (int count = 0; count < ID_COUNT_PER_THREAD; count++) {
+				this.ids.add(this.sessionIdGenerator.generateId());
+			}
+		}
+
+		public void thread1() {
+			generateIds();
+		}
+
+		public void thread2() {
+			generateIds();
+		}
+
+		public void thread3() {
+			generateIds();
+		}
+
+		public void thread4() {
+			generateIds();
+		}
+
+		@Override
+		public void finish() {
+			assertThat(this.ids).hasSize(4 * ID_COUNT_PER_THREAD);
+		}
+	}
+}
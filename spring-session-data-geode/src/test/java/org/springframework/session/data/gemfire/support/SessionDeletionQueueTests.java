@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.GemfireCallback;
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link SessionDeletionQueue}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.session.data.gemfire.support.SessionDeletionQueue
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionDeletionQueueTests {
+
+	// deletions are triggered explicitly by the tests
+	private static final Duration DELETION_INTERVAL = Duration.ofHours(1L);
+
+	private final Map<String, Session> deletedSessions = new HashMap<>();
+
+	@Mock
+	private GemfireOperations mockTemplate;
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	@Mock
+	private Session mockSessionOne;
+
+	@Mock
+	private Session mockSessionTwo;
+
+	private SessionDeletionQueue queue;
+
+	private SessionDeletionQueue newSessionDeletionQueue(int capacity) {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		return new SessionDeletionQueue(this.mockTemplate, DELETION_INTERVAL, capacity, this.deletedSessions::put);
+	}
+
+	@After
+	public void tearDown() {
+
+		if (this.queue != null) {
+			this.queue.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullDeletionHandlerThrowsIllegalArgumentException() {
+
+		try {
+			new SessionDeletionQueue(this.mockTemplate, DELETION_INTERVAL, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Deletion handler is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void flushRemovesQueuedSessionsInBatchAndNotifiesDeletionHandler() {
+
+		this.queue = newSessionDeletionQueue(SessionDeletionQueue.DEFAULT_CAPACITY);
+
+		this.queue.enqueue("1", this.mockSessionOne);
+		this.queue.enqueue("2", this.mockSessionTwo);
+		this.queue.enqueue("1", this.mockSessionOne);
+
+		assertThat(this.queue.getPendingDeletionCount()).isEqualTo(2);
+		assertThat(this.deletedSessions).isEmpty();
+
+		verify(this.mockRegion, never()).removeAll(any());
+
+		this.queue.flush();
+
+		assertThat(this.queue.getPendingDeletionCount()).isEqualTo(0);
+		assertThat(this.queue.getBatchCount()).isEqualTo(1L);
+		assertThat(this.queue.getDeletedSessionCount()).isEqualTo(2L);
+		assertThat(this.deletedSessions).containsEntry("1", this.mockSessionOne);
+		assertThat(this.deletedSessions).containsEntry("2", this.mockSessionTwo);
+
+		verify(this.mockRegion, times(1)).removeAll(eq(new HashSet<>(Arrays.asList("1", "2"))));
+	}
+
+	@Test
+	public void enqueueIntoFullQueueRemovesSessionImmediately() {
+
+		this.queue = newSessionDeletionQueue(1);
+
+		this.queue.enqueue("1", this.mockSessionOne);
+		this.queue.enqueue("2", this.mockSessionTwo);
+
+		assertThat(this.queue.getPendingDeletionCount()).isEqualTo(1);
+		assertThat(this.deletedSessions).containsOnlyKeys("2");
+
+		verify(this.mockRegion, times(1)).removeAll(eq(Collections.singleton("2")));
+	}
+
+	@Test
+	public void closeRemovesQueuedSessionsAndRemovesSubsequentSessionsImmediately() {
+
+		this.queue = newSessionDeletionQueue(SessionDeletionQueue.DEFAULT_CAPACITY);
+
+		this.queue.enqueue("1", this.mockSessionOne);
+		this.queue.close();
+
+		assertThat(this.queue.isClosed()).isTrue();
+		assertThat(this.deletedSessions).containsOnlyKeys("1");
+
+		this.queue.enqueue("2", this.mockSessionTwo);
+
+		assertThat(this.queue.getPendingDeletionCount()).isEqualTo(0);
+		assertThat(this.deletedSessions).containsOnlyKeys("1", "2");
+		assertThat(this.queue.getBatchCount()).isEqualTo(2L);
+	}
+}
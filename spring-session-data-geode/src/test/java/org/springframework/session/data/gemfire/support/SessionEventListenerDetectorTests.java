@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.session.events.SessionCreatedEvent;
+import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.session.events.SessionDestroyedEvent;
+import org.springframework.session.events.SessionExpiredEvent;
+
+/**
+ * Unit tests for {@link SessionEventListenerDetector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.context.support.GenericApplicationContext
+ * @see org.springframework.session.data.gemfire.support.SessionEventListenerDetector
+ * @since 2.1.0
+ */
+public class SessionEventListenerDetectorTests {
+
+	private GenericApplicationContext applicationContext;
+
+	private SessionEventListenerDetector detector;
+
+	@Before
+	public void setup() {
+
+		this.applicationContext = new GenericApplicationContext();
+		this.detector = new SessionEventListenerDetector();
+		this.detector.setApplicationContext(this.applicationContext);
+	}
+
+	@After
+	public void tearDown() {
+		this.applicationContext.close();
+	}
+
+	private void refresh() {
+		this.applicationContext.refresh();
+		this.detector.onApplicationEvent(new ContextRefreshedEvent(this.applicationContext));
+	}
+
+	@Test
+	public void hasListenersBeforeRefreshReturnsTrue() {
+
+		assertThat(this.detector.isRefreshed()).isFalse();
+		assertThat(this.detector.hasListeners(SessionCreatedEvent.class)).isTrue();
+	}
+
+	@Test
+	public void hasListenersWithoutSessionEventListenersReturnsFalse() {
+
+		refresh();
+
+		assertThat(this.detector.isRefreshed()).isTrue();
+		assertThat(this.detector.hasAnyListeners(SessionCreatedEvent.class, SessionDeletedEvent.class,
+			SessionDestroyedEvent.class, SessionExpiredEvent.class)).isFalse();
+	}
+
+	@Test
+	public void hasListenersDetectsListenersByEventType() {
+
+		this.applicationContext.addApplicationListener(new SessionDestroyedEventListener());
+
+		refresh();
+
+		assertThat(this.detector.hasListeners(SessionCreatedEvent.class)).isFalse();
+		assertThat(this.detector.hasListeners(SessionDestroyedEvent.class)).isTrue();
+		assertThat(this.detector.hasListeners(SessionExpiredEvent.class)).isTrue();
+	}
+
+	@Test
+	public void hasListenersDetectsListenerBeans() {
+
+		this.applicationContext.registerBean(SessionCreatedEventListener.class);
+
+		refresh();
+
+		assertThat(this.detector.hasListeners(SessionCreatedEvent.class)).isTrue();
+		assertThat(this.detector.hasListeners(SessionExpiredEvent.class)).isFalse();
+	}
+
+	@Test
+	public void refreshOfOtherApplicationContextIsIgnored() {
+
+		AtomicInteger callbackCount = new AtomicInteger(0);
+
+		this.detector.whenRefreshed(callbackCount::incrementAndGet);
+
+		GenericApplicationContext otherApplicationContext = new GenericApplicationContext();
+
+		this.detector.onApplicationEvent(new ContextRefreshedEvent(otherApplicationContext));
+
+		assertThat(this.detector.isRefreshed()).isFalse();
+		assertThat(callbackCount.get()).isEqualTo(0);
+
+		refresh();
+
+		assertThat(this.detector.isRefreshed()).isTrue();
+		assertThat(callbackCount.get()).isEqualTo(1);
+	}
+
+	static class SessionCreatedEventListener implements ApplicationListener<SessionCreatedEvent> {
+
+		@Override
+		public void onApplicationEvent(SessionCreatedEvent event) {
+		}
+	}
+
+	static class SessionDestroyedEventListener implements ApplicationListener<SessionDestroyedEvent> {
+
+		@Override
+		public void onApplicationEvent(SessionDestroyedEvent event) {
+		}
+	}
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.SerializedCacheValue;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link SessionExpirationSweeper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.session.data.gemfire.support.SessionExpirationSweeper
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionExpirationSweeperTests {
+
+	// sweeps are triggered explicitly by the tests
+	private static final Duration SWEEP_INTERVAL = Duration.ofHours(1L);
+
+	@Mock
+	private AttributesMutator<Object, Session> mockAttributesMutator;
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	private SessionExpirationSweeper sweeper;
+
+	private static Session newSession(Instant lastAccessedTime, Duration maxInactiveInterval) {
+
+		GemFireSession session = GemFireSession.create(maxInactiveInterval);
+
+		session.setLastAccessedTime(lastAccessedTime);
+
+		return session;
+	}
+
+	private static Session newExpiredSession() {
+		return newSession(Instant.now().minus(Duration.ofHours(2L)), Duration.ofMinutes(30L));
+	}
+
+	private static Session newActiveSession() {
+		return newSession(Instant.now(), Duration.ofMinutes(30L));
+	}
+
+	private SessionExpirationSweeper newStartedSessionExpirationSweeper(int batchSize) {
+
+		given(this.mockRegion.getAttributesMutator()).willReturn(this.mockAttributesMutator);
+
+		SessionExpirationSweeper sweeper = new SessionExpirationSweeper(SWEEP_INTERVAL, batchSize);
+
+		sweeper.start(this.mockRegion);
+
+		return sweeper;
+	}
+
+	@After
+	public void tearDown() {
+
+		if (this.sweeper != null) {
+			this.sweeper.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroSweepIntervalThrowsIllegalArgumentException() {
+
+		try {
+			new SessionExpirationSweeper(Duration.ZERO);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Sweep interval [PT0S] must be at least 1 millisecond");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void isSessionExpirationWithSessionExpiredCallbackArgumentReturnsTrue() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getCallbackArgument())
+			.willReturn(SessionExpirationSweeper.SESSION_EXPIRED_CALLBACK_ARGUMENT);
+
+		assertThat(SessionExpirationSweeper.isSessionExpiration(mockEntryEvent)).isTrue();
+		assertThat(SessionExpirationSweeper.isSessionExpiration(null)).isFalse();
+	}
+
+	@Test
+	public void startRegistersSweeperAsCacheListener() {
+
+		this.sweeper = newStartedSessionExpirationSweeper(SessionExpirationSweeper.DEFAULT_BATCH_SIZE);
+
+		assertThat(this.sweeper.isRunning()).isTrue();
+
+		verify(this.mockAttributesMutator, times(1)).addCacheListener(eq(this.sweeper));
+
+		this.sweeper.close();
+
+		assertThat(this.sweeper.isRunning()).isFalse();
+	}
+
+	@Test
+	public void lifecycleStartsSweeperOnConfiguredRegionAndStopRestartRegistersCacheListenerOnce() {
+
+		given(this.mockRegion.getAttributesMutator()).willReturn(this.mockAttributesMutator);
+
+		this.sweeper = new SessionExpirationSweeper(SWEEP_INTERVAL);
+
+		assertThat(this.sweeper.isAutoStartup()).isFalse();
+
+		this.sweeper.start();
+
+		assertThat(this.sweeper.isRunning()).isFalse();
+
+		this.sweeper.setRegion(this.mockRegion);
+
+		assertThat(this.sweeper.isAutoStartup()).isTrue();
+
+		this.sweeper.start();
+
+		assertThat(this.sweeper.isRunning()).isTrue();
+
+		this.sweeper.stop();
+
+		assertThat(this.sweeper.isRunning()).isFalse();
+
+		this.sweeper.start();
+
+		assertThat(this.sweeper.isRunning()).isTrue();
+
+		verify(this.mockAttributesMutator, times(1)).addCacheListener(eq(this.sweeper));
+	}
+
+	@Test
+	public void sweepRemovesExpiredSessionsInBatches() {
+
+		this.sweeper = newStartedSessionExpirationSweeper(1);
+
+		Session expiredSessionOne = newExpiredSession();
+		Session expiredSessionTwo = newExpiredSession();
+		Session activeSession = newActiveSession();
+
+		given(this.mockRegion.get(eq("1"))).willReturn(expiredSessionOne);
+		given(this.mockRegion.get(eq("2"))).willReturn(expiredSessionTwo);
+
+		this.sweeper.index("1", expiredSessionOne);
+		this.sweeper.index("2", expiredSessionTwo);
+		this.sweeper.index("3", activeSession);
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(3);
+
+		this.sweeper.sweep(Instant.now());
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(1);
+		assertThat(this.sweeper.getExpiredSessionCount()).isEqualTo(2L);
+		assertThat(this.sweeper.getSweepCount()).isEqualTo(1L);
+
+		verify(this.mockRegion, times(1)).removeAll(eq(Collections.singletonList("1")),
+			eq(SessionExpirationSweeper.SESSION_EXPIRED_CALLBACK_ARGUMENT));
+
+		verify(this.mockRegion, times(1)).removeAll(eq(Collections.singletonList("2")),
+			eq(SessionExpirationSweeper.SESSION_EXPIRED_CALLBACK_ARGUMENT));
+
+		verify(this.mockRegion, never()).get(eq("3"));
+	}
+
+	@Test
+	public void sweepIndexesSessionAccessedSinceIndexedAgain() {
+
+		this.sweeper = newStartedSessionExpirationSweeper(SessionExpirationSweeper.DEFAULT_BATCH_SIZE);
+
+		given(this.mockRegion.get(eq("1"))).willReturn(newActiveSession());
+
+		this.sweeper.index("1", newExpiredSession());
+		this.sweeper.sweep(Instant.now());
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(1);
+		assertThat(this.sweeper.getExpiredSessionCount()).isEqualTo(0L);
+
+		verify(this.mockRegion, never()).removeAll(anyCollection(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void sweepIgnoresDestroyedSessions() {
+
+		this.sweeper = newStartedSessionExpirationSweeper(SessionExpirationSweeper.DEFAULT_BATCH_SIZE);
+
+		EntryEvent<Object, Session> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getKey()).willReturn("1");
+
+		this.sweeper.index("1", newExpiredSession());
+		this.sweeper.index("2", newExpiredSession());
+		this.sweeper.afterDestroy(mockEntryEvent);
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(1);
+
+		this.sweeper.sweep(Instant.now());
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(0);
+		assertThat(this.sweeper.getExpiredSessionCount()).isEqualTo(0L);
+
+		verify(this.mockRegion, never()).get(eq("1"));
+		verify(this.mockRegion, times(1)).get(eq("2"));
+		verify(this.mockRegion, never()).removeAll(anyCollection(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterCreateOnPrimaryIndexesDeserializedSession() {
+
+		this.sweeper = new SessionExpirationSweeper(SWEEP_INTERVAL);
+
+		EntryEvent<Object, Session> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getKey()).willReturn("1");
+		given(mockEntryEvent.getRegion()).willReturn(this.mockRegion);
+		given(mockEntryEvent.getNewValue()).willReturn(newActiveSession());
+
+		this.sweeper.afterCreate(mockEntryEvent);
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(1);
+
+		verify(mockEntryEvent, times(1)).getSerializedNewValue();
+		verify(mockEntryEvent, times(1)).getNewValue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterCreateOfRedundantCopyDoesNotDeserializeSession() {
+
+		this.sweeper = spy(new SessionExpirationSweeper(SWEEP_INTERVAL));
+
+		EntryEvent<Object, Session> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getKey()).willReturn("1");
+		given(mockEntryEvent.getRegion()).willReturn(this.mockRegion);
+		doReturn(false).when(this.sweeper).isPrimary(eq(this.mockRegion), eq("1"));
+
+		this.sweeper.afterCreate(mockEntryEvent);
+		this.sweeper.afterUpdate(mockEntryEvent);
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(1);
+
+		verify(mockEntryEvent, never()).getSerializedNewValue();
+		verify(mockEntryEvent, never()).getNewValue();
+		verify(mockEntryEvent, never()).getOldValue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterUpdateWithSerializedValueDoesNotDeserializeSessionUntilSwept() {
+
+		this.sweeper = newStartedSessionExpirationSweeper(SessionExpirationSweeper.DEFAULT_BATCH_SIZE);
+
+		EntryEvent<Object, Session> mockEntryEvent = mock(EntryEvent.class);
+
+		given(mockEntryEvent.getKey()).willReturn("1");
+		given(mockEntryEvent.getRegion()).willReturn(this.mockRegion);
+		given(mockEntryEvent.getSerializedNewValue()).willReturn(mock(SerializedCacheValue.class));
+		given(this.mockRegion.get(eq("1"))).willReturn(newExpiredSession());
+
+		this.sweeper.afterUpdate(mockEntryEvent);
+		this.sweeper.afterUpdate(mockEntryEvent);
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(1);
+
+		verify(mockEntryEvent, never()).getNewValue();
+		verify(this.mockRegion, never()).get(any());
+
+		this.sweeper.sweep(Instant.now().plus(SWEEP_INTERVAL.multipliedBy(2L)));
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(0);
+		assertThat(this.sweeper.getExpiredSessionCount()).isEqualTo(1L);
+
+		verify(this.mockRegion, times(1)).get(eq("1"));
+		verify(this.mockRegion, times(1)).removeAll(eq(Collections.singletonList("1")),
+			eq(SessionExpirationSweeper.SESSION_EXPIRED_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void sessionsThatNeverExpireAreNotIndexed() {
+
+		this.sweeper = new SessionExpirationSweeper(SWEEP_INTERVAL);
+
+		this.sweeper.index("1", newSession(Instant.now(), Duration.ZERO));
+		this.sweeper.index("2", newSession(Instant.now(), Duration.ofSeconds(-1L)));
+
+		assertThat(this.sweeper.getIndexedSessionCount()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.MultiIndexCreationException;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * Unit tests for {@link SessionIndexCreator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.query.QueryService
+ * @see org.springframework.session.data.gemfire.support.SessionIndexCreator
+ * @since 2.1.0
+ */
+public class SessionIndexCreatorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullQueryServiceThrowsIllegalArgumentException() {
+
+		try {
+			new SessionIndexCreator(null, false);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("QueryService is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void createsDefinedIndexesOnceOnContextRefresh() throws Exception {
+
+		Index mockIndex = mock(Index.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		given(mockQueryService.createDefinedIndexes()).willReturn(Collections.singletonList(mockIndex));
+
+		SessionIndexCreator indexCreator = new SessionIndexCreator(mockQueryService, false);
+
+		assertThat(indexCreator.isBackground()).isFalse();
+		assertThat(indexCreator.getIndexes()).isNotDone();
+
+		indexCreator.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		indexCreator.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		assertThat(indexCreator.getIndexes()).isDone();
+		assertThat(indexCreator.getIndexes().get()).containsExactly(mockIndex);
+
+		verify(mockQueryService, times(1)).createDefinedIndexes();
+	}
+
+	@Test
+	public void createsDefinedIndexesInBackground() throws Exception {
+
+		Index mockIndex = mock(Index.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		given(mockQueryService.createDefinedIndexes()).willReturn(Collections.singletonList(mockIndex));
+
+		SessionIndexCreator indexCreator = new SessionIndexCreator(mockQueryService, true);
+
+		assertThat(indexCreator.isBackground()).isTrue();
+
+		indexCreator.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		List<Index> indexes = indexCreator.getIndexes().get(5, TimeUnit.SECONDS);
+
+		assertThat(indexes).containsExactly(mockIndex);
+
+		verify(mockQueryService, timeout(5000).times(1)).createDefinedIndexes();
+	}
+
+	@Test
+	public void createsNoIndexesWhenNoneAreDefined() throws Exception {
+
+		SessionIndexCreator indexCreator = new SessionIndexCreator(mock(QueryService.class), false);
+
+		assertThat(indexCreator.createDefinedIndexes()).isEmpty();
+		assertThat(indexCreator.getIndexes().get()).isEmpty();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void failedIndexCreationThrowsIllegalStateException() {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		HashMap<String, Exception> indexCreationFailures = new HashMap<>();
+
+		indexCreationFailures.put("principalNameIndex", new RuntimeException("TEST"));
+
+		MultiIndexCreationException cause = new MultiIndexCreationException(indexCreationFailures);
+
+		given(mockQueryService.createDefinedIndexes()).willThrow(cause);
+
+		SessionIndexCreator indexCreator = new SessionIndexCreator(mockQueryService, false);
+
+		try {
+			indexCreator.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Failed to create Indexes [principalNameIndex]");
+			assertThat(expected).hasCause(cause);
+			assertThat(indexCreator.getIndexes()).isCompletedExceptionally();
+
+			throw expected;
+		}
+	}
+}
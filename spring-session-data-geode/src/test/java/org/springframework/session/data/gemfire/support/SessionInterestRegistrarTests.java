@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.GemfireCallback;
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link SessionInterestRegistrar}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.session.data.gemfire.support.SessionInterestRegistrar
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionInterestRegistrarTests {
+
+	// flushes are triggered explicitly by the tests
+	private static final Duration FLUSH_INTERVAL = Duration.ofHours(1L);
+
+	@Mock
+	private GemfireOperations mockTemplate;
+
+	@Mock
+	private Region<Object, Session> mockRegion;
+
+	private SessionInterestRegistrar registrar;
+
+	private SessionInterestRegistrar newSessionInterestRegistrar(int capacity) {
+
+		given(this.mockTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(this.mockRegion));
+
+		return new SessionInterestRegistrar(this.mockTemplate, FLUSH_INTERVAL, capacity);
+	}
+
+	@After
+	public void tearDown() {
+
+		if (this.registrar != null) {
+			this.registrar.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroCapacityThrowsIllegalArgumentException() {
+
+		try {
+			new SessionInterestRegistrar(this.mockTemplate, FLUSH_INTERVAL, 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Capacity [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void flushRegistersInterestInBatch() {
+
+		this.registrar = newSessionInterestRegistrar(SessionInterestRegistrar.DEFAULT_CAPACITY);
+
+		this.registrar.register("1");
+		this.registrar.register("2");
+		this.registrar.register("1");
+
+		assertThat(this.registrar.getRegisteredSessionCount()).isEqualTo(2);
+		assertThat(this.registrar.getPendingRegistrationCount()).isEqualTo(2);
+
+		verify(this.mockRegion, never()).registerInterest(any(), any(InterestResultPolicy.class));
+
+		this.registrar.flush();
+
+		assertThat(this.registrar.getPendingRegistrationCount()).isEqualTo(0);
+		assertThat(this.registrar.getBatchCount()).isEqualTo(1L);
+
+		verify(this.mockRegion, times(1))
+			.registerInterest(eq(Arrays.asList("1", "2")), eq(InterestResultPolicy.NONE));
+		verify(this.mockRegion, never()).unregisterInterest(any());
+	}
+
+	@Test
+	public void unregisterBeforeFlushCancelsRegistration() {
+
+		this.registrar = new SessionInterestRegistrar(this.mockTemplate, FLUSH_INTERVAL,
+			SessionInterestRegistrar.DEFAULT_CAPACITY);
+
+		this.registrar.register("1");
+		this.registrar.unregister("1");
+
+		assertThat(this.registrar.isRegistered("1")).isFalse();
+		assertThat(this.registrar.getPendingRegistrationCount()).isEqualTo(0);
+
+		this.registrar.flush();
+
+		verify(this.mockTemplate, never()).execute(any());
+	}
+
+	@Test
+	public void unregisterAfterFlushUnregistersInterest() {
+
+		this.registrar = newSessionInterestRegistrar(SessionInterestRegistrar.DEFAULT_CAPACITY);
+
+		this.registrar.register("1");
+		this.registrar.flush();
+		this.registrar.unregister("1");
+		this.registrar.unregister("2");
+		this.registrar.flush();
+
+		assertThat(this.registrar.getRegisteredSessionCount()).isEqualTo(0);
+
+		verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("1")));
+	}
+
+	@Test
+	public void registerBeyondCapacityUnregistersLeastRecentlyUsedSession() {
+
+		this.registrar = newSessionInterestRegistrar(2);
+
+		this.registrar.register("1");
+		this.registrar.register("2");
+		this.registrar.flush();
+		this.registrar.register("1");
+		this.registrar.register("3");
+
+		assertThat(this.registrar.getRegisteredSessionCount()).isEqualTo(2);
+		assertThat(this.registrar.isRegistered("1")).isTrue();
+		assertThat(this.registrar.isRegistered("2")).isFalse();
+		assertThat(this.registrar.isRegistered("3")).isTrue();
+
+		this.registrar.flush();
+
+		verify(this.mockRegion, times(1)).unregisterInterest(eq(Collections.singletonList("2")));
+		verify(this.mockRegion, times(1))
+			.registerInterest(eq(Collections.singletonList("3")), eq(InterestResultPolicy.NONE));
+	}
+
+	@Test
+	public void failedFlushRequeuesRegistrations() {
+
+		this.registrar = newSessionInterestRegistrar(SessionInterestRegistrar.DEFAULT_CAPACITY);
+
+		willThrow(new IllegalStateException("TEST")).given(this.mockRegion)
+			.registerInterest(any(), any(InterestResultPolicy.class));
+
+		this.registrar.register("1");
+
+		try {
+			this.registrar.flush();
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(this.registrar.getPendingRegistrationCount()).isEqualTo(1);
+		assertThat(this.registrar.getBatchCount()).isEqualTo(0L);
+
+		this.registrar.unregister("1");
+	}
+
+	@Test
+	public void closeFlushesPendingRegistrationsAndIgnoresSubsequentRegistrations() {
+
+		this.registrar = newSessionInterestRegistrar(SessionInterestRegistrar.DEFAULT_CAPACITY);
+
+		this.registrar.register("1");
+		this.registrar.close();
+
+		assertThat(this.registrar.isClosed()).isTrue();
+
+		verify(this.mockRegion, times(1))
+			.registerInterest(eq(Collections.singletonList("1")), eq(InterestResultPolicy.NONE));
+
+		this.registrar.register("2");
+
+		assertThat(this.registrar.isRegistered("2")).isFalse();
+		assertThat(this.registrar.getPendingRegistrationCount()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+/**
+ * Unit tests for {@link SessionLookupCoalescer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see edu.umd.cs.mtc.TestFramework
+ * @see org.springframework.session.data.gemfire.support.SessionLookupCoalescer
+ * @since 2.1.0
+ */
+public class SessionLookupCoalescerTests {
+
+	private static Function<String, Session> countingFetch(Session session, AtomicInteger fetchCount) {
+
+		return sessionId -> {
+			fetchCount.incrementAndGet();
+			return session;
+		};
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNegativeCoalescingWindowThrowsIllegalArgumentException() {
+
+		try {
+			new SessionLookupCoalescer(Duration.ofMillis(-1L), GemFireSession::copy);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Coalescing window [PT-0.001S] must not be negative");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void lookupReturnsIndependentCopyOfFetchedSession() {
+
+		GemFireSession session = GemFireSession.create();
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ZERO, GemFireSession::copy);
+
+		Session lookedUpSession = coalescer.lookup(session.getId(), sessionId -> session);
+
+		assertThat(lookedUpSession).isNotSameAs(session);
+		assertThat(lookedUpSession).isEqualTo(session);
+		assertThat(coalescer.getLookupCount()).isEqualTo(1L);
+		assertThat(coalescer.getFetchCount()).isEqualTo(1L);
+		assertThat(coalescer.getCoalescedLookupCount()).isEqualTo(0L);
+	}
+
+	@Test
+	public void lookupOfNonExistingSessionReturnsNull() {
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ZERO, GemFireSession::copy);
+
+		assertThat(coalescer.lookup("1", sessionId -> null)).isNull();
+	}
+
+	@Test
+	public void sequentialLookupsWithZeroCoalescingWindowFetchEachTime() {
+
+		AtomicInteger fetchCount = new AtomicInteger(0);
+
+		GemFireSession session = GemFireSession.create();
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ZERO, GemFireSession::copy);
+
+		coalescer.lookup(session.getId(), countingFetch(session, fetchCount));
+		coalescer.lookup(session.getId(), countingFetch(session, fetchCount));
+
+		assertThat(fetchCount.get()).isEqualTo(2);
+		assertThat(coalescer.getLookupCount()).isEqualTo(2L);
+		assertThat(coalescer.getCoalescedLookupCount()).isEqualTo(0L);
+	}
+
+	@Test
+	public void sequentialLookupsWithinCoalescingWindowShareFetch() {
+
+		AtomicInteger fetchCount = new AtomicInteger(0);
+
+		GemFireSession session = GemFireSession.create();
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ofMinutes(1L), GemFireSession::copy);
+
+		Session sessionOne = coalescer.lookup(session.getId(), countingFetch(session, fetchCount));
+		Session sessionTwo = coalescer.lookup(session.getId(), countingFetch(session, fetchCount));
+
+		assertThat(sessionOne).isNotSameAs(sessionTwo);
+		assertThat(sessionOne).isEqualTo(sessionTwo);
+		assertThat(fetchCount.get()).isEqualTo(1);
+		assertThat(coalescer.getLookupCount()).isEqualTo(2L);
+		assertThat(coalescer.getFetchCount()).isEqualTo(1L);
+		assertThat(coalescer.getCoalescedLookupCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void completedFetchExpungesOnlyLookupsWithElapsedCoalescingWindow() throws Exception {
+
+		AtomicInteger fetchCount = new AtomicInteger(0);
+
+		GemFireSession sessionOne = GemFireSession.create();
+		GemFireSession sessionTwo = GemFireSession.create();
+		GemFireSession sessionThree = GemFireSession.create();
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ofMillis(200L), GemFireSession::copy);
+
+		coalescer.lookup(sessionOne.getId(), countingFetch(sessionOne, fetchCount));
+		coalescer.lookup(sessionTwo.getId(), countingFetch(sessionTwo, fetchCount));
+
+		assertThat(coalescer.getSessionLookupCount()).isEqualTo(2);
+
+		Thread.sleep(400L);
+
+		coalescer.lookup(sessionThree.getId(), countingFetch(sessionThree, fetchCount));
+
+		assertThat(coalescer.getSessionLookupCount()).isEqualTo(1);
+
+		coalescer.lookup(sessionThree.getId(), countingFetch(sessionThree, fetchCount));
+
+		assertThat(fetchCount.get()).isEqualTo(3);
+		assertThat(coalescer.getCoalescedLookupCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void lookupAfterForgetFetchesSession() {
+
+		AtomicInteger fetchCount = new AtomicInteger(0);
+
+		GemFireSession session = GemFireSession.create();
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ofMinutes(1L), GemFireSession::copy);
+
+		coalescer.lookup(session.getId(), countingFetch(session, fetchCount));
+		coalescer.forget(session.getId());
+		coalescer.lookup(session.getId(), countingFetch(session, fetchCount));
+
+		assertThat(fetchCount.get()).isEqualTo(2);
+		assertThat(coalescer.getCoalescedLookupCount()).isEqualTo(0L);
+	}
+
+	@Test
+	public void failedFetchIsNotShared() {
+
+		AtomicInteger fetchCount = new AtomicInteger(0);
+
+		GemFireSession session = GemFireSession.create();
+
+		SessionLookupCoalescer coalescer = new SessionLookupCoalescer(Duration.ofMinutes(1L), GemFireSession::copy);
+
+		try {
+			coalescer.lookup(session.getId(), sessionId -> {
+				throw new IllegalStateException("TEST");
+			});
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(coalescer.lookup(session.getId(), countingFetch(session, fetchCount))).isEqualTo(session);
+		assertThat(fetchCount.get()).isEqualTo(1);
+		assertThat(coalescer.getFetchCount()).isEqualTo(2L);
+		assertThat(coalescer.getCoalescedLookupCount()).isEqualTo(0L);
+	}
+
+	@Test
+	public void concurrentLookupsShareInFlightFetch() throws Throwable {
+		TestFramework.runOnce(new ConcurrentLookupsShareInFlightFetchTest());
+	}
+
+	@SuppressWarnings("unused")
+	protected static final class ConcurrentLookupsShareInFlightFetchTest extends MultithreadedTestCase {
+
+		private final AtomicInteger fetchCount = new AtomicInteger(0);
+
+		private GemFireSession session;
+
+		private SessionLookupCoalescer coalescer;
+
+		private volatile Session leaderSession;
+
+		@Override
+		public void initialize() {
+
+			this.session = GemFireSession.create();
+			this.coalescer = new SessionLookupCoalescer(Duration.ZERO, GemFireSession::copy);
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Leader Thread");
+
+			this.leaderSession = this.coalescer.lookup(this.session.getId(), sessionId -> {
+				this.fetchCount.incrementAndGet();
+				waitForTick(2);
+				return this.session;
+			});
+
+			assertTick(2);
+			assertThat(this.leaderSession).isEqualTo(this.session);
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Follower Thread");
+
+			waitForTick(1);
+
+			Session followerSession = this.coalescer.lookup(this.session.getId(), sessionId -> {
+				this.fetchCount.incrementAndGet();
+				return this.session;
+			});
+
+			assertTick(2);
+			assertThat(followerSession).isEqualTo(this.session);
+			assertThat(followerSession).isNotSameAs(this.session);
+		}
+
+		@Override
+		public void finish() {
+
+			assertThat(this.fetchCount.get()).isEqualTo(1);
+			assertThat(this.leaderSession).isNotSameAs(this.session);
+			assertThat(this.coalescer.getLookupCount()).isEqualTo(2L);
+			assertThat(this.coalescer.getFetchCount()).isEqualTo(1L);
+			assertThat(this.coalescer.getCoalescedLookupCount()).isEqualTo(1L);
+		}
+	}
+}
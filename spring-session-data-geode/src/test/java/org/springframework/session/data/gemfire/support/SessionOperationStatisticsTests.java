@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+
+/**
+ * Unit tests for {@link SessionOperationStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.springframework.session.data.gemfire.support.SessionOperationStatistics
+ * @since 2.1.0
+ */
+public class SessionOperationStatisticsTests {
+
+	private Statistics mockStatistics(StatisticsType statisticsType) {
+
+		Statistics mockStatistics = mock(Statistics.class);
+
+		given(mockStatistics.getType()).willReturn(statisticsType);
+
+		return mockStatistics;
+	}
+
+	private StatisticsType mockStatisticsType() {
+
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.BYTES_SERIALIZED)).willReturn(0);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.CREATES)).willReturn(1);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.DELTAS)).willReturn(2);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.EVENTS_PUBLISHED)).willReturn(3);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.EXPIRATIONS)).willReturn(4);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.READ_TIME)).willReturn(5);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.READS)).willReturn(6);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.SAVE_TIME)).willReturn(7);
+		given(mockStatisticsType.nameToId(SessionOperationStatistics.SAVES)).willReturn(8);
+
+		return mockStatisticsType;
+	}
+
+	@Test
+	public void createDefinesStatisticsTypeWhenNotFound() {
+
+		StatisticsFactory mockStatisticsFactory = mock(StatisticsFactory.class);
+		StatisticsType mockStatisticsType = mockStatisticsType();
+		Statistics mockStatistics = mockStatistics(mockStatisticsType);
+
+		given(mockStatisticsFactory.createType(eq(SessionOperationStatistics.STATISTICS_TYPE_NAME), anyString(),
+			any(StatisticDescriptor[].class))).willReturn(mockStatisticsType);
+
+		given(mockStatisticsFactory.createAtomicStatistics(mockStatisticsType, "Sessions"))
+			.willReturn(mockStatistics);
+
+		SessionOperationStatistics sessionOperationStatistics =
+			SessionOperationStatistics.create(mockStatisticsFactory, "Sessions");
+
+		assertThat(sessionOperationStatistics.isEnabled()).isTrue();
+		assertThat(sessionOperationStatistics.getStatistics()).contains(mockStatistics);
+
+		verify(mockStatisticsFactory).findType(SessionOperationStatistics.STATISTICS_TYPE_NAME);
+		verify(mockStatisticsFactory).createType(eq(SessionOperationStatistics.STATISTICS_TYPE_NAME), anyString(),
+			any(StatisticDescriptor[].class));
+		verify(mockStatisticsFactory).createLongCounter(eq(SessionOperationStatistics.READ_TIME), anyString(),
+			eq("nanoseconds"), eq(false));
+		verify(mockStatisticsFactory).createLongCounter(eq(SessionOperationStatistics.SAVE_TIME), anyString(),
+			eq("nanoseconds"), eq(false));
+	}
+
+	@Test
+	public void createUsesExistingStatisticsType() {
+
+		StatisticsFactory mockStatisticsFactory = mock(StatisticsFactory.class);
+		StatisticsType mockStatisticsType = mockStatisticsType();
+		Statistics mockStatistics = mockStatistics(mockStatisticsType);
+
+		given(mockStatisticsFactory.findType(SessionOperationStatistics.STATISTICS_TYPE_NAME))
+			.willReturn(mockStatisticsType);
+
+		given(mockStatisticsFactory.createAtomicStatistics(mockStatisticsType, "Sessions"))
+			.willReturn(mockStatistics);
+
+		SessionOperationStatistics sessionOperationStatistics =
+			SessionOperationStatistics.create(mockStatisticsFactory, "Sessions");
+
+		assertThat(sessionOperationStatistics.getStatistics()).contains(mockStatistics);
+
+		verify(mockStatisticsFactory, never()).createType(anyString(), anyString(),
+			any(StatisticDescriptor[].class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createWithNullStatisticsFactoryThrowsIllegalArgumentException() {
+
+		try {
+			SessionOperationStatistics.create(null, "Sessions");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("StatisticsFactory is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void recordsSessionOperations() {
+
+		Statistics mockStatistics = mockStatistics(mockStatisticsType());
+
+		SessionOperationStatistics sessionOperationStatistics = new SessionOperationStatistics(mockStatistics);
+
+		sessionOperationStatistics.incBytesSerialized(256L);
+		sessionOperationStatistics.incCreates();
+		sessionOperationStatistics.incDeltas();
+		sessionOperationStatistics.incEventsPublished();
+		sessionOperationStatistics.incExpirations();
+		sessionOperationStatistics.endRead(sessionOperationStatistics.startTime());
+		sessionOperationStatistics.endSave(sessionOperationStatistics.startTime());
+
+		verify(mockStatistics).incLong(0, 256L);
+		verify(mockStatistics).incLong(1, 1L);
+		verify(mockStatistics).incLong(2, 1L);
+		verify(mockStatistics).incLong(3, 1L);
+		verify(mockStatistics).incLong(4, 1L);
+		verify(mockStatistics).incLong(eq(5), anyLong());
+		verify(mockStatistics).incLong(6, 1L);
+		verify(mockStatistics).incLong(eq(7), anyLong());
+		verify(mockStatistics).incLong(8, 1L);
+	}
+
+	@Test
+	public void noneRecordsNothing() {
+
+		SessionOperationStatistics sessionOperationStatistics = SessionOperationStatistics.NONE;
+
+		assertThat(sessionOperationStatistics.isEnabled()).isFalse();
+		assertThat(sessionOperationStatistics.getStatistics()).isEmpty();
+		assertThat(sessionOperationStatistics.startTime()).isZero();
+
+		sessionOperationStatistics.incBytesSerialized(256L);
+		sessionOperationStatistics.incCreates();
+		sessionOperationStatistics.endRead(0L);
+		sessionOperationStatistics.endSave(0L);
+		sessionOperationStatistics.close();
+
+		assertThat(sessionOperationStatistics.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void closeClosesStatistics() {
+
+		Statistics mockStatistics = mockStatistics(mockStatisticsType());
+
+		SessionOperationStatistics sessionOperationStatistics = new SessionOperationStatistics(mockStatistics);
+
+		sessionOperationStatistics.close();
+
+		verify(mockStatistics).isClosed();
+		verify(mockStatistics).close();
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link SessionWriteBehindQueue}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.session.data.gemfire.support.SessionWriteBehindQueue
+ * @since 2.1.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionWriteBehindQueueTests {
+
+	// flushes are triggered explicitly by the tests
+	private static final Duration FLUSH_INTERVAL = Duration.ofHours(1L);
+
+	@Mock
+	private GemfireOperations mockTemplate;
+
+	private SessionWriteBehindQueue queue;
+
+	@After
+	public void tearDown() {
+
+		if (this.queue != null) {
+			this.queue.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroFlushIntervalThrowsIllegalArgumentException() {
+
+		try {
+			new SessionWriteBehindQueue(this.mockTemplate, Duration.ZERO);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Flush interval [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroCapacityThrowsIllegalArgumentException() {
+
+		try {
+			new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL, 0, 1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Capacity [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void enqueueCoalescesSavesOfSameSessionAndFlushWritesLatestSessionInBatch() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL);
+
+		Session sessionOne = GemFireSession.create();
+		Session sessionOneUpdated = GemFireSession.copy(sessionOne);
+		Session sessionTwo = GemFireSession.create();
+
+		this.queue.enqueue(sessionOne.getId(), sessionOne);
+		this.queue.enqueue(sessionTwo.getId(), sessionTwo);
+		this.queue.enqueue(sessionOne.getId(), sessionOneUpdated);
+
+		assertThat(this.queue.getPendingWriteCount()).isEqualTo(2);
+		assertThat(this.queue.getCoalescedWriteCount()).isEqualTo(1L);
+		assertThat(this.queue.getPendingSession(sessionOne.getId()).orElse(null)).isSameAs(sessionOneUpdated);
+		assertThat(this.queue.getPendingSession(sessionTwo.getId()).orElse(null)).isSameAs(sessionTwo);
+
+		verifyZeroInteractions(this.mockTemplate);
+
+		Map<String, Session> written = new HashMap<>();
+
+		willAnswer(invocation -> {
+			written.putAll(invocation.getArgument(0));
+			return null;
+		}).given(this.mockTemplate).putAll(any());
+
+		this.queue.flush();
+
+		assertThat(written).hasSize(2);
+		assertThat(written.get(sessionOne.getId())).isSameAs(sessionOneUpdated);
+		assertThat(written.get(sessionTwo.getId())).isSameAs(sessionTwo);
+		assertThat(this.queue.getPendingWriteCount()).isEqualTo(0);
+		assertThat(this.queue.getPendingSession(sessionOne.getId())).isNotPresent();
+		assertThat(this.queue.getWriteCount()).isEqualTo(2L);
+		assertThat(this.queue.getFlushCount()).isGreaterThanOrEqualTo(1L);
+		assertThat(this.queue.getMaxFlushLatency()).isGreaterThanOrEqualTo(this.queue.getLastFlushLatency());
+	}
+
+	@Test
+	public void inFlightSessionIsReadable() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL, 100, 1);
+
+		Session session = GemFireSession.create();
+
+		willAnswer(invocation -> {
+			assertThat(this.queue.getPendingSession(session.getId()).orElse(null)).isSameAs(session);
+			return null;
+		}).given(this.mockTemplate).putAll(any());
+
+		this.queue.enqueue(session.getId(), session);
+		this.queue.flush();
+
+		verify(this.mockTemplate, times(1)).putAll(eq(Collections.singletonMap(session.getId(), session)));
+	}
+
+	@Test
+	public void enqueueIntoFullQueueWaitsForFlushThreadToMakeSpace() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL, 1, 1, Duration.ofSeconds(30L));
+
+		Session sessionOne = GemFireSession.create();
+		Session sessionTwo = GemFireSession.create();
+
+		this.queue.enqueue(sessionOne.getId(), sessionOne);
+		this.queue.enqueue(sessionTwo.getId(), sessionTwo);
+
+		verify(this.mockTemplate, times(1)).putAll(eq(Collections.singletonMap(sessionOne.getId(), sessionOne)));
+		verify(this.mockTemplate, never()).put(any(), any());
+
+		assertThat(this.queue.getDirectWriteCount()).isEqualTo(0L);
+		assertThat(this.queue.getPendingWriteCount()).isEqualTo(1);
+		assertThat(this.queue.getPendingSession(sessionTwo.getId()).orElse(null)).isSameAs(sessionTwo);
+	}
+
+	@Test
+	public void enqueueIntoQueueThatRemainsFullWritesOnlySavedSession() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL, 1, 1, Duration.ofMillis(50L));
+
+		Session sessionOne = GemFireSession.create();
+		Session sessionTwo = GemFireSession.create();
+
+		willThrow(new IllegalStateException("TEST")).given(this.mockTemplate).putAll(any());
+
+		this.queue.enqueue(sessionOne.getId(), sessionOne);
+		this.queue.enqueue(sessionTwo.getId(), sessionTwo);
+
+		verify(this.mockTemplate, times(1)).put(eq(sessionTwo.getId()), same(sessionTwo));
+		verify(this.mockTemplate, never()).put(eq(sessionOne.getId()), any());
+
+		assertThat(this.queue.getDirectWriteCount()).isEqualTo(1L);
+		assertThat(this.queue.getPendingSession(sessionOne.getId()).orElse(null)).isSameAs(sessionOne);
+		assertThat(this.queue.getPendingSession(sessionTwo.getId())).isNotPresent();
+
+		this.queue.discard(sessionOne.getId());
+	}
+
+	@Test
+	public void flushLatencyPercentilesAreBoundedByMaxFlushLatency() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL);
+
+		assertThat(this.queue.getP99FlushLatency()).isEqualTo(Duration.ZERO);
+
+		for (int count = 0; count < 10; count++) {
+
+			Session session = GemFireSession.create();
+
+			this.queue.enqueue(session.getId(), session);
+			this.queue.flush();
+		}
+
+		assertThat(this.queue.getFlushCount()).isEqualTo(10L);
+		assertThat(this.queue.getP99FlushLatency()).isLessThanOrEqualTo(this.queue.getMaxFlushLatency());
+		assertThat(this.queue.getFlushLatencyPercentile(50.0d)).isLessThanOrEqualTo(this.queue.getP99FlushLatency());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void flushLatencyPercentileGreaterThan100ThrowsIllegalArgumentException() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL);
+
+		try {
+			this.queue.getFlushLatencyPercentile(101.0d);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Percentile [101.0] must be between 0 and 100");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void discardRemovesQueuedSession() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL);
+
+		Session session = GemFireSession.create();
+
+		this.queue.enqueue(session.getId(), session);
+		this.queue.discard(session.getId());
+		this.queue.flush();
+
+		assertThat(this.queue.getPendingSession(session.getId())).isNotPresent();
+
+		verify(this.mockTemplate, never()).putAll(any());
+	}
+
+	@Test
+	public void failedFlushRequeuesSessions() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL, 100, 1);
+
+		Session session = GemFireSession.create();
+
+		willThrow(new IllegalStateException("TEST")).given(this.mockTemplate).putAll(any());
+
+		this.queue.enqueue(session.getId(), session);
+
+		try {
+			this.queue.flush();
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(this.queue.getPendingSession(session.getId()).orElse(null)).isSameAs(session);
+		assertThat(this.queue.getWriteCount()).isEqualTo(0L);
+
+		this.queue.discard(session.getId());
+	}
+
+	@Test
+	public void closeFlushesQueueAndWritesSubsequentSavesImmediately() {
+
+		this.queue = new SessionWriteBehindQueue(this.mockTemplate, FLUSH_INTERVAL);
+
+		Session sessionOne = GemFireSession.create();
+		Session sessionTwo = GemFireSession.create();
+
+		this.queue.enqueue(sessionOne.getId(), sessionOne);
+		this.queue.close();
+
+		assertThat(this.queue.isClosed()).isTrue();
+
+		verify(this.mockTemplate, times(1)).putAll(eq(Collections.singletonMap(sessionOne.getId(), sessionOne)));
+
+		this.queue.enqueue(sessionTwo.getId(), sessionTwo);
+
+		verify(this.mockTemplate, times(1)).put(eq(sessionTwo.getId()), same(sessionTwo));
+
+		assertThat(this.queue.getPendingWriteCount()).isEqualTo(0);
+	}
+}
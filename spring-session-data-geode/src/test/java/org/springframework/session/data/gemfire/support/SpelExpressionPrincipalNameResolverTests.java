@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+/**
+ * Unit tests for {@link SpelExpressionPrincipalNameResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.security.core.context.SecurityContextImpl
+ * @see org.springframework.session.data.gemfire.support.SpelExpressionPrincipalNameResolver
+ * @since 2.1.0
+ */
+public class SpelExpressionPrincipalNameResolverTests {
+
+	private static SecurityContextImpl newSecurityContext(String principalName) {
+
+		SecurityContextImpl securityContext = new SecurityContextImpl();
+
+		securityContext.setAuthentication(new TestingAuthenticationToken(principalName, "p@55w0rd"));
+
+		return securityContext;
+	}
+
+	@Test
+	public void constructWithDefaultExpression() {
+
+		assertThat(SpelExpressionPrincipalNameResolver.INSTANCE.getPrincipalNameExpression().getExpressionString())
+			.isEqualTo(SpelExpressionPrincipalNameResolver.DEFAULT_PRINCIPAL_NAME_EXPRESSION);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoExpressionThrowsIllegalArgumentException() {
+
+		try {
+			new SpelExpressionPrincipalNameResolver("  ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Principal name expression [  ] is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void resolvePrincipalNameFromSecurityContext() {
+
+		assertThat(SpelExpressionPrincipalNameResolver.INSTANCE.resolvePrincipalName(newSecurityContext("jblum")))
+			.isEqualTo("jblum");
+	}
+
+	@Test
+	public void resolvePrincipalNameRepeatedlyFromDifferentSecurityContexts() {
+
+		for (int count = 0; count < 500; count++) {
+
+			String principalName = String.format("user%d", count);
+
+			assertThat(SpelExpressionPrincipalNameResolver.INSTANCE
+				.resolvePrincipalName(newSecurityContext(principalName))).isEqualTo(principalName);
+		}
+	}
+
+	@Test
+	public void resolvePrincipalNameFromSecurityContextWithNoAuthenticationReturnsNull() {
+
+		assertThat(SpelExpressionPrincipalNameResolver.INSTANCE.resolvePrincipalName(new SecurityContextImpl()))
+			.isNull();
+	}
+
+	@Test
+	public void resolvePrincipalNameFromNullSecurityContextReturnsNull() {
+		assertThat(SpelExpressionPrincipalNameResolver.INSTANCE.resolvePrincipalName(null)).isNull();
+	}
+
+	@Test
+	public void resolvePrincipalNameWithCustomExpression() {
+
+		SpelExpressionPrincipalNameResolver principalNameResolver =
+			new SpelExpressionPrincipalNameResolver("authentication?.principal");
+
+		assertThat(principalNameResolver.resolvePrincipalName(newSecurityContext("rwinch"))).isEqualTo("rwinch");
+	}
+}
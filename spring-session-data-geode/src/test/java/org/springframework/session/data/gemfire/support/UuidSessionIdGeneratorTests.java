@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UuidSessionIdGenerator}.
+ *
+ * @author John Blum
+ * @see java.util.UUID
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.UuidSessionIdGenerator
+ * @since 2.1.0
+ */
+public class UuidSessionIdGeneratorTests {
+
+	@Test
+	public void generateIdReturnsRandomUuid() {
+
+		String id = UuidSessionIdGenerator.INSTANCE.generateId();
+
+		assertThat(id).hasSize(36);
+		assertThat(UUID.fromString(id).toString()).isEqualTo(id);
+		assertThat(UuidSessionIdGenerator.INSTANCE.generateId()).isNotEqualTo(id);
+	}
+}